@@ -22,6 +22,8 @@ import org.springframework.context.annotation.PropertySource;
 @Configuration
 @PropertySource({
         "classpath:file-repository.properties",
+        "classpath:forward.properties",
+        "classpath:mock.properties",
         "classpath:spring.properties",
         "classpath:swagger.properties",
         "classpath:version.properties",
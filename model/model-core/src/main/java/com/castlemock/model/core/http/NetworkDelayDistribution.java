@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.http;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The network delay distribution defines how a simulated network delay is sampled
+ * from the configured network delay and jitter.
+ * <ul>
+ *     <li>{@link #FIXED}: The network delay is always used as it is. The jitter is ignored.</li>
+ *     <li>{@link #UNIFORM}: The delay is uniformly distributed between the network delay minus the jitter
+ *     and the network delay plus the jitter.</li>
+ *     <li>{@link #NORMAL}: The delay is normally distributed, with the network delay as the mean
+ *     and the jitter as the standard deviation.</li>
+ *     <li>{@link #PERCENTILE}: The delay is log-normally distributed, with the network delay as
+ *     the median (p50) and the jitter as the 99th percentile (p99).</li>
+ * </ul>
+ * @since 1.70
+ */
+@XmlType
+@XmlEnum
+public enum NetworkDelayDistribution {
+
+    FIXED, UNIFORM, NORMAL, PERCENTILE
+
+}
@@ -72,6 +72,18 @@ public class SystemInformation {
     @XmlElement
     private final boolean showCastleMockHomeDirectory;
 
+    @XmlElement
+    private final long loadedFiles;
+
+    @XmlElement
+    private final long loadTime;
+
+    @XmlElement
+    private final long savedFiles;
+
+    @XmlElement
+    private final long saveTime;
+
     public SystemInformation(final Builder builder){
         this.operatingSystemName = Objects.requireNonNull(builder.operatingSystemName, "operatingSystemName");
         this.javaVersion = Objects.requireNonNull(builder.javaVersion, "javaVersion");
@@ -85,6 +97,10 @@ public class SystemInformation {
         this.availableProcessors = Objects.requireNonNull(builder.availableProcessors, "availableProcessors");
         this.castleMockHomeDirectory = Objects.requireNonNull(builder.castleMockHomeDirectory, "castleMockHomeDirectory");
         this.showCastleMockHomeDirectory = Objects.requireNonNull(builder.showCastleMockHomeDirectory, "showCastleMockHomeDirectory");
+        this.loadedFiles = Objects.requireNonNull(builder.loadedFiles, "loadedFiles");
+        this.loadTime = Objects.requireNonNull(builder.loadTime, "loadTime");
+        this.savedFiles = Objects.requireNonNull(builder.savedFiles, "savedFiles");
+        this.saveTime = Objects.requireNonNull(builder.saveTime, "saveTime");
     }
 
     public String getOperatingSystemName() {
@@ -135,6 +151,38 @@ public class SystemInformation {
         return showCastleMockHomeDirectory;
     }
 
+    /**
+     * @return The number of files that the file repositories have loaded.
+     * @since 1.70
+     */
+    public long getLoadedFiles() {
+        return loadedFiles;
+    }
+
+    /**
+     * @return The total time in milliseconds that the file repositories have spent loading files.
+     * @since 1.70
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * @return The number of files that the file repositories have saved.
+     * @since 1.70
+     */
+    public long getSavedFiles() {
+        return savedFiles;
+    }
+
+    /**
+     * @return The total time in milliseconds that the file repositories have spent saving files.
+     * @since 1.70
+     */
+    public long getSaveTime() {
+        return saveTime;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -153,6 +201,10 @@ public class SystemInformation {
         private Integer availableProcessors;
         private String castleMockHomeDirectory;
         private Boolean showCastleMockHomeDirectory;
+        private Long loadedFiles;
+        private Long loadTime;
+        private Long savedFiles;
+        private Long saveTime;
 
         private Builder() {
         }
@@ -218,6 +270,26 @@ public class SystemInformation {
             return this;
         }
 
+        public Builder loadedFiles(final long loadedFiles) {
+            this.loadedFiles = loadedFiles;
+            return this;
+        }
+
+        public Builder loadTime(final long loadTime) {
+            this.loadTime = loadTime;
+            return this;
+        }
+
+        public Builder savedFiles(final long savedFiles) {
+            this.savedFiles = savedFiles;
+            return this;
+        }
+
+        public Builder saveTime(final long saveTime) {
+            this.saveTime = saveTime;
+            return this;
+        }
+
         public SystemInformation build() {
             return new SystemInformation(this);
         }
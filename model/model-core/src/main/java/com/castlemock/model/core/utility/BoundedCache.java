@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The {@link BoundedCache} is a thread safe cache that holds at most a fixed number of entries.
+ * Reads never block, since the entries are kept in a {@link ConcurrentHashMap}. Every entry
+ * records when it was last read, and once the cache is full, the least recently read entry is
+ * evicted to make room for a new one.
+ * <p>
+ * Values are computed outside the map, which means that two threads that miss the same key at the same
+ * time might both compute the value. Only one of the values is cached, and the cached value is returned
+ * to both threads.
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @since 1.70
+ */
+public final class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Create a new {@link BoundedCache}.
+     * @param maxSize The maximum number of entries that the cache will hold.
+     * @throws IllegalArgumentException If the maximum size is not positive.
+     */
+    public BoundedCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size has to be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cached value for the provided key.
+     * @param key The key of the value.
+     * @return The cached value, or <code>null</code> if the key is not cached.
+     */
+    public V get(final K key) {
+        final Entry<V> entry = this.entries.get(Objects.requireNonNull(key, "key"));
+        if (entry == null) {
+            return null;
+        }
+        entry.lastRead = this.clock.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Cache the provided value. An existing value for the key is replaced.
+     * @param key The key of the value.
+     * @param value The value that will be cached.
+     */
+    public void put(final K key, final V value) {
+        this.entries.put(Objects.requireNonNull(key, "key"),
+                new Entry<>(Objects.requireNonNull(value, "value"), this.clock.incrementAndGet()));
+        evict();
+    }
+
+    /**
+     * Get the cached value for the provided key. The value is computed and cached if the key is not cached.
+     * @param key The key of the value.
+     * @param function The function that computes the value.
+     * @return The cached or computed value.
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        final V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Entry<V> computed = new Entry<>(Objects.requireNonNull(function.apply(key), "value"),
+                this.clock.incrementAndGet());
+        final Entry<V> existing = this.entries.putIfAbsent(key, computed);
+        if (existing != null) {
+            return existing.value;
+        }
+        evict();
+        return computed.value;
+    }
+
+    /**
+     * @return The number of cached entries.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    private void evict() {
+        while (this.entries.size() > this.maxSize) {
+            K eldestKey = null;
+            Entry<V> eldest = null;
+            for (Map.Entry<K, Entry<V>> entry : this.entries.entrySet()) {
+                if (eldest == null || entry.getValue().lastRead < eldest.lastRead) {
+                    eldestKey = entry.getKey();
+                    eldest = entry.getValue();
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            // The entry is only removed if it hasn't been replaced by another thread
+            this.entries.remove(eldestKey, eldest);
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastRead;
+
+        private Entry(final V value, final long lastRead) {
+            this.value = value;
+            this.lastRead = lastRead;
+        }
+    }
+
+}
@@ -21,22 +21,44 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
+ * The {@link JsonPathUtility} provides functionality to evaluate JSON Path expressions against JSON bodies.
+ * <p>
+ * Compiled {@link JsonPath}s are immutable and are shared in a bounded LRU cache. A body that is matched
+ * against several expressions should be parsed once with {@link #parse(String)}, or through a
+ * {@link ParsedBody}, and the document should be passed to the methods that accept a {@link JsonDocument}.
  * @author Karl Dahlgren
  * @since 1.35
  */
 public final class JsonPathUtility {
 
+    private static final int MAX_CACHED_PATHS = 256;
+    private static final Configuration SUPPRESS_EXCEPTIONS_CONFIGURATION =
+            Configuration.builder().options(Option.SUPPRESS_EXCEPTIONS).build();
+    private static final BoundedCache<String, JsonPath> PATHS = new BoundedCache<>(MAX_CACHED_PATHS);
+
     private JsonPathUtility() {
 
     }
 
     public static boolean isValidJsonPathExpr(final String body,
                                               final String expression) {
-        final Object document = Configuration.defaultConfiguration().jsonProvider().parse(body);
-        final List<?> array = JsonPath.read(document, expression);
+        return isValidJsonPathExpr(parse(body), expression);
+    }
+
+    /**
+     * Verifies if the provided JSON Path expression matches an already parsed document.
+     * @param document The document that the expression will be evaluated against.
+     * @param expression The JSON Path expression.
+     * @return <code>true</code> if the expression matches the document. <code>false</code> otherwise.
+     * @since 1.70
+     */
+    public static boolean isValidJsonPathExpr(final JsonDocument document,
+                                              final String expression) {
+        final List<?> array = compile(expression).read(document.value);
         return !array.isEmpty();
     }
 
@@ -49,10 +71,21 @@ public final class JsonPathUtility {
      */
     public static Optional<String> getValueWithJsonPathExpr(final String body,
                                                             final String expression) {
-        final Object document = Configuration.defaultConfiguration().jsonProvider().parse(body);
-        final Object result = JsonPath.using(configuration())
-                .parse(document)
-                .read(expression);
+        return getValueWithJsonPathExpr(parse(body), expression);
+    }
+
+    /**
+     * The method extracts a value from an already parsed document with
+     * the JSON Path <code>expression</code>
+     * @param document The document which contains the value that will be extracted.
+     * @param expression The expression used to locate the requested value.
+     * @return The value or an empty optional.
+     * @since 1.70
+     */
+    public static Optional<String> getValueWithJsonPathExpr(final JsonDocument document,
+                                                            final String expression) {
+        final Object result = compile(expression)
+                .read(document.value, SUPPRESS_EXCEPTIONS_CONFIGURATION);
 
         if(result instanceof List<?> jsonArray){
 
@@ -71,7 +104,33 @@ public final class JsonPathUtility {
                 .map(Object::toString);
     }
 
-    private static Configuration configuration() {
-        return Configuration.builder().options(Option.SUPPRESS_EXCEPTIONS).build();
+    /**
+     * Parse the provided body into a {@link JsonDocument}.
+     * @param body The body that will be parsed.
+     * @return The parsed document.
+     * @throws com.jayway.jsonpath.InvalidJsonException If the body is not valid JSON.
+     * @since 1.70
+     */
+    public static JsonDocument parse(final String body) {
+        return new JsonDocument(Configuration.defaultConfiguration().jsonProvider().parse(body));
+    }
+
+    private static JsonPath compile(final String expression) {
+        Objects.requireNonNull(expression, "expression");
+        return PATHS.computeIfAbsent(expression, JsonPath::compile);
+    }
+
+    /**
+     * A {@link JsonDocument} is a parsed JSON body that can be evaluated against
+     * several JSON Path expressions.
+     * @since 1.70
+     */
+    public static final class JsonDocument {
+
+        private final Object value;
+
+        private JsonDocument(final Object value) {
+            this.value = value;
+        }
     }
 }
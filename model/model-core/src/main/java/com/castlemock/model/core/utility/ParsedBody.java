@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility;
+
+import org.w3c.dom.Document;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link ParsedBody} is the body of a single request, which is parsed the first time that it is
+ * evaluated as XML or JSON. The parsed body is passed to everything that evaluates XPath or JSON Path
+ * expressions against the request, which means that the body is parsed at most once per format.
+ * <p>
+ * A {@link ParsedBody} is not thread safe and should only be used by the thread that processes the request.
+ * @since 1.70
+ */
+public final class ParsedBody {
+
+    private final String body;
+    private Optional<Document> xmlDocument;
+    private Optional<JsonPathUtility.JsonDocument> jsonDocument;
+
+    private ParsedBody(final String body) {
+        this.body = Objects.requireNonNull(body, "body");
+    }
+
+    /**
+     * Create a new {@link ParsedBody}. The body is not parsed until it is evaluated.
+     * @param body The body of the request.
+     * @return A new {@link ParsedBody}.
+     */
+    public static ParsedBody of(final String body) {
+        return new ParsedBody(body);
+    }
+
+    /**
+     * @return The unparsed body.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Get the body as an XML document. The body is parsed the first time that the method is called.
+     * @return The XML document, or empty if the body is not valid XML.
+     */
+    public Optional<Document> getXmlDocument() {
+        if (this.xmlDocument == null) {
+            this.xmlDocument = XPathUtility.parse(this.body);
+        }
+        return this.xmlDocument;
+    }
+
+    /**
+     * Get the body as a JSON document. The body is parsed the first time that the method is called.
+     * @return The JSON document, or empty if the body is not valid JSON.
+     */
+    public Optional<JsonPathUtility.JsonDocument> getJsonDocument() {
+        if (this.jsonDocument == null) {
+            Optional<JsonPathUtility.JsonDocument> document;
+            try {
+                document = Optional.of(JsonPathUtility.parse(this.body));
+            } catch (Exception exception) {
+                document = Optional.empty();
+            }
+            this.jsonDocument = document;
+        }
+        return this.jsonDocument;
+    }
+
+}
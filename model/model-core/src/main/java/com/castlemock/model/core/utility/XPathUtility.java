@@ -29,18 +29,38 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
+ * The {@link XPathUtility} provides functionality to evaluate XPath expressions against XML bodies.
+ * <p>
+ * Neither the JAXP factories, the {@link DocumentBuilder} nor compiled {@link XPathExpression}s are thread safe.
+ * The expressions are kept in a shared bounded LRU cache, where every expression has a small pool of compiled
+ * instances that are borrowed while the expression is evaluated. The document builders and the {@link XPath}s
+ * that compile the expressions are pooled the same way. A body that is matched against several expressions
+ * should be parsed once with
+ * {@link #parse(String)}, or through a {@link ParsedBody}, and the document should be passed to the methods
+ * that accept a {@link Document}.
  * @author Karl Dahlgren
  * @since 1.35
  */
 public final class XPathUtility {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(XPathUtility.class);
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+    private static final int MAX_POOLED_EXPRESSIONS = 4;
+    private static final int MAX_POOLED_INSTANCES = 16;
+    private static final BoundedCache<String, PooledExpression> EXPRESSIONS = new BoundedCache<>(MAX_CACHED_EXPRESSIONS);
+    private static final BlockingQueue<XPath> XPATHS = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+    private static final BlockingQueue<DocumentBuilder> DOCUMENT_BUILDERS = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
 
     private XPathUtility(){
 
@@ -49,15 +69,30 @@ public final class XPathUtility {
     public static Optional<String> getXPathValue(final String body,
                                                 final String xpathExpr) {
         try {
-            final Document document = createDocument(body);
-            final XPath xPath = createXPath();
-            final String evaluate = (String) xPath.compile(xpathExpr).evaluate(document, XPathConstants.STRING);
+            return getXPathValue(parseDocument(body), xpathExpr);
+        } catch (Exception exception) {
+            LOGGER.error("Unable to evaluate xpath expression", exception);
+            return Optional.empty();
+        }
+    }
 
-            if (evaluate == null) {
-                return Optional.empty();
+    /**
+     * Evaluate the provided XPath expression against an already parsed document.
+     * @param document The document that the expression will be evaluated against.
+     * @param xpathExpr The XPath expression.
+     * @return The string value of the expression, or empty if the expression could not be evaluated.
+     * @since 1.70
+     */
+    public static Optional<String> getXPathValue(final Document document,
+                                                final String xpathExpr) {
+        try {
+            final PooledExpression pooledExpression = getExpression(xpathExpr);
+            final XPathExpression expression = pooledExpression.borrow();
+            try {
+                return Optional.ofNullable((String) expression.evaluate(document, XPathConstants.STRING));
+            } finally {
+                pooledExpression.release(expression);
             }
-
-            return Optional.of(evaluate);
         } catch (Exception exception) {
             LOGGER.error("Unable to evaluate xpath expression", exception);
             return Optional.empty();
@@ -66,57 +101,147 @@ public final class XPathUtility {
 
     public static boolean isValidXPathExpr(final String body,
                                            final String xpathExpr) {
+        return parse(body)
+                .map(document -> isValidXPathExpr(document, xpathExpr))
+                .orElse(false);
+    }
+
+    /**
+     * Verifies if the provided XPath expression matches an already parsed document.
+     * @param document The document that the expression will be evaluated against.
+     * @param xpathExpr The XPath expression.
+     * @return <code>true</code> if the expression matches the document. <code>false</code> otherwise.
+     * @since 1.70
+     */
+    public static boolean isValidXPathExpr(final Document document,
+                                           final String xpathExpr) {
+        final PooledExpression pooledExpression;
+        final XPathExpression expression;
         try {
-            final Document document = createDocument(body);
-            final XPath xPath = createXPath();
+            pooledExpression = getExpression(xpathExpr);
+            expression = pooledExpression.borrow();
+        } catch (Exception exception) {
+            return false;
+        }
 
-            // NODESET
-            try {
-                final NodeList evaluate = (NodeList) xPath.compile(xpathExpr).evaluate(document, XPathConstants.NODESET);
-                return evaluate != null && evaluate.getLength() > 0;
-            } catch (Exception ignored) { }
+        try {
+            return isMatch(expression, document);
+        } finally {
+            pooledExpression.release(expression);
+        }
+    }
 
-            // NUMBER
-            try {
-                final Number evaluate = (Number) xPath.compile(xpathExpr).evaluate(document, XPathConstants.NUMBER);
-                return evaluate != null;
-            } catch (Exception ignored) { }
+    /**
+     * Parse the provided body into a {@link Document}.
+     * @param body The body that will be parsed.
+     * @return The parsed document, or empty if the body is not valid XML.
+     * @since 1.70
+     */
+    public static Optional<Document> parse(final String body) {
+        try {
+            return Optional.of(parseDocument(body));
+        } catch (Exception exception) {
+            LOGGER.error("Unable to evaluate xpath expression", exception);
+            return Optional.empty();
+        }
+    }
 
-            // STRING
-            try {
-                final String evaluate = (String) xPath.compile(xpathExpr).evaluate(document, XPathConstants.STRING);
-                return evaluate != null;
-            } catch (Exception ignored) { }
+    private static boolean isMatch(final XPathExpression expression, final Document document) {
+        // NODESET
+        try {
+            final NodeList evaluate = (NodeList) expression.evaluate(document, XPathConstants.NODESET);
+            return evaluate != null && evaluate.getLength() > 0;
+        } catch (Exception ignored) { }
 
-            // NODE
-            try {
-                final Node evaluate = (Node) xPath.compile(xpathExpr).evaluate(document, XPathConstants.NODE);
-                return evaluate != null;
-            } catch (Exception ignored) { }
+        // NUMBER
+        try {
+            final Number evaluate = (Number) expression.evaluate(document, XPathConstants.NUMBER);
+            return evaluate != null;
+        } catch (Exception ignored) { }
 
-            // BOOLEAN
-            try {
-                final Boolean evaluate = (Boolean) xPath.compile(xpathExpr).evaluate(document, XPathConstants.BOOLEAN);
-                return evaluate != null;
-            } catch (Exception ignored) { }
+        // STRING
+        try {
+            final String evaluate = (String) expression.evaluate(document, XPathConstants.STRING);
+            return evaluate != null;
+        } catch (Exception ignored) { }
 
-        } catch (Exception exception) {
-            LOGGER.error("Unable to evaluate xpath expression", exception);
-            return false;
-        }
+        // NODE
+        try {
+            final Node evaluate = (Node) expression.evaluate(document, XPathConstants.NODE);
+            return evaluate != null;
+        } catch (Exception ignored) { }
+
+        // BOOLEAN
+        try {
+            final Boolean evaluate = (Boolean) expression.evaluate(document, XPathConstants.BOOLEAN);
+            return evaluate != null;
+        } catch (Exception ignored) { }
 
         return false;
     }
 
-    private static Document createDocument(final String body) throws ParserConfigurationException, IOException, SAXException {
-        final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-        final InputSource inputSource = new InputSource(new StringReader(body));
-        return documentBuilder.parse(inputSource);
+    private static Document parseDocument(final String body) throws ParserConfigurationException, IOException, SAXException {
+        DocumentBuilder documentBuilder = DOCUMENT_BUILDERS.poll();
+        if(documentBuilder == null){
+            documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } else {
+            documentBuilder.reset();
+        }
+        try {
+            return documentBuilder.parse(new InputSource(new StringReader(body)));
+        } finally {
+            DOCUMENT_BUILDERS.offer(documentBuilder);
+        }
     }
 
-    private static XPath createXPath() {
-        return XPathFactory.newInstance().newXPath();
+    private static PooledExpression getExpression(final String xpathExpr) throws XPathExpressionException {
+        Objects.requireNonNull(xpathExpr, "xpathExpr");
+        final PooledExpression cached = EXPRESSIONS.get(xpathExpr);
+        if(cached != null){
+            return cached;
+        }
+
+        // The expression is compiled before it is cached, which means that invalid expressions are never cached
+        final XPathExpression expression = compile(xpathExpr);
+        return EXPRESSIONS.computeIfAbsent(xpathExpr, key -> new PooledExpression(key, expression));
+    }
+
+    private static XPathExpression compile(final String xpathExpr) throws XPathExpressionException {
+        XPath xPath = XPATHS.poll();
+        if(xPath == null){
+            xPath = XPathFactory.newInstance().newXPath();
+        }
+        try {
+            return xPath.compile(xpathExpr);
+        } finally {
+            xPath.reset();
+            XPATHS.offer(xPath);
+        }
+    }
+
+    /**
+     * An XPath expression together with its pooled compiled instances. A compiled instance is only
+     * used by one thread at a time. A new instance is compiled when all the pooled instances are in use,
+     * and an instance is discarded when it is returned to a full pool.
+     */
+    private static final class PooledExpression {
+
+        private final String xpathExpr;
+        private final BlockingQueue<XPathExpression> instances = new ArrayBlockingQueue<>(MAX_POOLED_EXPRESSIONS);
+
+        private PooledExpression(final String xpathExpr, final XPathExpression instance) {
+            this.xpathExpr = xpathExpr;
+            this.instances.offer(instance);
+        }
+
+        private XPathExpression borrow() throws XPathExpressionException {
+            final XPathExpression instance = this.instances.poll();
+            return instance == null ? compile(this.xpathExpr) : instance;
+        }
+
+        private void release(final XPathExpression instance) {
+            this.instances.offer(instance);
+        }
     }
 
 }
@@ -16,6 +16,7 @@
 package com.castlemock.model.core.utility.parser;
 
 import com.castlemock.model.core.http.HttpParameter;
+import com.castlemock.model.core.utility.ParsedBody;
 import com.castlemock.model.core.utility.parser.expression.BodyJsonPathExpression;
 import com.castlemock.model.core.utility.parser.expression.BodyXPathExpression;
 import com.castlemock.model.core.utility.parser.expression.PathParameterExpression;
@@ -23,6 +24,7 @@ import com.castlemock.model.core.utility.parser.expression.QueryStringExpression
 import com.castlemock.model.core.utility.parser.expression.UrlHostExpression;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentArray;
+import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentBody;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentMap;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentString;
 
@@ -31,12 +33,24 @@ import java.util.Map;
 import java.util.Set;
 
 public class ExternalInputBuilder {
-	private String requestBody;
+	private ParsedBody requestBody;
 	private String requestUrl;
 	private Map<String, Set<String>> pathParameters;
 	private Set<HttpParameter> queryStringParameters;
 	
 	public ExternalInputBuilder requestBody(final String requestBody) {
+		this.requestBody = requestBody == null ? null : ParsedBody.of(requestBody);
+		return this;
+	}
+
+	/**
+	 * Set the request body. The expressions that evaluate the body will reuse the provided
+	 * {@link ParsedBody}, which means that a body that has already been parsed is not parsed again.
+	 * @param requestBody The body of the request.
+	 * @return The builder.
+	 * @since 1.70
+	 */
+	public ExternalInputBuilder requestBody(final ParsedBody requestBody) {
 		this.requestBody = requestBody;
 		return this;
 	}
@@ -59,7 +73,7 @@ public class ExternalInputBuilder {
 	public Map<String, ExpressionArgument<?>> build() {
 		final Map<String, ExpressionArgument<?>> immutableMapBuilder = new HashMap<>();
 		if (this.requestBody != null) {
-			final ExpressionArgument<?> bodyArgument = new ExpressionArgumentString(this.requestBody);
+			final ExpressionArgument<?> bodyArgument = new ExpressionArgumentBody(this.requestBody);
 			immutableMapBuilder.put(BodyXPathExpression.BODY_ARGUMENT, bodyArgument);
 			immutableMapBuilder.put(BodyJsonPathExpression.BODY_ARGUMENT, bodyArgument);
 		}
@@ -47,10 +47,15 @@ import com.castlemock.model.core.utility.parser.expression.argument.ExpressionAr
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@link TextParser} provides the functionality to transform a text and replace all
@@ -66,6 +71,8 @@ public class TextParser {
 
     private static final Map<String,Expression> EXPRESSIONS = new HashMap<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(TextParser.class);
+    private static final String EXPRESSION_BEGIN = "${";
+    private static final String EXPRESSION_END = "}";
 
 
     static {
@@ -128,49 +135,93 @@ public class TextParser {
      */
     public Optional<String> parse(final String text,
                                  final Map<String, ExpressionArgument<?>> arguments) {
+        return parse(text, arguments, null);
+    }
+
+    /**
+     * The parse method is responsible for parsing a provided text and transform the text
+     * with the help of {@link Expression}. Random expressions will use the provided random generator.
+     * @param text The provided text that will be transformed.
+     * @param arguments External arguments that will be available to all expressions.
+     * @param random The random generator that random expressions will use. The generator of the
+     *               current thread is used if no generator is provided.
+     * @return A transformed text. All expressions will be replaced by new values.
+     * @since 1.70
+     * @see com.castlemock.model.core.utility.random.RandomSource
+     */
+    public Optional<String> parse(final String text,
+                                  final Map<String, ExpressionArgument<?>> arguments,
+                                  final RandomGenerator random) {
         if(text == null){
             return Optional.empty();
         }
-        final StringBuilder outputBuilder = new StringBuilder().append(text);
-        final String expressionBegin = "${";
-        final String expressionEnd = "}";
+        return Optional.of(compile(text).render(arguments, random));
+    }
+
+    /**
+     * The parse method is responsible for parsing a provided text and transform the text
+     * with the help of {@link Expression}. The transformed text is written directly to the provided writer,
+     * which means that the transformed text is never held in memory as a whole.
+     * @param text The provided text that will be transformed.
+     * @param arguments External arguments that will be available to all expressions.
+     * @param random The random generator that random expressions will use. The generator of the
+     *               current thread is used if no generator is provided.
+     * @param writer The writer that the transformed text will be written to. Nothing is written if no text is provided.
+     * @throws IOException If the transformed text can't be written to the writer.
+     * @since 1.70
+     * @see TextTemplate#render(Map, RandomGenerator, Writer)
+     */
+    public void parse(final String text,
+                      final Map<String, ExpressionArgument<?>> arguments,
+                      final RandomGenerator random,
+                      final Writer writer) throws IOException {
+        if(text == null){
+            return;
+        }
+        compile(text).render(arguments, random, writer);
+    }
+
+    /**
+     * Compile the provided text into a {@link TextTemplate}. The text is split into literal segments
+     * and expressions. Expressions that can't be matched with an {@link Expression} will be kept as text.
+     * A text that is rendered repeatedly, such as the body of a mock response, should be compiled once
+     * and the {@link TextTemplate} should be kept by the caller.
+     * @param text The text that will be compiled.
+     * @return A compiled {@link TextTemplate}.
+     * @since 1.70
+     */
+    public TextTemplate compile(final String text) {
+        Objects.requireNonNull(text, "text");
+        final List<TextTemplate.Segment> segments = new ArrayList<>();
+        int indexOfLiteral = 0;
         int indexOfStartExpression = -1;
         do {
-            indexOfStartExpression = outputBuilder.indexOf(expressionBegin, indexOfStartExpression + 1);
+            indexOfStartExpression = text.indexOf(EXPRESSION_BEGIN, indexOfStartExpression + 1);
             if (indexOfStartExpression >= 0) {
-                int indexOfEndExpression = outputBuilder.indexOf(expressionEnd, indexOfStartExpression + 1);
+                final int indexOfEndExpression = text.indexOf(EXPRESSION_END, indexOfStartExpression + 1);
                 if (indexOfEndExpression >= 0) {
-                    replaceExpressionByResult(outputBuilder, indexOfStartExpression, indexOfEndExpression, arguments);                  
+                    final String expressionString = text.substring(indexOfStartExpression, indexOfEndExpression + 1);
+                    final ExpressionInput expressionInput = ExpressionInputParser.parse(expressionString);
+                    final Expression expression = this.expressions.get(expressionInput.getName());
+
+                    if (expression != null) {
+                        if (indexOfLiteral < indexOfStartExpression) {
+                            segments.add(TextTemplate.Segment.literal(text.substring(indexOfLiteral, indexOfStartExpression)));
+                        }
+                        segments.add(TextTemplate.Segment.expression(expression, expressionInput));
+                        indexOfLiteral = indexOfEndExpression + 1;
+                        indexOfStartExpression = indexOfEndExpression;
+                    } else {
+                        LOGGER.error("Unable to parse the following expression: " + expressionInput.getName());
+                    }
                 }
             }
         } while (indexOfStartExpression >= 0);
-        
-        return Optional.of(outputBuilder.toString());
-    }
-    
-    private void replaceExpressionByResult(final StringBuilder outputBuilder, final int indexOfStartExpression,
-                                           final int indexOfEndExpression, final Map<String, ExpressionArgument<?>> arguments) {
-        final String expressionString = outputBuilder.substring(indexOfStartExpression, indexOfEndExpression + 1);
-        final ExpressionInput expressionInput = parseExpressionInput(expressionString, arguments);
-        final Expression expression = this.expressions.get(expressionInput.getName());
-        
-        if (expression != null){
-            String expressionResult = expression.transform(expressionInput);
-            outputBuilder.replace(indexOfStartExpression, indexOfEndExpression + 1, expressionResult);
-        } else {
-            LOGGER.error("Unable to parse the following expression: " + expressionInput.getName());
-        }
-    }
-    
-    private ExpressionInput parseExpressionInput(final String expressionString, final Map<String, ExpressionArgument<?>> arguments) {
-        final ExpressionInput expressionInput = ExpressionInputParser.parse(expressionString);
-        
-        if(arguments != null){
-            for(Map.Entry<String, ExpressionArgument<?>> argumentEntry : arguments.entrySet()){
-                expressionInput.addArgument(argumentEntry.getKey(), argumentEntry.getValue());
-            }
+
+        if (indexOfLiteral < text.length()) {
+            segments.add(TextTemplate.Segment.literal(text.substring(indexOfLiteral)));
         }
-        return expressionInput;
+        return new TextTemplate(segments);
     }
 
 }
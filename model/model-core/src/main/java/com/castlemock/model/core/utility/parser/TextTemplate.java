@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.parser;
+
+import com.castlemock.model.core.utility.parser.expression.Expression;
+import com.castlemock.model.core.utility.parser.expression.ExpressionInput;
+import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link TextTemplate} is a compiled text. The text has been split into literal segments
+ * and pre-parsed {@link Expression}s. Rendering a template only evaluates the expressions,
+ * the text itself is never scanned again.
+ * <p>
+ * A {@link TextTemplate} is immutable and can be shared between threads.
+ * @since 1.70
+ * @see TextParser
+ */
+public final class TextTemplate {
+
+    private static final int EXPECTED_EXPRESSION_LENGTH = 16;
+
+    private final List<Segment> segments;
+    private final int expectedLength;
+
+    TextTemplate(final List<Segment> segments) {
+        this.segments = List.copyOf(segments);
+        int length = 0;
+        for(Segment segment : this.segments){
+            length += segment.literal != null ? segment.literal.length() : EXPECTED_EXPRESSION_LENGTH;
+        }
+        this.expectedLength = length;
+    }
+
+    /**
+     * Render the template. All expressions in the template will be evaluated and replaced by their result.
+     * @param arguments External arguments, such as the request body, that will be available to all expressions.
+     *                  The arguments are optional and can be <code>null</code>.
+     * @return The rendered text.
+     */
+    public String render(final Map<String, ExpressionArgument<?>> arguments) {
+        return render(arguments, null);
+    }
+
+    /**
+     * Render the template. All expressions in the template will be evaluated and replaced by their result.
+     * @param arguments External arguments, such as the request body, that will be available to all expressions.
+     *                  The arguments are optional and can be <code>null</code>.
+     * @param random The random generator that random expressions will use. The generator of the current
+     *               thread is used if no generator is provided.
+     * @return The rendered text.
+     */
+    public String render(final Map<String, ExpressionArgument<?>> arguments,
+                         final RandomGenerator random) {
+        if(this.segments.size() == 1 && this.segments.getFirst().literal != null){
+            return this.segments.getFirst().literal;
+        }
+
+        final Map<String, ExpressionArgument<?>> additionalArguments = getAdditionalArguments(arguments);
+        final StringBuilder output = new StringBuilder(this.expectedLength);
+        for(Segment segment : this.segments){
+            if(segment.literal != null){
+                output.append(segment.literal);
+            } else {
+                output.append(segment.expression.transform(new ExpressionInput(segment.input, additionalArguments, random)));
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Render the template directly to a {@link Writer}. Literal segments and the results of the expressions
+     * are written as soon as they are available, which means that the rendered text is never held in memory
+     * as a whole. The writer is neither flushed nor closed.
+     * @param arguments External arguments, such as the request body, that will be available to all expressions.
+     *                  The arguments are optional and can be <code>null</code>.
+     * @param random The random generator that random expressions will use. The generator of the current
+     *               thread is used if no generator is provided.
+     * @param writer The writer that the rendered text will be written to.
+     * @throws IOException If the rendered text can't be written to the writer.
+     */
+    public void render(final Map<String, ExpressionArgument<?>> arguments,
+                       final RandomGenerator random,
+                       final Writer writer) throws IOException {
+        Objects.requireNonNull(writer, "writer");
+        final Map<String, ExpressionArgument<?>> additionalArguments = getAdditionalArguments(arguments);
+        for(Segment segment : this.segments){
+            if(segment.literal != null){
+                writer.write(segment.literal);
+            } else {
+                final String result = segment.expression.transform(new ExpressionInput(segment.input, additionalArguments, random));
+                if(result != null){
+                    writer.write(result);
+                }
+            }
+        }
+    }
+
+    private static Map<String, ExpressionArgument<?>> getAdditionalArguments(final Map<String, ExpressionArgument<?>> arguments) {
+        final Map<String, ExpressionArgument<?>> additionalArguments = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if(arguments != null){
+            additionalArguments.putAll(arguments);
+        }
+        return additionalArguments;
+    }
+
+    /**
+     * A {@link Segment} is either a literal text or an {@link Expression} together with its parsed input.
+     */
+    static final class Segment {
+
+        private final String literal;
+        private final Expression expression;
+        private final ExpressionInput input;
+
+        private Segment(final String literal, final Expression expression, final ExpressionInput input) {
+            this.literal = literal;
+            this.expression = expression;
+            this.input = input;
+        }
+
+        static Segment literal(final String literal) {
+            return new Segment(Objects.requireNonNull(literal, "literal"), null, null);
+        }
+
+        static Segment expression(final Expression expression, final ExpressionInput input) {
+            return new Segment(null, Objects.requireNonNull(expression, "expression"),
+                    Objects.requireNonNull(input, "input"));
+        }
+    }
+}
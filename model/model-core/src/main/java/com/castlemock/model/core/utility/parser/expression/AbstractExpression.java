@@ -16,9 +16,8 @@
 
 package com.castlemock.model.core.utility.parser.expression;
 
-import org.apache.commons.lang3.RandomStringUtils;
-
-import java.util.Random;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@link AbstractExpression} is used as a based for all {@link Expression}
@@ -27,16 +26,36 @@ import java.util.Random;
  */
 public abstract class AbstractExpression implements Expression {
 
-    protected static final Random RANDOM = new Random();
+    private static final String ALPHANUMERIC_CHARACTERS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
 
     /**
-     * The method generates a {@link String} with a given length.
+     * The method generates an alphanumeric {@link String} with a given length.
      * @param length The length of the generated {@link String}
+     * @param random The random generator of the request
      * @return A generated {@link String}
-     * @since 1.13
+     * @since 1.70
+     * @see ExpressionInput#getRandom()
+     */
+    protected String randomString(final int length, final RandomGenerator random){
+        final char[] characters = new char[Math.max(0, length)];
+        for(int index = 0; index < characters.length; index++){
+            characters[index] = ALPHANUMERIC_CHARACTERS.charAt(random.nextInt(ALPHANUMERIC_CHARACTERS.length()));
+        }
+        return new String(characters);
+    }
+
+    /**
+     * The method generates a version 4 (random) {@link UUID}.
+     * @param random The random generator of the request
+     * @return A generated {@link UUID}
+     * @since 1.70
+     * @see ExpressionInput#getRandom()
      */
-    protected String randomString(final int length){
-        return RandomStringUtils.randomAlphanumeric(length);
+    protected UUID randomUUID(final RandomGenerator random){
+        final long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long leastSignificantBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+        return new UUID(mostSignificantBits, leastSignificantBits);
     }
 
 
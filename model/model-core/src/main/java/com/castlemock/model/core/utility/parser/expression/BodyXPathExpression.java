@@ -17,8 +17,10 @@
 package com.castlemock.model.core.utility.parser.expression;
 
 
+import com.castlemock.model.core.utility.ParsedBody;
 import com.castlemock.model.core.utility.XPathUtility;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
+import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +73,11 @@ public class BodyXPathExpression extends AbstractExpression {
         }
 
         try {
-            return XPathUtility.getXPathValue(body, expression)
+            // The body argument of a request is parsed once and shared by all the expressions
+            final ParsedBody parsedBody = bodyArgument instanceof ExpressionArgumentBody argumentBody ?
+                    argumentBody.getParsedBody() : ParsedBody.of(body);
+            return parsedBody.getXmlDocument()
+                    .flatMap(document -> XPathUtility.getXPathValue(document, expression))
                     .orElse(MISSING_BODY);
         } catch (Exception exception){
             LOGGER.warn("Unable to parse body with the following expression: " + expression);
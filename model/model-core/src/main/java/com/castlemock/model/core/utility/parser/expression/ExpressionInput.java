@@ -20,7 +20,10 @@ import com.castlemock.model.core.utility.parser.expression.argument.ExpressionAr
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@link ExpressionInput} is used as both an identifier for an
@@ -34,6 +37,10 @@ public class ExpressionInput {
 
     private final String name;
     private final Map<String, ExpressionArgument<?>> arguments;
+    private final Map<String, ExpressionArgument<?>> additionalArguments;
+    private final Map<String, ExpressionArgument<?>> parsedArguments;
+    private final ExpressionInput parsedInput;
+    private final RandomGenerator random;
 
     /**
      * Constructor for {@link ExpressionInput}.
@@ -42,6 +49,45 @@ public class ExpressionInput {
     public ExpressionInput(final String name){
         this.name = Objects.requireNonNull(name, "name");
         this.arguments = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.additionalArguments = Map.of();
+        this.parsedArguments = Map.of();
+        this.parsedInput = null;
+        this.random = null;
+    }
+
+    /**
+     * Constructor for {@link ExpressionInput}. The new {@link ExpressionInput} is based on an already
+     * parsed {@link ExpressionInput} and a set of additional arguments. Neither the parsed input nor the
+     * additional arguments are copied, and they are expected to not be modified while the new input is in use.
+     * The additional arguments take precedence over the arguments of the parsed input.
+     * @param parsedInput The parsed {@link ExpressionInput}.
+     * @param additionalArguments Additional arguments with case insensitive keys.
+     * @since 1.70
+     */
+    public ExpressionInput(final ExpressionInput parsedInput,
+                           final Map<String, ExpressionArgument<?>> additionalArguments){
+        this(parsedInput, additionalArguments, null);
+    }
+
+    /**
+     * Constructor for {@link ExpressionInput}. The new {@link ExpressionInput} is based on an already
+     * parsed {@link ExpressionInput}, a set of additional arguments and the random generator of the request.
+     * @param parsedInput The parsed {@link ExpressionInput}.
+     * @param additionalArguments Additional arguments with case insensitive keys.
+     * @param random The random generator that random expressions will use. The generator of the
+     *               current thread is used if no generator is provided.
+     * @since 1.70
+     * @see #ExpressionInput(ExpressionInput, Map)
+     */
+    public ExpressionInput(final ExpressionInput parsedInput,
+                           final Map<String, ExpressionArgument<?>> additionalArguments,
+                           final RandomGenerator random){
+        this.name = parsedInput.name;
+        this.arguments = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.additionalArguments = Objects.requireNonNull(additionalArguments, "additionalArguments");
+        this.parsedArguments = parsedInput.arguments;
+        this.parsedInput = parsedInput;
+        this.random = random;
     }
 
     /**
@@ -51,7 +97,14 @@ public class ExpressionInput {
      * Null otherwise.
      */
     public ExpressionArgument<?> getArgument(final String name){
-        return this.arguments.get(name);
+        ExpressionArgument<?> argument = this.arguments.get(name);
+        if(argument == null){
+            argument = this.additionalArguments.get(name);
+        }
+        if(argument == null){
+            argument = this.parsedArguments.get(name);
+        }
+        return argument;
     }
 
     /**
@@ -71,8 +124,45 @@ public class ExpressionInput {
         return name;
     }
 
+    /**
+     * Get the random generator that random expressions should use.
+     * @return The random generator of the request, or the generator of the current thread
+     * if the input doesn't have a generator.
+     * @since 1.70
+     */
+    public RandomGenerator getRandom() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Get the parsed {@link ExpressionInput} that this input is based on. The parsed input is shared by every
+     * evaluation of the same compiled expression, which means that it can be used as a key for data that
+     * is derived from the parsed arguments.
+     * @return The parsed input, or an empty optional if the input isn't based on a parsed input.
+     * @since 1.70
+     * @see #ExpressionInput(ExpressionInput, Map, RandomGenerator)
+     */
+    public Optional<ExpressionInput> getParsedInput() {
+        return Optional.ofNullable(parsedInput);
+    }
+
+    /**
+     * Get all the arguments that aren't part of the parsed input, that is the additional arguments
+     * and the arguments that have been added to this input.
+     * @return The arguments with case insensitive keys.
+     * @since 1.70
+     */
+    public Map<String, ExpressionArgument<?>> getAdditionalArguments(){
+        final Map<String, ExpressionArgument<?>> output = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        output.putAll(additionalArguments);
+        output.putAll(arguments);
+        return output;
+    }
+
     public Map<String, ExpressionArgument<?>> getArguments(){
         final Map<String, ExpressionArgument<?>> output = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        output.putAll(parsedArguments);
+        output.putAll(additionalArguments);
         output.putAll(arguments);
         return output;
     }
@@ -1,17 +1,23 @@
 package com.castlemock.model.core.utility.parser.expression;
 
+import com.castlemock.model.core.utility.BoundedCache;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentString;
 import net.datafaker.Faker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.random.RandomGenerator;
 
 /**
  * {@link FakerExpression} is an {@link Expression} and will call {@link Faker}
@@ -24,11 +30,33 @@ public class FakerExpression extends AbstractExpression {
 	public static final String IDENTIFIER = "FAKER";
 	public static final String API_ARGUMENT = "api";
 	public static final String LOCALE_ARGUMENT = "locale";
-	private final Map<String, Faker> fakerByLocale = new HashMap<>();
+	private static final String DEFAULT_LOCALE = "en";
+	private static final int MAX_CACHED_EXPRESSIONS = 256;
+	private static final int MAX_POOLED_LOCALES = 32;
+	private static final int MAX_POOLED_FAKERS = 8;
+	/**
+	 * The parser compiles an expression to bytecode once it has been evaluated a few times. Expressions
+	 * that can't be compiled, or that fail once compiled, are interpreted instead.
+	 */
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, FakerExpression.class.getClassLoader()));
+	private static final BoundedCache<String, org.springframework.expression.Expression> EXPRESSIONS =
+			new BoundedCache<>(MAX_CACHED_EXPRESSIONS);
+	/**
+	 * Creating a {@link Faker} is expensive, and every created {@link Faker} registers its providers in
+	 * static maps of the library. Fakers are therefore pooled per locale instead of created per evaluation.
+	 * Every pool keeps a few idle fakers. Evaluations beyond that create their own {@link Faker}, which
+	 * is discarded instead of returned when the pool is already full.
+	 */
+	private static final BoundedCache<String, BlockingQueue<PooledFaker>> FAKERS =
+			new BoundedCache<>(MAX_POOLED_LOCALES);
 
 	/**
 	 * Will transform the provided <code>input</code> to a fake string. The implementation use 
 	 * Spring Expression Language (SpEL) to call {@link Faker} methods api.
+	 * Every distinct api is only parsed once. A {@link Faker} is not thread safe and is borrowed from a pool
+	 * for the duration of the evaluation. The borrowed {@link Faker} draws its values from the random
+	 * generator of the request, which means that the fake values are reproducible when the generator is seeded.
 	 *
 	 * @param input The input string that will be transformed.
 	 * @return A transformed <code>input</code>.
@@ -43,16 +71,12 @@ public class FakerExpression extends AbstractExpression {
 
 		final ExpressionArgument<?> localeArgument = input.getArgument(LOCALE_ARGUMENT);
 		final String locale = getLocaleLanguageTag(localeArgument);
+		final String localeLanguageTag = locale == null ? DEFAULT_LOCALE : locale;
+		final PooledFaker faker = borrowFaker(localeLanguageTag, input.getRandom());
 		try {
-			final Faker faker = getFaker(locale);
 			final String springExpression = getApiArgumentString(apiArgument)
 					.orElseThrow(() -> new IllegalStateException("Unable to extract api argument"));
-
-			org.springframework.expression.ExpressionParser parser = new SpelExpressionParser();
-			org.springframework.expression.Expression exp = parser.parseExpression(springExpression);
-			org.springframework.expression.EvaluationContext context = new StandardEvaluationContext(faker);
-
-			final Object result = exp.getValue(context);
+			final Object result = getExpression(springExpression).getValue(faker.context);
 
 			if (result != null) {
 				return String.valueOf(result);
@@ -60,6 +84,8 @@ public class FakerExpression extends AbstractExpression {
 		} catch (Exception e) {
 			LOGGER.warn("Can not transform ${FAKER(api=\"" + apiArgument.getValue() + "\", locale=\""
 					+ locale + "\")", e);
+		} finally {
+			returnFaker(faker);
 		}
 
 		return "";
@@ -70,26 +96,32 @@ public class FakerExpression extends AbstractExpression {
 		return IDENTIFIER.equalsIgnoreCase(input);
 	}
 
-	private Faker getFaker(final String localeLanguageTag) {
-		if (!fakerByLocale.containsKey(localeLanguageTag)) {
-			fakerByLocale.put(localeLanguageTag, createFaker(localeLanguageTag));
-		}
-
-		return fakerByLocale.get(localeLanguageTag);
+	private static org.springframework.expression.Expression getExpression(final String springExpression) {
+		return EXPRESSIONS.computeIfAbsent(springExpression, PARSER::parseExpression);
 	}
 
-	private Faker createFaker(final String localeLanguageTag) {
-		if (localeLanguageTag == null) {
-			return new Faker();
+	private static PooledFaker borrowFaker(final String localeLanguageTag, final RandomGenerator random) {
+		final BlockingQueue<PooledFaker> pool = FAKERS.computeIfAbsent(localeLanguageTag,
+				tag -> new ArrayBlockingQueue<>(MAX_POOLED_FAKERS));
+		PooledFaker faker = pool.poll();
+		if (faker == null) {
+			faker = new PooledFaker(Locale.forLanguageTag(localeLanguageTag), pool);
 		}
-		return new Faker(Locale.forLanguageTag(localeLanguageTag));
+		faker.random.generator = random;
+		return faker;
+	}
+
+	private static void returnFaker(final PooledFaker faker) {
+		faker.random.generator = null;
+		// The faker is dropped if the pool is full
+		faker.pool.offer(faker);
 	}
 
 	private String getLocaleLanguageTag(final ExpressionArgument<?> localeArgument) {
 		if (localeArgument instanceof ExpressionArgumentString) {
 			return ((ExpressionArgumentString) localeArgument).getValue();
 		}
-		return "en";
+		return DEFAULT_LOCALE;
 	}
 
 	private Optional<String> getApiArgumentString(final ExpressionArgument<?> apiArgument) {
@@ -99,4 +131,37 @@ public class FakerExpression extends AbstractExpression {
 		return Optional.empty();
 	}
 
+	/**
+	 * A {@link Faker} together with its evaluation context, the random source that it draws its values from
+	 * and the pool that it is returned to. The pool is kept, since it might be evicted while the faker is in use.
+	 */
+	private static final class PooledFaker {
+
+		private final RequestRandom random = new RequestRandom();
+		private final EvaluationContext context;
+		private final BlockingQueue<PooledFaker> pool;
+
+		private PooledFaker(final Locale locale, final BlockingQueue<PooledFaker> pool) {
+			this.context = new StandardEvaluationContext(new Faker(locale, this.random));
+			this.pool = pool;
+		}
+	}
+
+	/**
+	 * A {@link Random} that draws its values from the random generator of the request that has borrowed
+	 * the {@link Faker}. The random source of a {@link Faker} is part of its identity in the library,
+	 * which is why the generator is replaced instead of the {@link Random}.
+	 */
+	private static final class RequestRandom extends Random {
+
+		private static final long serialVersionUID = 1L;
+
+		private transient RandomGenerator generator;
+
+		@Override
+		protected int next(final int bits) {
+			return (int) (this.generator.nextLong() >>> (64 - bits));
+		}
+	}
+
 }
@@ -19,14 +19,19 @@ package com.castlemock.model.core.utility.parser.expression;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.castlemock.model.core.utility.BoundedCache;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentString;
 import com.jayway.jsonpath.JsonPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * JWT Expression generates JSON Web Tokens with customizable claims and algorithms.
@@ -45,6 +50,9 @@ import java.util.UUID;
  * - jti: JWT ID (random UUID)
  * - exp: expiration timestamp (iat + exp parameter)
  *
+ * Signing algorithms are cached per algorithm and secret. The claims of a compiled template are
+ * type inferred once, and only dynamic (@-prefixed) claims are resolved for every token.
+ *
  * @since 1.69.2
  */
 public final class JwtExpression extends AbstractExpression {
@@ -57,6 +65,16 @@ public final class JwtExpression extends AbstractExpression {
     private static final String DEFAULT_ALGORITHM = "HS256";
     private static final String DEFAULT_SECRET = "default-secret";
     private static final String DEFAULT_EXPIRATION = "+3600"; // 1 hour
+    private static final String FAILED_TOKEN =
+            "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJlcnJvciI6InRva2VuX2dlbmVyYXRpb25fZmFpbGVkIn0.invalid";
+    private static final int MAX_CACHED_ALGORITHMS = 64;
+    private static final int MAX_CACHED_CLAIM_TEMPLATES = 256;
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtExpression.class);
+    private static final LongAdder FAILED_GENERATIONS = new LongAdder();
+
+    private final BoundedCache<String, Algorithm> algorithms = new BoundedCache<>(MAX_CACHED_ALGORITHMS);
+    private final BoundedCache<List<String>, List<Claim>> claimTemplates =
+            new BoundedCache<>(MAX_CACHED_CLAIM_TEMPLATES);
 
     @Override
     public String transform(final ExpressionInput input) {
@@ -72,41 +90,111 @@ public final class JwtExpression extends AbstractExpression {
             JWTCreator.Builder jwtBuilder = JWT.create()
                     .withIssuedAt(new Date(now * 1000))
                     .withExpiresAt(new Date(exp * 1000))
-                    .withJWTId(UUID.randomUUID().toString());
+                    .withJWTId(randomUUID(input.getRandom()).toString());
 
             // Add custom claims from all other arguments
-            Map<String, ExpressionArgument<?>> arguments = input.getArguments();
-            for (Map.Entry<String, ExpressionArgument<?>> entry : arguments.entrySet()) {
-                String argumentIdentifier = entry.getKey();
-                if (!isReservedArgument(argumentIdentifier)) {
-                    ExpressionArgument<?> arg = entry.getValue();
-                    if (arg instanceof ExpressionArgumentString) {
-                        String value = ((ExpressionArgumentString) arg).getValue();
-                        if (value != null && !value.trim().isEmpty()) {
-                            // Resolve dynamic values if they start with @
-                            String resolvedValue = resolveDynamicValue(value, input);
-                            // Try to parse as boolean or number, otherwise use as string
-                            addClaimWithTypeInference(jwtBuilder, argumentIdentifier, resolvedValue);
-                        }
+            final ExpressionInput parsedInput = input.getParsedInput().orElse(null);
+            if (parsedInput == null) {
+                addClaims(jwtBuilder, getClaims(input.getArguments()), input);
+            } else {
+                // The claims of the template are only inferred once. Arguments that are provided when
+                // the template is rendered take precedence over the claims of the template.
+                final Map<String, ExpressionArgument<?>> additionalArguments = input.getAdditionalArguments();
+                for (Claim claim : getClaimTemplate(parsedInput)) {
+                    if (!additionalArguments.containsKey(claim.name)) {
+                        addClaim(jwtBuilder, claim, input);
                     }
                 }
+                addClaims(jwtBuilder, getClaims(additionalArguments), input);
             }
 
             return jwtBuilder.sign(algorithm);
 
         } catch (Exception e) {
             // On any error, return a placeholder token
-            return "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJlcnJvciI6InRva2VuX2dlbmVyYXRpb25fZmFpbGVkIn0.invalid";
+            FAILED_GENERATIONS.increment();
+            LOGGER.warn("Unable to generate JWT: " + e.getMessage(), e);
+            return FAILED_TOKEN;
         }
     }
 
+    /**
+     * Get the number of tokens that couldn't be generated by any {@link JwtExpression}.
+     * A placeholder token is returned instead of every failed token.
+     * @return The number of failed token generations.
+     * @since 1.70
+     */
+    public static long getFailedGenerations() {
+        return FAILED_GENERATIONS.sum();
+    }
+
     private Algorithm getAlgorithm(final String algorithmName, final String secret) {
-        return switch (algorithmName.toUpperCase()) {
-            case "HS256" -> Algorithm.HMAC256(secret);
+        final String name = switch (algorithmName.toUpperCase()) {
+            case "HS384", "HS512" -> algorithmName.toUpperCase();
+            default -> DEFAULT_ALGORITHM; // fallback
+        };
+        // The algorithm name never contains a colon, which means that the key is unique
+        final String key = name + ':' + secret;
+        return this.algorithms.computeIfAbsent(key, ignored -> switch (name) {
             case "HS384" -> Algorithm.HMAC384(secret);
             case "HS512" -> Algorithm.HMAC512(secret);
-            default -> Algorithm.HMAC256(secret); // fallback
-        };
+            default -> Algorithm.HMAC256(secret);
+        });
+    }
+
+    private List<Claim> getClaimTemplate(final ExpressionInput parsedInput) {
+        // Templates are keyed by their claim text, which means that equal templates share the same claims
+        final Map<String, ExpressionArgument<?>> arguments = parsedInput.getArguments();
+        return this.claimTemplates.computeIfAbsent(getClaimText(arguments), ignored -> getClaims(arguments));
+    }
+
+    private List<String> getClaimText(final Map<String, ExpressionArgument<?>> arguments) {
+        final List<String> claimText = new ArrayList<>();
+        for (Map.Entry<String, ExpressionArgument<?>> entry : arguments.entrySet()) {
+            if (!isReservedArgument(entry.getKey()) && entry.getValue() instanceof ExpressionArgumentString arg) {
+                claimText.add(entry.getKey());
+                claimText.add(arg.getValue());
+            }
+        }
+        return claimText;
+    }
+
+    private List<Claim> getClaims(final Map<String, ExpressionArgument<?>> arguments) {
+        final List<Claim> claims = new ArrayList<>();
+        for (Map.Entry<String, ExpressionArgument<?>> entry : arguments.entrySet()) {
+            final String argumentIdentifier = entry.getKey();
+            if (!isReservedArgument(argumentIdentifier) && entry.getValue() instanceof ExpressionArgumentString arg) {
+                final String value = arg.getValue();
+                if (value != null && !value.trim().isEmpty()) {
+                    // Dynamic values that start with @ are resolved for every token.
+                    // Other values are parsed as boolean or number, otherwise used as string.
+                    claims.add(value.startsWith("@") ?
+                            new Claim(argumentIdentifier, null, value) :
+                            new Claim(argumentIdentifier, inferType(value), null));
+                }
+            }
+        }
+        return List.copyOf(claims);
+    }
+
+    private void addClaims(final JWTCreator.Builder jwtBuilder, final List<Claim> claims, final ExpressionInput input) {
+        for (Claim claim : claims) {
+            addClaim(jwtBuilder, claim, input);
+        }
+    }
+
+    private void addClaim(final JWTCreator.Builder jwtBuilder, final Claim claim, final ExpressionInput input) {
+        final Object value = claim.dynamicValue == null ? claim.value :
+                inferType(resolveDynamicValue(claim.dynamicValue, input));
+        if (value instanceof Boolean booleanValue) {
+            jwtBuilder.withClaim(claim.name, booleanValue);
+        } else if (value instanceof Long longValue) {
+            jwtBuilder.withClaim(claim.name, longValue);
+        } else if (value instanceof Double doubleValue) {
+            jwtBuilder.withClaim(claim.name, doubleValue);
+        } else {
+            jwtBuilder.withClaim(claim.name, (String) value);
+        }
     }
 
     private long parseExpirationSeconds(final String expiration) {
@@ -119,24 +207,21 @@ public final class JwtExpression extends AbstractExpression {
         }
     }
 
-    private void addClaimWithTypeInference(JWTCreator.Builder jwtBuilder, final String key, final String value) {
+    private Object inferType(final String value) {
         // Try to infer the type of the value
         if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
-            jwtBuilder.withClaim(key, Boolean.parseBoolean(value));
-        } else {
+            return Boolean.parseBoolean(value);
+        }
+        try {
+            // Try as integer first
+            return Long.parseLong(value);
+        } catch (NumberFormatException e1) {
             try {
-                // Try as integer first
-                long longValue = Long.parseLong(value);
-                jwtBuilder.withClaim(key, longValue);
-            } catch (NumberFormatException e1) {
-                try {
-                    // Try as double
-                    double doubleValue = Double.parseDouble(value);
-                    jwtBuilder.withClaim(key, doubleValue);
-                } catch (NumberFormatException e2) {
-                    // Use as string
-                    jwtBuilder.withClaim(key, value);
-                }
+                // Try as double
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e2) {
+                // Use as string
+                return value;
             }
         }
     }
@@ -210,4 +295,21 @@ public final class JwtExpression extends AbstractExpression {
     public boolean match(final String identifier) {
         return IDENTIFIER.equalsIgnoreCase(identifier);
     }
+
+    /**
+     * A custom claim. The value of a static claim has already been type inferred, while
+     * a dynamic value is resolved and type inferred for every token.
+     */
+    private static final class Claim {
+
+        private final String name;
+        private final Object value;
+        private final String dynamicValue;
+
+        private Claim(final String name, final Object value, final String dynamicValue) {
+            this.name = name;
+            this.value = value;
+            this.dynamicValue = dynamicValue;
+        }
+    }
 }
\ No newline at end of file
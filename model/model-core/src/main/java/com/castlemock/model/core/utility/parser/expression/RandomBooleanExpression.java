@@ -35,7 +35,7 @@ public class RandomBooleanExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
-        return Boolean.toString(RANDOM.nextBoolean());
+        return Boolean.toString(input.getRandom().nextBoolean());
     }
 
     /**
@@ -43,7 +43,7 @@ public class RandomDateExpression extends AbstractExpression {
         final long now = System.currentTimeMillis();
         final long leftLimit = now - RANGE;
         final long rightLimit = now + RANGE;
-        final long randomValue = leftLimit + (long) (Math.random() * (rightLimit - leftLimit));
+        final long randomValue = leftLimit + (long) (input.getRandom().nextDouble() * (rightLimit - leftLimit));
         final Date date = new Date(Math.abs(randomValue));
         return DATE_FORMAT.format(date);
     }
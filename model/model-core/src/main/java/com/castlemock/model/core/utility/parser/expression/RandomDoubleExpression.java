@@ -53,7 +53,7 @@ public class RandomDoubleExpression extends AbstractExpression {
             maxLength = ((ExpressionArgumentNumber) maxArgument).getValue().intValue();
         }
 
-        final int randomValue = RANDOM.nextInt(maxLength) + minLength;
+        final int randomValue = input.getRandom().nextInt(maxLength) + minLength;
         return Double.toString(randomValue);
     }
 
@@ -20,6 +20,8 @@ import com.castlemock.model.core.utility.parser.expression.argument.ExpressionAr
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentNumber;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentString;
 
+import java.util.random.RandomGenerator;
+
 /**
  * {@link RandomEmailExpression} is an {@link Expression} and will
  * transform an matching input string into a random email.
@@ -50,6 +52,7 @@ public class RandomEmailExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
+        final RandomGenerator random = input.getRandom();
 
         final ExpressionArgument<?> domainArgument = input.getArgument(DOMAIN_ARGUMENT);
         final ExpressionArgument<?> topDomainArgument = input.getArgument(TOP_DOMAIN_ARGUMENT);
@@ -66,7 +69,7 @@ public class RandomEmailExpression extends AbstractExpression {
         if(domainArgument instanceof ExpressionArgumentString){
             domain = ((ExpressionArgumentString) domainArgument).getValue();
         } else {
-            domain = randomString(RANDOM.nextInt(MAX_LENGTH) + MIN_LENGTH);
+            domain = randomString(random.nextInt(MAX_LENGTH) + MIN_LENGTH, random);
         }
 
         if(topDomainArgument instanceof ExpressionArgumentString){
@@ -82,7 +85,7 @@ public class RandomEmailExpression extends AbstractExpression {
             maxLength = ((ExpressionArgumentNumber) maxArgument).getValue().intValue();
         }
 
-        final String username = randomString(RANDOM.nextInt(maxLength) + minLength);
+        final String username = randomString(random.nextInt(maxLength) + minLength, random);
         return username + AT + domain + DOT + topDomain;
     }
 
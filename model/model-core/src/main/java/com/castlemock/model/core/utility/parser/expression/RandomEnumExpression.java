@@ -51,7 +51,7 @@ public class RandomEnumExpression extends AbstractExpression {
 
         final ExpressionArgumentArray array = (ExpressionArgumentArray) expressionArgument;
         final int argumentSize = array.getArgumentSize();
-        final int index = RANDOM.nextInt(argumentSize);
+        final int index = input.getRandom().nextInt(argumentSize);
 
         final ExpressionArgument<?> argument = array.getArgument(index);
 
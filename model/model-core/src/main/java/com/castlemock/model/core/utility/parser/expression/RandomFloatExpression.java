@@ -36,7 +36,7 @@ public class RandomFloatExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
-        return Float.toString(RANDOM.nextFloat());
+        return Float.toString(input.getRandom().nextFloat());
     }
 
     /**
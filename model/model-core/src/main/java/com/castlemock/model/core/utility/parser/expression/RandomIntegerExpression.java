@@ -53,7 +53,7 @@ public class RandomIntegerExpression extends AbstractExpression {
             maxLength = ((ExpressionArgumentNumber) maxArgument).getValue().intValue();
         }
 
-        int randomValue = RANDOM.nextInt(maxLength) + minLength;
+        int randomValue = input.getRandom().nextInt(maxLength) + minLength;
         return Integer.toString(randomValue);
     }
 
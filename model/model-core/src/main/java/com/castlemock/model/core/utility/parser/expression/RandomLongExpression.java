@@ -35,7 +35,7 @@ public class RandomLongExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
-        return Long.toString(RANDOM.nextLong());
+        return Long.toString(input.getRandom().nextLong());
     }
 
     /**
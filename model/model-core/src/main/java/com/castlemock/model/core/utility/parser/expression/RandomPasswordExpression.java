@@ -19,6 +19,8 @@ package com.castlemock.model.core.utility.parser.expression;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentNumber;
 
+import java.util.random.RandomGenerator;
+
 /**
  * {@link RandomPasswordExpression} is an {@link Expression} and will
  * transform an matching input string into a random password.
@@ -41,6 +43,7 @@ public class RandomPasswordExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
+        final RandomGenerator random = input.getRandom();
         int minLength = 5;
         int maxLength = 10;
 
@@ -55,7 +58,7 @@ public class RandomPasswordExpression extends AbstractExpression {
         }
 
 
-        return randomString(RANDOM.nextInt(maxLength) + minLength);
+        return randomString(random.nextInt(maxLength) + minLength, random);
     }
 
     /**
@@ -16,6 +16,7 @@
 
 package com.castlemock.model.core.utility.parser.expression;
 
+import java.util.random.RandomGenerator;
 
 /**
  * {@link RandomStringExpression} is an {@link Expression} and will
@@ -38,8 +39,9 @@ public class RandomStringExpression extends AbstractExpression {
      */
     @Override
     public String transform(final ExpressionInput input) {
-        final int length = RANDOM.nextInt(MAX_LENGTH) + MIN_LENGTH;
-        return randomString(length);
+        final RandomGenerator random = input.getRandom();
+        final int length = random.nextInt(MAX_LENGTH) + MIN_LENGTH;
+        return randomString(length, random);
     }
 
     /**
@@ -16,8 +16,6 @@
 
 package com.castlemock.model.core.utility.parser.expression;
 
-import java.util.UUID;
-
 /**
  * {@link RandomUUIDExpression} is an {@link Expression} and will
  * transform an matching input string into a random UUID.
@@ -37,7 +35,7 @@ public class RandomUUIDExpression extends AbstractExpression {
      */
     @Override
     public String transform(ExpressionInput input) {
-        return UUID.randomUUID().toString();
+        return randomUUID(input.getRandom()).toString();
     }
 
     /**
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.parser.expression.argument;
+
+import com.castlemock.model.core.utility.ParsedBody;
+
+/**
+ * The {@link ExpressionArgumentBody} is the request body argument for an
+ * {@link com.castlemock.model.core.utility.parser.expression.Expression}. The value is the unparsed body,
+ * while the {@link ParsedBody} allows expressions to evaluate the body without parsing it again.
+ * @since 1.70
+ */
+public class ExpressionArgumentBody extends ExpressionArgumentString {
+
+    private final ParsedBody parsedBody;
+
+    /**
+     * Constructor for {@link ExpressionArgumentBody}.
+     * @param parsedBody The body of the request.
+     */
+    public ExpressionArgumentBody(final ParsedBody parsedBody) {
+        super(parsedBody.getBody());
+        this.parsedBody = parsedBody;
+    }
+
+    /**
+     * Get the parsed body.
+     * @return The parsed body.
+     */
+    public ParsedBody getParsedBody() {
+        return parsedBody;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link RandomSource} provides the random generators that are used when a mocked response is created,
+ * such as when a response is selected randomly or when a random expression is evaluated.
+ * <p>
+ * A new generator is requested for every incoming request. The generator is only used by the thread that
+ * is processing the request, which means that requests never compete for a shared generator.
+ * @since 1.70
+ * @see ThreadLocalRandomSource
+ * @see SeededRandomSource
+ */
+public interface RandomSource {
+
+    /**
+     * Get a random generator for a single request. The returned generator should only be used
+     * by the current thread.
+     * @param projectId The id of the project that the request belongs to.
+     * @param streamId The id of the stream that the request belongs to, such as the id of the
+     *                 REST method or the SOAP operation.
+     * @return A random generator for the request.
+     */
+    RandomGenerator getGenerator(String projectId, String streamId);
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.random;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link SeededRandomSource} is a deterministic {@link RandomSource}. The generated values
+ * can be reproduced by restarting the application with the same seed and replaying the same requests.
+ * <p>
+ * Every stream, such as a REST method or a SOAP operation, has its own request counter. The n:th request
+ * of a stream always gets a {@link SplittableRandom} that is seeded from the seed, the project, the stream
+ * and n. Requests only share the counter of their stream, which is advanced without locking, and the
+ * generated values don't depend on how requests to other streams are interleaved.
+ * <p>
+ * Projects that haven't been selected use a {@link ThreadLocalRandom}, just like the {@link ThreadLocalRandomSource}.
+ * @since 1.70
+ */
+public final class SeededRandomSource implements RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final Set<String> projectIds;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new {@link SeededRandomSource}.
+     * @param seed The seed that all the generators are derived from.
+     * @param projectIds The ids of the projects that should use deterministic generators.
+     *                   All projects use deterministic generators if no project ids are provided.
+     */
+    public SeededRandomSource(final long seed, final Set<String> projectIds) {
+        this.seed = seed;
+        this.projectIds = Set.copyOf(Objects.requireNonNull(projectIds, "projectIds"));
+    }
+
+    @Override
+    public RandomGenerator getGenerator(final String projectId, final String streamId) {
+        if (!isDeterministic(projectId)) {
+            return ThreadLocalRandom.current();
+        }
+
+        final String key = projectId + '/' + streamId;
+        final long index = this.counters.computeIfAbsent(key, k -> new AtomicLong()).getAndIncrement();
+        long streamSeed = mix(this.seed ^ key.hashCode());
+        streamSeed = mix(streamSeed + GOLDEN_GAMMA * (index + 1));
+        return new SplittableRandom(streamSeed);
+    }
+
+    /**
+     * Reset the request counters. The next request of every stream will get the same
+     * generator as the first request did.
+     */
+    public void reset() {
+        this.counters.clear();
+    }
+
+    /**
+     * Determine if the provided project uses deterministic generators.
+     * @param projectId The id of the project.
+     * @return <code>true</code> if the project uses deterministic generators.
+     */
+    public boolean isDeterministic(final String projectId) {
+        return this.projectIds.isEmpty() || (projectId != null && this.projectIds.contains(projectId));
+    }
+
+    /**
+     * Mix the bits of the provided value (the finalizer of MurmurHash3).
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link ThreadLocalRandomSource} is the default {@link RandomSource}. Every thread uses
+ * its own {@link ThreadLocalRandom}, and the generated values can't be reproduced.
+ * @since 1.70
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+
+    }
+
+    @Override
+    public RandomGenerator getGenerator(final String projectId, final String streamId) {
+        return ThreadLocalRandom.current();
+    }
+}
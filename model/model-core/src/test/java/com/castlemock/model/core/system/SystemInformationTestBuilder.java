@@ -35,7 +35,11 @@ public final class SystemInformationTestBuilder {
                 .maxMemory(142)
                 .tomcatBuilt("8.5.0")
                 .tomcatVersion("8.5")
-                .totalMemory(4173);
+                .totalMemory(4173)
+                .loadedFiles(12)
+                .loadTime(40)
+                .savedFiles(3)
+                .saveTime(9);
     }
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testComputeIfAbsent() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(2);
+        final AtomicInteger computations = new AtomicInteger();
+
+        Assertions.assertEquals("A", cache.computeIfAbsent("a", key -> {
+            computations.incrementAndGet();
+            return "A";
+        }));
+        Assertions.assertEquals("A", cache.computeIfAbsent("a", key -> {
+            computations.incrementAndGet();
+            return "B";
+        }));
+        Assertions.assertEquals(1, computations.get());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyRead() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("A", cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    public void testConcurrentComputeIfAbsent() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+        IntStream.range(0, 1000)
+                .parallel()
+                .forEach(index -> Assertions.assertEquals(index % 64 * 2,
+                        cache.computeIfAbsent(index % 64, key -> key * 2)));
+
+        Assertions.assertTrue(cache.size() <= 16);
+    }
+
+    @Test
+    public void testInvalidMaxSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+
+}
@@ -106,6 +106,16 @@ public class JsonPathUtilityTest {
         assertEquals("3", value.orElse(null));
     }
 
+    @Test
+    public void testParsedDocument(){
+        final String body = getBody();
+        final JsonPathUtility.JsonDocument document = JsonPathUtility.parse(body);
+        assertTrue(JsonPathUtility.isValidJsonPathExpr(document, "$.store.book[?(@.price < 10)]"));
+        assertFalse(JsonPathUtility.isValidJsonPathExpr(document, "$.store.book[?(@.author == 'Karl Dahlgren')]"));
+        assertEquals("Author 3", JsonPathUtility.getValueWithJsonPathExpr(document,
+                "$.store.book[?(@.price > 20)].author").orElse(null));
+    }
+
     private String getBody() {
         return """
                 {
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+public class ParsedBodyTest {
+
+    @Test
+    public void testXmlDocument() {
+        final ParsedBody parsedBody = ParsedBody.of("<entries><entry key=\"mykey1\">1</entry></entries>");
+        final Document document = parsedBody.getXmlDocument().orElseThrow();
+
+        Assertions.assertSame(document, parsedBody.getXmlDocument().orElseThrow());
+        Assertions.assertTrue(XPathUtility.isValidXPathExpr(document, "//entry[@key='mykey1']"));
+    }
+
+    @Test
+    public void testJsonDocument() {
+        final ParsedBody parsedBody = ParsedBody.of("{\"name\": \"Karl\"}");
+        final JsonPathUtility.JsonDocument document = parsedBody.getJsonDocument().orElseThrow();
+
+        Assertions.assertSame(document, parsedBody.getJsonDocument().orElseThrow());
+        Assertions.assertEquals("Karl", JsonPathUtility.getValueWithJsonPathExpr(document, "$.name").orElse(null));
+        Assertions.assertTrue(parsedBody.getXmlDocument().isEmpty());
+    }
+
+    @Test
+    public void testGetBody() {
+        Assertions.assertEquals("Body", ParsedBody.of("Body").getBody());
+    }
+
+}
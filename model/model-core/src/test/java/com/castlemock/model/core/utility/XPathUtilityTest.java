@@ -18,6 +18,15 @@ package com.castlemock.model.core.utility;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -254,4 +263,43 @@ public class XPathUtilityTest {
         assertEquals("22", XPathUtility.getXPathValue(body, xpath).orElse(null));
     }
 
+    @Test
+    public void testParseOnce() {
+        final String body = """
+                <entries>
+                     <entry key="mykey1">1</entry>
+                     <entry key="mykey2">2</entry>
+                </entries>""";
+
+        final Document document = XPathUtility.parse(body).orElseThrow();
+        Assertions.assertTrue(XPathUtility.isValidXPathExpr(document, "//entry[@key='mykey2']"));
+        Assertions.assertFalse(XPathUtility.isValidXPathExpr(document, "//entry[@key='mykey3']"));
+        Assertions.assertFalse(XPathUtility.isValidXPathExpr(document, "//entry[@key="));
+        assertEquals("2", XPathUtility.getXPathValue(document, "//entry[@key='mykey2']/text()").orElse(null));
+    }
+
+    @Test
+    public void testParseInvalidBody() {
+        Assertions.assertTrue(XPathUtility.parse("<entries>").isEmpty());
+        Assertions.assertFalse(XPathUtility.isValidXPathExpr("<entries>", "//entries"));
+    }
+
+    @Test
+    public void testGetXPathValueConcurrently() throws Exception {
+        final String xpath = "//entry[@key='mykey2']/text()";
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Optional<String>>> results = new ArrayList<>();
+            for(int index = 0; index < 200; index++){
+                final String body = "<entries><entry key=\"mykey2\">" + index + "</entry></entries>";
+                results.add(executor.submit(() -> XPathUtility.getXPathValue(body, xpath)));
+            }
+            for(int index = 0; index < results.size(); index++){
+                assertEquals(String.valueOf(index), results.get(index).get(10, TimeUnit.SECONDS).orElse(null));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
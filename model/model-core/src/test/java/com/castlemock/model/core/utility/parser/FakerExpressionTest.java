@@ -24,7 +24,12 @@ import org.junit.jupiter.api.Test;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -97,6 +102,34 @@ public class FakerExpressionTest {
         assertFalse(result.isEmpty());
 	}
 
+	@Test
+	public void testRepeatedEvaluation() {
+		// The expression is compiled after it has been interpreted a number of times
+		for (int index = 0; index < 500; index++) {
+			final String result = fakerExpression.transform(createExpressionInput("number().numberBetween(1, 2)",
+					index % 2 == 0 ? "en" : "sv"));
+			assertTrue(Arrays.asList("1", "2").contains(result));
+		}
+	}
+
+	@Test
+	public void testConcurrentEvaluation() {
+		final List<String> results = IntStream.range(0, 1000)
+				.parallel()
+				.mapToObj(index -> fakerExpression.transform(createExpressionInput("name().firstName()",
+						index % 2 == 0 ? "en" : "de")))
+				.toList();
+		assertTrue(results.stream().noneMatch(String::isEmpty));
+	}
+
+	@Test
+	public void testSeededRandom() {
+		final String first = fakerExpression.transform(createSeededExpressionInput("name().fullName()", new SplittableRandom(7)));
+		final String second = fakerExpression.transform(createSeededExpressionInput("name().fullName()", new SplittableRandom(7)));
+		assertFalse(first.isEmpty());
+		assertEquals(first, second);
+	}
+
 	@Test
 	public void testInvalidApi() {
 		final String result = fakerExpression.transform(createExpressionInput("notExisting().notExisting()"));
@@ -107,6 +140,10 @@ public class FakerExpressionTest {
 		return createExpressionInput(argumentApiValue, null);
 	}
 
+	private ExpressionInput createSeededExpressionInput(final String argumentApiValue, final RandomGenerator random) {
+		return new ExpressionInput(createExpressionInput(argumentApiValue), Map.of(), random);
+	}
+
 	private ExpressionInput createExpressionInput(final String argumentApiValue, final String argumentLocaleValue) {
 		final ExpressionInput expressionInput = new ExpressionInput(FakerExpression.IDENTIFIER);
 		expressionInput.addArgument(FakerExpression.API_ARGUMENT, new ExpressionArgumentString(argumentApiValue));
@@ -19,13 +19,17 @@ package com.castlemock.model.core.utility.parser;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.castlemock.model.core.utility.parser.expression.BodyJsonPathExpression;
 import com.castlemock.model.core.utility.parser.expression.ExpressionInput;
 import com.castlemock.model.core.utility.parser.expression.JwtExpression;
+import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgumentString;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -191,4 +195,59 @@ class JwtExpressionTest {
         // Verify algorithm
         assertEquals("HS512", decoded.getAlgorithm());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reuse the claims of a compiled template")
+    void testTemplateClaims() {
+        final TextTemplate template = new TextParser()
+                .compile("${JWT(secret=\"template-key\", user_id=\"12345\", name=\"@body.name\")}");
+
+        for (String name : new String[]{"first", "second"}) {
+            final Map<String, ExpressionArgument<?>> arguments = Map.of(
+                    BodyJsonPathExpression.BODY_ARGUMENT, new ExpressionArgumentString("{\"name\": \"" + name + "\"}"));
+            final String token = template.render(arguments);
+            final DecodedJWT decoded = JWT.require(Algorithm.HMAC256("template-key")).build().verify(token);
+
+            assertEquals(12345L, decoded.getClaim("user_id").asLong());
+            assertEquals(name, decoded.getClaim("name").asString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count failed token generations")
+    void testFailedGenerations() {
+        final ExpressionInput parsedInput = new ExpressionInput(JwtExpression.IDENTIFIER);
+        parsedInput.addArgument("secret", new ExpressionArgumentString("test-key"));
+        final RandomGenerator failingRandom = () -> {
+            throw new IllegalStateException("No random values available");
+        };
+
+        final long failedGenerations = JwtExpression.getFailedGenerations();
+        final String token = expression.transform(new ExpressionInput(parsedInput, Map.of(), failingRandom));
+
+        assertEquals("token_generation_failed", JWT.decode(token).getClaim("error").asString());
+        assertEquals(failedGenerations + 1, JwtExpression.getFailedGenerations());
+
+        expression.transform(parsedInput);
+        assertEquals(failedGenerations + 1, JwtExpression.getFailedGenerations());
+    }
+
+    @Test
+    @DisplayName("Should share the claims of templates with the same claim text")
+    void testTemplatesWithSameClaims() {
+        for (String secret : new String[]{"first-key", "second-key"}) {
+            final ExpressionInput parsedInput = new ExpressionInput(JwtExpression.IDENTIFIER);
+            parsedInput.addArgument("secret", new ExpressionArgumentString(secret));
+            parsedInput.addArgument("user_id", new ExpressionArgumentString("12345"));
+
+            final String token = expression.transform(new ExpressionInput(parsedInput, Map.of()));
+            final DecodedJWT decoded = JWT.require(Algorithm.HMAC256(secret)).build().verify(token);
+            assertEquals(12345L, decoded.getClaim("user_id").asLong());
+        }
+
+        final ExpressionInput parsedInput = new ExpressionInput(JwtExpression.IDENTIFIER);
+        parsedInput.addArgument("user_id", new ExpressionArgumentString("67890"));
+        final String token = expression.transform(new ExpressionInput(parsedInput, Map.of()));
+        assertEquals(67890L, JWT.decode(token).getClaim("user_id").asLong());
+    }
+}
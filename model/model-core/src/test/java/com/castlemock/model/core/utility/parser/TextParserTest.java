@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -260,6 +261,30 @@ public class TextParserTest {
     }
     
     
+    @Test
+    public void testCompile() {
+        final String input = "a: ${URL_HOST()}, b: ${X}.";
+        final TextTemplate template = textParser.compile(input);
+        Assertions.assertEquals("a: localhost, b: ${X}.",
+                template.render(new ExternalInputBuilder().requestUrl("http://localhost:8080/castlemock").build()));
+        Assertions.assertEquals("a: castlemock.com, b: ${X}.",
+                template.render(new ExternalInputBuilder().requestUrl("http://castlemock.com").build()));
+    }
+
+    @Test
+    public void testParseToWriter() throws IOException {
+        final String input = "a: ${RANDOM_INTEGER}, b: ${RANDOM_INTEGER()}, c: ${RANDOM_DATE()},"
+                + " d: ${RANDOM_INTEGER(min=0,max=100)}, e: ${RANDOM_DATE()}, f: ${X}.${}";
+
+        final StringWriter writer = new StringWriter();
+        textParserMockedExpressions.parse(input, null, null, writer);
+        Assertions.assertEquals("a: 1, b: 2, c: 2019-01-07, d: 3, e: 2020-10-15, f: ${X}.${}", writer.toString());
+
+        final StringWriter emptyWriter = new StringWriter();
+        textParserMockedExpressions.parse(null, null, null, emptyWriter);
+        Assertions.assertEquals("", emptyWriter.toString());
+    }
+
     @Test
     public void testParseBigResponse() {
         final int RECORDS = 1;
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.model.core.utility.random;
+
+import com.castlemock.model.core.utility.parser.TextParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SeededRandomSourceTest {
+
+    private static final String TEMPLATE = "${RANDOM_STRING} ${RANDOM_INTEGER} ${RANDOM_UUID} ${RANDOM_ENUM(values=[\"A\",\"B\",\"C\"])}";
+
+    @Test
+    public void testGetGeneratorIsDeterministic(){
+        final SeededRandomSource first = new SeededRandomSource(42L, Set.of());
+        final SeededRandomSource second = new SeededRandomSource(42L, Set.of());
+
+        for(int index = 0; index < 10; index++){
+            Assertions.assertEquals(first.getGenerator("project", "method").nextLong(),
+                    second.getGenerator("project", "method").nextLong());
+        }
+    }
+
+    @Test
+    public void testGetGeneratorIsIndependentOfOtherStreams(){
+        final SeededRandomSource first = new SeededRandomSource(42L, Set.of());
+        final SeededRandomSource second = new SeededRandomSource(42L, Set.of());
+
+        second.getGenerator("project", "otherMethod").nextLong();
+        second.getGenerator("otherProject", "method").nextLong();
+
+        Assertions.assertEquals(first.getGenerator("project", "method").nextLong(),
+                second.getGenerator("project", "method").nextLong());
+    }
+
+    @Test
+    public void testGetGeneratorAdvancesPerRequest(){
+        final SeededRandomSource source = new SeededRandomSource(42L, Set.of());
+        final long firstValue = source.getGenerator("project", "method").nextLong();
+        final long secondValue = source.getGenerator("project", "method").nextLong();
+        Assertions.assertNotEquals(firstValue, secondValue);
+
+        source.reset();
+        Assertions.assertEquals(firstValue, source.getGenerator("project", "method").nextLong());
+    }
+
+    @Test
+    public void testGetGeneratorForProjects(){
+        final SeededRandomSource source = new SeededRandomSource(42L, Set.of("project"));
+
+        Assertions.assertTrue(source.isDeterministic("project"));
+        Assertions.assertFalse(source.isDeterministic("otherProject"));
+        Assertions.assertFalse(source.isDeterministic(null));
+        Assertions.assertSame(ThreadLocalRandom.current(), source.getGenerator("otherProject", "method"));
+    }
+
+    @Test
+    public void testParseIsDeterministic(){
+        final TextParser textParser = new TextParser();
+        final SeededRandomSource first = new SeededRandomSource(42L, Set.of());
+        final SeededRandomSource second = new SeededRandomSource(42L, Set.of());
+
+        final String firstOutput = textParser.parse(TEMPLATE, null,
+                first.getGenerator("project", "method")).orElseThrow();
+        final String secondOutput = textParser.parse(TEMPLATE, null,
+                second.getGenerator("project", "method")).orElseThrow();
+
+        Assertions.assertEquals(firstOutput, secondOutput);
+        Assertions.assertFalse(firstOutput.contains("${"));
+    }
+}
@@ -17,6 +17,7 @@
 package com.castlemock.model.mock.rest.domain;
 
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -79,6 +80,14 @@ public class RestMethod {
     @XmlElement
     private final Long networkDelay;
 
+    @XmlElement
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final NetworkDelayDistribution networkDelayDistribution;
+
+    @XmlElement
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final Long networkDelayJitter;
+
     @XmlElement
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final String defaultMockResponseId;
@@ -110,6 +119,8 @@ public class RestMethod {
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.simulateNetworkDelay = builder.simulateNetworkDelay;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.uri = builder.uri;
         this.defaultResponseName = builder.defaultResponseName;
@@ -176,6 +187,23 @@ public class RestMethod {
         return Optional.ofNullable(networkDelay);
     }
 
+    /**
+     * @return The distribution that the simulated network delay is sampled from.
+     * @since 1.70
+     */
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    /**
+     * @return The spread of the simulated network delay. The meaning depends on the
+     * {@link NetworkDelayDistribution}.
+     * @since 1.70
+     */
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     public Optional<String> getDefaultResponseName() {
         return Optional.ofNullable(defaultResponseName);
     }
@@ -193,12 +221,12 @@ public class RestMethod {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RestMethod that = (RestMethod) o;
-        return Objects.equals(id, that.id) && Objects.equals(name, that.name) && Objects.equals(resourceId, that.resourceId) && Objects.equals(defaultBody, that.defaultBody) && httpMethod == that.httpMethod && Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && status == that.status && responseStrategy == that.responseStrategy && Objects.equals(currentResponseSequenceIndex, that.currentResponseSequenceIndex) && Objects.equals(simulateNetworkDelay, that.simulateNetworkDelay) && Objects.equals(networkDelay, that.networkDelay) && Objects.equals(defaultMockResponseId, that.defaultMockResponseId) && Objects.equals(mockResponses, that.mockResponses) && Objects.equals(uri, that.uri) && Objects.equals(defaultResponseName, that.defaultResponseName) && Objects.equals(automaticForward, that.automaticForward);
+        return Objects.equals(id, that.id) && Objects.equals(name, that.name) && Objects.equals(resourceId, that.resourceId) && Objects.equals(defaultBody, that.defaultBody) && httpMethod == that.httpMethod && Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && status == that.status && responseStrategy == that.responseStrategy && Objects.equals(currentResponseSequenceIndex, that.currentResponseSequenceIndex) && Objects.equals(simulateNetworkDelay, that.simulateNetworkDelay) && Objects.equals(networkDelay, that.networkDelay) && networkDelayDistribution == that.networkDelayDistribution && Objects.equals(networkDelayJitter, that.networkDelayJitter) && Objects.equals(defaultMockResponseId, that.defaultMockResponseId) && Objects.equals(mockResponses, that.mockResponses) && Objects.equals(uri, that.uri) && Objects.equals(defaultResponseName, that.defaultResponseName) && Objects.equals(automaticForward, that.automaticForward);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, resourceId, defaultBody, httpMethod, forwardedEndpoint, status, responseStrategy, currentResponseSequenceIndex, simulateNetworkDelay, networkDelay, defaultMockResponseId, mockResponses, uri, defaultResponseName, automaticForward);
+        return Objects.hash(id, name, resourceId, defaultBody, httpMethod, forwardedEndpoint, status, responseStrategy, currentResponseSequenceIndex, simulateNetworkDelay, networkDelay, networkDelayDistribution, networkDelayJitter, defaultMockResponseId, mockResponses, uri, defaultResponseName, automaticForward);
     }
 
     @Override
@@ -215,6 +243,8 @@ public class RestMethod {
                 ", currentResponseSequenceIndex=" + currentResponseSequenceIndex +
                 ", simulateNetworkDelay=" + simulateNetworkDelay +
                 ", networkDelay=" + networkDelay +
+                ", networkDelayDistribution=" + networkDelayDistribution +
+                ", networkDelayJitter=" + networkDelayJitter +
                 ", defaultMockResponseId='" + defaultMockResponseId + '\'' +
                 ", mockResponses=" + mockResponses +
                 ", uri='" + uri + '\'' +
@@ -234,6 +264,8 @@ public class RestMethod {
                 .automaticForward(this.automaticForward)
                 .simulateNetworkDelay(this.simulateNetworkDelay)
                 .networkDelay(this.networkDelay)
+                .networkDelayDistribution(this.networkDelayDistribution)
+                .networkDelayJitter(this.networkDelayJitter)
                 .resourceId(this.resourceId)
                 .defaultBody(this.defaultBody)
                 .responseStrategy(this.responseStrategy)
@@ -267,6 +299,8 @@ public class RestMethod {
         private Integer currentResponseSequenceIndex = 0;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private List<RestMockResponse> mockResponses;
         private String uri;
@@ -336,6 +370,16 @@ public class RestMethod {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
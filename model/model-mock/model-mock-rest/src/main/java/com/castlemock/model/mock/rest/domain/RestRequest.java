@@ -19,6 +19,7 @@ package com.castlemock.model.mock.rest.domain;
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.http.HttpMethod;
 import com.castlemock.model.core.http.HttpParameter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -63,6 +64,12 @@ public class RestRequest {
     @XmlElement(name = "httpParameter")
     private final Set<HttpParameter> httpParameters;
 
+    /**
+     * The raw bytes of the body, as they were received. The bytes are only used when the request
+     * is forwarded and are neither stored nor serialized.
+     */
+    private final byte[] bodyBytes;
+
     private RestRequest(final Builder builder){
         this.uri = Objects.requireNonNull(builder.uri, "uri");
         this.httpMethod = Objects.requireNonNull(builder.httpMethod, "httpMethod");
@@ -70,12 +77,23 @@ public class RestRequest {
         this.contentType = builder.contentType;
         this.httpHeaders = builder.httpHeaders;
         this.httpParameters = builder.httpParameters;
+        this.bodyBytes = builder.bodyBytes;
     }
 
     public Optional<String> getBody() {
         return Optional.ofNullable(body);
     }
 
+    /**
+     * Get the raw bytes of the body, as they were received.
+     * @return The raw body, or an empty optional if the raw body isn't available.
+     * @since 1.70
+     */
+    @JsonIgnore
+    public Optional<byte[]> getBodyBytes() {
+        return Optional.ofNullable(bodyBytes);
+    }
+
     public Optional<String> getContentType() {
         return Optional.ofNullable(contentType);
     }
@@ -136,6 +154,7 @@ public class RestRequest {
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder {
         private String body;
+        private byte[] bodyBytes;
         private String contentType;
         private String uri;
         private HttpMethod httpMethod;
@@ -150,6 +169,11 @@ public class RestRequest {
             return this;
         }
 
+        public Builder bodyBytes(final byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            return this;
+        }
+
         public Builder contentType(final String contentType) {
             this.contentType = contentType;
             return this;
@@ -17,6 +17,7 @@
 package com.castlemock.model.mock.soap.domain;
 
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -82,6 +83,14 @@ public class SoapOperation {
     @XmlElement
     private final Long networkDelay;
 
+    @XmlElement
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final NetworkDelayDistribution networkDelayDistribution;
+
+    @XmlElement
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final Long networkDelayJitter;
+
     @XmlElement
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final String defaultMockResponseId;
@@ -128,6 +137,8 @@ public class SoapOperation {
         this.originalEndpoint = builder.originalEndpoint;
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.invokeAddress = builder.invokeAddress;
         this.defaultResponseName = builder.defaultResponseName;
@@ -203,6 +214,23 @@ public class SoapOperation {
         return Optional.ofNullable(networkDelay);
     }
 
+    /**
+     * @return The distribution that the simulated network delay is sampled from.
+     * @since 1.70
+     */
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    /**
+     * @return The spread of the simulated network delay. The meaning depends on the
+     * {@link NetworkDelayDistribution}.
+     * @since 1.70
+     */
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     public Optional<String> getDefaultResponseName() {
         return Optional.ofNullable(defaultResponseName);
     }
@@ -235,6 +263,7 @@ public class SoapOperation {
                 && Objects.equals(defaultBody, that.defaultBody) && Objects.equals(currentResponseSequenceIndex, that.currentResponseSequenceIndex)
                 && Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && Objects.equals(originalEndpoint, that.originalEndpoint)
                 && Objects.equals(simulateNetworkDelay, that.simulateNetworkDelay) && Objects.equals(networkDelay, that.networkDelay)
+                && networkDelayDistribution == that.networkDelayDistribution && Objects.equals(networkDelayJitter, that.networkDelayJitter)
                 && Objects.equals(defaultMockResponseId, that.defaultMockResponseId) && Objects.equals(portId, that.portId)
                 && Objects.equals(mockOnFailure, that.mockOnFailure) && identifyStrategy == that.identifyStrategy
                 && Objects.equals(mockResponses, that.mockResponses) && Objects.equals(invokeAddress, that.invokeAddress)
@@ -245,8 +274,8 @@ public class SoapOperation {
     public int hashCode() {
         return Objects.hash(id, name, operationIdentifier, responseStrategy, status, httpMethod,
                 soapVersion, defaultBody, currentResponseSequenceIndex, forwardedEndpoint, originalEndpoint,
-                simulateNetworkDelay, networkDelay, defaultMockResponseId, portId, mockOnFailure, identifyStrategy,
-                mockResponses, invokeAddress, defaultResponseName, automaticForward);
+                simulateNetworkDelay, networkDelay, networkDelayDistribution, networkDelayJitter, defaultMockResponseId, portId,
+                mockOnFailure, identifyStrategy, mockResponses, invokeAddress, defaultResponseName, automaticForward);
     }
 
     @Override
@@ -265,6 +294,8 @@ public class SoapOperation {
                 ", originalEndpoint='" + originalEndpoint + '\'' +
                 ", simulateNetworkDelay=" + simulateNetworkDelay +
                 ", networkDelay=" + networkDelay +
+                ", networkDelayDistribution=" + networkDelayDistribution +
+                ", networkDelayJitter=" + networkDelayJitter +
                 ", defaultMockResponseId='" + defaultMockResponseId + '\'' +
                 ", portId='" + portId + '\'' +
                 ", mockOnFailure=" + mockOnFailure +
@@ -307,7 +338,9 @@ public class SoapOperation {
                 .originalEndpoint(originalEndpoint)
                 .status(status)
                 .httpMethod(httpMethod)
-                .networkDelay(networkDelay);
+                .networkDelay(networkDelay)
+                .networkDelayDistribution(networkDelayDistribution)
+                .networkDelayJitter(networkDelayJitter);
     }
 
     @JsonPOJOBuilder(withPrefix = "")
@@ -325,6 +358,8 @@ public class SoapOperation {
         private String originalEndpoint;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private String portId;
         private Boolean mockOnFailure;
@@ -402,6 +437,16 @@ public class SoapOperation {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
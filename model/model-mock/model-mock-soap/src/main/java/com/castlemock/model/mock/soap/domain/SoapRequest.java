@@ -18,6 +18,7 @@ package com.castlemock.model.mock.soap.domain;
 
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.http.HttpMethod;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -71,6 +72,12 @@ public class SoapRequest {
     @XmlElement
     private final SoapOperationIdentifier operationIdentifier;
 
+    /**
+     * The raw bytes of the body, as they were received. The bytes are only used when the request
+     * is forwarded and are neither stored nor serialized.
+     */
+    private final byte[] bodyBytes;
+
     private SoapRequest(final Builder builder){
         this.body = Objects.requireNonNull(builder.body, "body");
         this.envelope = builder.envelope;
@@ -81,6 +88,7 @@ public class SoapRequest {
         this.soapVersion = Objects.requireNonNull(builder.soapVersion, "soapVersion");
         this.httpHeaders = Optional.ofNullable(builder.httpHeaders).orElseGet(Set::of);
         this.operationIdentifier = Objects.requireNonNull(builder.operationIdentifier, "operationIdentifier");
+        this.bodyBytes = builder.bodyBytes;
     }
 
 
@@ -88,6 +96,16 @@ public class SoapRequest {
         return body;
     }
 
+    /**
+     * Get the raw bytes of the body, as they were received.
+     * @return The raw body, or an empty optional if the raw body isn't available.
+     * @since 1.70
+     */
+    @JsonIgnore
+    public Optional<byte[]> getBodyBytes() {
+        return Optional.ofNullable(bodyBytes);
+    }
+
     public String getEnvelope() {
         return envelope;
     }
@@ -159,6 +177,7 @@ public class SoapRequest {
     public static final class Builder {
 
         private String body;
+        private byte[] bodyBytes;
         private String envelope;
         private String contentType;
         private String uri;
@@ -176,6 +195,11 @@ public class SoapRequest {
             return this;
         }
 
+        public Builder bodyBytes(final byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            return this;
+        }
+
         public Builder envelope(final String envelope) {
             this.envelope = envelope;
             return this;
@@ -34,6 +34,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.stream.Collectors.toList;
 
@@ -62,6 +63,10 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
 
     protected final Map<I, T> collection = new ConcurrentHashMap<>();
     private final Map<I, Semaphore> writeLocks = new ConcurrentHashMap<>();
+    private volatile List<FileRepositoryIndex<T, ?, I>> indexes;
+    private final Map<I, ReadModel<T, D>> readModels = new ConcurrentHashMap<>();
+    private final LongAdder readModelHits = new LongAdder();
+    private final LongAdder readModelConversions = new LongAdder();
     private static final Logger LOGGER = LoggerFactory.getLogger(FileRepository.class);
 
     /**
@@ -92,6 +97,13 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
             collection.put(type.getId(), type);
         }
 
+        this.readModels.clear();
+        final List<FileRepositoryIndex<T, ?, I>> indexes = getDeclaredIndexes();
+        indexes.forEach(FileRepositoryIndex::clear);
+        for(T type : collection.values()){
+            indexes.forEach(index -> index.add(type));
+        }
+
         postInitiate();
     }
 
@@ -105,7 +117,7 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
         Preconditions.checkNotNull(id, "The provided id cannot be null");
         LOGGER.debug("Retrieving " + entityClass.getSimpleName() + " with id " + id);
         return Optional.ofNullable(collection.get(id))
-                .map(this.typeConverter);
+                .map(this::toReadModel);
     }
 
     /**
@@ -160,8 +172,12 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
         try {
             writeLock.acquire();
             this.fileRepositorySupport.save(type, filename);
-            this.collection.put(id, type);
-            return this.typeConverter.apply(type);
+            final T previous = this.collection.put(id, type);
+            getDeclaredIndexes().forEach(index -> index.replace(previous, type));
+            final D readModel = this.typeConverter.apply(type);
+            this.readModelConversions.increment();
+            this.readModels.put(id, new ReadModel<>(type, readModel));
+            return readModel;
         } catch (InterruptedException e) {
             throw new IllegalStateException("Unable to acquire the write lock", e);
         } finally {
@@ -190,7 +206,7 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
      * @return Either a new write lock or an already existing write lock associated with the <code>id</code>.
      * @since 1.5
      */
-    private synchronized Semaphore getWriteLock(final I id){
+    private Semaphore getWriteLock(final I id){
         return writeLocks.computeIfAbsent(id, k -> new Semaphore(1));
     }
 
@@ -218,8 +234,10 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
             this.fileRepositorySupport.delete(filename);
             LOGGER.debug("Deletion of " + entityClass.getSimpleName() + " with id " + id + " was successfully completed");
 
-            return Optional.ofNullable(collection.remove(id))
-                    .map(this.typeConverter);
+            final ReadModel<T, D> readModel = this.readModels.get(id);
+            return Optional.ofNullable(evict(id))
+                    .map(type -> readModel != null && readModel.type == type ?
+                            readModel.value : this.typeConverter.apply(type));
         } catch (InterruptedException e) {
             throw new IllegalStateException("Unable to acquire the write lock", e);
         } finally {
@@ -227,6 +245,136 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
         }
     }
 
+    /**
+     * Removes the instance that matches the provided <code>id</code> from the collection and all the
+     * declared indexes. The file system will not be modified.
+     * @param id The id of the instance that will be removed.
+     * @return The removed instance, or <code>null</code> if no instance matched the provided id.
+     * @since 1.70
+     */
+    protected T evict(final I id) {
+        final T type = this.collection.remove(id);
+        this.readModels.remove(id);
+        if(type != null){
+            getDeclaredIndexes().forEach(index -> index.remove(type));
+        }
+        return type;
+    }
+
+    /**
+     * Converts the provided <code>type</code> into its read model. The read model is built once per saved
+     * instance and is shared between all readers until the instance is either saved again or deleted.
+     * The read models are immutable, which makes it safe to share them.
+     * @param type The type that will be converted.
+     * @return The read model of the provided type.
+     * @since 1.70
+     */
+    protected D toReadModel(final T type) {
+        final ReadModel<T, D> readModel = this.readModels.get(type.getId());
+        if(readModel != null && readModel.type == type){
+            this.readModelHits.increment();
+            return readModel.value;
+        }
+
+        // The read model is either missing or was built from a previous
+        // version of the instance. A stale read model will never be returned,
+        // since the identity of the source instance is always verified.
+        final D value = this.typeConverter.apply(type);
+        this.readModelConversions.increment();
+        final ReadModel<T, D> converted = new ReadModel<>(type, value);
+        this.readModels.put(type.getId(), converted);
+        if(this.collection.get(type.getId()) != type){
+            // The instance was replaced or removed during the conversion.
+            this.readModels.remove(type.getId(), converted);
+        }
+        return value;
+    }
+
+    /**
+     * Get the number of reads that were served with an already converted read model.
+     * Each hit represents a conversion, and thereby an allocation of a new domain object graph, that was avoided.
+     * @return The number of read model hits.
+     * @since 1.70
+     */
+    public long getReadModelHits() {
+        return this.readModelHits.sum();
+    }
+
+    /**
+     * Get the number of times an instance has been converted into a new read model.
+     * @return The number of read model conversions.
+     * @since 1.70
+     */
+    public long getReadModelConversions() {
+        return this.readModelConversions.sum();
+    }
+
+    /**
+     * Get the secondary indexes of the repository. The indexes will be kept consistent with the collection
+     * when instances are loaded, saved and deleted. The indexes are requested once, the first time that
+     * they are needed, and the same indexes should be returned every time.
+     * @return The indexes of the repository. No indexes are declared by default.
+     * @since 1.70
+     * @see FileRepositoryIndex#of(Function)
+     */
+    protected List<FileRepositoryIndex<T, ?, I>> getIndexes() {
+        return List.of();
+    }
+
+    private List<FileRepositoryIndex<T, ?, I>> getDeclaredIndexes() {
+        List<FileRepositoryIndex<T, ?, I>> declared = this.indexes;
+        if(declared == null){
+            // The indexes are resolved lazily, since they are declared by the subclasses
+            // and are not available while the repository is being created.
+            declared = List.copyOf(getIndexes());
+            for(T type : this.collection.values()){
+                declared.forEach(index -> index.add(type));
+            }
+            this.indexes = declared;
+        }
+        return declared;
+    }
+
+    /**
+     * Find all instances that are indexed with the provided <code>key</code>.
+     * @param index The index that will be used for the lookup.
+     * @param key The key that the instances are indexed with.
+     * @param <K> The key type of the index.
+     * @return A list of all the matching instances converted into the DTO class.
+     * @since 1.70
+     */
+    protected <K> List<D> findWithIndex(final FileRepositoryIndex<T, K, I> index, final K key) {
+        return toDtoList(findTypesWithIndex(index, key));
+    }
+
+    /**
+     * Find all instances that are indexed with the provided <code>key</code>.
+     * @param index The index that will be used for the lookup.
+     * @param key The key that the instances are indexed with.
+     * @param <K> The key type of the index.
+     * @return A list of all the matching instances.
+     * @since 1.70
+     */
+    protected <K> List<T> findTypesWithIndex(final FileRepositoryIndex<T, K, I> index, final K key) {
+        return index.get(key)
+                .stream()
+                .map(this.collection::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    /**
+     * Find the ids of all instances that are indexed with the provided <code>key</code>.
+     * @param index The index that will be used for the lookup.
+     * @param key The key that the instances are indexed with.
+     * @param <K> The key type of the index.
+     * @return A list of ids.
+     * @since 1.70
+     */
+    protected <K> List<I> findIdsWithIndex(final FileRepositoryIndex<T, K, I> index, final K key) {
+        return List.copyOf(index.get(key));
+    }
+
     /**
      * Checks if the provided <code>id</code> already exists.
      * @param id The id that will be checked if it is already being used.
@@ -312,8 +460,24 @@ public abstract class FileRepository<T extends Saveable<I>, D, I extends Seriali
      */
     protected List<D> toDtoList(final Collection<T> types) {
         return types.stream()
-                .map(this.typeConverter)
+                .map(this::toReadModel)
                 .collect(toList());
     }
 
+    /**
+     * A converted read model together with the instance that it was converted from.
+     * @param <T> The type that is being managed by the file repository.
+     * @param <D> The read model type.
+     */
+    private static final class ReadModel<T, D> {
+
+        private final T type;
+        private final D value;
+
+        private ReadModel(final T type, final D value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file;
+
+import com.castlemock.model.core.Saveable;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link FileRepositoryIndex} is a secondary index that is declared by a {@link FileRepository}
+ * through {@link FileRepository#getIndexes()}.
+ * The index maps a key, such as the id of a parent entity, to the ids of all the entities that share the key.
+ * The index is maintained by the {@link FileRepository} and is kept consistent with the
+ * collection when instances are initialized, saved and deleted.
+ * @param <T> The type that is being managed by the file repository.
+ * @param <K> The key type of the index.
+ * @param <I> The id type of the managed type.
+ * @since 1.70
+ * @see FileRepository
+ */
+public final class FileRepositoryIndex<T extends Saveable<I>, K, I extends Serializable> {
+
+    private final Function<T, K> keyExtractor;
+    private final Map<K, Set<I>> entries = new ConcurrentHashMap<>();
+
+    private FileRepositoryIndex(final Function<T, K> keyExtractor) {
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor");
+    }
+
+    /**
+     * Create a new index.
+     * @param keyExtractor The function that extracts the index key from an instance, for example the parent id.
+     * @param <T> The type that is being managed by the file repository.
+     * @param <K> The key type of the index.
+     * @param <I> The id type of the managed type.
+     * @return The new index.
+     * @see FileRepository#getIndexes()
+     */
+    public static <T extends Saveable<I>, K, I extends Serializable> FileRepositoryIndex<T, K, I> of(final Function<T, K> keyExtractor) {
+        return new FileRepositoryIndex<>(keyExtractor);
+    }
+
+    /**
+     * Get the ids of all the instances that are indexed with the provided <code>key</code>.
+     * @param key The key that the instances are indexed with.
+     * @return A read only view of the ids. An empty set will be returned if no instances are indexed with the key.
+     */
+    public Set<I> get(final K key) {
+        if(key == null){
+            return Set.of();
+        }
+        final Set<I> ids = this.entries.get(key);
+        return ids == null ? Set.of() : Collections.unmodifiableSet(ids);
+    }
+
+    void add(final T type) {
+        final K key = this.keyExtractor.apply(type);
+        if(key == null){
+            return;
+        }
+        this.entries.compute(key, (k, ids) -> {
+            final Set<I> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            updated.add(type.getId());
+            return updated;
+        });
+    }
+
+    void remove(final T type) {
+        final K key = this.keyExtractor.apply(type);
+        if(key == null){
+            return;
+        }
+        this.entries.computeIfPresent(key, (k, ids) -> {
+            ids.remove(type.getId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    void replace(final T previous, final T type) {
+        if(previous == null){
+            add(type);
+            return;
+        }
+        if(Objects.equals(this.keyExtractor.apply(previous), this.keyExtractor.apply(type))){
+            return;
+        }
+        remove(previous);
+        add(type);
+    }
+
+    void clear() {
+        this.entries.clear();
+    }
+}
@@ -16,16 +16,14 @@
 
 package com.castlemock.repository.core.file;
 
+import com.castlemock.repository.FileRepositoryStatistics;
 import com.castlemock.repository.core.file.http.model.HttpHeaderFile;
 import com.castlemock.repository.core.file.http.model.HttpParameterFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
@@ -42,6 +40,8 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -51,10 +51,15 @@ import static java.util.stream.Collectors.toList;
  * @since 1.4
  */
 @Component
-public class FileRepositorySupport {
+public class FileRepositorySupport implements FileRepositoryStatistics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileRepositorySupport.class);
 
+    private final LongAdder loadedFiles = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder savedFiles = new LongAdder();
+    private final LongAdder saveTime = new LongAdder();
+
     public String load(String directory, String filename){
         final Path path = FileSystems.getDefault().getPath(directory);
         this.createDirectory(path);
@@ -98,7 +103,8 @@ public class FileRepositorySupport {
         this.createDirectory(path);
 
         LOGGER.debug("Start loading files for the following type: " + entityClass.getSimpleName());
-        return Optional.of(new File(directory))
+        final long startTime = System.nanoTime();
+        final Collection<T> entities = Optional.of(new File(directory))
                 .map(File::listFiles)
                 .map(Stream::of)
                 .map(files -> files
@@ -108,31 +114,37 @@ public class FileRepositorySupport {
                         .flatMap(Optional::stream)
                         .collect(toList()))
                 .orElseGet(Collections::emptyList);
+        LOGGER.debug("Loaded " + entities.size() + " files for the following type: " + entityClass.getSimpleName() +
+                " (" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms)");
+        return entities;
     }
 
-    @SuppressWarnings("unchecked")
     private <T> Optional<T> load(final File file, final Class<T> entityClass){
+        final long startTime = System.nanoTime();
         try(final InputStream inputStream= new FileInputStream(file)) {
             try(final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)){
-                final JAXBContext jaxbContext = JAXBContext.newInstance(entityClass, HttpHeaderFile.class, HttpParameterFile.class);
-                final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+                final JaxbContextRegistry.PooledContext context =
+                        JaxbContextRegistry.getContext(entityClass, HttpHeaderFile.class, HttpParameterFile.class);
+                final Optional<T> entity = Optional.ofNullable(context.unmarshal(reader))
+                        .map(entityClass::cast);
                 LOGGER.debug("\tLoaded " + file.getName());
-                return Optional.ofNullable((T) jaxbUnmarshaller.unmarshal(reader));
+                return entity;
             }
         } catch (JAXBException | IOException e) {
             LOGGER.error("Unable to parse the following file: " + file.getAbsolutePath(), e);
+        } finally {
+            this.loadedFiles.increment();
+            this.loadTime.add(System.nanoTime() - startTime);
         }
         return Optional.empty();
     }
 
     public <T> void save(T type, String filename){
+        final long startTime = System.nanoTime();
         Writer writer = null;
         try {
-            final JAXBContext context = JAXBContext.newInstance(type.getClass());
-            final Marshaller marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             writer = new FileWriter(filename, StandardCharsets.UTF_8);
-            marshaller.marshal(type, writer);
+            JaxbContextRegistry.getContext(type.getClass()).marshal(type, writer);
         } catch (JAXBException e) {
             LOGGER.error("Unable to parse file: " + filename, e);
             throw new IllegalStateException("Unable to parse the following file: " + filename, e);
@@ -147,6 +159,8 @@ public class FileRepositorySupport {
                     LOGGER.error("Unable to close file writer for type " + type.getClass().getSimpleName(), e);
                 }
             }
+            this.savedFiles.increment();
+            this.saveTime.add(System.nanoTime() - startTime);
         }
     }
 
@@ -166,6 +180,26 @@ public class FileRepositorySupport {
         }
     }
 
+    @Override
+    public long getLoadedFiles() {
+        return this.loadedFiles.sum();
+    }
+
+    @Override
+    public long getLoadTime() {
+        return this.loadTime.sum();
+    }
+
+    @Override
+    public long getSavedFiles() {
+        return this.savedFiles.sum();
+    }
+
+    @Override
+    public long getSaveTime() {
+        return this.saveTime.sum();
+    }
+
     private void createDirectory(Path path){
         if(!Files.exists(path)){
             try {
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link JaxbContextRegistry} keeps one {@link JAXBContext} per set of bound classes. Creating a context
+ * is one of the most expensive operations in JAXB, while a created context is thread safe and can be shared
+ * by all repositories for the lifetime of the application.
+ * <p>
+ * Marshallers and unmarshallers are not thread safe. They are borrowed from a small pool that every context
+ * has, and returned once the file has been written or read. A pool is used instead of a thread local, since
+ * requests might be processed by virtual threads that would otherwise get their own marshallers.
+ * @since 1.70
+ */
+public final class JaxbContextRegistry {
+
+    private static final int MAX_POOLED_INSTANCES = 16;
+    private static final Map<List<Class<?>>, PooledContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private JaxbContextRegistry() {
+
+    }
+
+    /**
+     * Get the context for the provided classes. The context is created the first time it is requested.
+     * @param classes The classes that the context will be bound to.
+     * @return The context for the provided classes.
+     * @throws JAXBException If the context can't be created.
+     */
+    public static PooledContext getContext(final Class<?>... classes) throws JAXBException {
+        final List<Class<?>> key = List.of(classes);
+        final PooledContext context = CONTEXTS.get(key);
+        if (context != null) {
+            return context;
+        }
+
+        // The context is created outside the map, since the creation might fail with a checked exception.
+        // Two threads might create the same context, but only one of them will be registered.
+        final PooledContext created = new PooledContext(JAXBContext.newInstance(classes));
+        final PooledContext existing = CONTEXTS.putIfAbsent(key, created);
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * Get the number of contexts that have been created.
+     * @return The number of contexts.
+     */
+    public static int getContextCount() {
+        return CONTEXTS.size();
+    }
+
+    /**
+     * A {@link JAXBContext} together with its pooled marshallers and unmarshallers. Formatted and
+     * compact marshallers are pooled separately, since the output format is a marshaller property.
+     */
+    public static final class PooledContext {
+
+        private final JAXBContext context;
+        private final BlockingQueue<Marshaller> marshallers = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+        private final BlockingQueue<Marshaller> compactMarshallers = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+        private final BlockingQueue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+
+        private PooledContext(final JAXBContext context) {
+            this.context = Objects.requireNonNull(context, "context");
+        }
+
+        /**
+         * Marshal the provided value to the writer.
+         * @param value The value that will be marshalled.
+         * @param writer The writer that the value will be written to.
+         * @throws JAXBException If the value can't be marshalled.
+         */
+        public void marshal(final Object value, final Writer writer) throws JAXBException {
+            final Marshaller marshaller = borrowMarshaller(this.marshallers, true);
+            marshaller.marshal(value, writer);
+            this.marshallers.offer(marshaller);
+        }
+
+        /**
+         * Marshal the provided value to the output stream without any formatting.
+         * @param value The value that will be marshalled.
+         * @param output The output stream that the value will be written to.
+         * @throws JAXBException If the value can't be marshalled.
+         */
+        public void marshalCompact(final Object value, final OutputStream output) throws JAXBException {
+            final Marshaller marshaller = borrowMarshaller(this.compactMarshallers, false);
+            marshaller.marshal(value, output);
+            this.compactMarshallers.offer(marshaller);
+        }
+
+        /**
+         * Unmarshal a value from the reader.
+         * @param reader The reader that the value will be read from.
+         * @return The unmarshalled value.
+         * @throws JAXBException If the value can't be unmarshalled.
+         */
+        public Object unmarshal(final Reader reader) throws JAXBException {
+            final Unmarshaller unmarshaller = borrowUnmarshaller();
+            final Object value = unmarshaller.unmarshal(reader);
+            this.unmarshallers.offer(unmarshaller);
+            return value;
+        }
+
+        /**
+         * Unmarshal a value from the input stream.
+         * @param input The input stream that the value will be read from.
+         * @return The unmarshalled value.
+         * @throws JAXBException If the value can't be unmarshalled.
+         */
+        public Object unmarshal(final InputStream input) throws JAXBException {
+            final Unmarshaller unmarshaller = borrowUnmarshaller();
+            final Object value = unmarshaller.unmarshal(input);
+            this.unmarshallers.offer(unmarshaller);
+            return value;
+        }
+
+        /**
+         * Unmarshal a value from the file.
+         * @param file The file that the value will be read from.
+         * @return The unmarshalled value.
+         * @throws JAXBException If the value can't be unmarshalled.
+         */
+        public Object unmarshal(final File file) throws JAXBException {
+            final Unmarshaller unmarshaller = borrowUnmarshaller();
+            final Object value = unmarshaller.unmarshal(file);
+            this.unmarshallers.offer(unmarshaller);
+            return value;
+        }
+
+        private Marshaller borrowMarshaller(final BlockingQueue<Marshaller> pool,
+                                            final boolean formatted) throws JAXBException {
+            Marshaller marshaller = pool.poll();
+            if (marshaller == null) {
+                marshaller = this.context.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+            }
+            return marshaller;
+        }
+
+        private Unmarshaller borrowUnmarshaller() throws JAXBException {
+            final Unmarshaller unmarshaller = this.unmarshallers.poll();
+            return unmarshaller == null ? this.context.createUnmarshaller() : unmarshaller;
+        }
+    }
+
+}
@@ -20,10 +20,90 @@ import com.castlemock.repository.core.file.FileRepository;
 import com.castlemock.repository.core.file.event.model.EventFile;
 import com.google.common.base.Function;
 
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+
 public abstract class AbstractEventFileRepository<T extends EventFile, D> extends FileRepository<T, D, String> {
 
+    private static final Comparator<EventFile> START_DATE_ORDER = Comparator
+            .comparing(EventFile::getStartDate)
+            .thenComparing(EventFile::getId);
+
+    /**
+     * All the events ordered by their start date. The oldest event is always the first element,
+     * which means that it can be found without scanning all the events.
+     * @since 1.70
+     */
+    private final NavigableSet<T> chronology = new ConcurrentSkipListSet<>(START_DATE_ORDER);
+
     protected AbstractEventFileRepository(final Function<T, D> typeConverter, final Function<D, T> objectConverter) {
         super(typeConverter, objectConverter);
     }
 
+    @Override
+    public void initialize() {
+        super.initialize();
+        this.chronology.clear();
+        this.chronology.addAll(this.collection.values());
+    }
+
+    @Override
+    protected D save(final T type) {
+        final T previous = this.collection.get(type.getId());
+        final D saved = super.save(type);
+        if(previous != null && previous != type){
+            this.chronology.remove(previous);
+        }
+        this.chronology.add(type);
+        return saved;
+    }
+
+    @Override
+    protected T evict(final String id) {
+        final T type = super.evict(id);
+        if(type != null){
+            this.chronology.remove(type);
+        }
+        return type;
+    }
+
+    /**
+     * Get the event with the oldest start date.
+     * @return The oldest event, or an empty optional if there are no events.
+     * @since 1.70
+     */
+    protected Optional<T> getOldestType() {
+        final Iterator<T> iterator = this.chronology.iterator();
+        while (iterator.hasNext()) {
+            final T type = iterator.next();
+            // Skip events that are in the middle of being saved or deleted
+            if(this.collection.get(type.getId()) == type){
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Delete the events with the oldest start date. The events are collected in one pass over the
+     * chronology instead of looking up the oldest event once per deleted event.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     * @since 1.70
+     */
+    protected synchronized int deleteOldestTypes(final int count) {
+        final List<String> ids = this.chronology.stream()
+                // Skip events that are in the middle of being saved or deleted
+                .filter(type -> this.collection.get(type.getId()) == type)
+                .limit(Math.max(count, 0))
+                .map(EventFile::getId)
+                .toList();
+        ids.forEach(this::delete);
+        return ids.size();
+    }
+
 }
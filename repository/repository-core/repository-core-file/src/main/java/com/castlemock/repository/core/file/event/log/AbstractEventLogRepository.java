@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file.event.log;
+
+import com.castlemock.repository.Repository;
+import com.castlemock.repository.core.file.event.model.EventFile;
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import jakarta.annotation.PreDestroy;
+
+import java.lang.reflect.ParameterizedType;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@link AbstractEventLogRepository} is an event repository that stores its events in an {@link EventLog}
+ * instead of storing every event as a separate file. Only the position of the events are kept in memory.
+ * The events are read from the log when they are requested.
+ * @param <T> The file type of the event.
+ * @param <D> The domain type of the event.
+ * @since 1.70
+ * @see EventLog
+ */
+public abstract class AbstractEventLogRepository<T extends EventFile, D> implements Repository<D, String> {
+
+    private final Function<T, D> typeConverter;
+    private final Function<D, T> objectConverter;
+    private final Function<T, String> keyExtractor;
+    private final Class<T> entityClass;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile EventLog<T> eventLog;
+
+    @SuppressWarnings("unchecked")
+    protected AbstractEventLogRepository(final Function<T, D> typeConverter,
+                                         final Function<D, T> objectConverter,
+                                         final Function<T, String> keyExtractor) {
+        final ParameterizedType genericSuperclass = (ParameterizedType) getClass().getGenericSuperclass();
+        this.entityClass = (Class<T>) genericSuperclass.getActualTypeArguments()[0];
+        this.typeConverter = Objects.requireNonNull(typeConverter, "typeConverter");
+        this.objectConverter = Objects.requireNonNull(objectConverter, "objectConverter");
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor");
+    }
+
+    /**
+     * Open the event log. All the segments will be read and indexed.
+     */
+    @Override
+    public void initialize() {
+        this.lock.lock();
+        try {
+            if(this.eventLog != null){
+                this.eventLog.close();
+            }
+            this.eventLog = EventLog.open(Path.of(getLogDirectory()), getLogExtension(), this.entityClass,
+                    this.keyExtractor, getSegmentSize(), getMaxSegments());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Close the event log.
+     */
+    @PreDestroy
+    public void close() {
+        this.lock.lock();
+        try {
+            if(this.eventLog != null){
+                this.eventLog.close();
+                this.eventLog = null;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<D> findOne(final String id) {
+        Preconditions.checkNotNull(id, "The provided id cannot be null");
+        return getEventLog().read(id)
+                .map(this.typeConverter::apply);
+    }
+
+    @Override
+    public List<D> findAll() {
+        return read(getEventLog().getIds());
+    }
+
+    @Override
+    public D save(final D event) {
+        final T type = this.objectConverter.apply(event);
+        checkType(type);
+        getEventLog().append(type);
+        return this.typeConverter.apply(type);
+    }
+
+    /**
+     * Save a batch of events. The events are appended to the log with one write.
+     * @param events The events that will be saved.
+     */
+    protected void appendAll(final List<D> events) {
+        final List<T> types = events.stream()
+                .map(this.objectConverter::apply)
+                .toList();
+        types.forEach(this::checkType);
+        getEventLog().appendAll(types);
+    }
+
+    @Override
+    public Optional<D> delete(final String id) {
+        Preconditions.checkNotNull(id, "The provided id cannot be null");
+        final EventLog<T> log = getEventLog();
+        final Optional<D> event = log.read(id)
+                .map(this.typeConverter::apply);
+        log.delete(id);
+        return event;
+    }
+
+    @Override
+    public D update(final String id, final D event) {
+        return save(event);
+    }
+
+    @Override
+    public Integer count() {
+        return getEventLog().count();
+    }
+
+    @Override
+    public boolean exists(final String id) {
+        return getEventLog().contains(id);
+    }
+
+    /**
+     * Find all the events that were indexed with the provided key.
+     * @param key The key that the events were indexed with.
+     * @return The events that were indexed with the key.
+     */
+    protected List<D> findWithKey(final String key) {
+        return read(getEventLog().getIds(key));
+    }
+
+    /**
+     * @return The event with the oldest start date, or <code>null</code> if there are no events.
+     */
+    protected D findOldest() {
+        final EventLog<T> log = getEventLog();
+        return log.getOldestId()
+                .flatMap(log::read)
+                .map(this.typeConverter::apply)
+                .orElse(null);
+    }
+
+    /**
+     * Find and delete the event with the oldest start date.
+     * @return The deleted event, or <code>null</code> if there are no events.
+     */
+    protected D deleteOldest() {
+        this.lock.lock();
+        try {
+            final EventLog<T> log = getEventLog();
+            return log.getOldestId()
+                    .flatMap(this::delete)
+                    .orElse(null);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Delete the events with the oldest start date.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     */
+    protected int deleteOldest(final int count) {
+        this.lock.lock();
+        try {
+            return getEventLog().deleteOldest(count).size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Delete all the events and segments.
+     */
+    protected void clear() {
+        getEventLog().clear();
+    }
+
+    /**
+     * @return The directory where the segments are stored.
+     */
+    protected abstract String getLogDirectory();
+
+    /**
+     * @return The file extension of the segments.
+     */
+    protected abstract String getLogExtension();
+
+    /**
+     * @return The max number of records in a segment.
+     */
+    protected abstract int getSegmentSize();
+
+    /**
+     * @return The max number of segments that will be retained.
+     */
+    protected abstract int getMaxSegments();
+
+    /**
+     * Verify that the event can be stored and loaded from the log.
+     * @param type The event that will be verified.
+     */
+    protected abstract void checkType(T type);
+
+    private List<D> read(final Collection<String> ids) {
+        final EventLog<T> log = getEventLog();
+        return ids.stream()
+                .map(log::read)
+                .flatMap(Optional::stream)
+                .map(this.typeConverter::apply)
+                .toList();
+    }
+
+    private EventLog<T> getEventLog() {
+        final EventLog<T> log = this.eventLog;
+        Preconditions.checkState(log != null, "The event log has not been initialized");
+        return log;
+    }
+}
@@ -0,0 +1,672 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file.event.log;
+
+import com.castlemock.repository.core.file.JaxbContextRegistry;
+import com.castlemock.repository.core.file.event.model.EventFile;
+import com.castlemock.repository.core.file.http.model.HttpHeaderFile;
+import com.castlemock.repository.core.file.http.model.HttpParameterFile;
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.bind.JAXBException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * The {@link EventLog} stores events in append-only segment files instead of one file per event.
+ * <p>
+ * Every record in a segment starts with a small binary header, which contains the event id, the start date
+ * and the index key of the event, followed by the event itself in compact XML. A deleted event is recorded
+ * with a tombstone record. Only the headers are read when the log is opened, which means that the events don't
+ * have to be parsed at startup. The log keeps an in-memory index with the position of every event, and the
+ * events are read from the segment files when requested.
+ * <p>
+ * A new segment is started once the current segment contains the configured number of records. Retention is
+ * applied per segment: the oldest segment is deleted as a whole once the max number of segments has been reached,
+ * or as soon as all of its events have been deleted.
+ * <p>
+ * All the modifications are serialized by a {@link ReentrantLock}, while reads can be done concurrently.
+ * @param <T> The event type.
+ * @since 1.70
+ */
+public final class EventLog<T extends EventFile> implements Closeable {
+
+    private static final byte EVENT_RECORD = 1;
+    private static final byte DELETE_RECORD = 2;
+    private static final String NO_KEY = "";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLog.class);
+
+    private final Path directory;
+    private final String extension;
+    private final Class<T> entityClass;
+    private final Function<T, String> keyExtractor;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final JaxbContextRegistry.PooledContext context;
+
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keys = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> chronology = new ConcurrentSkipListSet<>(Comparator
+            .comparingLong((Entry entry) -> entry.startDate)
+            .thenComparing(entry -> entry.id));
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment activeSegment;
+
+    private EventLog(final Path directory,
+                     final String extension,
+                     final Class<T> entityClass,
+                     final Function<T, String> keyExtractor,
+                     final int segmentSize,
+                     final int maxSegments) {
+        Preconditions.checkArgument(segmentSize > 0, "The segment size has to be greater than zero");
+        Preconditions.checkArgument(maxSegments > 0, "The max number of segments has to be greater than zero");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.extension = Objects.requireNonNull(extension, "extension");
+        this.entityClass = Objects.requireNonNull(entityClass, "entityClass");
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor");
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        try {
+            this.context = JaxbContextRegistry.getContext(entityClass, HttpHeaderFile.class, HttpParameterFile.class);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Unable to create the JAXB context for " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Open the event log in the provided directory. All the existing segments will be read and indexed.
+     * @param directory The directory where the segments are stored.
+     * @param extension The file extension of the segments.
+     * @param entityClass The event type.
+     * @param keyExtractor Extracts the key that events can be searched with, such as the id of the method.
+     * @param segmentSize The max number of records in a segment.
+     * @param maxSegments The max number of segments that will be retained.
+     * @param <T> The event type.
+     * @return The opened event log.
+     */
+    public static <T extends EventFile> EventLog<T> open(final Path directory,
+                                                         final String extension,
+                                                         final Class<T> entityClass,
+                                                         final Function<T, String> keyExtractor,
+                                                         final int segmentSize,
+                                                         final int maxSegments) {
+        final EventLog<T> eventLog = new EventLog<>(directory, extension, entityClass,
+                keyExtractor, segmentSize, maxSegments);
+        eventLog.load();
+        return eventLog;
+    }
+
+    /**
+     * Append an event to the log. An event with the same id will be replaced.
+     * @param event The event that will be appended.
+     */
+    public void append(final T event) {
+        Preconditions.checkNotNull(event, "The event cannot be null");
+        appendAll(List.of(event));
+    }
+
+    /**
+     * Append a batch of events to the log. The records are encoded up front and written with one write
+     * per segment, instead of one write per event. Events with the same id will be replaced.
+     * @param events The events that will be appended, in the order they should be stored.
+     */
+    public void appendAll(final List<T> events) {
+        Preconditions.checkNotNull(events, "The events cannot be null");
+        this.lock.lock();
+        try {
+            final ByteArrayOutputStream records = new ByteArrayOutputStream();
+            final List<Entry> pending = new ArrayList<>();
+            for(T event : events){
+                Preconditions.checkNotNull(event, "The event cannot be null");
+                pending.add(encode(event, records));
+                if(this.activeSegment.records + pending.size() >= this.segmentSize){
+                    // The segment is full. The remaining events will be written to the next segment
+                    flush(records, pending);
+                }
+            }
+            flush(records, pending);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Delete an event from the log. A tombstone will be appended to the log, and the segment
+     * that contained the event will be deleted if it no longer contains any events.
+     * @param id The id of the event that will be deleted.
+     * @return <code>true</code> if the event was deleted. <code>false</code> if it didn't exist.
+     */
+    public boolean delete(final String id) {
+        this.lock.lock();
+        try {
+            final Entry entry = this.entries.get(id);
+            if(entry == null){
+                return false;
+            }
+            delete(List.of(entry));
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Delete the events with the oldest start date. The tombstones of all the deleted events
+     * are appended to the log with one write.
+     * @param count The max number of events that will be deleted.
+     * @return The ids of the deleted events.
+     */
+    public List<String> deleteOldest(final int count) {
+        this.lock.lock();
+        try {
+            final List<Entry> oldest = this.chronology.stream()
+                    .limit(Math.max(count, 0))
+                    .toList();
+            if(oldest.isEmpty()){
+                return List.of();
+            }
+            delete(oldest);
+            return oldest.stream()
+                    .map(entry -> entry.id)
+                    .toList();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Delete all the events and segments.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            for(Segment segment : List.copyOf(this.segments.values())){
+                deleteSegment(segment);
+            }
+            this.entries.clear();
+            this.keys.clear();
+            this.chronology.clear();
+            this.activeSegment = openSegment(0);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Read an event from the log.
+     * @param id The id of the event.
+     * @return The event, or an empty optional if no event with the provided id exists.
+     */
+    public Optional<T> read(final String id) {
+        final Entry entry = this.entries.get(id);
+        if(entry == null){
+            return Optional.empty();
+        }
+        return read(entry);
+    }
+
+    /**
+     * @return The ids of all the events in the log.
+     */
+    public Set<String> getIds() {
+        return Collections.unmodifiableSet(this.entries.keySet());
+    }
+
+    /**
+     * Get the ids of all the events that have the provided key.
+     * @param key The key that the events were indexed with.
+     * @return The ids of the events. An empty set will be returned if no events have the key.
+     */
+    public Set<String> getIds(final String key) {
+        final Set<String> ids = key == null ? null : this.keys.get(key);
+        return ids == null ? Set.of() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * @return The id of the event with the oldest start date.
+     */
+    public Optional<String> getOldestId() {
+        final Iterator<Entry> iterator = this.chronology.iterator();
+        return iterator.hasNext() ? Optional.of(iterator.next().id) : Optional.empty();
+    }
+
+    /**
+     * @return The number of events in the log.
+     */
+    public int count() {
+        return this.entries.size();
+    }
+
+    /**
+     * @param id The id of the event.
+     * @return <code>true</code> if an event with the provided id exists. <code>false</code> otherwise.
+     */
+    public boolean contains(final String id) {
+        return this.entries.containsKey(id);
+    }
+
+    /**
+     * @return The number of segments.
+     */
+    public int getSegmentCount() {
+        this.lock.lock();
+        try {
+            return this.segments.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            for(Segment segment : this.segments.values()){
+                segment.close();
+            }
+            this.segments.clear();
+            this.entries.clear();
+            this.keys.clear();
+            this.chronology.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void load() {
+        try {
+            Files.createDirectories(this.directory);
+            try (Stream<Path> files = Files.list(this.directory)) {
+                files.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().endsWith(this.extension))
+                        .map(this::getSequence)
+                        .flatMap(Optional::stream)
+                        .sorted()
+                        .forEach(sequence -> loadSegment(openSegment(sequence)));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load the event log in " + this.directory, e);
+        }
+
+        if(this.segments.isEmpty()){
+            this.activeSegment = openSegment(0);
+        } else {
+            this.activeSegment = this.segments.lastEntry().getValue();
+            deleteEmptySegments();
+            rollIfFull();
+        }
+        LOGGER.debug("Loaded " + this.entries.size() + " events from " + this.segments.size() + " segments");
+    }
+
+    private void loadSegment(final Segment segment) {
+        long position = 0;
+        final long segmentSize = segment.size;
+        try (CountingInputStream counter = new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(segment.path)));
+             DataInputStream input = new DataInputStream(counter)) {
+            while (true) {
+                final int type = input.read();
+                if(type == -1){
+                    break;
+                }
+                final String id = input.readUTF();
+                if(type == EVENT_RECORD){
+                    final long startDate = input.readLong();
+                    final String key = input.readUTF();
+                    final int length = input.readInt();
+                    final long payloadOffset = counter.position;
+                    if(payloadOffset + length > segmentSize){
+                        throw new EOFException();
+                    }
+                    input.skipNBytes(length);
+                    index(new Entry(id, segment, payloadOffset, length, startDate, key));
+                } else if(type == DELETE_RECORD){
+                    final Entry entry = this.entries.get(id);
+                    if(entry != null){
+                        unindex(entry);
+                    }
+                    segment.records++;
+                } else {
+                    throw new IOException("Unknown record type " + type);
+                }
+                position = counter.position;
+            }
+        } catch (EOFException e) {
+            LOGGER.warn("The segment " + segment.path + " ends with an incomplete record and will be truncated");
+            truncate(segment, position);
+        } catch (IOException e) {
+            LOGGER.error("Unable to read the segment " + segment.path + ". It will be truncated at position " + position, e);
+            truncate(segment, position);
+        }
+        segment.size = position;
+    }
+
+    private void truncate(final Segment segment, final long position) {
+        try {
+            segment.channel.truncate(position);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to truncate the segment " + segment.path, e);
+        }
+    }
+
+    private Optional<T> read(final Entry entry) {
+        final ByteBuffer buffer = ByteBuffer.allocate(entry.payloadLength);
+        try {
+            long position = entry.payloadOffset;
+            while (buffer.hasRemaining()) {
+                final int read = entry.segment.channel.read(buffer, position);
+                if(read < 0){
+                    throw new EOFException("Unexpected end of segment " + entry.segment.path);
+                }
+                position += read;
+            }
+            return Optional.of(unmarshal(buffer.array()));
+        } catch (IOException e) {
+            // The segment might have been deleted by the retention after the entry was retrieved
+            LOGGER.debug("Unable to read the event " + entry.id + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void index(final Entry entry) {
+        final Entry previous = this.entries.put(entry.id, entry);
+        if(previous != null){
+            removeFromIndexes(previous);
+        }
+        entry.segment.records++;
+        entry.segment.ids.add(entry.id);
+        this.chronology.add(entry);
+        if(!entry.key.isEmpty()){
+            this.keys.computeIfAbsent(entry.key, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+    }
+
+    private void unindex(final Entry entry) {
+        this.entries.remove(entry.id, entry);
+        removeFromIndexes(entry);
+    }
+
+    private void removeFromIndexes(final Entry entry) {
+        entry.segment.ids.remove(entry.id);
+        this.chronology.remove(entry);
+        if(!entry.key.isEmpty()){
+            this.keys.computeIfPresent(entry.key, (key, ids) -> {
+                ids.remove(entry.id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private void write(final byte[] record) {
+        final ByteBuffer buffer = ByteBuffer.wrap(record);
+        try {
+            while (buffer.hasRemaining()) {
+                this.activeSegment.channel.write(buffer, this.activeSegment.size + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write to the segment " + this.activeSegment.path, e);
+        }
+        this.activeSegment.size += record.length;
+    }
+
+    private void rollIfFull() {
+        if(this.activeSegment.records < this.segmentSize){
+            return;
+        }
+        this.activeSegment = openSegment(this.activeSegment.sequence + 1);
+        while (this.segments.size() > this.maxSegments) {
+            final Segment oldest = this.segments.firstEntry().getValue();
+            for(String id : List.copyOf(oldest.ids)){
+                final Entry entry = this.entries.get(id);
+                if(entry != null){
+                    unindex(entry);
+                }
+            }
+            deleteSegment(oldest);
+        }
+    }
+
+    /**
+     * Delete the oldest segments as long as all their events have been deleted. A segment in the middle
+     * of the log is kept even if it is empty, since it can contain tombstones for events in older segments.
+     */
+    private void deleteEmptySegments() {
+        while (this.segments.size() > 1) {
+            final Segment oldest = this.segments.firstEntry().getValue();
+            if(oldest == this.activeSegment || !oldest.ids.isEmpty()){
+                return;
+            }
+            deleteSegment(oldest);
+        }
+    }
+
+    private Segment openSegment(final long sequence) {
+        final Path path = this.directory.resolve(String.format("%020d", sequence) + this.extension);
+        try {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final Segment segment = new Segment(sequence, path, channel);
+            segment.size = channel.size();
+            this.segments.put(sequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open the segment " + path, e);
+        }
+    }
+
+    private void deleteSegment(final Segment segment) {
+        this.segments.remove(segment.sequence);
+        segment.close();
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            LOGGER.error("Unable to delete the segment " + segment.path, e);
+        }
+    }
+
+    private Optional<Long> getSequence(final Path file) {
+        final String filename = file.getFileName().toString();
+        try {
+            return Optional.of(Long.parseLong(filename.substring(0, filename.length() - this.extension.length())));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring the file " + file + " since it is not an event log segment");
+            return Optional.empty();
+        }
+    }
+
+    private Entry encode(final T event, final ByteArrayOutputStream records) {
+        final String key = Optional.ofNullable(this.keyExtractor.apply(event)).orElse(NO_KEY);
+        final byte[] payload = marshal(event);
+        final long startDate = event.getStartDate().getTime();
+        final DataOutputStream output = new DataOutputStream(records);
+        try {
+            output.writeByte(EVENT_RECORD);
+            output.writeUTF(event.getId());
+            output.writeLong(startDate);
+            output.writeUTF(key);
+            output.writeInt(payload.length);
+            final long payloadOffset = this.activeSegment.size + records.size();
+            output.write(payload);
+            return new Entry(event.getId(), this.activeSegment, payloadOffset, payload.length, startDate, key);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode the event " + event.getId(), e);
+        }
+    }
+
+    private void flush(final ByteArrayOutputStream records, final List<Entry> pending) {
+        if(pending.isEmpty()){
+            return;
+        }
+        write(records.toByteArray());
+        // The events are only indexed once they have been written, since reads are not locked
+        pending.forEach(this::index);
+        records.reset();
+        pending.clear();
+        rollIfFull();
+    }
+
+    private void delete(final List<Entry> deleted) {
+        final ByteArrayOutputStream records = new ByteArrayOutputStream(deleted.size() * 32);
+        try (DataOutputStream output = new DataOutputStream(records)) {
+            for(Entry entry : deleted){
+                output.writeByte(DELETE_RECORD);
+                output.writeUTF(entry.id);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode the tombstones", e);
+        }
+        write(records.toByteArray());
+        this.activeSegment.records += deleted.size();
+        deleted.forEach(this::unindex);
+        deleteEmptySegments();
+        rollIfFull();
+    }
+
+    private byte[] marshal(final T event) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+        try {
+            this.context.marshalCompact(event, output);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Unable to marshal the event " + event.getId(), e);
+        }
+        return output.toByteArray();
+    }
+
+    private T unmarshal(final byte[] payload) throws IOException {
+        try {
+            return this.entityClass.cast(this.context.unmarshal(new ByteArrayInputStream(payload)));
+        } catch (JAXBException e) {
+            throw new IOException("Unable to unmarshal the event", e);
+        }
+    }
+
+    private static final class Segment {
+
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final Set<String> ids = new HashSet<>();
+        private long size;
+        private int records;
+
+        private Segment(final long sequence, final Path path, final FileChannel channel) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void close() {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                LOGGER.error("Unable to close the segment " + this.path, e);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String id;
+        private final Segment segment;
+        private final long payloadOffset;
+        private final int payloadLength;
+        private final long startDate;
+        private final String key;
+
+        private Entry(final String id,
+                      final Segment segment,
+                      final long payloadOffset,
+                      final int payloadLength,
+                      final long startDate,
+                      final String key) {
+            this.id = id;
+            this.segment = segment;
+            this.payloadOffset = payloadOffset;
+            this.payloadLength = payloadLength;
+            this.startDate = startDate;
+            this.key = key;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long position;
+
+        private CountingInputStream(final InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if(value != -1){
+                this.position++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int read = super.read(buffer, offset, length);
+            if(read > 0){
+                this.position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long length) throws IOException {
+            final long skipped = super.skip(length);
+            this.position += skipped;
+            return skipped;
+        }
+    }
+}
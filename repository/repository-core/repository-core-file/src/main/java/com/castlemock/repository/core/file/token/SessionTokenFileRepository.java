@@ -17,6 +17,7 @@
 package com.castlemock.repository.core.file.token;
 
 import com.castlemock.repository.Profiles;
+import com.castlemock.repository.core.file.JaxbContextRegistry;
 import com.castlemock.repository.token.SessionTokenRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +26,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
 import org.springframework.stereotype.Component;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlSeeAlso;
@@ -47,6 +45,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * The session token repository is responsible for managing all the ongoing sessions and their corresponding
@@ -67,6 +66,11 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
     private String tokenFileName;
     private static final Logger LOGGER = LoggerFactory.getLogger(SessionTokenFileRepository.class);
     private final Map<String, PersistentRememberMeToken> seriesTokens = new HashMap<>();
+    /**
+     * Guards the tokens. A lock is used instead of <code>synchronized</code>, since the tokens are saved
+     * to the file system while the lock is held, which would otherwise pin virtual threads to their carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
 
     /**
      * The initialize method is responsible for initiating the token repository and load
@@ -81,13 +85,18 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
      * @param token The token that will be stored in the token repository
      */
     @Override
-    public synchronized void createNewToken(PersistentRememberMeToken token) {
-        PersistentRememberMeToken current = this.seriesTokens.get(token.getSeries());
-        if(current != null) {
-            throw new IllegalArgumentException("Series Id '" + token.getSeries() + "' already exists!");
-        } else {
-            this.seriesTokens.put(token.getSeries(), token);
-            saveTokens();
+    public void createNewToken(PersistentRememberMeToken token) {
+        this.lock.lock();
+        try {
+            PersistentRememberMeToken current = this.seriesTokens.get(token.getSeries());
+            if(current != null) {
+                throw new IllegalArgumentException("Series Id '" + token.getSeries() + "' already exists!");
+            } else {
+                this.seriesTokens.put(token.getSeries(), token);
+                saveTokens();
+            }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -98,11 +107,16 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
      * @param lastUsed Date for when it was last used
      */
     @Override
-    public synchronized void updateToken(String series, String tokenValue, Date lastUsed) {
-        PersistentRememberMeToken token = this.getTokenForSeries(series);
-        PersistentRememberMeToken newToken = new PersistentRememberMeToken(token.getUsername(), series, tokenValue, new Date());
-        this.seriesTokens.put(series, newToken);
-        saveTokens();
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        this.lock.lock();
+        try {
+            PersistentRememberMeToken token = this.getTokenForSeries(series);
+            PersistentRememberMeToken newToken = new PersistentRememberMeToken(token.getUsername(), series, tokenValue, new Date());
+            this.seriesTokens.put(series, newToken);
+            saveTokens();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -112,18 +126,23 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
      * @param oldUsername The old username. It is used to identify the token
      * @param newUsername The new username. It will replace the old username
      */
-    public synchronized void updateToken(String oldUsername, String newUsername) {
-        final List<PersistentRememberMeToken> tokens = new LinkedList<>();
-        for(PersistentRememberMeToken token : seriesTokens.values()){
-            if(token.getUsername().equalsIgnoreCase(oldUsername)){
-                PersistentRememberMeToken newToken = new PersistentRememberMeToken(newUsername, token.getSeries(), token.getTokenValue(), token.getDate());
-                tokens.add(newToken);
+    public void updateToken(String oldUsername, String newUsername) {
+        this.lock.lock();
+        try {
+            final List<PersistentRememberMeToken> tokens = new LinkedList<>();
+            for(PersistentRememberMeToken token : seriesTokens.values()){
+                if(token.getUsername().equalsIgnoreCase(oldUsername)){
+                    PersistentRememberMeToken newToken = new PersistentRememberMeToken(newUsername, token.getSeries(), token.getTokenValue(), token.getDate());
+                    tokens.add(newToken);
+                }
             }
+            for(PersistentRememberMeToken token : tokens){
+               seriesTokens.put(token.getSeries(), token);
+            }
+            saveTokens();
+        } finally {
+            this.lock.unlock();
         }
-        for(PersistentRememberMeToken token : tokens){
-           seriesTokens.put(token.getSeries(), token);
-        }
-        saveTokens();
     }
 
     /**
@@ -133,8 +152,13 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
      * the provided series id
      */
     @Override
-    public synchronized PersistentRememberMeToken getTokenForSeries(String seriesId) {
-        return this.seriesTokens.get(seriesId);
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        this.lock.lock();
+        try {
+            return this.seriesTokens.get(seriesId);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -142,32 +166,34 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
      * @param username The token that matches this user name will be removed
      */
     @Override
-    public synchronized void removeUserTokens(final String username) {
-        final Iterator<String> series = this.seriesTokens.keySet().iterator();
-
-        while(series.hasNext()) {
-            final String seriesId = series.next();
-            final PersistentRememberMeToken token = this.seriesTokens.get(seriesId);
-            if(username.equals(token.getUsername())) {
-                series.remove();
+    public void removeUserTokens(final String username) {
+        this.lock.lock();
+        try {
+            final Iterator<String> series = this.seriesTokens.keySet().iterator();
+
+            while(series.hasNext()) {
+                final String seriesId = series.next();
+                final PersistentRememberMeToken token = this.seriesTokens.get(seriesId);
+                if(username.equals(token.getUsername())) {
+                    series.remove();
+                }
             }
+            saveTokens();
+        } finally {
+            this.lock.unlock();
         }
-        saveTokens();
     }
 
     /**
-     * Saves all the tokens into the file system
+     * Saves all the tokens into the file system. The lock has to be held when the tokens are saved.
      */
-    private synchronized void saveTokens(){
+    private void saveTokens(){
         final SessionTokenList tokens = getTokens();
         final String filename = tokenDirectory + File.separator +  tokenFileName;
         Writer writer = null;
         try {
-            JAXBContext context = JAXBContext.newInstance(SessionTokenList.class);
-            Marshaller marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             writer = new FileWriter(filename, StandardCharsets.UTF_8);
-            marshaller.marshal(tokens, writer);
+            JaxbContextRegistry.getContext(SessionTokenList.class).marshal(tokens, writer);
         } catch (JAXBException e) {
             LOGGER.error("Unable to parse the following file: " + tokenFileName, e);
             throw new IllegalStateException("Unable to parse the following file: " + tokenFileName);
@@ -206,9 +232,7 @@ public class SessionTokenFileRepository implements SessionTokenRepository {
         final File file = new File(tokenDirectory + File.separator +  tokenFileName);
         try {
             if (file.isFile()) {
-                JAXBContext jaxbContext = JAXBContext.newInstance(SessionTokenList.class);
-                Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-                SessionTokenList tokens = (SessionTokenList) jaxbUnmarshaller.unmarshal(file);
+                SessionTokenList tokens = (SessionTokenList) JaxbContextRegistry.getContext(SessionTokenList.class).unmarshal(file);
                 for(SessionToken token : tokens){
                     PersistentRememberMeToken persistentRememberMeToken = new PersistentRememberMeToken(token.getUsername(), token.getSeries(), token.getTokenValue(), token.getDate());
                     seriesTokens.put(persistentRememberMeToken.getSeries(), persistentRememberMeToken);
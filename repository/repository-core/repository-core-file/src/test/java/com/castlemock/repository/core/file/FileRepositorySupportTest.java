@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+public class FileRepositorySupportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testStatistics() throws Exception {
+        final FileRepositorySupport support = new FileRepositorySupport();
+        Assertions.assertEquals(0, support.getLoadedFiles());
+        Assertions.assertEquals(0, support.getSavedFiles());
+
+        support.save(new JaxbContextRegistryTest.TestFile("First"),
+                new File(directory.toFile(), "first.xml").getPath());
+        support.save(new JaxbContextRegistryTest.TestFile("Second"),
+                new File(directory.toFile(), "second.xml").getPath());
+        Files.writeString(directory.resolve("invalid.xml"), "invalid");
+
+        final Collection<JaxbContextRegistryTest.TestFile> files =
+                support.load(JaxbContextRegistryTest.TestFile.class, directory.toString(), ".xml");
+
+        Assertions.assertEquals(2, files.size());
+        Assertions.assertEquals(2, support.getSavedFiles());
+        Assertions.assertEquals(3, support.getLoadedFiles());
+        Assertions.assertTrue(support.getSaveTime() > 0);
+        Assertions.assertTrue(support.getLoadTime() > 0);
+    }
+
+}
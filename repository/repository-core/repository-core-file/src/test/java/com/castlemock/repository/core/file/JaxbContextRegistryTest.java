@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.core.file;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class JaxbContextRegistryTest {
+
+    @Test
+    public void testGetContext() throws JAXBException {
+        final JaxbContextRegistry.PooledContext context = JaxbContextRegistry.getContext(TestFile.class);
+        Assertions.assertSame(context, JaxbContextRegistry.getContext(TestFile.class));
+        Assertions.assertNotSame(context, JaxbContextRegistry.getContext(TestFile.class, OtherTestFile.class));
+    }
+
+    @Test
+    public void testMarshalAndUnmarshal() throws JAXBException {
+        final JaxbContextRegistry.PooledContext context = JaxbContextRegistry.getContext(TestFile.class);
+        for (int index = 0; index < 3; index++) {
+            final StringWriter writer = new StringWriter();
+            context.marshal(new TestFile("Name " + index), writer);
+
+            final TestFile testFile = (TestFile) context.unmarshal(new StringReader(writer.toString()));
+            Assertions.assertEquals("Name " + index, testFile.getName());
+        }
+    }
+
+    @Test
+    public void testMarshalCompactAndUnmarshal() throws JAXBException {
+        final JaxbContextRegistry.PooledContext context = JaxbContextRegistry.getContext(TestFile.class);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        context.marshalCompact(new TestFile("Name"), output);
+
+        Assertions.assertFalse(output.toString().contains("\n"));
+        final TestFile testFile = (TestFile) context.unmarshal(new ByteArrayInputStream(output.toByteArray()));
+        Assertions.assertEquals("Name", testFile.getName());
+    }
+
+    @Test
+    public void testConcurrentMarshalAndUnmarshal() throws JAXBException {
+        final JaxbContextRegistry.PooledContext context = JaxbContextRegistry.getContext(TestFile.class);
+        final List<String> names = IntStream.range(0, 200)
+                .parallel()
+                .mapToObj(index -> {
+                    try {
+                        final StringWriter writer = new StringWriter();
+                        context.marshal(new TestFile("Name " + index), writer);
+                        return ((TestFile) context.unmarshal(new StringReader(writer.toString()))).getName();
+                    } catch (JAXBException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(Collectors.toList());
+
+        for (int index = 0; index < names.size(); index++) {
+            Assertions.assertEquals("Name " + index, names.get(index));
+        }
+    }
+
+    @XmlRootElement(name = "testFile")
+    public static class TestFile {
+
+        private String name;
+
+        public TestFile() {
+
+        }
+
+        public TestFile(final String name) {
+            this.name = name;
+        }
+
+        @XmlElement
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    @XmlRootElement(name = "otherTestFile")
+    public static class OtherTestFile {
+
+    }
+
+}
@@ -107,6 +107,22 @@ public class UserRepositoryTest {
         Assertions.assertEquals(Integer.valueOf(1), count);
     }
 
+    @Test
+    public void testFindOneReusesReadModel(){
+        final User user = save();
+        final User firstRead = repository.findOne(user.getId()).orElseThrow();
+        final User secondRead = repository.findOne(user.getId()).orElseThrow();
+        Assertions.assertSame(firstRead, secondRead);
+        Assertions.assertEquals(2, repository.getReadModelHits());
+        Assertions.assertEquals(1, repository.getReadModelConversions());
+
+        repository.save(UserTestBuilder.builder().username("updated").build());
+        final User updatedRead = repository.findOne(user.getId()).orElseThrow();
+        Assertions.assertNotSame(firstRead, updatedRead);
+        Assertions.assertEquals("updated", updatedRead.getUsername());
+        Assertions.assertEquals(2, repository.getReadModelConversions());
+    }
+
     private User save(){
         final User user = UserTestBuilder.builder().build();
         repository.save(user);
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository;
+
+/**
+ * The {@link FileRepositoryStatistics} provides the number of files that the file repositories
+ * have loaded and saved, together with the time that was spent doing so.
+ * @since 1.70
+ */
+public interface FileRepositoryStatistics {
+
+    /**
+     * Get the number of files that have been loaded, including the files that could not be parsed.
+     * @return The number of loaded files.
+     */
+    long getLoadedFiles();
+
+    /**
+     * Get the total time spent loading files.
+     * @return The total load time in nanoseconds.
+     */
+    long getLoadTime();
+
+    /**
+     * Get the number of files that have been saved, including the files that could not be saved.
+     * @return The number of saved files.
+     */
+    long getSavedFiles();
+
+    /**
+     * Get the total time spent saving files.
+     * @return The total save time in nanoseconds.
+     */
+    long getSaveTime();
+
+}
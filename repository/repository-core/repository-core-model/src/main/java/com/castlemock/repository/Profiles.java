@@ -4,4 +4,23 @@ public interface Profiles {
 
     String FILE = "file";
 
+    /**
+     * Stores the events in append-only segment files instead of one file per event.
+     * The profile is used together with the {@link #FILE} profile.
+     * @since 1.70
+     */
+    String EVENT_LOG = "event-log";
+
+    /**
+     * The expression for the profiles where each event is stored as a separate file.
+     * @since 1.70
+     */
+    String FILE_WITHOUT_EVENT_LOG = FILE + " & !" + EVENT_LOG;
+
+    /**
+     * The expression for the profiles where the events are stored in segment files.
+     * @since 1.70
+     */
+    String FILE_WITH_EVENT_LOG = FILE + " & " + EVENT_LOG;
+
 }
@@ -19,6 +19,7 @@ package com.castlemock.repository.rest.file.event;
 import com.castlemock.model.mock.rest.domain.RestEvent;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.core.file.event.AbstractEventFileRepository;
 import com.castlemock.repository.rest.event.RestEventRepository;
 import com.castlemock.repository.rest.file.event.converter.RestEventConverter;
@@ -30,7 +31,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * The class is an implementation of the REST event repository and provides the functionality to interact with the file system.
@@ -42,7 +42,7 @@ import java.util.Optional;
  * @see FileRepository
  */
 @Repository
-@Profile(Profiles.FILE)
+@Profile(Profiles.FILE_WITHOUT_EVENT_LOG)
 public class RestEventFileRepository extends AbstractEventFileRepository<RestEventFile, RestEvent> implements RestEventRepository {
 
     @Value(value = "${rest.event.file.directory}")
@@ -50,6 +50,9 @@ public class RestEventFileRepository extends AbstractEventFileRepository<RestEve
     @Value(value = "${rest.event.file.extension}")
     private String restEventFileExtension;
 
+    private final FileRepositoryIndex<RestEventFile, String, String> methodIdIndex =
+            FileRepositoryIndex.of(RestEventFile::getMethodId);
+
     public RestEventFileRepository() {
         super(RestEventFileConverter::toRestEvent, RestEventConverter::toRestEventFile);
     }
@@ -73,6 +76,16 @@ public class RestEventFileRepository extends AbstractEventFileRepository<RestEve
         return restEventFileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<RestEventFile, ?, String>> getIndexes() {
+        return List.of(methodIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -97,17 +110,8 @@ public class RestEventFileRepository extends AbstractEventFileRepository<RestEve
      */
     @Override
     public RestEvent getOldestEvent() {
-        RestEventFile oldestEvent = null;
-        for(RestEventFile event : collection.values()){
-            if(oldestEvent == null){
-                oldestEvent = event;
-            } else if(event.getStartDate().before(oldestEvent.getStartDate())){
-                oldestEvent = event;
-            }
-        }
-
-        return Optional.ofNullable(oldestEvent)
-                .map(RestEventFileConverter::toRestEvent)
+        return getOldestType()
+                .map(this::toReadModel)
                 .orElse(null);
     }
 
@@ -118,11 +122,7 @@ public class RestEventFileRepository extends AbstractEventFileRepository<RestEve
      */
     @Override
     public List<RestEvent> findEventsByMethodId(final String restMethodId) {
-        return this.collection.values()
-                .stream()
-                .filter(event -> event.getMethodId().equals(restMethodId))
-                .map(RestEventFileConverter::toRestEvent)
-                .toList();
+        return findWithIndex(this.methodIdIndex, restMethodId);
     }
 
     /**
@@ -137,6 +137,27 @@ public class RestEventFileRepository extends AbstractEventFileRepository<RestEve
         return event;
     }
 
+    /**
+     * Save a batch of events. Every event is stored as a separate file.
+     * @param events The events that will be saved.
+     * @since 1.70
+     */
+    @Override
+    public void saveAll(final List<RestEvent> events) {
+        events.forEach(this::save);
+    }
+
+    /**
+     * The method finds and deletes the oldest events.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     * @since 1.70
+     */
+    @Override
+    public int deleteOldestEvents(final int count) {
+        return deleteOldestTypes(count);
+    }
+
     /**
      * The method clears and deletes all logs.
      * @since 1.7
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.rest.file.event;
+
+import com.castlemock.model.mock.rest.domain.RestEvent;
+import com.castlemock.repository.Profiles;
+import com.castlemock.repository.core.file.event.log.AbstractEventLogRepository;
+import com.castlemock.repository.core.file.event.log.EventLog;
+import com.castlemock.repository.rest.event.RestEventRepository;
+import com.castlemock.repository.rest.file.event.converter.RestEventConverter;
+import com.castlemock.repository.rest.file.event.converter.RestEventFileConverter;
+import com.castlemock.repository.rest.file.event.model.RestEventFile;
+import com.google.common.base.Preconditions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The {@link RestEventLogRepository} stores the rest events in an append-only {@link EventLog}, instead of
+ * storing every event as a separate file. The repository is used when the {@link Profiles#EVENT_LOG}
+ * profile is active.
+ * @since 1.70
+ * @see RestEventFileRepository
+ */
+@Repository
+@Profile(Profiles.FILE_WITH_EVENT_LOG)
+public class RestEventLogRepository extends AbstractEventLogRepository<RestEventFile, RestEvent> implements RestEventRepository {
+
+    @Value(value = "${rest.event.log.directory}")
+    private String restEventLogDirectory;
+    @Value(value = "${rest.event.log.extension}")
+    private String restEventLogExtension;
+    @Value(value = "${rest.event.log.segment.size}")
+    private Integer restEventLogSegmentSize;
+    @Value(value = "${rest.event.log.max.segments}")
+    private Integer restEventLogMaxSegments;
+
+    public RestEventLogRepository() {
+        super(RestEventFileConverter::toRestEvent, RestEventConverter::toRestEventFile, RestEventFile::getMethodId);
+    }
+
+    @Override
+    protected String getLogDirectory() {
+        return restEventLogDirectory;
+    }
+
+    @Override
+    protected String getLogExtension() {
+        return restEventLogExtension;
+    }
+
+    @Override
+    protected int getSegmentSize() {
+        return restEventLogSegmentSize;
+    }
+
+    @Override
+    protected int getMaxSegments() {
+        return restEventLogMaxSegments;
+    }
+
+    @Override
+    protected void checkType(final RestEventFile restEvent) {
+        Preconditions.checkNotNull(restEvent, "Event cannot be null");
+        Preconditions.checkNotNull(restEvent.getId(), "Event id cannot be null");
+        Preconditions.checkNotNull(restEvent.getEndDate(), "Event end date cannot be null");
+        Preconditions.checkNotNull(restEvent.getStartDate(), "Event start date cannot be null");
+    }
+
+    /**
+     * Find events by REST method ID
+     * @param restMethodId The id of the REST method
+     * @return A list of {@link RestEvent} that matches the provided <code>restMethodId</code>
+     */
+    @Override
+    public List<RestEvent> findEventsByMethodId(final String restMethodId) {
+        return findWithKey(restMethodId);
+    }
+
+    /**
+     * The service finds the oldest event
+     * @return The oldest event
+     */
+    @Override
+    public RestEvent getOldestEvent() {
+        return findOldest();
+    }
+
+    /**
+     * The method finds and deletes the oldest event.
+     * @return The event that was deleted.
+     */
+    @Override
+    public RestEvent deleteOldestEvent() {
+        return deleteOldest();
+    }
+
+    /**
+     * Save a batch of events. The events are appended to the log with one write.
+     * @param events The events that will be saved.
+     */
+    @Override
+    public void saveAll(final List<RestEvent> events) {
+        appendAll(events);
+    }
+
+    /**
+     * The method finds and deletes the oldest events.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     */
+    @Override
+    public int deleteOldestEvents(final int count) {
+        return deleteOldest(count);
+    }
+
+    /**
+     * The method clears and deletes all logs.
+     */
+    @Override
+    public void clearAll() {
+        clear();
+    }
+
+    /**
+     * The log removes the oldest segments once the max number of segments has been reached.
+     * @return Always <code>true</code>.
+     */
+    @Override
+    public boolean isRetentionManaged() {
+        return true;
+    }
+
+}
@@ -20,6 +20,7 @@ import com.castlemock.model.mock.rest.domain.RestApplication;
 import com.castlemock.model.mock.rest.domain.RestProject;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.rest.file.project.converter.RestApplicationConverter;
 import com.castlemock.repository.rest.file.project.converter.RestApplicationFileConverter;
 import com.castlemock.repository.rest.file.project.model.RestApplicationFile;
@@ -29,7 +30,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Repository
 @Profile(Profiles.FILE)
@@ -40,6 +40,9 @@ public class RestApplicationFileRepository extends FileRepository<RestApplicatio
     @Value(value = "${rest.application.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<RestApplicationFile, String, String> projectIdIndex =
+            FileRepositoryIndex.of(RestApplicationFile::getProjectId);
+
     public RestApplicationFileRepository() {
         super(RestApplicationFileConverter::toRestApplication, RestApplicationConverter::toRestApplicationFile);
     }
@@ -69,6 +72,16 @@ public class RestApplicationFileRepository extends FileRepository<RestApplicatio
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<RestApplicationFile, ?, String>> getIndexes() {
+        return List.of(projectIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -94,11 +107,7 @@ public class RestApplicationFileRepository extends FileRepository<RestApplicatio
      */
     @Override
     public void deleteWithProjectId(final String projectId) {
-        this.collection.values()
-                .stream()
-                .filter(application -> application.getProjectId().equals(projectId))
-                .map(RestApplicationFile::getId)
-                .toList()
+        findIdsWithIndex(this.projectIdIndex, projectId)
                 .forEach(this::delete);
     }
 
@@ -111,11 +120,7 @@ public class RestApplicationFileRepository extends FileRepository<RestApplicatio
      */
     @Override
     public List<RestApplication> findWithProjectId(final String projectId) {
-        return this.collection.values()
-                .stream()
-                .filter(application -> application.getProjectId().equals(projectId))
-                .map(RestApplicationFileConverter::toRestApplication)
-                .collect(Collectors.toList());
+        return findWithIndex(this.projectIdIndex, projectId);
     }
 
     /**
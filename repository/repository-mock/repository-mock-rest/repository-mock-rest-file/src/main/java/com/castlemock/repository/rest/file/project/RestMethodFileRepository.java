@@ -20,6 +20,7 @@ import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.model.mock.rest.domain.RestResource;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.rest.file.project.converter.RestMethodConverter;
 import com.castlemock.repository.rest.file.project.converter.RestMethodFileConverter;
 import com.castlemock.repository.rest.file.project.model.RestMethodFile;
@@ -28,9 +29,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Repository
 @Profile(Profiles.FILE)
@@ -41,6 +40,9 @@ public class RestMethodFileRepository extends FileRepository<RestMethodFile, Res
     @Value(value = "${rest.method.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<RestMethodFile, String, String> resourceIdIndex =
+            FileRepositoryIndex.of(RestMethodFile::getResourceId);
+
 
     public RestMethodFileRepository() {
         super(RestMethodFileConverter::toRestMethod, RestMethodConverter::toRestMethod);
@@ -70,6 +72,16 @@ public class RestMethodFileRepository extends FileRepository<RestMethodFile, Res
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<RestMethodFile, ?, String>> getIndexes() {
+        return List.of(resourceIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -94,11 +106,7 @@ public class RestMethodFileRepository extends FileRepository<RestMethodFile, Res
      */
     @Override
     public void deleteWithResourceId(final String resourceId) {
-        this.collection.values()
-                .stream()
-                .filter(method -> method.getResourceId().equals(resourceId))
-                .map(RestMethodFile::getId)
-                .toList()
+        findIdsWithIndex(this.resourceIdIndex, resourceId)
                 .forEach(this::delete);
     }
 
@@ -112,11 +120,7 @@ public class RestMethodFileRepository extends FileRepository<RestMethodFile, Res
      */
     @Override
     public List<RestMethod> findWithResourceId(final String resourceId) {
-        return this.collection.values()
-                .stream()
-                .filter(method -> method.getResourceId().equals(resourceId))
-                .map(RestMethodFileConverter::toRestMethod)
-                .collect(Collectors.toList());
+        return findWithIndex(this.resourceIdIndex, resourceId);
     }
 
     /**
@@ -129,13 +133,7 @@ public class RestMethodFileRepository extends FileRepository<RestMethodFile, Res
      */
     @Override
     public List<String> findIdsWithResourceId(final String resourceId) {
-        final List<String> ids = new ArrayList<>();
-        for(RestMethodFile methodFile : this.collection.values()){
-            if(methodFile.getResourceId().equals(resourceId)){
-                ids.add(methodFile.getId());
-            }
-        }
-        return ids;
+        return findIdsWithIndex(this.resourceIdIndex, resourceId);
     }
 
     /**
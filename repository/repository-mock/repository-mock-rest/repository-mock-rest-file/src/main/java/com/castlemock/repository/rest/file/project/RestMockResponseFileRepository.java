@@ -20,6 +20,7 @@ import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.model.mock.rest.domain.RestMockResponse;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.rest.file.project.converter.RestMockResponseConverter;
 import com.castlemock.repository.rest.file.project.converter.RestMockResponseFileConverter;
 import com.castlemock.repository.rest.file.project.model.RestMockResponseFile;
@@ -29,7 +30,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Repository
 @Profile(Profiles.FILE)
@@ -40,6 +40,9 @@ public class RestMockResponseFileRepository extends FileRepository<RestMockRespo
     @Value(value = "${rest.response.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<RestMockResponseFile, String, String> methodIdIndex =
+            FileRepositoryIndex.of(RestMockResponseFile::getMethodId);
+
 
     public RestMockResponseFileRepository() {
         super(RestMockResponseFileConverter::toRestMockResponse, RestMockResponseConverter::toRestMockResponse);
@@ -69,6 +72,16 @@ public class RestMockResponseFileRepository extends FileRepository<RestMockRespo
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<RestMockResponseFile, ?, String>> getIndexes() {
+        return List.of(methodIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -108,11 +121,7 @@ public class RestMockResponseFileRepository extends FileRepository<RestMockRespo
      */
     @Override
     public List<RestMockResponse> findWithMethodId(final String methodId) {
-        return this.collection.values()
-                .stream()
-                .filter(response -> response.getMethodId().equals(methodId))
-                .map(RestMockResponseFileConverter::toRestMockResponse)
-                .collect(Collectors.toList());
+        return findWithIndex(this.methodIdIndex, methodId);
     }
 
     /**
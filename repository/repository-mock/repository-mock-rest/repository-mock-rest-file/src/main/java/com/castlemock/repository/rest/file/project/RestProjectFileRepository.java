@@ -125,7 +125,7 @@ public class RestProjectFileRepository extends AbstractProjectFileRepository<Res
         return collection.values()
                 .stream()
                 .filter(project -> project.getName().equalsIgnoreCase(restProjectName))
-                .map(RestProjectFileConverter::toRestProject)
+                .map(this::toReadModel)
                 .findFirst();
     }
 
@@ -21,6 +21,7 @@ import com.castlemock.model.mock.rest.domain.RestProject;
 import com.castlemock.model.mock.rest.domain.RestResource;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.rest.file.project.converter.RestResourceConverter;
 import com.castlemock.repository.rest.file.project.converter.RestResourceFileConverter;
 import com.castlemock.repository.rest.file.project.model.RestResourceFile;
@@ -31,7 +32,6 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Repository
 @Profile(Profiles.FILE)
@@ -42,6 +42,9 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
     @Value(value = "${rest.resource.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<RestResourceFile, String, String> applicationIdIndex =
+            FileRepositoryIndex.of(RestResourceFile::getApplicationId);
+
     public RestResourceFileRepository() {
         super(RestResourceFileConverter::toRestResource, RestResourceConverter::toRestResourceFile);
     }
@@ -70,6 +73,16 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<RestResourceFile, ?, String>> getIndexes() {
+        return List.of(applicationIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -94,11 +107,7 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
      */
     @Override
     public void deleteWithApplicationId(final String applicationId) {
-        this.collection.values()
-                .stream()
-                .filter(resource -> resource.getApplicationId().equals(applicationId))
-                .map(RestResourceFile::getId)
-                .toList()
+        findIdsWithIndex(this.applicationIdIndex, applicationId)
                 .forEach(this::delete);
     }
 
@@ -112,11 +121,7 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
      */
     @Override
     public List<RestResource> findWithApplicationId(final String applicationId) {
-        return collection.values()
-                .stream()
-                .filter(resource -> resource.getApplicationId().equals(applicationId))
-                .map(RestResourceFileConverter::toRestResource)
-                .collect(Collectors.toList());
+        return findWithIndex(this.applicationIdIndex, applicationId);
     }
 
     /**
@@ -129,11 +134,7 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
      */
     @Override
     public List<String> findIdsWithApplicationId(final String applicationId) {
-        return this.collection.values()
-                .stream()
-                .filter(resource -> resource.getApplicationId().equals(applicationId))
-                .map(RestResourceFile::getId)
-                .collect(Collectors.toList());
+        return findIdsWithIndex(this.applicationIdIndex, applicationId);
     }
 
     /**
@@ -148,11 +149,10 @@ public class RestResourceFileRepository extends FileRepository<RestResourceFile,
      */
     @Override
     public Optional<RestResource> findRestResourceByUri(final String applicationId, final String resourceUri) {
-        return this.collection.values()
+        return findTypesWithIndex(this.applicationIdIndex, applicationId)
                 .stream()
-                .filter(resource -> resource.getApplicationId().equals(applicationId) &&
-                        resourceUri.equals(resource.getUri()))
-                .map(RestResourceFileConverter::toRestResource)
+                .filter(resource -> resourceUri.equals(resource.getUri()))
+                .map(this::toReadModel)
                 .findFirst();
     }
 
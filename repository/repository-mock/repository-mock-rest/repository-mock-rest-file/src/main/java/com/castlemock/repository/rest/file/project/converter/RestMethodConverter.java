@@ -44,6 +44,10 @@ public final class RestMethodConverter {
                         .orElse(null))
                 .networkDelay(restMethod.getNetworkDelay()
                         .orElse(null))
+                .networkDelayDistribution(restMethod.getNetworkDelayDistribution()
+                        .orElse(null))
+                .networkDelayJitter(restMethod.getNetworkDelayJitter()
+                        .orElse(null))
                 .defaultMockResponseId(restMethod.getDefaultMockResponseId()
                         .orElse(null))
                 .defaultBody(restMethod.getDefaultBody()
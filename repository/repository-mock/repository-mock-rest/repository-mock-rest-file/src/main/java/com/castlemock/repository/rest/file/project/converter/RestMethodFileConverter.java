@@ -34,6 +34,8 @@ public final class RestMethodFileConverter {
                 .resourceId(restMethodFile.getResourceId())
                 .forwardedEndpoint(restMethodFile.getForwardedEndpoint())
                 .networkDelay(restMethodFile.getNetworkDelay())
+                .networkDelayDistribution(restMethodFile.getNetworkDelayDistribution())
+                .networkDelayJitter(restMethodFile.getNetworkDelayJitter())
                 .defaultMockResponseId(restMethodFile.getDefaultMockResponseId())
                 .currentResponseSequenceIndex(restMethodFile.getCurrentResponseSequenceIndex())
                 .defaultBody(restMethodFile.getDefaultBody())
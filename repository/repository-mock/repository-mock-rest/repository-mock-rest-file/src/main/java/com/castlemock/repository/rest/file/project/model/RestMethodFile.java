@@ -18,6 +18,7 @@ package com.castlemock.repository.rest.file.project.model;
 
 import com.castlemock.model.core.Saveable;
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.rest.domain.RestMethodStatus;
 import com.castlemock.model.mock.rest.domain.RestMultipleResponseStrategy;
 import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
@@ -57,6 +58,10 @@ public class RestMethodFile implements Saveable<String> {
     @XmlElement
     private Long networkDelay;
     @XmlElement
+    private NetworkDelayDistribution networkDelayDistribution;
+    @XmlElement
+    private Long networkDelayJitter;
+    @XmlElement
     private String defaultMockResponseId;
     @XmlElement
     private Boolean automaticForward;
@@ -78,6 +83,8 @@ public class RestMethodFile implements Saveable<String> {
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.simulateNetworkDelay = builder.simulateNetworkDelay;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.automaticForward = builder.automaticForward;
     }
@@ -131,6 +138,14 @@ public class RestMethodFile implements Saveable<String> {
         return networkDelay;
     }
 
+    public NetworkDelayDistribution getNetworkDelayDistribution() {
+        return networkDelayDistribution;
+    }
+
+    public Long getNetworkDelayJitter() {
+        return networkDelayJitter;
+    }
+
     public String getDefaultMockResponseId() {
         return defaultMockResponseId;
     }
@@ -156,6 +171,8 @@ public class RestMethodFile implements Saveable<String> {
         private Integer currentResponseSequenceIndex;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private Boolean automaticForward;
 
@@ -223,6 +240,16 @@ public class RestMethodFile implements Saveable<String> {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
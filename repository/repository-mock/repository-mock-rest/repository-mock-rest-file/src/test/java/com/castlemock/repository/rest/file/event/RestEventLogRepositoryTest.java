@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.rest.file.event;
+
+import com.castlemock.model.mock.rest.domain.RestEvent;
+import com.castlemock.model.mock.rest.domain.RestEventTestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class RestEventLogRepositoryTest {
+
+    private static final String EXTENSION = ".log";
+
+    @TempDir
+    private Path directory;
+    private RestEventLogRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        repository = createRepository(3, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    public void testSaveAndFind(){
+        final RestEvent restEvent = RestEventTestBuilder.builder().id("Event1").methodId("Method1").build();
+        repository.save(restEvent);
+
+        final RestEvent returnedRestEvent = repository.findOne(restEvent.getId()).orElse(null);
+        Assertions.assertNotNull(returnedRestEvent);
+        Assertions.assertEquals(restEvent.getMethodId(), returnedRestEvent.getMethodId());
+        Assertions.assertEquals(restEvent.getResourceName(), returnedRestEvent.getResourceName());
+        Assertions.assertEquals(restEvent.getRequest().getUri(), returnedRestEvent.getRequest().getUri());
+        Assertions.assertEquals(1, repository.findEventsByMethodId("Method1").size());
+        Assertions.assertTrue(repository.findEventsByMethodId("Method2").isEmpty());
+        Assertions.assertEquals(Integer.valueOf(1), repository.count());
+    }
+
+    @Test
+    public void testInitializeLoadsSegments(){
+        repository.save(RestEventTestBuilder.builder().id("Event1").methodId("Method1").build());
+        repository.save(RestEventTestBuilder.builder().id("Event2").methodId("Method1").build());
+        repository.save(RestEventTestBuilder.builder().id("Event3").methodId("Method2").build());
+        repository.save(RestEventTestBuilder.builder().id("Event4").methodId("Method2").build());
+        repository.delete("Event2");
+
+        repository.close();
+        repository = createRepository(3, 2);
+
+        Assertions.assertEquals(Integer.valueOf(3), repository.count());
+        Assertions.assertFalse(repository.exists("Event2"));
+        Assertions.assertEquals(1, repository.findEventsByMethodId("Method1").size());
+        Assertions.assertEquals(2, repository.findEventsByMethodId("Method2").size());
+        Assertions.assertTrue(repository.findOne("Event4").isPresent());
+    }
+
+    @Test
+    public void testSegmentRetention() throws IOException {
+        for(int index = 0; index < 10; index++){
+            repository.save(RestEventTestBuilder.builder().id("Event" + index).build());
+        }
+
+        // Only the two newest segments are retained
+        Assertions.assertEquals(2, countSegments());
+        Assertions.assertEquals(Integer.valueOf(4), repository.count());
+        Assertions.assertFalse(repository.exists("Event5"));
+        Assertions.assertTrue(repository.exists("Event6"));
+    }
+
+    @Test
+    public void testDeleteOldestEvent(){
+        repository.save(RestEventTestBuilder.builder().id("Event1").startDate(new Date(3000)).build());
+        repository.save(RestEventTestBuilder.builder().id("Event2").startDate(new Date(1000)).build());
+        repository.save(RestEventTestBuilder.builder().id("Event3").startDate(new Date(2000)).build());
+
+        Assertions.assertEquals("Event2", repository.getOldestEvent().getId());
+        Assertions.assertEquals("Event2", repository.deleteOldestEvent().getId());
+        Assertions.assertEquals("Event3", repository.getOldestEvent().getId());
+        Assertions.assertEquals(Integer.valueOf(2), repository.count());
+    }
+
+    @Test
+    public void testSaveAll() throws IOException {
+        final List<RestEvent> events = IntStream.range(0, 5)
+                .mapToObj(index -> RestEventTestBuilder.builder().id("Event" + index).methodId("Method1").build())
+                .toList();
+        repository.saveAll(events);
+
+        // The batch is split into segments of three records
+        Assertions.assertEquals(2, countSegments());
+        Assertions.assertEquals(Integer.valueOf(5), repository.count());
+        Assertions.assertEquals(5, repository.findEventsByMethodId("Method1").size());
+
+        repository.close();
+        repository = createRepository(3, 2);
+
+        Assertions.assertEquals(Integer.valueOf(5), repository.count());
+        Assertions.assertTrue(repository.findOne("Event0").isPresent());
+        Assertions.assertTrue(repository.findOne("Event4").isPresent());
+    }
+
+    @Test
+    public void testDeleteOldestEvents(){
+        repository.saveAll(List.of(
+                RestEventTestBuilder.builder().id("Event1").startDate(new Date(3000)).build(),
+                RestEventTestBuilder.builder().id("Event2").startDate(new Date(1000)).build(),
+                RestEventTestBuilder.builder().id("Event3").startDate(new Date(2000)).build()));
+
+        Assertions.assertEquals(2, repository.deleteOldestEvents(2));
+        Assertions.assertEquals(Integer.valueOf(1), repository.count());
+        Assertions.assertTrue(repository.exists("Event1"));
+
+        repository.close();
+        repository = createRepository(3, 2);
+
+        Assertions.assertEquals(Integer.valueOf(1), repository.count());
+        Assertions.assertEquals(1, repository.deleteOldestEvents(5));
+        Assertions.assertEquals(Integer.valueOf(0), repository.count());
+    }
+
+    @Test
+    public void testIsRetentionManaged(){
+        Assertions.assertTrue(repository.isRetentionManaged());
+    }
+
+    @Test
+    public void testClearAll() throws IOException {
+        for(int index = 0; index < 5; index++){
+            repository.save(RestEventTestBuilder.builder().id("Event" + index).build());
+        }
+        repository.clearAll();
+        Assertions.assertEquals(Integer.valueOf(0), repository.count());
+        Assertions.assertEquals(1, countSegments());
+        Assertions.assertNull(repository.getOldestEvent());
+    }
+
+    private RestEventLogRepository createRepository(final int segmentSize, final int maxSegments) {
+        final RestEventLogRepository eventLogRepository = new RestEventLogRepository();
+        ReflectionTestUtils.setField(eventLogRepository, "restEventLogDirectory", directory.toString());
+        ReflectionTestUtils.setField(eventLogRepository, "restEventLogExtension", EXTENSION);
+        ReflectionTestUtils.setField(eventLogRepository, "restEventLogSegmentSize", segmentSize);
+        ReflectionTestUtils.setField(eventLogRepository, "restEventLogMaxSegments", maxSegments);
+        eventLogRepository.initialize();
+        return eventLogRepository;
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(EXTENSION)).count();
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -108,6 +109,41 @@ public class RestEventRepositoryTest {
         Assertions.assertEquals(Integer.valueOf(1), count);
     }
 
+    @Test
+    public void testFindEventsByMethodId(){
+        final RestEvent restEvent1 = RestEventTestBuilder.builder().id("Event1").methodId("Method1").build();
+        final RestEvent restEvent2 = RestEventTestBuilder.builder().id("Event2").methodId("Method1").build();
+        final RestEvent restEvent3 = RestEventTestBuilder.builder().id("Event3").methodId("Method2").build();
+        repository.save(restEvent1);
+        repository.save(restEvent2);
+        repository.save(restEvent3);
+
+        Assertions.assertEquals(2, repository.findEventsByMethodId("Method1").size());
+        Assertions.assertEquals(1, repository.findEventsByMethodId("Method2").size());
+        Assertions.assertTrue(repository.findEventsByMethodId("Method3").isEmpty());
+
+        repository.delete(restEvent1.getId());
+        final List<RestEvent> restEvents = repository.findEventsByMethodId("Method1");
+        Assertions.assertEquals(1, restEvents.size());
+        Assertions.assertEquals(restEvent2.getId(), restEvents.getFirst().getId());
+    }
+
+    @Test
+    public void testDeleteOldestEvent(){
+        final RestEvent restEvent1 = RestEventTestBuilder.builder().id("Event1").startDate(new Date(3000)).build();
+        final RestEvent restEvent2 = RestEventTestBuilder.builder().id("Event2").startDate(new Date(1000)).build();
+        final RestEvent restEvent3 = RestEventTestBuilder.builder().id("Event3").startDate(new Date(2000)).build();
+        repository.save(restEvent1);
+        repository.save(restEvent2);
+        repository.save(restEvent3);
+
+        Assertions.assertEquals(restEvent2.getId(), repository.getOldestEvent().getId());
+        Assertions.assertEquals(restEvent2.getId(), repository.deleteOldestEvent().getId());
+        Assertions.assertEquals(restEvent3.getId(), repository.deleteOldestEvent().getId());
+        Assertions.assertEquals(restEvent1.getId(), repository.getOldestEvent().getId());
+        Assertions.assertEquals(Integer.valueOf(1), repository.count());
+    }
+
     private RestEvent save(){
         final RestEvent restEvent = RestEventTestBuilder.builder().build();
         repository.save(restEvent);
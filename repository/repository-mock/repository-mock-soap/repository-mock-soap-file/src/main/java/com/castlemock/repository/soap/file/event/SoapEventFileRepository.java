@@ -19,6 +19,7 @@ package com.castlemock.repository.soap.file.event;
 import com.castlemock.model.mock.soap.domain.SoapEvent;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.core.file.event.AbstractEventFileRepository;
 import com.castlemock.repository.soap.event.SoapEventRepository;
 import com.castlemock.repository.soap.file.event.converter.SoapEventConverter;
@@ -30,8 +31,6 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * The class is an implementation of the file repository and provides the functionality to interact with the file system.
@@ -43,7 +42,7 @@ import java.util.stream.Collectors;
  * @see FileRepository
  */
 @Repository
-@Profile(Profiles.FILE)
+@Profile(Profiles.FILE_WITHOUT_EVENT_LOG)
 public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEventFile, SoapEvent> implements SoapEventRepository {
 
     @Value(value = "${soap.event.file.directory}")
@@ -51,6 +50,9 @@ public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEve
     @Value(value = "${soap.event.file.extension}")
     private String soapEventFileExtension;
 
+    private final FileRepositoryIndex<SoapEventFile, String, String> operationIdIndex =
+            FileRepositoryIndex.of(SoapEventFile::getOperationId);
+
     protected SoapEventFileRepository() {
         super(SoapEventFileConverter::toSoapEvent, SoapEventConverter::toSoapEventFile);
     }
@@ -74,6 +76,16 @@ public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEve
         return soapEventFileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<SoapEventFile, ?, String>> getIndexes() {
+        return List.of(operationIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -99,11 +111,7 @@ public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEve
      */
     @Override
     public List<SoapEvent> findEventsByOperationId(final String operationId) {
-        return this.collection.values()
-                .stream()
-                .filter(event -> event.getOperationId().equals(operationId))
-                .map(SoapEventFileConverter::toSoapEvent)
-                .collect(Collectors.toList());
+        return findWithIndex(this.operationIdIndex, operationId);
     }
 
     /**
@@ -112,17 +120,8 @@ public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEve
      */
     @Override
     public SoapEvent getOldestEvent() {
-        SoapEventFile oldestEvent = null;
-        for(SoapEventFile event : collection.values()){
-            if(oldestEvent == null){
-                oldestEvent = event;
-            } else if(event.getStartDate().before(oldestEvent.getStartDate())){
-                oldestEvent = event;
-            }
-        }
-
-        return Optional.ofNullable(oldestEvent)
-                .map(SoapEventFileConverter::toSoapEvent)
+        return getOldestType()
+                .map(this::toReadModel)
                 .orElse(null);
     }
 
@@ -138,6 +137,27 @@ public class SoapEventFileRepository extends AbstractEventFileRepository<SoapEve
         return event;
     }
 
+    /**
+     * Save a batch of events. Every event is stored as a separate file.
+     * @param events The events that will be saved.
+     * @since 1.70
+     */
+    @Override
+    public void saveAll(final List<SoapEvent> events) {
+        events.forEach(this::save);
+    }
+
+    /**
+     * The method finds and deletes the oldest events.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     * @since 1.70
+     */
+    @Override
+    public int deleteOldestEvents(final int count) {
+        return deleteOldestTypes(count);
+    }
+
     /**
      * The method clears and deletes all logs.
      * @since 1.7
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.soap.file.event;
+
+import com.castlemock.model.mock.soap.domain.SoapEvent;
+import com.castlemock.repository.Profiles;
+import com.castlemock.repository.core.file.event.log.AbstractEventLogRepository;
+import com.castlemock.repository.core.file.event.log.EventLog;
+import com.castlemock.repository.soap.event.SoapEventRepository;
+import com.castlemock.repository.soap.file.event.converter.SoapEventConverter;
+import com.castlemock.repository.soap.file.event.converter.SoapEventFileConverter;
+import com.castlemock.repository.soap.file.event.model.SoapEventFile;
+import com.google.common.base.Preconditions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The {@link SoapEventLogRepository} stores the soap events in an append-only {@link EventLog}, instead of
+ * storing every event as a separate file. The repository is used when the {@link Profiles#EVENT_LOG}
+ * profile is active.
+ * @since 1.70
+ * @see SoapEventFileRepository
+ */
+@Repository
+@Profile(Profiles.FILE_WITH_EVENT_LOG)
+public class SoapEventLogRepository extends AbstractEventLogRepository<SoapEventFile, SoapEvent> implements SoapEventRepository {
+
+    @Value(value = "${soap.event.log.directory}")
+    private String soapEventLogDirectory;
+    @Value(value = "${soap.event.log.extension}")
+    private String soapEventLogExtension;
+    @Value(value = "${soap.event.log.segment.size}")
+    private Integer soapEventLogSegmentSize;
+    @Value(value = "${soap.event.log.max.segments}")
+    private Integer soapEventLogMaxSegments;
+
+    public SoapEventLogRepository() {
+        super(SoapEventFileConverter::toSoapEvent, SoapEventConverter::toSoapEventFile, SoapEventFile::getOperationId);
+    }
+
+    @Override
+    protected String getLogDirectory() {
+        return soapEventLogDirectory;
+    }
+
+    @Override
+    protected String getLogExtension() {
+        return soapEventLogExtension;
+    }
+
+    @Override
+    protected int getSegmentSize() {
+        return soapEventLogSegmentSize;
+    }
+
+    @Override
+    protected int getMaxSegments() {
+        return soapEventLogMaxSegments;
+    }
+
+    @Override
+    protected void checkType(final SoapEventFile soapEvent) {
+        Preconditions.checkNotNull(soapEvent, "Event cannot be null");
+        Preconditions.checkNotNull(soapEvent.getId(), "Event id cannot be null");
+        Preconditions.checkNotNull(soapEvent.getEndDate(), "Event end date cannot be null");
+        Preconditions.checkNotNull(soapEvent.getStartDate(), "Event start date cannot be null");
+    }
+
+    /**
+     * The events for a specific operation id
+     * @param operationId The id of the operation that the event belongs to
+     * @return Returns a list of events
+     */
+    @Override
+    public List<SoapEvent> findEventsByOperationId(final String operationId) {
+        return findWithKey(operationId);
+    }
+
+    /**
+     * The service finds the oldest event
+     * @return The oldest event
+     */
+    @Override
+    public SoapEvent getOldestEvent() {
+        return findOldest();
+    }
+
+    /**
+     * The method finds and deletes the oldest event.
+     * @return The event that was deleted.
+     */
+    @Override
+    public SoapEvent deleteOldestEvent() {
+        return deleteOldest();
+    }
+
+    /**
+     * Save a batch of events. The events are appended to the log with one write.
+     * @param events The events that will be saved.
+     */
+    @Override
+    public void saveAll(final List<SoapEvent> events) {
+        appendAll(events);
+    }
+
+    /**
+     * The method finds and deletes the oldest events.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     */
+    @Override
+    public int deleteOldestEvents(final int count) {
+        return deleteOldest(count);
+    }
+
+    /**
+     * The method clears and deletes all logs.
+     */
+    @Override
+    public void clearAll() {
+        clear();
+    }
+
+    /**
+     * The log removes the oldest segments once the max number of segments has been reached.
+     * @return Always <code>true</code>.
+     */
+    @Override
+    public boolean isRetentionManaged() {
+        return true;
+    }
+
+}
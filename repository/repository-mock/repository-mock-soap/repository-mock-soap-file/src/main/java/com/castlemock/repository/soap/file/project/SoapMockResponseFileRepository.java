@@ -21,6 +21,7 @@ import com.castlemock.model.mock.soap.domain.SoapMockResponse;
 import com.castlemock.model.mock.soap.domain.SoapOperation;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.soap.file.project.converter.SoapMockResponseConverter;
 import com.castlemock.repository.soap.file.project.converter.SoapMockResponseFileConverter;
 import com.castlemock.repository.soap.file.project.model.SoapMockResponseFile;
@@ -40,6 +41,9 @@ public class SoapMockResponseFileRepository extends FileRepository<SoapMockRespo
     @Value(value = "${soap.response.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<SoapMockResponseFile, String, String> operationIdIndex =
+            FileRepositoryIndex.of(SoapMockResponseFile::getOperationId);
+
     public SoapMockResponseFileRepository() {
         super(SoapMockResponseFileConverter::toSoapMockResponse, SoapMockResponseConverter::toSoapMockResponseFile);
     }
@@ -68,6 +72,16 @@ public class SoapMockResponseFileRepository extends FileRepository<SoapMockRespo
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<SoapMockResponseFile, ?, String>> getIndexes() {
+        return List.of(operationIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -100,21 +114,13 @@ public class SoapMockResponseFileRepository extends FileRepository<SoapMockRespo
 
     @Override
     public void deleteWithOperationId(final String operationId) {
-        this.collection.values()
-                .stream()
-                .filter(mockResponse -> mockResponse.getOperationId().equals(operationId))
-                .map(SoapMockResponseFile::getId)
-                .toList()
+        findIdsWithIndex(this.operationIdIndex, operationId)
                 .forEach(this::delete);
     }
 
     @Override
     public List<SoapMockResponse> findWithOperationId(final String operationId) {
-        return this.collection.values()
-                .stream()
-                .filter(mockResponse -> mockResponse.getOperationId().equals(operationId))
-                .map(SoapMockResponseFileConverter::toSoapMockResponse)
-                .toList();
+        return findWithIndex(this.operationIdIndex, operationId);
     }
 
     /**
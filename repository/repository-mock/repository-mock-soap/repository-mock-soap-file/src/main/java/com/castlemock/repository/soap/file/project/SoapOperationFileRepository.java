@@ -25,6 +25,7 @@ import com.castlemock.model.mock.soap.domain.SoapPort;
 import com.castlemock.model.mock.soap.domain.SoapVersion;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.soap.file.project.converter.SoapOperationConverter;
 import com.castlemock.repository.soap.file.project.converter.SoapOperationFileConverter;
 import com.castlemock.repository.soap.file.project.model.SoapOperationFile;
@@ -35,6 +36,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Repository
@@ -46,6 +48,11 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
     @Value(value = "${soap.operation.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<SoapOperationFile, String, String> portIdIndex =
+            FileRepositoryIndex.of(SoapOperationFile::getPortId);
+    private final FileRepositoryIndex<SoapOperationFile, OperationKey, String> operationIndex =
+            FileRepositoryIndex.of(OperationKey::of);
+
 
     public SoapOperationFileRepository() {
         super(SoapOperationFileConverter::toSoapOperation, SoapOperationConverter::toSoapOperationFile);
@@ -75,6 +82,16 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<SoapOperationFile, ?, String>> getIndexes() {
+        return List.of(portIdIndex, operationIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -105,22 +122,14 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
 
     @Override
     public void deleteWithPortId(final String portId) {
-        this.collection.values()
-                .stream()
-                .filter(operation -> operation.getPortId().equals(portId))
-                .map(SoapOperationFile::getId)
-                .toList()
+        findIdsWithIndex(this.portIdIndex, portId)
                 .forEach(this::delete);
     }
 
 
     @Override
     public List<SoapOperation> findWithPortId(final String portId) {
-        return this.collection.values()
-                .stream()
-                .filter(operation -> operation.getPortId().equals(portId))
-                .map(SoapOperationFileConverter::toSoapOperation)
-                .toList();
+        return findWithIndex(this.portIdIndex, portId);
     }
 
     /**
@@ -132,12 +141,11 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
     @Override
     public Optional<SoapOperation> findWithName(final String soapPortId,
                                                final String soapOperationName){
-        return this.collection.values()
+        return findTypesWithIndex(this.portIdIndex, soapPortId)
                 .stream()
-                .filter(operation -> operation.getPortId().equals(soapPortId))
                 .filter(operation -> operation.getName().equals(soapOperationName))
                 .findFirst()
-                .map(SoapOperationFileConverter::toSoapOperation);
+                .map(this::toReadModel);
     }
 
     /**
@@ -153,29 +161,19 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
     public Optional<SoapOperation> findWithMethodAndVersionAndIdentifier(final String portId, final HttpMethod method,
                                                                final SoapVersion version,
                                                                final SoapOperationIdentifier operationIdentifier) {
-        for(SoapOperationFile soapOperation : this.collection.values()){
-            if(soapOperation.getPortId().equals(portId) &&
-                    soapOperation.getHttpMethod().equals(method) &&
-                    soapOperation.getSoapVersion().equals(version)){
-
-                final SoapOperationIdentifierFile operationIdentifierFile =
-                        soapOperation.getOperationIdentifier();
-
-                if(operationIdentifier.getName().equalsIgnoreCase(operationIdentifierFile.getName())){
-
-                    // Three ways to identify SOAP operation:
-                    // 1. Namespace is missing from the stored files (Legacy)
-                    // 2. The identify strategy is ELEMENT (Ignore namespace)
-                    // 3. Both the name and namespace is matching
-                    if(operationIdentifierFile.getNamespace() == null ||
-                            soapOperation.getIdentifyStrategy() == SoapOperationIdentifyStrategy.ELEMENT ||
-                            operationIdentifierFile.getNamespace().equalsIgnoreCase(operationIdentifier.getNamespace().orElse(null))) {
-                        return Optional.of(SoapOperationFileConverter.toSoapOperation(soapOperation));
-                    }
-                }
-            }
-        }
-        return Optional.empty();
+        final OperationKey key = OperationKey.of(portId, method, version, operationIdentifier.getName());
+        final String namespace = operationIdentifier.getNamespace().orElse(null);
+        return findTypesWithIndex(this.operationIndex, key)
+                .stream()
+                // Three ways to identify SOAP operation:
+                // 1. Namespace is missing from the stored files (Legacy)
+                // 2. The identify strategy is ELEMENT (Ignore namespace)
+                // 3. Both the name and namespace is matching
+                .filter(soapOperation -> soapOperation.getOperationIdentifier().getNamespace() == null ||
+                        soapOperation.getIdentifyStrategy() == SoapOperationIdentifyStrategy.ELEMENT ||
+                        soapOperation.getOperationIdentifier().getNamespace().equalsIgnoreCase(namespace))
+                .findFirst()
+                .map(this::toReadModel);
     }
 
     /**
@@ -196,11 +194,34 @@ public class SoapOperationFileRepository extends FileRepository<SoapOperationFil
         return operationFile.getPortId();
     }
 
+    /**
+     * The key used to index operations on the attributes that are used to identify an incoming request:
+     * the port, the HTTP method, the SOAP version and the case-insensitive operation name. The namespace
+     * is not part of the key, since legacy operations and operations with the
+     * {@link SoapOperationIdentifyStrategy#ELEMENT} strategy should match regardless of namespace.
+     * @since 1.70
+     */
+    private record OperationKey(String portId, HttpMethod httpMethod, SoapVersion soapVersion, String name) {
 
+        private OperationKey {
+            name = name.toLowerCase(Locale.ROOT);
+        }
 
+        private static OperationKey of(final SoapOperationFile operation) {
+            final SoapOperationIdentifierFile operationIdentifier = operation.getOperationIdentifier();
+            if(operationIdentifier == null){
+                return null;
+            }
+            return of(operation.getPortId(), operation.getHttpMethod(), operation.getSoapVersion(),
+                    operationIdentifier.getName());
+        }
 
-
-
+        private static OperationKey of(final String portId, final HttpMethod httpMethod,
+                                       final SoapVersion soapVersion, final String name) {
+            if(portId == null || httpMethod == null || soapVersion == null || name == null){
+                return null;
+            }
+            return new OperationKey(portId, httpMethod, soapVersion, name);
+        }
+    }
 }
-
-
@@ -21,6 +21,7 @@ import com.castlemock.model.mock.soap.domain.SoapPort;
 import com.castlemock.model.mock.soap.domain.SoapProject;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.soap.file.project.converter.SoapPortConverter;
 import com.castlemock.repository.soap.file.project.converter.SoapPortFileConverter;
 import com.castlemock.repository.soap.file.project.model.SoapPortFile;
@@ -41,6 +42,11 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
     @Value(value = "${soap.port.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<SoapPortFile, String, String> projectIdIndex =
+            FileRepositoryIndex.of(SoapPortFile::getProjectId);
+    private final FileRepositoryIndex<SoapPortFile, PortUriKey, String> uriIndex =
+            FileRepositoryIndex.of(port -> PortUriKey.of(port.getProjectId(), port.getUri()));
+
     public SoapPortFileRepository() {
         super(SoapPortFileConverter::toSoapPortFile, SoapPortConverter::toSoapPort);
     }
@@ -69,6 +75,16 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<SoapPortFile, ?, String>> getIndexes() {
+        return List.of(projectIdIndex, uriIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -87,21 +103,13 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
 
     @Override
     public void deleteWithProjectId(final String projectId) {
-        this.collection.values()
-                .stream()
-                .filter(port -> port.getProjectId().equals(projectId))
-                .map(SoapPortFile::getId)
-                .toList()
+        findIdsWithIndex(this.projectIdIndex, projectId)
                 .forEach(this::delete);
     }
 
     @Override
     public List<SoapPort> findWithProjectId(final String projectId) {
-        return this.collection.values()
-                .stream()
-                .filter(port -> port.getProjectId().equals(projectId))
-                .map(SoapPortFileConverter::toSoapPortFile)
-                .toList();
+        return findWithIndex(this.projectIdIndex, projectId);
     }
 
     /**
@@ -111,12 +119,11 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
      */
     @Override
     public Optional<SoapPort> findWithName(final String projectId, final String soapPortName) {
-        return this.collection.values()
+        return findTypesWithIndex(this.projectIdIndex, projectId)
                 .stream()
-                .filter(port -> port.getProjectId().equals(projectId))
                 .filter(port -> port.getName().equals(soapPortName))
                 .findFirst()
-                .map(SoapPortFileConverter::toSoapPortFile);
+                .map(this::toReadModel);
     }
 
     /**
@@ -127,12 +134,10 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
      */
     @Override
     public Optional<SoapPort> findWithUri(final String projectId, final String uri) {
-        return this.collection.values()
+        return findTypesWithIndex(this.uriIndex, PortUriKey.of(projectId, uri))
                 .stream()
-                .filter(port -> port.getProjectId().equals(projectId))
-                .filter(port -> port.getUri().equals(uri))
                 .findFirst()
-                .map(SoapPortFileConverter::toSoapPortFile);
+                .map(this::toReadModel);
     }
 
     /**
@@ -153,6 +158,17 @@ public class SoapPortFileRepository extends FileRepository<SoapPortFile, SoapPor
         return portFile.getProjectId();
     }
 
+    /**
+     * The key used to index ports on their project and uri.
+     * @since 1.70
+     */
+    private record PortUriKey(String projectId, String uri) {
 
-
+        private static PortUriKey of(final String projectId, final String uri) {
+            if(projectId == null || uri == null){
+                return null;
+            }
+            return new PortUriKey(projectId, uri);
+        }
+    }
 }
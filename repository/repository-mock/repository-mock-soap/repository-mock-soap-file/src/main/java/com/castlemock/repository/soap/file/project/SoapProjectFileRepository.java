@@ -87,7 +87,7 @@ public class SoapProjectFileRepository extends AbstractProjectFileRepository<Soa
                 .stream()
                 .filter(project -> project.getName().equals(name))
                 .findFirst()
-                .map(SoapProjectFileConverter::toSoapProject);
+                .map(this::toReadModel);
     }
 
     /**
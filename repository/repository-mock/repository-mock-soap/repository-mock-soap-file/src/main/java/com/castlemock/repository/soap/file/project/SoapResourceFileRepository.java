@@ -22,6 +22,7 @@ import com.castlemock.model.mock.soap.domain.SoapResource;
 import com.castlemock.model.mock.soap.domain.SoapResourceType;
 import com.castlemock.repository.Profiles;
 import com.castlemock.repository.core.file.FileRepository;
+import com.castlemock.repository.core.file.FileRepositoryIndex;
 import com.castlemock.repository.core.file.FileRepositorySupport;
 import com.castlemock.repository.soap.file.project.converter.SoapResourceConverter;
 import com.castlemock.repository.soap.file.project.converter.SoapResourceFileConverter;
@@ -54,6 +55,9 @@ public class SoapResourceFileRepository extends FileRepository<SoapResourceFile,
     @Value(value = "${soap.resource.file.extension}")
     private String fileExtension;
 
+    private final FileRepositoryIndex<SoapResourceFile, String, String> projectIdIndex =
+            FileRepositoryIndex.of(SoapResourceFile::getProjectId);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(SoapResourceFileRepository.class);
 
     @Autowired
@@ -87,6 +91,16 @@ public class SoapResourceFileRepository extends FileRepository<SoapResourceFile,
         return fileExtension;
     }
 
+    /**
+     * The method returns the secondary indexes that the file repository keeps for its type.
+     *
+     * @return The indexes for the file type that the repository is responsible for managing.
+     */
+    @Override
+    protected List<FileRepositoryIndex<SoapResourceFile, ?, String>> getIndexes() {
+        return List.of(projectIdIndex);
+    }
+
     /**
      * The method is responsible for controller that the type that is about the be saved to the file system is valid.
      * The method should check if the type contains all the necessary values and that the values are valid. This method
@@ -105,21 +119,13 @@ public class SoapResourceFileRepository extends FileRepository<SoapResourceFile,
 
     @Override
     public void deleteWithProjectId(final String projectId) {
-        this.collection.values()
-                .stream()
-                .filter(resource -> resource.getProjectId().equals(projectId))
-                .map(SoapResourceFile::getId)
-                .toList()
+        findIdsWithIndex(this.projectIdIndex, projectId)
                 .forEach(this::delete);
     }
 
     @Override
     public List<SoapResource> findWithProjectId(final String projectId) {
-        return this.collection.values()
-                .stream()
-                .filter(resource -> resource.getProjectId().equals(projectId))
-                .map(SoapResourceFileConverter::toSoapResource)
-                .collect(Collectors.toList());
+        return findWithIndex(this.projectIdIndex, projectId);
     }
 
     /**
@@ -186,7 +192,7 @@ public class SoapResourceFileRepository extends FileRepository<SoapResourceFile,
     public Optional<SoapResource> delete(final String id) {
         Preconditions.checkNotNull(id, "Resource id cannot be null");
 
-        SoapResourceFile soapResource = this.collection.remove(id);
+        SoapResourceFile soapResource = evict(id);
 
         if(soapResource != null){
             String path = this.fileDirectory + File.separator;
@@ -228,12 +234,11 @@ public class SoapResourceFileRepository extends FileRepository<SoapResourceFile,
     @Override
     public Collection<SoapResource> findSoapResources(final String soapProjectId, final SoapResourceType... types) {
         Preconditions.checkNotNull(soapProjectId, "Project id cannot be null");
-        return this.collection.values()
+        return findTypesWithIndex(this.projectIdIndex, soapProjectId)
                 .stream()
-                .filter(resource -> resource.getProjectId().equals(soapProjectId))
                 .filter(resource -> Arrays.stream(types)
                         .anyMatch(type -> resource.getType().equals(type)))
-                .map(SoapResourceFileConverter::toSoapResource)
+                .map(this::toReadModel)
                 .collect(Collectors.toList());
     }
 
@@ -49,6 +49,10 @@ public final class SoapOperationConverter {
                         .orElse(null))
                 .networkDelay(soapOperation.getNetworkDelay()
                         .orElse(null))
+                .networkDelayDistribution(soapOperation.getNetworkDelayDistribution()
+                        .orElse(null))
+                .networkDelayJitter(soapOperation.getNetworkDelayJitter()
+                        .orElse(null))
                 .mockOnFailure(soapOperation.getMockOnFailure()
                         .orElse(null))
                 .identifyStrategy(soapOperation.getIdentifyStrategy())
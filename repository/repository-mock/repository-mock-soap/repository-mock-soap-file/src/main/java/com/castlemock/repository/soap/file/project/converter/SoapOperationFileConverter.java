@@ -43,6 +43,8 @@ public final class SoapOperationFileConverter {
                 .defaultMockResponseId(soapOperationFile.getDefaultMockResponseId())
                 .simulateNetworkDelay(soapOperationFile.getSimulateNetworkDelay())
                 .networkDelay(soapOperationFile.getNetworkDelay())
+                .networkDelayDistribution(soapOperationFile.getNetworkDelayDistribution())
+                .networkDelayJitter(soapOperationFile.getNetworkDelayJitter())
                 .mockOnFailure(soapOperationFile.getMockOnFailure())
                 .identifyStrategy(soapOperationFile.getIdentifyStrategy())
                 .automaticForward(soapOperationFile.getAutomaticForward())
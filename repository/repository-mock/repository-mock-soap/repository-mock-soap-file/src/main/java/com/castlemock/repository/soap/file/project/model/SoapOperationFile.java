@@ -18,6 +18,7 @@ package com.castlemock.repository.soap.file.project.model;
 
 import com.castlemock.model.core.Saveable;
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.soap.domain.SoapOperationIdentifyStrategy;
 import com.castlemock.model.mock.soap.domain.SoapOperationStatus;
 import com.castlemock.model.mock.soap.domain.SoapResponseStrategy;
@@ -66,6 +67,10 @@ public class SoapOperationFile implements Saveable<String> {
     @XmlElement
     private Long networkDelay;
     @XmlElement
+    private NetworkDelayDistribution networkDelayDistribution;
+    @XmlElement
+    private Long networkDelayJitter;
+    @XmlElement
     private Boolean mockOnFailure;
     @XmlElement
     private SoapOperationIdentifyStrategy identifyStrategy;
@@ -95,6 +100,8 @@ public class SoapOperationFile implements Saveable<String> {
         this.originalEndpoint = builder.originalEndpoint;
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
     }
 
@@ -159,6 +166,14 @@ public class SoapOperationFile implements Saveable<String> {
         return networkDelay;
     }
 
+    public NetworkDelayDistribution getNetworkDelayDistribution() {
+        return networkDelayDistribution;
+    }
+
+    public Long getNetworkDelayJitter() {
+        return networkDelayJitter;
+    }
+
     public Boolean getMockOnFailure() {
         return mockOnFailure;
     }
@@ -196,6 +211,8 @@ public class SoapOperationFile implements Saveable<String> {
         private String defaultMockResponseId;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private Boolean mockOnFailure;
         private SoapOperationIdentifyStrategy identifyStrategy;
         private Boolean automaticForward;
@@ -278,6 +295,16 @@ public class SoapOperationFile implements Saveable<String> {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder mockOnFailure(final Boolean mockOnFailure) {
             this.mockOnFailure = mockOnFailure;
             return this;
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.soap.file.event;
+
+import com.castlemock.model.mock.soap.domain.SoapEvent;
+import com.castlemock.model.mock.soap.domain.SoapEventTestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.stream.Stream;
+
+public class SoapEventLogRepositoryTest {
+
+    private static final String EXTENSION = ".log";
+
+    @TempDir
+    private Path directory;
+    private SoapEventLogRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        repository = createRepository(3, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    public void testSaveAndFind(){
+        final SoapEvent soapEvent = SoapEventTestBuilder.builder().id("Event1").operationId("Operation1").build();
+        repository.save(soapEvent);
+
+        final SoapEvent returnedSoapEvent = repository.findOne(soapEvent.getId()).orElse(null);
+        Assertions.assertNotNull(returnedSoapEvent);
+        Assertions.assertEquals(soapEvent.getOperationId(), returnedSoapEvent.getOperationId());
+        Assertions.assertEquals(soapEvent.getResourceName(), returnedSoapEvent.getResourceName());
+        Assertions.assertEquals(soapEvent.getRequest().getUri(), returnedSoapEvent.getRequest().getUri());
+        Assertions.assertEquals(soapEvent.getRequest().getOperationName(), returnedSoapEvent.getRequest().getOperationName());
+        Assertions.assertEquals(1, repository.findEventsByOperationId("Operation1").size());
+        Assertions.assertTrue(repository.findEventsByOperationId("Operation2").isEmpty());
+        Assertions.assertEquals(Integer.valueOf(1), repository.count());
+    }
+
+    @Test
+    public void testInitializeLoadsSegments(){
+        repository.save(SoapEventTestBuilder.builder().id("Event1").operationId("Operation1").build());
+        repository.save(SoapEventTestBuilder.builder().id("Event2").operationId("Operation1").build());
+        repository.save(SoapEventTestBuilder.builder().id("Event3").operationId("Operation2").build());
+        repository.save(SoapEventTestBuilder.builder().id("Event4").operationId("Operation2").build());
+        repository.delete("Event2");
+
+        repository.close();
+        repository = createRepository(3, 2);
+
+        Assertions.assertEquals(Integer.valueOf(3), repository.count());
+        Assertions.assertFalse(repository.exists("Event2"));
+        Assertions.assertEquals(1, repository.findEventsByOperationId("Operation1").size());
+        Assertions.assertEquals(2, repository.findEventsByOperationId("Operation2").size());
+        Assertions.assertTrue(repository.findOne("Event4").isPresent());
+    }
+
+    @Test
+    public void testSegmentRetention() throws IOException {
+        for(int index = 0; index < 10; index++){
+            repository.save(SoapEventTestBuilder.builder().id("Event" + index).build());
+        }
+
+        // Only the two newest segments are retained
+        Assertions.assertEquals(2, countSegments());
+        Assertions.assertEquals(Integer.valueOf(4), repository.count());
+        Assertions.assertFalse(repository.exists("Event5"));
+        Assertions.assertTrue(repository.exists("Event6"));
+    }
+
+    @Test
+    public void testDeleteOldestEvent(){
+        repository.save(SoapEventTestBuilder.builder().id("Event1").startDate(new Date(3000)).build());
+        repository.save(SoapEventTestBuilder.builder().id("Event2").startDate(new Date(1000)).build());
+        repository.save(SoapEventTestBuilder.builder().id("Event3").startDate(new Date(2000)).build());
+
+        Assertions.assertEquals("Event2", repository.getOldestEvent().getId());
+        Assertions.assertEquals("Event2", repository.deleteOldestEvent().getId());
+        Assertions.assertEquals("Event3", repository.getOldestEvent().getId());
+        Assertions.assertEquals(Integer.valueOf(2), repository.count());
+    }
+
+    @Test
+    public void testIsRetentionManaged(){
+        Assertions.assertTrue(repository.isRetentionManaged());
+    }
+
+    @Test
+    public void testClearAll() throws IOException {
+        for(int index = 0; index < 5; index++){
+            repository.save(SoapEventTestBuilder.builder().id("Event" + index).build());
+        }
+        repository.clearAll();
+        Assertions.assertEquals(Integer.valueOf(0), repository.count());
+        Assertions.assertEquals(1, countSegments());
+        Assertions.assertNull(repository.getOldestEvent());
+    }
+
+    private SoapEventLogRepository createRepository(final int segmentSize, final int maxSegments) {
+        final SoapEventLogRepository eventLogRepository = new SoapEventLogRepository();
+        ReflectionTestUtils.setField(eventLogRepository, "soapEventLogDirectory", directory.toString());
+        ReflectionTestUtils.setField(eventLogRepository, "soapEventLogExtension", EXTENSION);
+        ReflectionTestUtils.setField(eventLogRepository, "soapEventLogSegmentSize", segmentSize);
+        ReflectionTestUtils.setField(eventLogRepository, "soapEventLogMaxSegments", maxSegments);
+        eventLogRepository.initialize();
+        return eventLogRepository;
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(EXTENSION)).count();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.repository.soap.file.project;
+
+import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.mock.soap.domain.SoapOperation;
+import com.castlemock.model.mock.soap.domain.SoapOperationIdentifier;
+import com.castlemock.model.mock.soap.domain.SoapOperationIdentifierTestBuilder;
+import com.castlemock.model.mock.soap.domain.SoapOperationIdentifyStrategy;
+import com.castlemock.model.mock.soap.domain.SoapOperationTestBuilder;
+import com.castlemock.model.mock.soap.domain.SoapVersion;
+import com.castlemock.repository.core.file.FileRepositorySupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+public class SoapOperationRepositoryTest {
+
+    private static final String PORT_ID = "Port1";
+    private static final String NAMESPACE = "http://www.w3schools.com/prices";
+
+    @Mock
+    private FileRepositorySupport fileRepositorySupport;
+    @InjectMocks
+    private SoapOperationFileRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(repository, "fileDirectory", "/directory");
+        ReflectionTestUtils.setField(repository, "fileExtension", ".extension");
+    }
+
+    @Test
+    public void testFindWithMethodAndVersionAndIdentifier(){
+        save("Operation1", NAMESPACE, SoapOperationIdentifyStrategy.ELEMENT_NAMESPACE);
+
+        Assertions.assertEquals("Operation1", find(HttpMethod.POST, SoapVersion.SOAP11, "getprice", NAMESPACE)
+                .map(SoapOperation::getId)
+                .orElse(null));
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP11, "GetPrice", "http://other").isEmpty());
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP12, "GetPrice", NAMESPACE).isEmpty());
+        Assertions.assertTrue(find(HttpMethod.GET, SoapVersion.SOAP11, "GetPrice", NAMESPACE).isEmpty());
+    }
+
+    @Test
+    public void testFindWithMethodAndVersionAndIdentifierIgnoreNamespace(){
+        save("Legacy", null, SoapOperationIdentifyStrategy.ELEMENT_NAMESPACE);
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP11, "GetPrice", "http://other").isPresent());
+
+        repository.delete("Legacy");
+        save("Element", NAMESPACE, SoapOperationIdentifyStrategy.ELEMENT);
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP11, "GetPrice", "http://other").isPresent());
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP11, "GetPrice", null).isPresent());
+    }
+
+    @Test
+    public void testFindWithMethodAndVersionAndIdentifierAfterUpdate(){
+        final SoapOperation operation = save("Operation1", NAMESPACE, SoapOperationIdentifyStrategy.ELEMENT_NAMESPACE);
+        repository.update(operation.getId(), SoapOperationTestBuilder.builder()
+                .id(operation.getId())
+                .portId(PORT_ID)
+                .soapVersion(SoapVersion.SOAP12)
+                .operationIdentifier(operation.getOperationIdentifier())
+                .build());
+
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP11, "GetPrice", NAMESPACE).isEmpty());
+        Assertions.assertTrue(find(HttpMethod.POST, SoapVersion.SOAP12, "GetPrice", NAMESPACE).isPresent());
+    }
+
+    private SoapOperation save(final String id, final String namespace, final SoapOperationIdentifyStrategy strategy){
+        final SoapOperation operation = SoapOperationTestBuilder.builder()
+                .id(id)
+                .portId(PORT_ID)
+                .identifyStrategy(strategy)
+                .operationIdentifier(SoapOperationIdentifierTestBuilder.builder()
+                        .name("GetPrice")
+                        .namespace(namespace)
+                        .build())
+                .build();
+        repository.save(operation);
+        return operation;
+    }
+
+    private Optional<SoapOperation> find(final HttpMethod method, final SoapVersion version,
+                                         final String name, final String namespace){
+        final SoapOperationIdentifier identifier = SoapOperationIdentifier.builder()
+                .name(name)
+                .namespace(namespace)
+                .build();
+        return repository.findWithMethodAndVersionAndIdentifier(PORT_ID, method, version, identifier);
+    }
+}
@@ -52,9 +52,36 @@ public interface SoapEventRepository extends Repository<SoapEvent, String> {
      */
     SoapEvent deleteOldestEvent();
 
+    /**
+     * Save a batch of events.
+     * @param events The events that will be saved.
+     * @since 1.70
+     */
+    void saveAll(List<SoapEvent> events);
+
+    /**
+     * The method finds and deletes the oldest events.
+     * @param count The max number of events that will be deleted.
+     * @return The number of events that were deleted.
+     * @since 1.70
+     */
+    int deleteOldestEvents(int count);
+
     /**
      * The method clears and deletes all logs.
      * @since 1.7
      */
     void clearAll();
+
+    /**
+     * Indicates whether the repository removes old events by itself, for example by deleting whole segments
+     * of events. The oldest events should only be removed by the services when the max number of events has
+     * been reached if the repository doesn't manage the retention itself.
+     * @return <code>true</code> if the repository manages the retention of the events. <code>false</code> otherwise.
+     * @since 1.70
+     */
+    default boolean isRetentionManaged() {
+        return false;
+    }
+
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.core.event;
+
+import com.castlemock.model.core.event.Event;
+import com.google.common.base.Preconditions;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link EventPipeline} is a bounded queue of events that are waiting to be persisted. The events are
+ * persisted in batches by a single background thread, which means that the thread processing the mocked
+ * request never has to wait for the event to be persisted.
+ * <p>
+ * The behaviour when the queue is full is decided by the configured {@link OverflowPolicy}.
+ * @param <E> The event type.
+ * @since 1.70
+ */
+public abstract class EventPipeline<E extends Event> {
+
+    private static final long POLL_TIMEOUT = 500L;
+    private static final long DRAIN_POLL_TIMEOUT = 10L;
+    private static final long OFFER_TIMEOUT = 100L;
+    private static final long STOP_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventPipeline.class);
+
+    private final LongAdder submittedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder persistedEvents = new LongAdder();
+    private final LongAdder persistedBatches = new LongAdder();
+    private final AtomicInteger activeSubmissions = new AtomicInteger();
+    private volatile BlockingQueue<E> queue;
+    private volatile Thread worker;
+    private volatile boolean running;
+    private int batchSize;
+    private OverflowPolicy overflowPolicy;
+
+    /**
+     * Start the pipeline and its background thread.
+     * @param name The name of the background thread.
+     * @param capacity The maximum number of events that can wait to be persisted.
+     * @param batchSize The maximum number of events that will be persisted in one batch.
+     * @param overflowPolicy Decides what happens with new events when the queue is full.
+     */
+    protected synchronized void start(final String name,
+                                      final int capacity,
+                                      final int batchSize,
+                                      final OverflowPolicy overflowPolicy) {
+        Preconditions.checkArgument(capacity > 0, "The capacity has to be greater than zero");
+        Preconditions.checkArgument(batchSize > 0, "The batch size has to be greater than zero");
+        Preconditions.checkState(this.worker == null, "The pipeline has already been started");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = Preconditions.checkNotNull(overflowPolicy, "The overflow policy cannot be null");
+        this.running = true;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Stop the pipeline. The background thread persists the events that are already in the queue
+     * before it terminates, and the method waits for it to terminate for at most 10 seconds.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        final Thread thread = this.worker;
+        if(thread == null){
+            return;
+        }
+        // The background thread notices that the pipeline has been stopped the next time it polls the queue
+        this.running = false;
+        try {
+            thread.join(STOP_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(thread.isAlive()){
+            LOGGER.warn("The thread " + thread.getName() + " did not terminate within " + STOP_TIMEOUT +
+                    " ms. " + getQueueDepth() + " events are still waiting to be persisted");
+            return;
+        }
+        this.worker = null;
+    }
+
+    /**
+     * Submit an event to the pipeline. The method will only block if the queue is full
+     * and the pipeline is configured with {@link OverflowPolicy#BLOCK}. A blocked submission
+     * gives up and drops the event if the pipeline is stopped while it waits.
+     * @param event The event that will be persisted.
+     * @return <code>true</code> if the event was accepted. <code>false</code> if it was dropped.
+     */
+    public boolean submit(final E event) {
+        Preconditions.checkNotNull(event, "The event cannot be null");
+        // The submission is registered before the running flag is checked. The background thread
+        // will not terminate as long as there are submissions that can still add events to the queue.
+        this.activeSubmissions.incrementAndGet();
+        try {
+            final boolean accepted = offer(event);
+            if(accepted){
+                this.submittedEvents.increment();
+            } else {
+                this.droppedEvents.increment();
+            }
+            return accepted;
+        } finally {
+            this.activeSubmissions.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return The number of events that are waiting to be persisted.
+     */
+    public int getQueueDepth() {
+        final BlockingQueue<E> currentQueue = this.queue;
+        return currentQueue == null ? 0 : currentQueue.size();
+    }
+
+    /**
+     * @return The number of events that have been accepted by the pipeline. Events that are dropped
+     * when they are submitted are only counted as dropped.
+     */
+    public long getSubmittedEvents() {
+        return this.submittedEvents.sum();
+    }
+
+    /**
+     * @return The number of events that have been dropped, either because the queue was full
+     * or because the pipeline wasn't running.
+     */
+    public long getDroppedEvents() {
+        return this.droppedEvents.sum();
+    }
+
+    /**
+     * @return The number of events that have been persisted.
+     */
+    public long getPersistedEvents() {
+        return this.persistedEvents.sum();
+    }
+
+    /**
+     * @return The number of batches that have been persisted.
+     */
+    public long getPersistedBatches() {
+        return this.persistedBatches.sum();
+    }
+
+    /**
+     * Persist a batch of events. The events are ordered in the same order as they were submitted.
+     * The method is never called concurrently.
+     * @param events The events that will be persisted.
+     */
+    protected abstract void persist(List<E> events);
+
+    private boolean offer(final E event) {
+        final BlockingQueue<E> currentQueue = this.queue;
+        if(currentQueue == null || !this.running){
+            return false;
+        }
+
+        boolean accepted = currentQueue.offer(event);
+        if(!accepted){
+            switch (this.overflowPolicy) {
+                case DROP_NEWEST -> {
+                    // The new event is dropped
+                }
+                case DROP_OLDEST -> {
+                    while (!accepted) {
+                        if(currentQueue.poll() != null){
+                            this.droppedEvents.increment();
+                        }
+                        accepted = currentQueue.offer(event);
+                    }
+                }
+                case BLOCK -> {
+                    try {
+                        while (!accepted && this.running) {
+                            accepted = currentQueue.offer(event, OFFER_TIMEOUT, TimeUnit.MILLISECONDS);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+        return accepted;
+    }
+
+    private void run() {
+        try {
+            while (this.running) {
+                persistNextBatch(POLL_TIMEOUT);
+            }
+            // Persist the events that were accepted before the pipeline was stopped, including
+            // the events from submissions that were still in progress when it was stopped
+            while (this.activeSubmissions.get() > 0 || !this.queue.isEmpty()) {
+                persistNextBatch(DRAIN_POLL_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void persistNextBatch(final long timeout) throws InterruptedException {
+        final E event = this.queue.poll(timeout, TimeUnit.MILLISECONDS);
+        if(event != null){
+            final List<E> batch = new ArrayList<>(this.batchSize);
+            batch.add(event);
+            this.queue.drainTo(batch, this.batchSize - 1);
+            persistBatch(batch);
+        }
+    }
+
+    private void persistBatch(final List<E> batch) {
+        try {
+            persist(batch);
+            this.persistedEvents.add(batch.size());
+            this.persistedBatches.increment();
+        } catch (Exception e) {
+            this.droppedEvents.add(batch.size());
+            LOGGER.error("Unable to persist " + batch.size() + " events: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The {@link OverflowPolicy} decides what happens with a new event when the queue is full.
+     * @since 1.70
+     */
+    public enum OverflowPolicy {
+        /**
+         * The new event is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest event in the queue is dropped to make room for the new event.
+         */
+        DROP_OLDEST,
+        /**
+         * The submitting thread waits until there is room in the queue.
+         */
+        BLOCK
+    }
+}
@@ -21,6 +21,7 @@ import com.castlemock.model.core.Service;
 import com.castlemock.model.core.ServiceResult;
 import com.castlemock.model.core.ServiceTask;
 import com.castlemock.model.core.system.SystemInformation;
+import com.castlemock.repository.FileRepositoryStatistics;
 import com.castlemock.repository.Profiles;
 import com.castlemock.service.core.configuration.AbstractConfigurationGroupService;
 import com.castlemock.service.core.system.input.GetSystemInformationInput;
@@ -28,6 +29,8 @@ import com.castlemock.service.core.system.output.GetSystemInformationOutput;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@link GetSystemInformationService} is used to retrieve information about the system which
  * the application is deployed on.
@@ -47,6 +50,9 @@ public class GetSystemInformationService extends AbstractConfigurationGroupServi
     @Autowired
     private org.springframework.core.env.Environment springEnvironment;
 
+    @Autowired
+    private FileRepositoryStatistics fileRepositoryStatistics;
+
     /**
      * The process message is responsible for processing an incoming serviceTask and generate
      * a response based on the incoming serviceTask input
@@ -69,7 +75,11 @@ public class GetSystemInformationService extends AbstractConfigurationGroupServi
                 .totalMemory(Runtime.getRuntime().totalMemory() / 1000000)
                 .maxMemory(Runtime.getRuntime().maxMemory() / 1000000)
                 .freeMemory(Runtime.getRuntime().freeMemory() / 1000000)
-                .castleMockHomeDirectory(this.castleMockHomeDirectory);
+                .castleMockHomeDirectory(this.castleMockHomeDirectory)
+                .loadedFiles(fileRepositoryStatistics.getLoadedFiles())
+                .loadTime(TimeUnit.NANOSECONDS.toMillis(fileRepositoryStatistics.getLoadTime()))
+                .savedFiles(fileRepositoryStatistics.getSavedFiles())
+                .saveTime(TimeUnit.NANOSECONDS.toMillis(fileRepositoryStatistics.getSaveTime()));
 
         final org.springframework.core.env.Profiles fileProfiles =
                 org.springframework.core.env.Profiles.of(Profiles.FILE);
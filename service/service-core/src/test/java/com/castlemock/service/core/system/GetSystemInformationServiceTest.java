@@ -3,6 +3,8 @@ package com.castlemock.service.core.system;
 import com.castlemock.model.core.Environment;
 import com.castlemock.model.core.ServiceResult;
 import com.castlemock.model.core.ServiceTask;
+import com.castlemock.model.core.system.SystemInformation;
+import com.castlemock.repository.FileRepositoryStatistics;
 import com.castlemock.repository.Profiles;
 import com.castlemock.service.core.system.input.GetSystemInformationInput;
 import com.castlemock.service.core.system.output.GetSystemInformationOutput;
@@ -15,6 +17,8 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.TimeUnit;
+
 public class GetSystemInformationServiceTest {
 
 
@@ -27,6 +31,9 @@ public class GetSystemInformationServiceTest {
     @Mock
     private org.springframework.core.env.Environment springEnvironment;
 
+    @Mock
+    private FileRepositoryStatistics fileRepositoryStatistics;
+
     @BeforeEach
     public void setup() {
         final org.springframework.core.env.Profiles fileProfiles =
@@ -39,6 +46,10 @@ public class GetSystemInformationServiceTest {
         Mockito.when(environment.getServerInfo()).thenReturn("");
         Mockito.when(environment.getServerNumber()).thenReturn("");
         Mockito.when(springEnvironment.acceptsProfiles(fileProfiles)).thenReturn(true);
+        Mockito.when(fileRepositoryStatistics.getLoadedFiles()).thenReturn(12L);
+        Mockito.when(fileRepositoryStatistics.getLoadTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(40));
+        Mockito.when(fileRepositoryStatistics.getSavedFiles()).thenReturn(3L);
+        Mockito.when(fileRepositoryStatistics.getSaveTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(9));
     }
 
     @Test
@@ -47,5 +58,11 @@ public class GetSystemInformationServiceTest {
         final ServiceTask<GetSystemInformationInput> serviceTask = ServiceTask.of(input, "user");
         final ServiceResult<GetSystemInformationOutput> output = service.process(serviceTask);
         Assertions.assertNotNull(output);
+
+        final SystemInformation systemInformation = output.getOutput().getSystemInformation();
+        Assertions.assertEquals(12L, systemInformation.getLoadedFiles());
+        Assertions.assertEquals(40L, systemInformation.getLoadTime());
+        Assertions.assertEquals(3L, systemInformation.getSavedFiles());
+        Assertions.assertEquals(9L, systemInformation.getSaveTime());
     }
 }
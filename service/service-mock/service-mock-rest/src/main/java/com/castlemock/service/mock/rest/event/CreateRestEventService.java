@@ -45,7 +45,7 @@ public class CreateRestEventService extends AbstractRestEventService implements
     @Override
     public ServiceResult<CreateRestEventOutput> process(ServiceTask<CreateRestEventInput> serviceTask) {
         final CreateRestEventInput input = serviceTask.getInput();
-        if(count() >= restMaxEventCount){
+        if(!repository.isRetentionManaged() && count() >= restMaxEventCount){
             repository.deleteOldestEvent();
         }
         final RestEvent createdRestEvent = save(input.getRestEvent());
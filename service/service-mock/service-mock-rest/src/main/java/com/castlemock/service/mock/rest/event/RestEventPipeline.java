@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.event;
+
+import com.castlemock.model.mock.rest.domain.RestEvent;
+import com.castlemock.repository.rest.event.RestEventRepository;
+import com.castlemock.service.core.event.EventPipeline;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The {@link RestEventPipeline} persists the {@link RestEvent}s that are created when a REST
+ * request is mocked. The events are persisted in batches and the oldest events are removed
+ * once the configured max number of events has been reached.
+ * @since 1.70
+ * @see EventPipeline
+ */
+@Component
+public class RestEventPipeline extends EventPipeline<RestEvent> {
+
+    @Autowired
+    private RestEventRepository repository;
+    @Value("${rest.event.max}")
+    private Integer restMaxEventCount;
+    @Value("${rest.event.queue.capacity:10000}")
+    private Integer restEventQueueCapacity;
+    @Value("${rest.event.batch.size:100}")
+    private Integer restEventBatchSize;
+    @Value("${rest.event.queue.overflow:DROP_OLDEST}")
+    private OverflowPolicy restEventOverflowPolicy;
+
+    @PostConstruct
+    public void initialize() {
+        start("rest-event-pipeline", restEventQueueCapacity, restEventBatchSize, restEventOverflowPolicy);
+    }
+
+    /**
+     * Persist a batch of events. Only the newest events will be persisted if the batch contains more
+     * events than the max number of events, and the oldest stored events will be removed to make room
+     * for the new ones. All the events are persisted if the repository manages the retention itself.
+     * @param events The events that will be persisted.
+     */
+    @Override
+    protected void persist(final List<RestEvent> events) {
+        if (repository.isRetentionManaged()) {
+            repository.saveAll(events);
+            return;
+        }
+        final List<RestEvent> retainedEvents = events.size() > restMaxEventCount ?
+                events.subList(events.size() - restMaxEventCount, events.size()) : events;
+        final int overflow = repository.count() + retainedEvents.size() - restMaxEventCount;
+        if (overflow > 0) {
+            repository.deleteOldestEvents(overflow);
+        }
+        repository.saveAll(retainedEvents);
+    }
+}
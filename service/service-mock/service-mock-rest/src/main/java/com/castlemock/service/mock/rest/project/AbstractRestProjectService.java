@@ -28,6 +28,7 @@ import com.castlemock.repository.rest.project.RestMockResponseRepository;
 import com.castlemock.repository.rest.project.RestProjectRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.core.AbstractService;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import com.google.common.base.Preconditions;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -53,6 +54,8 @@ public abstract class AbstractRestProjectService extends AbstractService<RestPro
     protected RestMethodRepository methodRepository;
     @Autowired
     protected RestMockResponseRepository mockResponseRepository;
+    @Autowired
+    protected RestMethodRouter methodRouter;
 
 
     protected Optional<RestProject> deleteProject(final String projectId){
@@ -72,7 +75,9 @@ public abstract class AbstractRestProjectService extends AbstractService<RestPro
                 .map(RestResource::getId)
                 .forEach(this::deleteResource);
 
-        return this.applicationRepository.delete(applicationId);
+        final Optional<RestApplication> deletedApplication = this.applicationRepository.delete(applicationId);
+        this.methodRouter.evictApplication(applicationId);
+        return deletedApplication;
     }
 
     protected Optional<RestResource> deleteResource(final String resourceId){
@@ -81,7 +86,9 @@ public abstract class AbstractRestProjectService extends AbstractService<RestPro
         methods.stream()
                 .map(RestMethod::getId)
                 .forEach(this::deleteMethod);
-        return this.resourceRepository.delete(resourceId);
+        final Optional<RestResource> deletedResource = this.resourceRepository.delete(resourceId);
+        this.methodRouter.refreshResource(resourceId);
+        return deletedResource;
     }
 
     protected Optional<RestMethod> deleteMethod(final String methodId){
@@ -91,7 +98,9 @@ public abstract class AbstractRestProjectService extends AbstractService<RestPro
                 .map(RestMockResponse::getId)
                 .forEach(this::deleteMockResponse);
 
-        return this.methodRepository.delete(methodId);
+        final Optional<RestMethod> deletedMethod = this.methodRepository.delete(methodId);
+        deletedMethod.ifPresent(this.methodRouter::removeMethod);
+        return deletedMethod;
     }
 
     protected Optional<RestMockResponse> deleteMockResponse(final String mockReponseId){
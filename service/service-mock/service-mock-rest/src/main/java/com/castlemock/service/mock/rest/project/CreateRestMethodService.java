@@ -53,6 +53,7 @@ public class CreateRestMethodService extends AbstractRestProjectService implemen
                 .responseStrategy(RestResponseStrategy.RANDOM)
                 .build();
         final RestMethod createdRestMethod = this.methodRepository.save(restMethod);
+        this.methodRouter.refreshResource(createdRestMethod.getResourceId());
         return createServiceResult(CreateRestMethodOutput.builder()
                 .method(createdRestMethod)
                 .build());
@@ -49,6 +49,7 @@ public class CreateRestResourceService extends AbstractRestProjectService implem
                 .applicationId(input.getApplicationId())
                 .build();
         final RestResource createdRestResource = this.resourceRepository.save(resource);
+        this.methodRouter.refreshResource(createdRestResource.getId());
         return createServiceResult(CreateRestResourceOutput.builder()
                 .resource(createdRestResource)
                 .build());
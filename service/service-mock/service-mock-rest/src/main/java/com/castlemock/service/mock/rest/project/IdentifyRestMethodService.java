@@ -25,16 +25,12 @@ import com.castlemock.model.mock.rest.domain.RestResource;
 import com.castlemock.service.core.utility.UrlUtility;
 import com.castlemock.service.mock.rest.project.input.IdentifyRestMethodInput;
 import com.castlemock.service.mock.rest.project.output.IdentifyRestMethodOutput;
+import com.castlemock.service.mock.rest.project.route.RestRoute;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-
-import static java.util.stream.Collectors.toMap;
 
 /**
  * @author Karl Dahlgren
@@ -54,28 +50,15 @@ public class IdentifyRestMethodService extends AbstractRestProjectService implem
     @Override
     public ServiceResult<IdentifyRestMethodOutput> process(final ServiceTask<IdentifyRestMethodInput> serviceTask) {
         final IdentifyRestMethodInput input = serviceTask.getInput();
-        final Map<String, RestResource> resources =
-                this.resourceRepository.findWithApplicationId(input.getApplicationId())
-                        .stream()
-                        .filter(resource -> UrlUtility.isPatternMatch(resource.getUri(), input.getResourceUri()))
-                        .collect(toMap(RestResource::getId, Function.identity()));
-
-        final RestMethod method = resources
-                .values()
-                .stream()
-                .map(RestResource::getId)
-                .map(this.methodRepository::findWithResourceId)
-                .flatMap(Collection::stream)
-                .filter(m -> input.getHttpMethod().equals(m.getHttpMethod()))
-                .findFirst()
+        final RestRoute route = this.methodRouter.route(input.getApplicationId(), input.getHttpMethod(), input.getResourceUri())
                 .orElseThrow(() -> new IllegalArgumentException("Unable to identify REST method: " +
                         input.getResourceUri() + " (" + input.getHttpMethod() + ")"));
-
-        final RestResource resource = Optional.ofNullable(resources.get(method.getResourceId()))
-                .orElseThrow(() -> new IllegalArgumentException("Unable to get REST resource: " + method.getResourceId()));
+        final RestResource resource = route.getResource();
+        final RestMethod method = route.getMethod();
 
         final Map<String, Set<String>> pathParameters = new HashMap<>();
-        pathParameters.putAll(UrlUtility.getPathParameters(resource.getUri(), input.getResourceUri()));
+        route.getPathVariables()
+                .forEach((name, value) -> pathParameters.put(name, Set.of(value)));
         pathParameters.putAll(UrlUtility.getQueryStringParameters(resource.getUri(), input.getHttpParameters()));
 
         final List<RestMockResponse> mockResponses = this.mockResponseRepository.findWithMethodId(method.getId());
@@ -115,6 +115,8 @@ public class ImportRestDefinitionService extends AbstractRestProjectService impl
                     }
                 }
             }
+
+            this.methodRouter.evictApplication(savedApplication.getId());
         }
 
         // Set the last version of the REST application
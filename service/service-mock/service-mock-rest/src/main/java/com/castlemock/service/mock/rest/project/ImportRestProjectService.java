@@ -90,6 +90,9 @@ public class ImportRestProjectService extends AbstractRestProjectService impleme
 
             this.mockResponseRepository.save(mockResponse);
         }
+
+        exportContainer.getApplications()
+                .forEach(application -> this.methodRouter.evictApplication(application.getId()));
         return createServiceResult(ImportRestProjectOutput.builder()
                 .project(project)
                 .build());
@@ -19,6 +19,7 @@ package com.castlemock.service.mock.rest.project;
 import com.castlemock.model.core.Service;
 import com.castlemock.model.core.ServiceResult;
 import com.castlemock.model.core.ServiceTask;
+import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.service.mock.rest.project.input.UpdateCurrentRestMockResponseSequenceIndexInput;
 import com.castlemock.service.mock.rest.project.output.UpdateCurrentRestMockResponseSequenceIndexOutput;
 
@@ -44,7 +45,9 @@ public class UpdateCurrentRestMockResponseSequenceIndexService extends AbstractR
                 .map(method -> method.toBuilder()
                         .currentResponseSequenceIndex(input.getCurrentRestMockResponseSequenceIndex())
                         .build())
-                .ifPresent(this.methodRepository::save);
+                .map(this.methodRepository::save)
+                .map(RestMethod::getResourceId)
+                .ifPresent(this.methodRouter::refreshResource);
         return createServiceResult(UpdateCurrentRestMockResponseSequenceIndexOutput.builder()
                 .build());
     }
@@ -53,6 +53,7 @@ public class UpdateRestApplicationsForwardedEndpointService extends AbstractRest
                             .forwardedEndpoint(input.getForwardedEndpoint())
                             .build());
                 }
+                this.methodRouter.refreshResource(restResource.getId());
             }
         }
         return createServiceResult(UpdateRestApplicationsForwardedEndpointOutput.builder().build());
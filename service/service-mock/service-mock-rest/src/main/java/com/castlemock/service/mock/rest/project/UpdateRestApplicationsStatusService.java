@@ -52,6 +52,7 @@ public class UpdateRestApplicationsStatusService extends AbstractRestProjectServ
                         .status(input.getMethodStatus())
                         .build());
             }
+            this.methodRouter.refreshResource(restResource.getId());
         }
         return createServiceResult(UpdateRestApplicationsStatusOutput.builder().build());
     }
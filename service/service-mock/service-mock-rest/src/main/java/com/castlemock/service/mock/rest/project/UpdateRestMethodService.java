@@ -56,6 +56,10 @@ public class UpdateRestMethodService extends AbstractRestProjectService implemen
                                 .orElse(null))
                         .networkDelay(input.getNetworkDelay()
                                 .orElse(null))
+                        .networkDelayDistribution(input.getNetworkDelayDistribution()
+                                .orElse(null))
+                        .networkDelayJitter(input.getNetworkDelayJitter()
+                                .orElse(null))
                         .simulateNetworkDelay(input.getSimulateNetworkDelay()
                                 .orElse(null))
                         .automaticForward(input.getAutomaticForward()
@@ -64,6 +68,8 @@ public class UpdateRestMethodService extends AbstractRestProjectService implemen
                                 .orElse(null))
                         .build())
                 .map(method -> this.methodRepository.update(input.getMethodId(), method));
+        updated.map(RestMethod::getResourceId)
+                .ifPresent(this.methodRouter::refreshResource);
 
         return createServiceResult(UpdateRestMethodOutput.builder()
                 .method(updated.orElse(null))
@@ -19,6 +19,7 @@ package com.castlemock.service.mock.rest.project;
 import com.castlemock.model.core.Service;
 import com.castlemock.model.core.ServiceResult;
 import com.castlemock.model.core.ServiceTask;
+import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.service.mock.rest.project.input.UpdateRestMethodsForwardedEndpointInput;
 import com.castlemock.service.mock.rest.project.output.UpdateRestMethodsForwardedEndpointOutput;
 
@@ -42,9 +43,11 @@ public class UpdateRestMethodsForwardedEndpointService extends AbstractRestProje
         final UpdateRestMethodsForwardedEndpointInput input = serviceTask.getInput();
         for(String methodId : input.getMethodIds()){
             this.methodRepository.findOne(methodId)
-                    .ifPresent(method -> this.methodRepository.update(method.getId(), method.toBuilder()
+                    .map(method -> this.methodRepository.update(method.getId(), method.toBuilder()
                             .forwardedEndpoint(input.getForwardedEndpoint())
-                            .build()));
+                            .build()))
+                    .map(RestMethod::getResourceId)
+                    .ifPresent(this.methodRouter::refreshResource);
         }
         return createServiceResult(UpdateRestMethodsForwardedEndpointOutput.builder().build());
     }
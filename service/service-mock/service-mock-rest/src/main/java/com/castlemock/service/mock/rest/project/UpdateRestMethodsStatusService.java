@@ -19,6 +19,7 @@ package com.castlemock.service.mock.rest.project;
 import com.castlemock.model.core.Service;
 import com.castlemock.model.core.ServiceResult;
 import com.castlemock.model.core.ServiceTask;
+import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.service.mock.rest.project.input.UpdateRestMethodsStatusInput;
 import com.castlemock.service.mock.rest.project.output.UpdateRestMethodsStatusOutput;
 
@@ -44,7 +45,9 @@ public class UpdateRestMethodsStatusService extends AbstractRestProjectService i
                 .map(method -> method.toBuilder()
                         .status(input.getMethodStatus())
                         .build())
-                .ifPresent(method -> this.methodRepository.update(method.getId(), method));
+                .map(method -> this.methodRepository.update(method.getId(), method))
+                .map(RestMethod::getResourceId)
+                .ifPresent(this.methodRouter::refreshResource);
         return createServiceResult(UpdateRestMethodsStatusOutput.builder()
                 .build());
     }
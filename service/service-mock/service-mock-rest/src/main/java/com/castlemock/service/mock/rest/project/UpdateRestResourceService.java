@@ -49,6 +49,7 @@ public class UpdateRestResourceService extends AbstractRestProjectService implem
                         .uri(input.getUri())
                         .build())
                 .map(resource -> this.resourceRepository.update(input.getResourceId(), resource));
+        this.methodRouter.refreshResource(input.getResourceId());
         return createServiceResult(UpdateRestResourceOutput.builder()
                 .resource(updatedResource.orElse(null))
                 .build());
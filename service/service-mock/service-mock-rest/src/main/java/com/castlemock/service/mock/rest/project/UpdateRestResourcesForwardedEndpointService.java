@@ -49,6 +49,8 @@ public class UpdateRestResourcesForwardedEndpointService extends AbstractRestPro
                 .forEach(restMethod -> this.methodRepository.update(restMethod.getId(), restMethod.toBuilder()
                             .forwardedEndpoint(input.getForwardedEndpoint())
                             .build()));
+        input.getResourceIds()
+                .forEach(this.methodRouter::refreshResource);
         return createServiceResult(UpdateRestResourcesForwardedEndpointOutput.builder().build());
     }
 }
@@ -49,6 +49,7 @@ public class UpdateRestResourcesStatusService extends AbstractRestProjectService
                     .status(input.getMethodStatus())
                     .build());
         }
+        this.methodRouter.refreshResource(input.getResourceId());
         return createServiceResult(UpdateRestResourcesStatusOutput.builder().build());
     }
 }
@@ -18,6 +18,7 @@ package com.castlemock.service.mock.rest.project.input;
 
 import com.castlemock.model.core.Input;
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.rest.domain.RestMethodStatus;
 import com.castlemock.model.mock.rest.domain.RestMultipleResponseStrategy;
 import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
@@ -43,6 +44,8 @@ public final class UpdateRestMethodInput implements Input {
     private final RestMultipleResponseStrategy multipleResponseStrategy;
     private final Boolean simulateNetworkDelay;
     private final Long networkDelay;
+    private final NetworkDelayDistribution networkDelayDistribution;
+    private final Long networkDelayJitter;
     private final String defaultMockResponseId;
     private final Boolean automaticForward;
 
@@ -60,6 +63,8 @@ public final class UpdateRestMethodInput implements Input {
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.multipleResponseStrategy = builder.multipleResponseStrategy;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.automaticForward = builder.automaticForward;
     }
@@ -112,6 +117,14 @@ public final class UpdateRestMethodInput implements Input {
         return Optional.ofNullable(networkDelay);
     }
 
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     public Optional<String> getDefaultMockResponseId() {
         return Optional.ofNullable(defaultMockResponseId);
     }
@@ -136,6 +149,8 @@ public final class UpdateRestMethodInput implements Input {
                 status == that.status && responseStrategy == that.responseStrategy &&
                 Objects.equals(simulateNetworkDelay, that.simulateNetworkDelay) &&
                 Objects.equals(networkDelay, that.networkDelay) &&
+                networkDelayDistribution == that.networkDelayDistribution &&
+                Objects.equals(networkDelayJitter, that.networkDelayJitter) &&
                 Objects.equals(defaultMockResponseId, that.defaultMockResponseId) &&
                 Objects.equals(automaticForward, that.automaticForward);
     }
@@ -144,7 +159,7 @@ public final class UpdateRestMethodInput implements Input {
     public int hashCode() {
         return Objects.hash(projectId, applicationId, resourceId, methodId, name, httpMethod,
                 forwardedEndpoint, status, responseStrategy, simulateNetworkDelay, networkDelay,
-                defaultMockResponseId, automaticForward);
+                networkDelayDistribution, networkDelayJitter, defaultMockResponseId, automaticForward);
     }
 
     @Override
@@ -161,6 +176,8 @@ public final class UpdateRestMethodInput implements Input {
                 ", responseStrategy=" + responseStrategy +
                 ", simulateNetworkDelay=" + simulateNetworkDelay +
                 ", networkDelay=" + networkDelay +
+                ", networkDelayDistribution=" + networkDelayDistribution +
+                ", networkDelayJitter=" + networkDelayJitter +
                 ", defaultMockResponseId='" + defaultMockResponseId + '\'' +
                 ", automaticForward=" + automaticForward +
                 '}';
@@ -180,6 +197,8 @@ public final class UpdateRestMethodInput implements Input {
         private RestMultipleResponseStrategy multipleResponseStrategy;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private Boolean automaticForward;
 
@@ -246,6 +265,16 @@ public final class UpdateRestMethodInput implements Input {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
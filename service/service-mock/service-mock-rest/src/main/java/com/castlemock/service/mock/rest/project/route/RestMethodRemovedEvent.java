@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.project.route;
+
+import java.util.Objects;
+
+/**
+ * The {@link RestMethodRemovedEvent} is published by the {@link RestMethodRouter} once a
+ * {@link com.castlemock.model.mock.rest.domain.RestMethod} has been deleted. Components that keep
+ * state per method can listen for the event and discard the state of the deleted method.
+ * @since 1.70
+ */
+public final class RestMethodRemovedEvent {
+
+    private final String methodId;
+
+    public RestMethodRemovedEvent(final String methodId){
+        this.methodId = Objects.requireNonNull(methodId, "methodId");
+    }
+
+    public String getMethodId() {
+        return methodId;
+    }
+
+}
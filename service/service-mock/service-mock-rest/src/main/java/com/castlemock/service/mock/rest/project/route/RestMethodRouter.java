@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.project.route;
+
+import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestResource;
+import com.castlemock.repository.rest.project.RestApplicationRepository;
+import com.castlemock.repository.rest.project.RestMethodRepository;
+import com.castlemock.repository.rest.project.RestResourceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link RestMethodRouter} keeps a precompiled routing index per
+ * {@link com.castlemock.model.mock.rest.domain.RestApplication}. The index for an application is built on the
+ * first lookup and is afterwards kept up to date incrementally: every service that creates, updates or deletes a
+ * {@link RestResource} or a {@link RestMethod} is responsible for calling {@link #refreshResource(String)}.
+ * @since 1.70
+ */
+@Component
+public class RestMethodRouter {
+
+    @Autowired
+    private RestApplicationRepository applicationRepository;
+    @Autowired
+    private RestResourceRepository resourceRepository;
+    @Autowired
+    private RestMethodRepository methodRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, RestRouteTrie> applications = new ConcurrentHashMap<>();
+
+    /**
+     * Find the {@link RestResource} and {@link RestMethod} that should handle the incoming request.
+     * @param applicationId The id of the application that received the request.
+     * @param httpMethod The HTTP method of the request.
+     * @param uri The URI of the request, relative to the application.
+     * @return The matching route, or empty if no method could be identified.
+     */
+    public Optional<RestRoute> route(final String applicationId,
+                                     final HttpMethod httpMethod,
+                                     final String uri){
+        final RestRouteTrie trie = this.applications.computeIfAbsent(applicationId, this::build);
+        if(trie == null){
+            return Optional.empty();
+        }
+
+        return trie.match(httpMethod, uri)
+                .map(match -> RestRoute.builder()
+                        .resource(match.getResource())
+                        .method(match.getMethod())
+                        .pathVariables(match.getUriVariables())
+                        .build());
+    }
+
+    /**
+     * Refresh the routes for a {@link RestResource}. The method should be invoked after
+     * the resource or one of its methods has been created, updated or deleted.
+     * @param resourceId The id of the resource that has been modified.
+     */
+    public void refreshResource(final String resourceId){
+        final Optional<RestResource> resource = this.resourceRepository.findOne(resourceId);
+        if(resource.isPresent()){
+            final List<RestMethod> methods = this.methodRepository.findWithResourceId(resourceId);
+            this.applications.computeIfPresent(resource.get().getApplicationId(), (applicationId, trie) -> {
+                trie.put(resource.get(), methods);
+                return trie;
+            });
+            return;
+        }
+
+        for(String applicationId : this.applications.keySet()){
+            this.applications.computeIfPresent(applicationId, (id, trie) -> {
+                trie.remove(resourceId);
+                return trie;
+            });
+        }
+    }
+
+    /**
+     * Remove the routes for a deleted {@link RestMethod} and publish a {@link RestMethodRemovedEvent},
+     * which allows other components to discard the state that they keep for the method.
+     * @param method The method that has been deleted.
+     */
+    public void removeMethod(final RestMethod method){
+        refreshResource(method.getResourceId());
+        this.eventPublisher.publishEvent(new RestMethodRemovedEvent(method.getId()));
+    }
+
+    /**
+     * Discard the routing index for a {@link com.castlemock.model.mock.rest.domain.RestApplication}.
+     * The index will be rebuilt on the next lookup.
+     * @param applicationId The id of the application.
+     */
+    public void evictApplication(final String applicationId){
+        this.applications.remove(applicationId);
+    }
+
+    private RestRouteTrie build(final String applicationId){
+        final List<RestResource> resources = this.resourceRepository.findWithApplicationId(applicationId);
+        if(resources.isEmpty() && !this.applicationRepository.exists(applicationId)){
+            // Don't keep an index for an application that doesn't exist. Empty applications
+            // are indexed, since resources that are created later are added to the index.
+            return null;
+        }
+
+        final RestRouteTrie trie = new RestRouteTrie();
+        for(RestResource resource : resources){
+            trie.put(resource, this.methodRepository.findWithResourceId(resource.getId()));
+        }
+        return trie;
+    }
+}
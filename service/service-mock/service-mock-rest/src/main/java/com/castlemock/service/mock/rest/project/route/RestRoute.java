@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.project.route;
+
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestResource;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link RestRoute} is the result of a successful lookup in the {@link RestMethodRouter}.
+ * @since 1.70
+ */
+public final class RestRoute {
+
+    private final RestResource resource;
+    private final RestMethod method;
+    private final Map<String, String> pathVariables;
+
+    private RestRoute(final Builder builder){
+        this.resource = Objects.requireNonNull(builder.resource, "resource");
+        this.method = Objects.requireNonNull(builder.method, "method");
+        this.pathVariables = Optional.ofNullable(builder.pathVariables)
+                .map(Map::copyOf)
+                .orElseGet(Map::of);
+    }
+
+    public RestResource getResource() {
+        return resource;
+    }
+
+    public RestMethod getMethod() {
+        return method;
+    }
+
+    public Map<String, String> getPathVariables() {
+        return pathVariables;
+    }
+
+    public static Builder builder(){
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private RestResource resource;
+        private RestMethod method;
+        private Map<String, String> pathVariables;
+
+        private Builder(){
+
+        }
+
+        public Builder resource(final RestResource resource){
+            this.resource = resource;
+            return this;
+        }
+
+        public Builder method(final RestMethod method){
+            this.method = method;
+            return this;
+        }
+
+        public Builder pathVariables(final Map<String, String> pathVariables){
+            this.pathVariables = pathVariables;
+            return this;
+        }
+
+        public RestRoute build(){
+            return new RestRoute(this);
+        }
+    }
+}
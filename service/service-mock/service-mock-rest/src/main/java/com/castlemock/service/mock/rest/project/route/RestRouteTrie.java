@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.project.route;
+
+import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestResource;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * The {@link RestRouteTrie} is a segment trie of all the {@link RestResource} URIs that belongs to
+ * a single {@link com.castlemock.model.mock.rest.domain.RestApplication}. Each URI is parsed once into a
+ * {@link PathPattern} and is placed on the node that represents its leading literal segments. A lookup walks
+ * the literal segments of the incoming path and only evaluates the patterns that are attached to the visited nodes.
+ * The {@link RestMethod} of each route is stored together with its pattern, which means that a lookup doesn't
+ * have to read the methods of the matched resource.
+ * <p>
+ * Lookups are lock free. Modifications are synchronized on the trie, which prevents concurrent modifications
+ * of the same resource from leaving stale routes behind.
+ * @since 1.70
+ */
+final class RestRouteTrie {
+
+    private static final String NON_LITERAL_CHARACTERS = "{}*?;%";
+
+    private final Node root = new Node();
+    private final Map<String, ResourceRoutes> resources = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace the routes of a {@link RestResource}.
+     * @param resource The resource that will be added.
+     * @param methods The methods that belongs to the resource.
+     */
+    synchronized void put(final RestResource resource, final List<RestMethod> methods){
+        remove(resource.getId());
+
+        final String basePattern = getBaseUriPattern(resource.getUri());
+        final PathPattern pattern;
+        try {
+            pattern = PathPatternParser.defaultInstance.parse(basePattern);
+        } catch (Exception exception) {
+            // The URI can't be used for matching. The resource is
+            // therefore unreachable, just as it was before.
+            return;
+        }
+
+        // Only the first method is routed if a resource has multiple methods with the same HTTP method
+        final Map<HttpMethod, RestMethod> routedMethods = methods.stream()
+                .collect(toMap(RestMethod::getHttpMethod, identity(), (first, second) -> first));
+        final Node node = this.root.getOrCreate(getLiteralSegments(basePattern));
+        routedMethods.forEach((httpMethod, method) -> node.add(httpMethod, new Route(resource, method, pattern)));
+        this.resources.put(resource.getId(), new ResourceRoutes(node, Set.copyOf(routedMethods.keySet())));
+    }
+
+    /**
+     * Remove all the routes for a {@link RestResource}.
+     * @param resourceId The id of the resource that will be removed.
+     */
+    synchronized void remove(final String resourceId){
+        final ResourceRoutes routes = this.resources.remove(resourceId);
+        if(routes != null){
+            routes.httpMethods.forEach(httpMethod -> routes.node.remove(httpMethod, resourceId));
+        }
+    }
+
+    /**
+     * Find the most specific route that matches the provided path and HTTP method.
+     * @param httpMethod The HTTP method of the incoming request.
+     * @param path The path of the incoming request.
+     * @return The matching route, or empty if no resource matches.
+     */
+    Optional<Match> match(final HttpMethod httpMethod, final String path){
+        final PathContainer pathContainer = PathContainer.parsePath(path);
+        Node node = this.root;
+        Match match = node.match(httpMethod, pathContainer, null);
+        for(PathContainer.Element element : pathContainer.elements()){
+            if(!(element instanceof PathContainer.PathSegment segment)){
+                continue;
+            }
+            node = node.get(segment.valueToMatch());
+            if(node == null){
+                break;
+            }
+            match = node.match(httpMethod, pathContainer, match);
+        }
+        return Optional.ofNullable(match);
+    }
+
+    private static List<String> getLiteralSegments(final String pattern){
+        final List<String> segments = new ArrayList<>();
+        for(PathContainer.Element element : PathContainer.parsePath(pattern).elements()){
+            if(!(element instanceof PathContainer.PathSegment segment)){
+                continue;
+            }
+            final String value = segment.value();
+            if(!isLiteral(value)){
+                break;
+            }
+            segments.add(value);
+        }
+        return segments;
+    }
+
+    private static boolean isLiteral(final String segment){
+        for(int index = 0; index < segment.length(); index++){
+            if(NON_LITERAL_CHARACTERS.indexOf(segment.charAt(index)) != -1){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getBaseUriPattern(final String pattern){
+        final int index = pattern.indexOf('?');
+        if(index == -1){
+            return pattern;
+        }
+
+        return pattern.substring(0, index);
+    }
+
+    static final class Match {
+
+        private final RestResource resource;
+        private final RestMethod method;
+        private final PathPattern pattern;
+        private final Map<String, String> uriVariables;
+
+        private Match(final RestResource resource,
+                      final RestMethod method,
+                      final PathPattern pattern,
+                      final Map<String, String> uriVariables){
+            this.resource = resource;
+            this.method = method;
+            this.pattern = pattern;
+            this.uriVariables = uriVariables;
+        }
+
+        RestResource getResource() {
+            return resource;
+        }
+
+        RestMethod getMethod() {
+            return method;
+        }
+
+        Map<String, String> getUriVariables() {
+            return uriVariables;
+        }
+    }
+
+    private static final class Route {
+
+        private final RestResource resource;
+        private final RestMethod method;
+        private final PathPattern pattern;
+
+        private Route(final RestResource resource, final RestMethod method, final PathPattern pattern){
+            this.resource = resource;
+            this.method = method;
+            this.pattern = pattern;
+        }
+    }
+
+    private static final class ResourceRoutes {
+
+        private final Node node;
+        private final Set<HttpMethod> httpMethods;
+
+        private ResourceRoutes(final Node node, final Set<HttpMethod> httpMethods){
+            this.node = node;
+            this.httpMethods = httpMethods;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private final Map<HttpMethod, List<Route>> routes = new ConcurrentHashMap<>();
+
+        private Node get(final String segment){
+            return this.children.get(segment);
+        }
+
+        private Node getOrCreate(final List<String> segments){
+            Node node = this;
+            for(String segment : segments){
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            return node;
+        }
+
+        private void add(final HttpMethod httpMethod, final Route route){
+            this.routes.compute(httpMethod, (key, existing) -> {
+                final List<Route> updated = existing == null ? new ArrayList<>() : new ArrayList<>(existing);
+                updated.add(route);
+                return List.copyOf(updated);
+            });
+        }
+
+        private void remove(final HttpMethod httpMethod, final String resourceId){
+            this.routes.computeIfPresent(httpMethod, (key, existing) -> {
+                final List<Route> updated = existing.stream()
+                        .filter(route -> !route.resource.getId().equals(resourceId))
+                        .toList();
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+
+        private Match match(final HttpMethod httpMethod,
+                            final PathContainer pathContainer,
+                            final Match current){
+            final List<Route> candidates = this.routes.get(httpMethod);
+            if(candidates == null){
+                return current;
+            }
+
+            Match match = current;
+            for(Route route : candidates){
+                if(match != null && PathPattern.SPECIFICITY_COMPARATOR.compare(route.pattern, match.pattern) >= 0){
+                    continue;
+                }
+                final PathPattern.PathMatchInfo matchInfo = route.pattern.matchAndExtract(pathContainer);
+                if(matchInfo != null){
+                    match = new Match(route.resource, route.method, route.pattern, matchInfo.getUriVariables());
+                }
+            }
+            return match;
+        }
+    }
+}
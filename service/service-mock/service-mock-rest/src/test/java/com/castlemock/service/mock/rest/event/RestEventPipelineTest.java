@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.event;
+
+import com.castlemock.model.mock.rest.domain.RestEvent;
+import com.castlemock.model.mock.rest.domain.RestEventTestBuilder;
+import com.castlemock.repository.rest.event.RestEventRepository;
+import com.castlemock.service.core.event.EventPipeline;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class RestEventPipelineTest {
+
+    @Mock
+    private RestEventRepository repository;
+
+    @InjectMocks
+    private RestEventPipeline pipeline;
+
+    private final List<RestEvent> savedEvents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(pipeline, "restMaxEventCount", 5);
+        ReflectionTestUtils.setField(pipeline, "restEventQueueCapacity", 100);
+        ReflectionTestUtils.setField(pipeline, "restEventBatchSize", 10);
+        ReflectionTestUtils.setField(pipeline, "restEventOverflowPolicy", EventPipeline.OverflowPolicy.DROP_OLDEST);
+        Mockito.doAnswer(invocation -> savedEvents.addAll(invocation.getArgument(0)))
+                .when(repository).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    public void testSubmit(){
+        pipeline.initialize();
+        for(int index = 0; index < 3; index++){
+            Assertions.assertTrue(pipeline.submit(RestEventTestBuilder.builder().id("Event" + index).build()));
+        }
+        pipeline.stop();
+
+        Assertions.assertEquals(List.of("Event0", "Event1", "Event2"), getSavedEventIds());
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any(RestEvent.class));
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvents(Mockito.anyInt());
+        Assertions.assertEquals(3, pipeline.getSubmittedEvents());
+        Assertions.assertEquals(3, pipeline.getPersistedEvents());
+        Assertions.assertEquals(0, pipeline.getDroppedEvents());
+        Assertions.assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    public void testSubmitWhenStopped(){
+        Assertions.assertFalse(pipeline.submit(RestEventTestBuilder.builder().build()));
+        Assertions.assertEquals(0, pipeline.getSubmittedEvents());
+        Assertions.assertEquals(1, pipeline.getDroppedEvents());
+        Mockito.verify(repository, Mockito.never()).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    public void testSubmitWhenQueueIsFull() throws InterruptedException {
+        ReflectionTestUtils.setField(pipeline, "restEventQueueCapacity", 1);
+        ReflectionTestUtils.setField(pipeline, "restEventBatchSize", 1);
+        ReflectionTestUtils.setField(pipeline, "restEventOverflowPolicy", EventPipeline.OverflowPolicy.DROP_NEWEST);
+        final CountDownLatch persisting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        blockSaveAll(persisting, release);
+
+        pipeline.initialize();
+        Assertions.assertTrue(pipeline.submit(RestEventTestBuilder.builder().id("Event1").build()));
+        Assertions.assertTrue(persisting.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(pipeline.submit(RestEventTestBuilder.builder().id("Event2").build()));
+        Assertions.assertFalse(pipeline.submit(RestEventTestBuilder.builder().id("Event3").build()));
+        release.countDown();
+        pipeline.stop();
+
+        Assertions.assertEquals(2, pipeline.getSubmittedEvents());
+        Assertions.assertEquals(1, pipeline.getDroppedEvents());
+        Assertions.assertEquals(2, pipeline.getPersistedEvents());
+        Assertions.assertEquals(List.of("Event1", "Event2"), getSavedEventIds());
+    }
+
+    @Test
+    public void testStopWhileSubmissionIsBlocked() throws InterruptedException {
+        ReflectionTestUtils.setField(pipeline, "restEventQueueCapacity", 1);
+        ReflectionTestUtils.setField(pipeline, "restEventBatchSize", 1);
+        ReflectionTestUtils.setField(pipeline, "restEventOverflowPolicy", EventPipeline.OverflowPolicy.BLOCK);
+        final CountDownLatch persisting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        blockSaveAll(persisting, release);
+
+        pipeline.initialize();
+        Assertions.assertTrue(pipeline.submit(RestEventTestBuilder.builder().id("Event1").build()));
+        Assertions.assertTrue(persisting.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(pipeline.submit(RestEventTestBuilder.builder().id("Event2").build()));
+
+        // The queue is full, which means that the third submission will be blocked
+        final AtomicBoolean accepted = new AtomicBoolean(true);
+        final Thread producer = new Thread(() ->
+                accepted.set(pipeline.submit(RestEventTestBuilder.builder().id("Event3").build())));
+        producer.start();
+        awaitState(producer, Thread.State.TIMED_WAITING);
+
+        final Thread stopper = new Thread(pipeline::stop);
+        stopper.start();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertFalse(producer.isAlive());
+        Assertions.assertFalse(accepted.get());
+
+        release.countDown();
+        stopper.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertFalse(stopper.isAlive());
+
+        Assertions.assertEquals(2, pipeline.getSubmittedEvents());
+        Assertions.assertEquals(1, pipeline.getDroppedEvents());
+        Assertions.assertEquals(2, pipeline.getPersistedEvents());
+        Assertions.assertEquals(0, pipeline.getQueueDepth());
+        Assertions.assertEquals(List.of("Event1", "Event2"), getSavedEventIds());
+    }
+
+    @Test
+    public void testPersistMaxCountReached(){
+        Mockito.when(repository.count()).thenReturn(4);
+        final List<RestEvent> events = List.of(
+                RestEventTestBuilder.builder().id("Event1").build(),
+                RestEventTestBuilder.builder().id("Event2").build(),
+                RestEventTestBuilder.builder().id("Event3").build());
+
+        pipeline.persist(events);
+
+        Mockito.verify(repository, Mockito.times(1)).deleteOldestEvents(2);
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvent();
+        Mockito.verify(repository, Mockito.times(1)).count();
+        Mockito.verify(repository, Mockito.times(1)).saveAll(events);
+    }
+
+    @Test
+    public void testPersistWhenRetentionIsManaged(){
+        Mockito.when(repository.isRetentionManaged()).thenReturn(true);
+        Mockito.when(repository.count()).thenReturn(5);
+        final List<RestEvent> events = List.of(
+                RestEventTestBuilder.builder().id("Event1").build(),
+                RestEventTestBuilder.builder().id("Event2").build());
+
+        pipeline.persist(events);
+
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvents(Mockito.anyInt());
+        Mockito.verify(repository, Mockito.times(1)).saveAll(events);
+    }
+
+    @Test
+    public void testPersistMoreEventsThanMaxCount(){
+        Mockito.when(repository.count()).thenReturn(0);
+        final List<RestEvent> events = List.of(
+                RestEventTestBuilder.builder().id("Event1").build(),
+                RestEventTestBuilder.builder().id("Event2").build(),
+                RestEventTestBuilder.builder().id("Event3").build(),
+                RestEventTestBuilder.builder().id("Event4").build(),
+                RestEventTestBuilder.builder().id("Event5").build(),
+                RestEventTestBuilder.builder().id("Event6").build());
+
+        pipeline.persist(events);
+
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvents(Mockito.anyInt());
+        Assertions.assertEquals(List.of("Event2", "Event3", "Event4", "Event5", "Event6"), getSavedEventIds());
+    }
+
+    private void blockSaveAll(final CountDownLatch persisting, final CountDownLatch release) {
+        Mockito.doAnswer(invocation -> {
+            persisting.countDown();
+            release.await();
+            return savedEvents.addAll(invocation.getArgument(0));
+        }).when(repository).saveAll(Mockito.anyList());
+    }
+
+    private List<String> getSavedEventIds() {
+        return savedEvents.stream()
+                .map(RestEvent::getId)
+                .toList();
+    }
+
+    private static void awaitState(final Thread thread, final Thread.State state) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (thread.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(state, thread.getState());
+    }
+}
@@ -29,6 +29,7 @@ import com.castlemock.model.mock.rest.domain.RestResourceTestBuilder;
 import com.castlemock.repository.rest.project.RestMethodRepository;
 import com.castlemock.service.mock.rest.project.input.CreateRestMethodInput;
 import com.castlemock.service.mock.rest.project.output.CreateRestMethodOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,9 @@ public class CreateRestMethodServiceTest {
     @Mock
     private RestMethodRepository methodRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private CreateRestMethodService service;
 
@@ -23,6 +23,7 @@ import com.castlemock.model.mock.rest.domain.RestResourceTestBuilder;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.CreateRestResourceInput;
 import com.castlemock.service.mock.rest.project.output.CreateRestResourceOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,9 @@ public class CreateRestResourceServiceTest {
     @Mock
     private RestResourceRepository resourceRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private CreateRestResourceService service;
 
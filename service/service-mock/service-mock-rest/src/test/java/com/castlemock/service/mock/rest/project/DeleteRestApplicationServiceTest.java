@@ -30,6 +30,7 @@ import com.castlemock.repository.rest.project.RestMethodRepository;
 import com.castlemock.repository.rest.project.RestMockResponseRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.DeleteRestApplicationInput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -58,6 +59,9 @@ public class DeleteRestApplicationServiceTest {
     @Mock
     private RestMockResponseRepository mockResponseRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private DeleteRestApplicationService service;
 
@@ -24,6 +24,7 @@ import com.castlemock.model.mock.rest.domain.RestMockResponseTestBuilder;
 import com.castlemock.repository.rest.project.RestMethodRepository;
 import com.castlemock.repository.rest.project.RestMockResponseRepository;
 import com.castlemock.service.mock.rest.project.input.DeleteRestMethodInput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -46,6 +47,9 @@ public class DeleteRestMethodServiceTest {
     @Mock
     private RestMockResponseRepository mockResponseRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private DeleteRestMethodService service;
 
@@ -35,6 +35,7 @@ import com.castlemock.repository.rest.project.RestProjectRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.DeleteRestProjectInput;
 import com.castlemock.service.mock.rest.project.output.DeleteRestProjectOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -65,6 +66,9 @@ public class DeleteRestProjectServiceTest {
     @Mock
     private RestMockResponseRepository mockResponseRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private DeleteRestProjectService service;
 
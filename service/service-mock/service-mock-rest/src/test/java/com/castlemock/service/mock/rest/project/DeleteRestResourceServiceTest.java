@@ -29,6 +29,7 @@ import com.castlemock.repository.rest.project.RestMockResponseRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.DeleteRestResourceInput;
 import com.castlemock.service.mock.rest.project.output.DeleteRestResourceOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -54,6 +55,9 @@ public class DeleteRestResourceServiceTest {
     @Mock
     private RestMockResponseRepository mockResponseRepository;
 
+    @Mock
+    private RestMethodRouter methodRouter;
+
     @InjectMocks
     private DeleteRestResourceService service;
 
@@ -31,6 +31,7 @@ import com.castlemock.repository.rest.project.RestMockResponseRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.IdentifyRestMethodInput;
 import com.castlemock.service.mock.rest.project.output.IdentifyRestMethodOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -67,6 +69,10 @@ public class IdentifyRestMethodServiceTest {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        final RestMethodRouter methodRouter = new RestMethodRouter();
+        ReflectionTestUtils.setField(methodRouter, "resourceRepository", resourceRepository);
+        ReflectionTestUtils.setField(methodRouter, "methodRepository", methodRepository);
+        ReflectionTestUtils.setField(service, "methodRouter", methodRouter);
     }
 
     @Test
@@ -12,6 +12,7 @@ import com.castlemock.repository.rest.project.RestMethodRepository;
 import com.castlemock.repository.rest.project.RestResourceRepository;
 import com.castlemock.service.mock.rest.project.input.UpdateRestResourcesForwardedEndpointInput;
 import com.castlemock.service.mock.rest.project.output.UpdateRestResourcesForwardedEndpointOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRouter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -32,6 +33,8 @@ public class UpdateRestResourcesForwardedEndpointServiceTest {
     private RestResourceRepository resourceRepository;
     @Mock
     private RestMethodRepository methodRepository;
+    @Mock
+    private RestMethodRouter methodRouter;
 
     @InjectMocks
     private UpdateRestResourcesForwardedEndpointService service;
@@ -73,5 +76,6 @@ public class UpdateRestResourcesForwardedEndpointServiceTest {
         Mockito.verify(methodRepository, Mockito.times(2)).update(any(), any());
         Mockito.verify(methodRepository, Mockito.times(1)).update(eq(method1.getId()), any());
         Mockito.verify(methodRepository, Mockito.times(1)).update(eq(method2.getId()), any());
+        Mockito.verify(methodRouter, Mockito.times(1)).refreshResource(resource1.getId());
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.rest.project.route;
+
+import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestMethodTestBuilder;
+import com.castlemock.model.mock.rest.domain.RestResource;
+import com.castlemock.model.mock.rest.domain.RestResourceTestBuilder;
+import com.castlemock.repository.rest.project.RestApplicationRepository;
+import com.castlemock.repository.rest.project.RestMethodRepository;
+import com.castlemock.repository.rest.project.RestResourceRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class RestMethodRouterTest {
+
+    private static final String APPLICATION_ID = "ApplicationId";
+
+    @Mock
+    private RestApplicationRepository applicationRepository;
+
+    @Mock
+    private RestResourceRepository resourceRepository;
+
+    @Mock
+    private RestMethodRepository methodRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RestMethodRouter router;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testRouteMostSpecificPattern(){
+        final RestResource variableResource = resource("Resource1", "/user/{userId}");
+        final RestResource literalResource = resource("Resource2", "/user/search");
+        final RestMethod variableMethod = method("Method1", "Resource1", HttpMethod.GET);
+        final RestMethod literalMethod = method("Method2", "Resource2", HttpMethod.GET);
+
+        Mockito.when(resourceRepository.findWithApplicationId(APPLICATION_ID))
+                .thenReturn(List.of(variableResource, literalResource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of(variableMethod));
+        Mockito.when(methodRepository.findWithResourceId("Resource2")).thenReturn(List.of(literalMethod));
+
+        final RestRoute literalRoute = router.route(APPLICATION_ID, HttpMethod.GET, "/user/search").orElseThrow();
+        Assertions.assertEquals(literalResource, literalRoute.getResource());
+        Assertions.assertEquals(literalMethod, literalRoute.getMethod());
+        Assertions.assertEquals(Map.of(), literalRoute.getPathVariables());
+
+        final RestRoute variableRoute = router.route(APPLICATION_ID, HttpMethod.GET, "/user/karl").orElseThrow();
+        Assertions.assertEquals(variableResource, variableRoute.getResource());
+        Assertions.assertEquals(variableMethod, variableRoute.getMethod());
+        Assertions.assertEquals(Map.of("userId", "karl"), variableRoute.getPathVariables());
+
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.POST, "/user/karl").isEmpty());
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/order/1").isEmpty());
+
+        // The index should only be built once, and the methods are only read when the index is built
+        Mockito.verify(resourceRepository, Mockito.times(1)).findWithApplicationId(APPLICATION_ID);
+        Mockito.verify(methodRepository, Mockito.times(1)).findWithResourceId("Resource1");
+        Mockito.verify(methodRepository, Mockito.times(1)).findWithResourceId("Resource2");
+    }
+
+    @Test
+    public void testRefreshResource(){
+        final RestResource resource = resource("Resource1", "/user/{userId}");
+        final RestMethod getMethod = method("Method1", "Resource1", HttpMethod.GET);
+        final RestMethod postMethod = method("Method2", "Resource1", HttpMethod.POST);
+
+        Mockito.when(resourceRepository.findWithApplicationId(APPLICATION_ID)).thenReturn(List.of(resource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of(getMethod));
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.POST, "/user/karl").isEmpty());
+
+        // A new method has been added to the resource
+        Mockito.when(resourceRepository.findOne("Resource1")).thenReturn(Optional.of(resource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of(getMethod, postMethod));
+        router.refreshResource("Resource1");
+        Assertions.assertEquals(postMethod, router.route(APPLICATION_ID, HttpMethod.POST, "/user/karl")
+                .map(RestRoute::getMethod)
+                .orElseThrow());
+
+        // The URI of the resource has been updated
+        final RestResource updatedResource = resource("Resource1", "/customer/{customerId}");
+        Mockito.when(resourceRepository.findOne("Resource1")).thenReturn(Optional.of(updatedResource));
+        router.refreshResource("Resource1");
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user/karl").isEmpty());
+        Assertions.assertEquals(getMethod, router.route(APPLICATION_ID, HttpMethod.GET, "/customer/karl")
+                .map(RestRoute::getMethod)
+                .orElseThrow());
+
+        // The resource has been deleted
+        Mockito.when(resourceRepository.findOne("Resource1")).thenReturn(Optional.empty());
+        router.refreshResource("Resource1");
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/customer/karl").isEmpty());
+    }
+
+    @Test
+    public void testRemoveMethod(){
+        final RestResource resource = resource("Resource1", "/user/{userId}");
+        final RestMethod getMethod = method("Method1", "Resource1", HttpMethod.GET);
+
+        Mockito.when(resourceRepository.findWithApplicationId(APPLICATION_ID)).thenReturn(List.of(resource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of(getMethod));
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user/karl").isPresent());
+
+        // The method has been deleted
+        Mockito.when(resourceRepository.findOne("Resource1")).thenReturn(Optional.of(resource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of());
+        router.removeMethod(getMethod);
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user/karl").isEmpty());
+
+        final ArgumentCaptor<RestMethodRemovedEvent> event = ArgumentCaptor.forClass(RestMethodRemovedEvent.class);
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(event.capture());
+        Assertions.assertEquals("Method1", event.getValue().getMethodId());
+    }
+
+    @Test
+    public void testRouteEmptyApplication(){
+        final RestResource resource = resource("Resource1", "/user");
+        final RestMethod getMethod = method("Method1", "Resource1", HttpMethod.GET);
+
+        Mockito.when(applicationRepository.exists(APPLICATION_ID)).thenReturn(true);
+        Mockito.when(resourceRepository.findWithApplicationId(APPLICATION_ID)).thenReturn(List.of());
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user").isEmpty());
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user").isEmpty());
+
+        // Empty applications should be cached
+        Mockito.verify(resourceRepository, Mockito.times(1)).findWithApplicationId(APPLICATION_ID);
+
+        // A resource has been added to the empty application
+        Mockito.when(resourceRepository.findOne("Resource1")).thenReturn(Optional.of(resource));
+        Mockito.when(methodRepository.findWithResourceId("Resource1")).thenReturn(List.of(getMethod));
+        router.refreshResource("Resource1");
+        Assertions.assertEquals(getMethod, router.route(APPLICATION_ID, HttpMethod.GET, "/user")
+                .map(RestRoute::getMethod)
+                .orElseThrow());
+    }
+
+    @Test
+    public void testRouteUnknownApplication(){
+        Mockito.when(applicationRepository.exists(APPLICATION_ID)).thenReturn(false);
+        Mockito.when(resourceRepository.findWithApplicationId(APPLICATION_ID)).thenReturn(List.of());
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user").isEmpty());
+        Assertions.assertTrue(router.route(APPLICATION_ID, HttpMethod.GET, "/user").isEmpty());
+
+        // Applications that don't exist should not be cached
+        Mockito.verify(resourceRepository, Mockito.times(2)).findWithApplicationId(APPLICATION_ID);
+    }
+
+    private static RestResource resource(final String id, final String uri){
+        return RestResourceTestBuilder.builder()
+                .id(id)
+                .uri(uri)
+                .applicationId(APPLICATION_ID)
+                .build();
+    }
+
+    private static RestMethod method(final String id, final String resourceId, final HttpMethod httpMethod){
+        return RestMethodTestBuilder.builder()
+                .id(id)
+                .resourceId(resourceId)
+                .httpMethod(httpMethod)
+                .build();
+    }
+}
@@ -47,7 +47,7 @@ public class CreateSoapEventService extends AbstractSoapEventService implements
     public ServiceResult<CreateSoapEventOutput> process(ServiceTask<CreateSoapEventInput> serviceTask) {
         final CreateSoapEventInput input = serviceTask.getInput();
         final SoapEvent soapEvent = input.getSoapEvent();
-        if(count() >= soapMaxEventCount){
+        if(!repository.isRetentionManaged() && count() >= soapMaxEventCount){
             repository.deleteOldestEvent();
         }
         final SoapEvent createdSoapEvent = save(soapEvent);
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.soap.event;
+
+import com.castlemock.model.mock.soap.domain.SoapEvent;
+import com.castlemock.repository.soap.event.SoapEventRepository;
+import com.castlemock.service.core.event.EventPipeline;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The {@link SoapEventPipeline} persists the {@link SoapEvent}s that are created when a SOAP
+ * request is mocked. The events are persisted in batches and the oldest events are removed
+ * once the configured max number of events has been reached.
+ * @since 1.70
+ * @see EventPipeline
+ */
+@Component
+public class SoapEventPipeline extends EventPipeline<SoapEvent> {
+
+    @Autowired
+    private SoapEventRepository repository;
+    @Value("${soap.event.max}")
+    private Integer soapMaxEventCount;
+    @Value("${soap.event.queue.capacity:10000}")
+    private Integer soapEventQueueCapacity;
+    @Value("${soap.event.batch.size:100}")
+    private Integer soapEventBatchSize;
+    @Value("${soap.event.queue.overflow:DROP_OLDEST}")
+    private OverflowPolicy soapEventOverflowPolicy;
+
+    @PostConstruct
+    public void initialize() {
+        start("soap-event-pipeline", soapEventQueueCapacity, soapEventBatchSize, soapEventOverflowPolicy);
+    }
+
+    /**
+     * Persist a batch of events. Only the newest events will be persisted if the batch contains more
+     * events than the max number of events, and the oldest stored events will be removed to make room
+     * for the new ones. All the events are persisted if the repository manages the retention itself.
+     * @param events The events that will be persisted.
+     */
+    @Override
+    protected void persist(final List<SoapEvent> events) {
+        if (repository.isRetentionManaged()) {
+            repository.saveAll(events);
+            return;
+        }
+        final List<SoapEvent> retainedEvents = events.size() > soapMaxEventCount ?
+                events.subList(events.size() - soapMaxEventCount, events.size()) : events;
+        final int overflow = repository.count() + retainedEvents.size() - soapMaxEventCount;
+        if (overflow > 0) {
+            repository.deleteOldestEvents(overflow);
+        }
+        repository.saveAll(retainedEvents);
+    }
+}
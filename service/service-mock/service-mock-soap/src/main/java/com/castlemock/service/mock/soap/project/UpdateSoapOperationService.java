@@ -58,6 +58,10 @@ public class UpdateSoapOperationService extends AbstractSoapProjectService imple
                                 .orElse(null))
                         .networkDelay(input.getNetworkDelay()
                                 .orElse(null))
+                        .networkDelayDistribution(input.getNetworkDelayDistribution()
+                                .orElse(null))
+                        .networkDelayJitter(input.getNetworkDelayJitter()
+                                .orElse(null))
                         .defaultMockResponseId(input.getDefaultMockResponseId()
                                 .orElse(null))
                         .build())
@@ -17,6 +17,7 @@
 package com.castlemock.service.mock.soap.project.input;
 
 import com.castlemock.model.core.Input;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.soap.domain.SoapOperationIdentifyStrategy;
 import com.castlemock.model.mock.soap.domain.SoapOperationStatus;
 import com.castlemock.model.mock.soap.domain.SoapResponseStrategy;
@@ -38,6 +39,8 @@ public final class UpdateSoapOperationInput implements Input {
     private final String forwardedEndpoint;
     private final Boolean simulateNetworkDelay;
     private final Long networkDelay;
+    private final NetworkDelayDistribution networkDelayDistribution;
+    private final Long networkDelayJitter;
     private final String defaultMockResponseId;
     private final Boolean mockOnFailure;
     private final SoapOperationIdentifyStrategy identifyStrategy;
@@ -55,6 +58,8 @@ public final class UpdateSoapOperationInput implements Input {
         this.simulateNetworkDelay = builder.simulateNetworkDelay;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.mockOnFailure = builder.mockOnFailure;
     }
@@ -91,6 +96,14 @@ public final class UpdateSoapOperationInput implements Input {
         return Optional.ofNullable(networkDelay);
     }
 
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     public Optional<String> getDefaultMockResponseId() {
         return Optional.ofNullable(defaultMockResponseId);
     }
@@ -115,14 +128,15 @@ public final class UpdateSoapOperationInput implements Input {
         return Objects.equals(projectId, that.projectId) && Objects.equals(portId, that.portId) &&
                 Objects.equals(operationId, that.operationId) && responseStrategy == that.responseStrategy && status == that.status &&
                 Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && Objects.equals(simulateNetworkDelay, that.simulateNetworkDelay) &&
-                Objects.equals(networkDelay, that.networkDelay) && Objects.equals(defaultMockResponseId, that.defaultMockResponseId) &&
+                Objects.equals(networkDelay, that.networkDelay) && networkDelayDistribution == that.networkDelayDistribution &&
+                Objects.equals(networkDelayJitter, that.networkDelayJitter) && Objects.equals(defaultMockResponseId, that.defaultMockResponseId) &&
                 Objects.equals(mockOnFailure, that.mockOnFailure) && identifyStrategy == that.identifyStrategy && Objects.equals(automaticForward, that.automaticForward);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(projectId, portId, operationId, responseStrategy, status, forwardedEndpoint,
-                simulateNetworkDelay, networkDelay, defaultMockResponseId, mockOnFailure, identifyStrategy, automaticForward);
+                simulateNetworkDelay, networkDelay, networkDelayDistribution, networkDelayJitter, defaultMockResponseId, mockOnFailure, identifyStrategy, automaticForward);
     }
 
     @Override
@@ -136,6 +150,8 @@ public final class UpdateSoapOperationInput implements Input {
                 ", forwardedEndpoint='" + forwardedEndpoint + '\'' +
                 ", simulateNetworkDelay=" + simulateNetworkDelay +
                 ", networkDelay=" + networkDelay +
+                ", networkDelayDistribution=" + networkDelayDistribution +
+                ", networkDelayJitter=" + networkDelayJitter +
                 ", defaultMockResponseId='" + defaultMockResponseId + '\'' +
                 ", mockOnFailure=" + mockOnFailure +
                 ", identifyStrategy=" + identifyStrategy +
@@ -156,6 +172,8 @@ public final class UpdateSoapOperationInput implements Input {
         private String forwardedEndpoint;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private Boolean mockOnFailure;
         private SoapOperationIdentifyStrategy identifyStrategy;
@@ -206,6 +224,16 @@ public final class UpdateSoapOperationInput implements Input {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
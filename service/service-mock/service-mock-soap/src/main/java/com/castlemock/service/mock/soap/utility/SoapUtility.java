@@ -20,24 +20,14 @@ import com.castlemock.model.mock.soap.domain.SoapOperationIdentifier;
 import com.castlemock.service.core.utility.DocumentUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.TypeInfo;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import java.io.IOException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.StringReader;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 /**
  * @author Karl Dahlgren
@@ -45,13 +35,11 @@ import java.util.stream.IntStream;
  */
 public class SoapUtility {
 
-    private static final String DIVIDER = ":";
-    private static final String VARIABLE = "#";
     private static final String BODY = "Body";
-    private static final String XMLNS = "xmlns";
     private static final String ADDRESS_NAMESPACE = "address";
     private static final String LOCATION_NAMESPACE = "location";
     private static final Logger LOGGER = LoggerFactory.getLogger(SoapUtility.class);
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
 
     /**
      * Extract the SOAP address from a port element
@@ -67,130 +55,88 @@ public class SoapUtility {
     }
 
     /**
-     * The method extract the operation name from the SOAP body
+     * The method extract the operation name from the SOAP body. The request is parsed as a stream
+     * and the parsing stops at the first child element of the SOAP body, which means that
+     * the rest of the request (Including large payloads) is never parsed.
      * @param request The body that contains the operation name
      * @return The extracted operation name
      */
     public static SoapOperationIdentifier extractSoapRequestName(final String request){
+        XMLStreamReader reader = null;
         try {
-            final Document document = getDocument(request);
-            final Element body = getBodyElement(document);
-            final Node message = getRequestNode(body);
-
-            final String serviceNameWithPrefix = message.getNodeName();
-            final Map<String, Node> attributes = getAttributes(message);
-            final ElementName elementName = getElementName(serviceNameWithPrefix);
-            final Optional<String> namespace = getNamespace(elementName, attributes);
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(request));
+            moveToBody(reader);
+            moveToRequestElement(reader);
 
+            final String namespace = reader.getNamespaceURI();
             return SoapOperationIdentifier.builder()
-                    .namespace(namespace.orElse(null))
-                    .name(elementName.getLocalName())
+                    .namespace(namespace == null || namespace.isEmpty() ? null : namespace)
+                    .name(reader.getLocalName())
                     .build();
         }catch(Exception exception){
             LOGGER.error("Unable to extract SOAP request name", exception);
             throw new IllegalStateException(exception.getMessage(), exception);
+        } finally {
+            close(reader);
         }
     }
 
-    private static Document getDocument(final String body) throws IOException, SAXException, ParserConfigurationException {
-        final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-        final InputSource inputSource = new InputSource(new StringReader(body));
-        return documentBuilder.parse(inputSource);
-    }
-
-    private static Element getBodyElement(final Document document){
-        return IntStream.range(0, document.getDocumentElement().getChildNodes().getLength())
-                .mapToObj(index -> document.getDocumentElement().getChildNodes().item(index))
-                .map(Node::getNodeName)
-                .map(SoapUtility::getElementName)
-                .filter(elementName -> elementName.getLocalName().equalsIgnoreCase(BODY))
-                .findFirst()
-                .flatMap(bodyElementName -> bodyElementName.getNamespace()
-                        .map(namespace -> DocumentUtility.getElement(document, namespace + DIVIDER + BODY))
-                        .orElseGet(() -> DocumentUtility.getElement(document, BODY)))
-                .orElseThrow(() -> new IllegalArgumentException("Unable to extract the SOAP body"));
-    }
-
-    private static Node getRequestNode(final Node bodyElement){
-        final NodeList bodyChildren = bodyElement.getChildNodes();
-
-        if (bodyChildren.getLength() == 0) {
-            throw new IllegalStateException("Invalid count of body children");
-        }
-
-        return IntStream.range(0, bodyChildren.getLength())
-                .mapToObj(bodyChildren::item)
-                .filter(node -> !node.getNodeName().contains(VARIABLE))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Unable to extract the service name"));
-    }
-
-    private static Optional<String> getNamespace(final ElementName elementName, final Map<String, Node> attributes){
-        if(elementName.getNamespace().isPresent() &&
-                attributes.containsKey(elementName.getNamespace().get())){
-            final Node namespaceNode = attributes.get(elementName.getNamespace().get());
-            return Optional.ofNullable(namespaceNode.getNodeValue());
-        } else if(attributes.containsKey(XMLNS)){
-            final Node namespaceNode = attributes.get(XMLNS);
-            return Optional.ofNullable(namespaceNode.getNodeValue());
-        }
-
-        return Optional.empty();
-    }
-
-    private static Map<String, Node> getAttributes(final Node bodyRequestNode){
-        final Map<String, Node> attributes = new HashMap<>();
-
-        if(bodyRequestNode instanceof Element){
-            getAttributes((Element) bodyRequestNode, attributes);
-        }
-
-        return attributes;
-    }
-
-    private static void getAttributes(final Element element,
-                                     final Map<String, Node> attributes){
-        final TypeInfo typeInfo = element.getSchemaTypeInfo();
-
-        if(typeInfo instanceof Node node){
-            final NamedNodeMap nodeMap = node.getAttributes();
-
-            for(int index = 0; index < nodeMap.getLength(); index++){
-                final Node attributeNode = nodeMap.item(index);
-                final String nodeName = attributeNode.getNodeName();
-                final ElementName elementName = getElementName(nodeName);
-                attributes.put(elementName.getLocalName(), attributeNode);
+    /**
+     * Move the reader to the SOAP body, which is the child element of the envelope
+     * with the local name Body. Other children of the envelope, such as the header, are skipped.
+     */
+    private static void moveToBody(final XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        int depth = 0;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT){
+                if(depth == 0 && reader.getLocalName().equalsIgnoreCase(BODY)){
+                    return;
+                }
+                depth++;
+            } else if(event == XMLStreamConstants.END_ELEMENT){
+                if(depth == 0){
+                    break;
+                }
+                depth--;
             }
         }
-
-        final Node parentNode = element.getParentNode();
-        if(parentNode instanceof Element elementParentNode){
-            getAttributes(elementParentNode, attributes);
-        }
+        throw new IllegalArgumentException("Unable to extract the SOAP body");
     }
 
     /**
-     * Returns the element name or prefix
-     * @param element The element with both the name and namespace
-     * @return Either the element name or namespace
+     * Move the reader to the first child element of the SOAP body.
      */
-    private static ElementName getElementName(final String element){
-        final String[] elementDivided = element.split(DIVIDER);
+    private static void moveToRequestElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT){
+                return;
+            } else if(event == XMLStreamConstants.END_ELEMENT){
+                break;
+            }
+        }
+        throw new IllegalStateException("Unable to extract the service name");
+    }
 
-        if (elementDivided.length == 1) {
-            return ElementName.builder()
-                    .localName(elementDivided[0])
-                    .build();
+    private static void close(final XMLStreamReader reader){
+        if(reader == null){
+            return;
         }
-        if (elementDivided.length == 2) {
-            return ElementName.builder()
-                    .namespace(elementDivided[0])
-                    .localName(elementDivided[1])
-                    .build();
+        try {
+            reader.close();
+        } catch (XMLStreamException exception){
+            LOGGER.debug("Unable to close the XML reader", exception);
         }
+    }
 
-        throw new IllegalArgumentException("Unable to find the name or prefix in the XML element");
+    private static XMLInputFactory createXmlInputFactory(){
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 
 }
@@ -92,4 +92,19 @@ public class CreateSoapEventServiceTest {
         Assertions.assertEquals(soapEvent.getProjectId(), returnedSoapEvent.getProjectId());
     }
 
+    @Test
+    public void testMaxCountReachedWhenRetentionIsManaged(){
+        final SoapEvent soapEvent = SoapEventTestBuilder.builder().build();
+        Mockito.when(repository.save(Mockito.any(SoapEvent.class))).thenReturn(soapEvent);
+        Mockito.when(repository.count()).thenReturn(6);
+        Mockito.when(repository.isRetentionManaged()).thenReturn(true);
+
+        final CreateSoapEventInput input = CreateSoapEventInput.builder().soapEvent(soapEvent).build();
+        final ServiceTask<CreateSoapEventInput> serviceTask = ServiceTask.of(input, "user");
+        service.process(serviceTask);
+
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvent();
+        Mockito.verify(repository, Mockito.times(1)).save(soapEvent);
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.service.mock.soap.event;
+
+import com.castlemock.model.mock.soap.domain.SoapEvent;
+import com.castlemock.model.mock.soap.domain.SoapEventTestBuilder;
+import com.castlemock.repository.soap.event.SoapEventRepository;
+import com.castlemock.service.core.event.EventPipeline;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+public class SoapEventPipelineTest {
+
+    @Mock
+    private SoapEventRepository repository;
+
+    @InjectMocks
+    private SoapEventPipeline pipeline;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(pipeline, "soapMaxEventCount", 5);
+        ReflectionTestUtils.setField(pipeline, "soapEventQueueCapacity", 100);
+        ReflectionTestUtils.setField(pipeline, "soapEventBatchSize", 10);
+        ReflectionTestUtils.setField(pipeline, "soapEventOverflowPolicy", EventPipeline.OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test
+    public void testSubmit(){
+        pipeline.initialize();
+        Assertions.assertTrue(pipeline.submit(SoapEventTestBuilder.builder().id("Event1").build()));
+        Assertions.assertTrue(pipeline.submit(SoapEventTestBuilder.builder().id("Event2").build()));
+        pipeline.stop();
+
+        Mockito.verify(repository, Mockito.atLeastOnce()).saveAll(Mockito.anyList());
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any(SoapEvent.class));
+        Assertions.assertEquals(2, pipeline.getSubmittedEvents());
+        Assertions.assertEquals(2, pipeline.getPersistedEvents());
+        Assertions.assertEquals(0, pipeline.getDroppedEvents());
+    }
+
+    @Test
+    public void testPersistMaxCountReached(){
+        Mockito.when(repository.count()).thenReturn(5);
+        final List<SoapEvent> events = List.of(
+                SoapEventTestBuilder.builder().id("Event1").build(),
+                SoapEventTestBuilder.builder().id("Event2").build());
+
+        pipeline.persist(events);
+
+        Mockito.verify(repository, Mockito.times(1)).deleteOldestEvents(2);
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvent();
+        Mockito.verify(repository, Mockito.times(1)).saveAll(events);
+    }
+
+    @Test
+    public void testPersistWhenRetentionIsManaged(){
+        Mockito.when(repository.isRetentionManaged()).thenReturn(true);
+        final List<SoapEvent> events = List.of(SoapEventTestBuilder.builder().id("Event1").build());
+
+        pipeline.persist(events);
+
+        Mockito.verify(repository, Mockito.never()).count();
+        Mockito.verify(repository, Mockito.never()).deleteOldestEvents(Mockito.anyInt());
+        Mockito.verify(repository, Mockito.times(1)).saveAll(events);
+    }
+}
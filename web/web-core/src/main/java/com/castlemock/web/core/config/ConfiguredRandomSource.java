@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.config;
+
+import com.castlemock.model.core.utility.random.RandomSource;
+import com.castlemock.model.core.utility.random.SeededRandomSource;
+import com.castlemock.model.core.utility.random.ThreadLocalRandomSource;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link ConfiguredRandomSource} is the {@link RandomSource} that is used by the mock services.
+ * <p>
+ * Every request uses the {@link ThreadLocalRandomSource} by default. The deterministic mode is enabled
+ * with <code>mock.random.deterministic.enabled</code>, which makes the projects in
+ * <code>mock.random.deterministic.projects</code> use a {@link SeededRandomSource} seeded with
+ * <code>mock.random.deterministic.seed</code>. All projects are deterministic if no projects have been configured.
+ * @since 1.70
+ */
+@Component
+public class ConfiguredRandomSource implements RandomSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfiguredRandomSource.class);
+
+    @Value("${mock.random.deterministic.enabled:false}")
+    private boolean deterministic;
+    @Value("${mock.random.deterministic.seed:0}")
+    private long seed;
+    @Value("${mock.random.deterministic.projects:}")
+    private String projectIds;
+
+    private RandomSource randomSource = ThreadLocalRandomSource.INSTANCE;
+
+    @PostConstruct
+    public void initialize() {
+        if (!this.deterministic) {
+            return;
+        }
+
+        final Set<String> projects = this.projectIds == null ? Set.of() : Arrays.stream(this.projectIds.split(","))
+                .map(String::trim)
+                .filter(projectId -> !projectId.isEmpty())
+                .collect(Collectors.toSet());
+        this.randomSource = new SeededRandomSource(this.seed, projects);
+        LOGGER.info("Deterministic random values have been enabled for " +
+                (projects.isEmpty() ? "all projects" : "the projects " + projects));
+    }
+
+    @Override
+    public RandomGenerator getGenerator(final String projectId, final String streamId) {
+        return this.randomSource.getGenerator(projectId, streamId);
+    }
+}
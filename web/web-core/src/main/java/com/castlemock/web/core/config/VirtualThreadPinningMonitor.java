@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link VirtualThreadPinningMonitor} reports virtual threads that are pinned to their carrier thread.
+ * A virtual thread is pinned when it blocks inside a <code>synchronized</code> block or a native frame,
+ * which means that the carrier thread can't be used by other virtual threads in the meantime.
+ * <p>
+ * The monitor is only started when virtual threads have been enabled with
+ * <code>spring.threads.virtual.enabled</code> and the pinning diagnostics have been enabled with
+ * <code>virtual.threads.pinning.diagnostics.enabled</code>. Every pinned event that lasts longer than
+ * <code>virtual.threads.pinning.diagnostics.threshold</code> milliseconds is logged together with
+ * the stack trace of the pinned thread.
+ * @since 1.70
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 16;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    @Value("${virtual.threads.pinning.diagnostics.enabled:false}")
+    private boolean pinningDiagnostics;
+    @Value("${virtual.threads.pinning.diagnostics.threshold:20}")
+    private long pinningThreshold;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public synchronized void initialize() {
+        if (!this.virtualThreads) {
+            return;
+        }
+        LOGGER.info("Virtual threads have been enabled for incoming requests and asynchronous services");
+        if (!this.pinningDiagnostics) {
+            return;
+        }
+
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(VIRTUAL_THREAD_PINNED)
+                    .withThreshold(Duration.ofMillis(this.pinningThreshold))
+                    .withStackTrace();
+            stream.onEvent(VIRTUAL_THREAD_PINNED, VirtualThreadPinningMonitor::logPinnedThread);
+            stream.startAsync();
+            this.recordingStream = stream;
+            LOGGER.info("Reporting virtual threads that are pinned for more than " + this.pinningThreshold + " ms");
+        } catch (Exception | LinkageError exception) {
+            LOGGER.warn("Unable to start the virtual thread pinning diagnostics: " + exception.getMessage(), exception);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (this.recordingStream != null) {
+            this.recordingStream.close();
+            this.recordingStream = null;
+        }
+    }
+
+    private static void logPinnedThread(final RecordedEvent event) {
+        final String stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace()
+                .getFrames()
+                .stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::toString)
+                .collect(Collectors.joining(System.lineSeparator() + "\tat ", System.lineSeparator() + "\tat ", ""));
+        LOGGER.warn("Virtual thread " + (event.getThread() == null ? "" : event.getThread().getJavaName()) +
+                " was pinned to its carrier thread for " + event.getDuration().toMillis() + " ms" + stackTrace);
+    }
+
+    private static String toString(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() +
+                "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.castlemock.web.core.filter;
 
-import com.google.common.io.ByteStreams;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +25,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * The {@link HttpServletRequestWrapper} is a HTTP Servlet request wrapper
@@ -35,17 +37,60 @@ import java.io.InputStreamReader;
  * For example, Spring will read the input stream when creating a multipart request.
  * In this case, without the wrapper, we wouldn't be able to read the
  * input stream again. This would prohibit us from extracting the SOAP body later on.
+ * The body is read as bytes in bulk. The buffer starts small and grows as bytes arrive, which means that a
+ * request that declares a large Content-Length doesn't reserve memory for bytes that it never sends.
+ * Bodies that are larger than the max body size are rejected.
  * @author Karl Dahlgren
  * @since 1.18
  */
 public class HttpServletRequestWrapper extends jakarta.servlet.http.HttpServletRequestWrapper {
+
+    /**
+     * The largest body that can be stored in a byte array.
+     * @since 1.70
+     */
+    public static final int MAX_BODY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_INITIAL_BUFFER_SIZE = 64 * 1024;
+
     private final byte[] bytes;
 
     HttpServletRequestWrapper(final HttpServletRequest request) throws IOException {
+        this(request, MAX_BODY_SIZE);
+    }
+
+    HttpServletRequestWrapper(final HttpServletRequest request, final int maxBodySize) throws IOException {
         super(request);
+        this.bytes = readBody(request, Math.min(maxBodySize, MAX_BODY_SIZE));
+    }
 
-        final InputStream inputStream = request.getInputStream();
-        this.bytes = ByteStreams.toByteArray(inputStream);
+    /**
+     * Get the body of the request as it was received. The returned array is
+     * shared and must not be modified.
+     * @return The request body.
+     * @since 1.70
+     */
+    public byte[] getBodyBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the character encoding of the request. UTF-8 will be returned if the request
+     * does not have a character encoding or if the character encoding is not supported.
+     * @return The character encoding of the request.
+     * @since 1.70
+     */
+    public Charset getCharset() {
+        final String characterEncoding = getCharacterEncoding();
+        if(characterEncoding == null){
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(characterEncoding);
+        } catch (IllegalArgumentException exception) {
+            return StandardCharsets.UTF_8;
+        }
     }
 
     @Override
@@ -79,6 +124,38 @@ public class HttpServletRequestWrapper extends jakarta.servlet.http.HttpServletR
 
     @Override
     public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(this.getInputStream()));
+        return new BufferedReader(new InputStreamReader(this.getInputStream(), getCharset()));
+    }
+
+    private static byte[] readBody(final HttpServletRequest request, final int maxBodySize) throws IOException {
+        final long contentLength = request.getContentLengthLong();
+        if(contentLength > maxBodySize){
+            throw new RequestBodyTooLargeException(maxBodySize);
+        }
+
+        // No more than the Content-Length is read when it is available. Otherwise, one byte more than
+        // allowed is read to detect a too large body. The Content-Length is declared by the client and
+        // only bounds the initial buffer, since the client might send fewer bytes or send them slowly.
+        final int limit = contentLength > 0 ? (int) contentLength :
+                (maxBodySize == MAX_BODY_SIZE ? maxBodySize : maxBodySize + 1);
+        final InputStream inputStream = request.getInputStream();
+        byte[] buffer = new byte[contentLength > 0 ? Math.min(limit, MAX_INITIAL_BUFFER_SIZE) :
+                Math.min(limit, BUFFER_SIZE)];
+        int length = 0;
+        while(length < limit){
+            if(length == buffer.length){
+                buffer = Arrays.copyOf(buffer, (int) Math.min((long) buffer.length * 2, limit));
+            }
+            final int read = inputStream.read(buffer, length, buffer.length - length);
+            if(read < 0){
+                break;
+            }
+            length += read;
+        }
+
+        if(length > maxBodySize){
+            throw new RequestBodyTooLargeException(maxBodySize);
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
     }
-}
\ No newline at end of file
+}
@@ -23,15 +23,32 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * The {@link HttpServletRequestWrapperFilter} is a filter
  * that will wrap all incoming SOAP requests with the
- * {@link HttpServletRequestWrapper}.
+ * {@link HttpServletRequestWrapper}. Requests with a body larger than the
+ * max body size will be rejected with the status 413 (Content Too Large).
  * @author Karl Dahlgren
  * @since 1.18
  */
 public class HttpServletRequestWrapperFilter implements Filter {
+
+    private final int maxBodySize;
+
+    public HttpServletRequestWrapperFilter() {
+        this(HttpServletRequestWrapper.MAX_BODY_SIZE);
+    }
+
+    /**
+     * @param maxBodySize The max size of a request body in bytes.
+     * @since 1.70
+     */
+    public HttpServletRequestWrapperFilter(final int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
     public void init(final FilterConfig config) {
     }
 
@@ -39,7 +56,16 @@ public class HttpServletRequestWrapperFilter implements Filter {
             throws java.io.IOException, ServletException {
         if(request instanceof HttpServletRequest httpServletRequest){
             // Wrap the incoming request if it is a HTTP Servlet request
-            final HttpServletRequestWrapper requestWrapper = new HttpServletRequestWrapper(httpServletRequest);
+            final HttpServletRequestWrapper requestWrapper;
+            try {
+                requestWrapper = new HttpServletRequestWrapper(httpServletRequest, this.maxBodySize);
+            } catch (RequestBodyTooLargeException exception) {
+                if(response instanceof HttpServletResponse httpServletResponse){
+                    httpServletResponse.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, exception.getMessage());
+                    return;
+                }
+                throw exception;
+            }
             chain.doFilter(requestWrapper,response);
         } else {
             // Don't wrap the request if it is not a HTTP Servlet request
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.filter;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * The {@link RequestBodyTooLargeException} is thrown when the body of an incoming
+ * request is larger than the max allowed body size.
+ * @since 1.70
+ */
+public class RequestBodyTooLargeException extends IOException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int maxBodySize;
+
+    public RequestBodyTooLargeException(final int maxBodySize) {
+        super("The request body is larger than the max allowed size of " + maxBodySize + " bytes");
+        this.maxBodySize = maxBodySize;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * The {@link CapturingWriter} writes all characters to another {@link Writer} and keeps a copy of
+ * the first characters. It is used when a response is written directly to the outgoing response,
+ * but the beginning of the body is still needed, for example for the event of the request.
+ * @since 1.70
+ */
+public class CapturingWriter extends Writer {
+
+    private final Writer writer;
+    private final int captureSize;
+    private final StringBuilder capturedText;
+
+    /**
+     * Create a new {@link CapturingWriter}.
+     * @param writer The writer that all characters will be written to.
+     * @param captureSize The max number of characters that will be captured.
+     */
+    public CapturingWriter(final Writer writer, final int captureSize) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.captureSize = Math.max(captureSize, 0);
+        this.capturedText = new StringBuilder(Math.min(this.captureSize, 1024));
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        this.writer.write(buffer, offset, length);
+        final int remaining = this.captureSize - this.capturedText.length();
+        if (remaining > 0) {
+            this.capturedText.append(buffer, offset, Math.min(length, remaining));
+        }
+    }
+
+    @Override
+    public void write(final String text, final int offset, final int length) throws IOException {
+        this.writer.write(text, offset, length);
+        final int remaining = this.captureSize - this.capturedText.length();
+        if (remaining > 0) {
+            this.capturedText.append(text, offset, offset + Math.min(length, remaining));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    /**
+     * Get the captured characters.
+     * @return The first characters that have been written, up to the capture size.
+     */
+    public String getCapturedText() {
+        return this.capturedText.toString();
+    }
+
+}
@@ -20,6 +20,10 @@ import com.castlemock.model.core.http.HttpHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -62,6 +66,38 @@ public final class CharsetUtility {
         return DEFAULT_CHARSET;
     }
 
+    /**
+     * Get the charset from a list of provided {@link HttpHeader}.
+     * @param headers The list of headers that the charset will be extracted from.
+     * @return The extracted charset. UTF-8 will be returned if a charset couldn't be extracted
+     * or if the extracted charset isn't supported.
+     * @see CharsetUtility#parseHttpHeaders(List)
+     * @since 1.70
+     */
+    public static Charset getCharset(final List<HttpHeader> headers){
+        return toCharset(parseHttpHeaders(headers));
+    }
+
+    /**
+     * Get the charset from a Content-Type string.
+     * @param contentType The Content-Type value that might contain a charset.
+     * @return The extracted charset. UTF-8 will be returned if a charset couldn't be extracted
+     * or if the extracted charset isn't supported.
+     * @see CharsetUtility#parseContentType(String)
+     * @since 1.70
+     */
+    public static Charset getCharset(final String contentType){
+        return toCharset(parseContentType(contentType));
+    }
+
+    private static Charset toCharset(final String charset){
+        try {
+            return Charset.forName(charset);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e){
+            LOGGER.info("Unsupported charset: " + charset);
+            return StandardCharsets.UTF_8;
+        }
+    }
 
     /**
      * Extract the charset from a Content-Type string.
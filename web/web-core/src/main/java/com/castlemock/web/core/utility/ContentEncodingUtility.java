@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.HttpContentEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@link ContentEncodingUtility} provides functionality to negotiate a content encoding with the
+ * <code>Accept-Encoding</code> header of an incoming request, and to compress response bodies with
+ * the negotiated {@link HttpContentEncoding}.
+ * @since 1.70
+ */
+public final class ContentEncodingUtility {
+
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+    public static final String VARY = "Vary";
+
+    /**
+     * The content encodings that are supported, in order of preference.
+     */
+    public static final List<HttpContentEncoding> SUPPORTED_ENCODINGS =
+            List.of(HttpContentEncoding.GZIP, HttpContentEncoding.DEFLATE);
+
+    private static final String ANY = "*";
+    private static final String QUALITY = "q";
+
+    private ContentEncodingUtility() {
+
+    }
+
+    /**
+     * Negotiate which content encoding that should be used for a response.
+     * @param acceptEncoding The <code>Accept-Encoding</code> header of the incoming request.
+     * @param encodings The encodings that the response can be encoded with, in order of preference.
+     * @return The encoding with the highest quality value accepted by the client. An empty optional
+     * is returned if none of the encodings are accepted, which means that the response should not be encoded.
+     */
+    public static Optional<HttpContentEncoding> negotiate(final String acceptEncoding,
+                                                          final Collection<HttpContentEncoding> encodings) {
+        if(acceptEncoding == null || acceptEncoding.isBlank() || encodings.isEmpty()){
+            return Optional.empty();
+        }
+
+        final Map<String, Double> qualities = parseAcceptEncoding(acceptEncoding);
+        HttpContentEncoding selected = null;
+        double selectedQuality = 0;
+        for(HttpContentEncoding encoding : encodings){
+            final double quality = qualities.getOrDefault(getName(encoding), qualities.getOrDefault(ANY, 0.0));
+            if(quality > selectedQuality){
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    /**
+     * Encode a body with the provided encoding.
+     * @param body The body that will be encoded.
+     * @param encoding The encoding that the body will be encoded with.
+     * @return The encoded body.
+     */
+    public static byte[] encode(final byte[] body,
+                                final HttpContentEncoding encoding) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(32, body.length / 2));
+        try (OutputStream encodingOutputStream = switch (encoding) {
+            case GZIP -> new GZIPOutputStream(outputStream);
+            case DEFLATE -> new DeflaterOutputStream(outputStream);
+        }) {
+            encodingOutputStream.write(body);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encode a response body with the encoding preferred by the client. The body is only encoded if it is
+     * at least as large as the provided min size and if the encoded body is smaller than the original body.
+     * @param body The response body.
+     * @param charset The charset of the response body.
+     * @param acceptEncoding The <code>Accept-Encoding</code> header of the incoming request.
+     * @param encodings The encodings that the response can be encoded with, in order of preference.
+     * @param minSize The min size in bytes of a body that will be encoded.
+     * @return The encoded body, or an empty optional if the body should be sent as it is.
+     */
+    public static Optional<EncodedBody> encode(final String body,
+                                               final Charset charset,
+                                               final String acceptEncoding,
+                                               final Collection<HttpContentEncoding> encodings,
+                                               final int minSize) {
+        if(body == null || body.length() < minSize / 4){
+            // A character is encoded into at most four bytes
+            return Optional.empty();
+        }
+
+        return negotiate(acceptEncoding, encodings)
+                .flatMap(encoding -> {
+                    final byte[] bytes = body.getBytes(charset);
+                    if(bytes.length < minSize){
+                        return Optional.empty();
+                    }
+                    final byte[] encoded = encode(bytes, encoding);
+                    return encoded.length < bytes.length ?
+                            Optional.of(new EncodedBody(encoding, encoded)) :
+                            Optional.empty();
+                });
+    }
+
+    /**
+     * Get the name of an encoding, as used in the <code>Accept-Encoding</code> and
+     * <code>Content-Encoding</code> headers.
+     * @param encoding The encoding.
+     * @return The name of the encoding.
+     */
+    public static String getName(final HttpContentEncoding encoding) {
+        return encoding.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Double> parseAcceptEncoding(final String acceptEncoding) {
+        final Map<String, Double> qualities = new HashMap<>();
+        for(String value : acceptEncoding.split(",")){
+            final String[] parts = value.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if(coding.isEmpty()){
+                continue;
+            }
+            double quality = 1.0;
+            for(int index = 1; index < parts.length; index++){
+                final String[] parameter = parts[index].split("=", 2);
+                if(parameter.length == 2 && parameter[0].trim().equalsIgnoreCase(QUALITY)){
+                    quality = parseQuality(parameter[1].trim());
+                }
+            }
+            qualities.put(coding, quality);
+        }
+        return qualities;
+    }
+
+    private static double parseQuality(final String quality) {
+        try {
+            return Double.parseDouble(quality);
+        } catch (NumberFormatException exception) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * An {@link EncodedBody} is a response body that has been encoded with a {@link HttpContentEncoding}.
+     */
+    public static final class EncodedBody {
+
+        private final HttpContentEncoding encoding;
+        private final byte[] body;
+
+        private EncodedBody(final HttpContentEncoding encoding, final byte[] body) {
+            this.encoding = Objects.requireNonNull(encoding, "encoding");
+            this.body = Objects.requireNonNull(body, "body");
+        }
+
+        public HttpContentEncoding getEncoding() {
+            return encoding;
+        }
+
+        /**
+         * @return The name of the encoding, as used in the <code>Content-Encoding</code> header.
+         */
+        public String getEncodingName() {
+            return getName(encoding);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.core.http.HttpMethod;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link HttpForwardClient} is used to forward mocked requests to their original endpoints.
+ * All the requests share a single {@link HttpClient}, which means that connections are pooled and
+ * kept alive between requests, instead of a new connection being established for every forwarded request.
+ * The number of concurrent requests towards a single endpoint (Scheme, host and port) is limited.
+ * @since 1.70
+ */
+@Component
+public class HttpForwardClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpForwardClient.class);
+
+    /**
+     * Headers that are either managed by the HTTP client or only valid for a single connection.
+     * These headers are not forwarded.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of("connection", "content-length", "expect",
+            "host", "keep-alive", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+
+    @Value("${forward.connect.timeout:5000}")
+    private Long connectTimeout;
+    @Value("${forward.request.timeout:60000}")
+    private Long requestTimeout;
+    @Value("${forward.http.version:HTTP_1_1}")
+    private HttpClient.Version httpVersion;
+    @Value("${forward.max.connections.per.endpoint:50}")
+    private Integer maxConnectionsPerEndpoint;
+
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+    private volatile HttpClient httpClient;
+
+    @PostConstruct
+    public synchronized void initialize() {
+        this.httpClient = HttpClient.newBuilder()
+                .version(this.httpVersion)
+                .connectTimeout(Duration.ofMillis(this.connectTimeout))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if(this.httpClient != null){
+            this.httpClient.close();
+            this.httpClient = null;
+        }
+    }
+
+    /**
+     * Send a request towards an endpoint and read the whole response body as bytes.
+     * The request body and the response body are transferred as they are, without being
+     * decoded or having their line endings changed.
+     * @param endpoint The endpoint that the request will be sent to.
+     * @param httpMethod The HTTP method of the request.
+     * @param body The body that will be sent in the request. No body will be sent if the value <code>null</code> has been provided.
+     * @param headers The headers that will be added to the request.
+     * @return The response from the endpoint.
+     * @throws IOException If the request could not be sent or the response could not be read.
+     */
+    public HttpResponse<byte[]> send(final String endpoint,
+                                     final HttpMethod httpMethod,
+                                     final byte[] body,
+                                     final Set<HttpHeader> headers) throws IOException {
+        final HttpRequest request = createRequest(endpoint, httpMethod, body, headers);
+        final Semaphore permits = acquire(request.uri());
+        try {
+            return getHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while forwarding request to " + endpoint);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Send a request towards an endpoint without reading the response body. The response body
+     * is returned as a stream of the raw bytes sent by the endpoint, which means that encoded
+     * bodies (Such as GZIP) are not decoded. The returned stream has to be closed after being used.
+     * @param endpoint The endpoint that the request will be sent to.
+     * @param httpMethod The HTTP method of the request.
+     * @param body The body that will be sent in the request. No body will be sent if the value <code>null</code> has been provided.
+     * @param headers The headers that will be added to the request.
+     * @return The response from the endpoint.
+     * @throws IOException If the request could not be sent.
+     */
+    public HttpResponse<InputStream> stream(final String endpoint,
+                                            final HttpMethod httpMethod,
+                                            final byte[] body,
+                                            final Set<HttpHeader> headers) throws IOException {
+        final HttpRequest request = createRequest(endpoint, httpMethod, body, headers);
+        final Semaphore permits = acquire(request.uri());
+        boolean handedOver = false;
+        try {
+            final HttpResponse<InputStream> response = getHttpClient().send(request,
+                    responseInfo -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                            inputStream -> new ReleasingInputStream(inputStream, permits)));
+            handedOver = true;
+            return response;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while forwarding request to " + endpoint);
+        } finally {
+            if(!handedOver){
+                permits.release();
+            }
+        }
+    }
+
+    private HttpRequest createRequest(final String endpoint,
+                                      final HttpMethod httpMethod,
+                                      final byte[] body,
+                                      final Set<HttpHeader> headers) throws IOException {
+        try {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(endpoint))
+                    .timeout(Duration.ofMillis(this.requestTimeout))
+                    .method(httpMethod.name(), body == null ?
+                            HttpRequest.BodyPublishers.noBody() :
+                            HttpRequest.BodyPublishers.ofByteArray(body));
+            for (HttpHeader httpHeader : headers) {
+                if(!EXCLUDED_HEADERS.contains(httpHeader.getName().toLowerCase(Locale.ROOT))){
+                    builder.header(httpHeader.getName(), httpHeader.getValue());
+                }
+            }
+            return builder.build();
+        } catch (IllegalArgumentException exception) {
+            throw new IOException("Unable to create a request towards " + endpoint, exception);
+        }
+    }
+
+    private Semaphore acquire(final URI uri) throws IOException {
+        final Semaphore permits = this.endpointPermits.computeIfAbsent(getEndpointKey(uri),
+                key -> new Semaphore(this.maxConnectionsPerEndpoint));
+        try {
+            if(!permits.tryAcquire(this.requestTimeout, TimeUnit.MILLISECONDS)){
+                LOGGER.warn("Max number of connections reached towards " + uri.getHost());
+                throw new IOException("Max number of connections reached towards " + uri.getHost());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection towards " + uri.getHost());
+        }
+        return permits;
+    }
+
+    private HttpClient getHttpClient() {
+        final HttpClient client = this.httpClient;
+        if(client == null){
+            throw new IllegalStateException("The forward client has not been initialized");
+        }
+        return client;
+    }
+
+    private static String getEndpointKey(final URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    /**
+     * An {@link InputStream} that releases the endpoint permit once the stream has been closed.
+     */
+    private static final class ReleasingInputStream extends FilterInputStream {
+
+        private final Semaphore permits;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingInputStream(final InputStream inputStream, final Semaphore permits) {
+            super(inputStream);
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if(this.closed.compareAndSet(false, true)){
+                try {
+                    super.close();
+                } finally {
+                    this.permits.release();
+                }
+            }
+        }
+    }
+}
@@ -18,29 +18,29 @@ package com.castlemock.web.core.utility;
 
 import com.castlemock.model.core.http.HttpContentEncoding;
 import com.castlemock.model.core.http.HttpHeader;
-import com.castlemock.model.core.http.HttpMethod;
 import com.castlemock.model.core.http.HttpParameter;
+import com.castlemock.web.core.filter.HttpServletRequestWrapper;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.Reader;
-import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
-import java.util.ArrayDeque;
+import java.io.UnsupportedEncodingException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
@@ -55,10 +55,10 @@ public final class HttpMessageSupport {
 
     private static final String TRANSFER_ENCODING = "Transfer-Encoding";
     private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final int BUFFER_SIZE = 8192;
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpMessageSupport.class);
     private static final String EMPTY = "";
-    private static final Integer OK_RESPONSE = 200;
-    private static final String NEW_LINE = System.lineSeparator();
 
     /**
      * The default constructor for SoapMessageSupport. It is marked as private
@@ -69,48 +69,60 @@ public final class HttpMessageSupport {
     }
 
     /**
-     * The getBody method is used to extract the body from the incoming request
+     * The getBody method is used to extract the body from the incoming request.
+     * The body is decoded from the bytes captured by the {@link HttpServletRequestWrapper} if the
+     * request has been wrapped, otherwise the body is read from the request reader in bulk.
+     * The body is returned as it was received, including its line endings.
      * @param httpServletRequest The incoming request that contains the request body
      * @return The request body as a String
      */
     public static String getBody(final HttpServletRequest httpServletRequest) {
-        BufferedReader reader = null;
-        try {
-            final Deque<String> lines = new ArrayDeque<>();
-            reader = httpServletRequest.getReader();
-            String line;
-
-            // Read each lines and add them to the lines list
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
-            }
+        final Optional<HttpServletRequestWrapper> requestWrapper = findRequestWrapper(httpServletRequest);
+        if(requestWrapper.isPresent()){
+            return new String(requestWrapper.get().getBodyBytes(), requestWrapper.get().getCharset());
+        }
 
+        try (Reader reader = httpServletRequest.getReader()) {
             final StringBuilder builder = new StringBuilder();
-            final Iterator<String> linesIterator = lines.iterator();
-
-            while (linesIterator.hasNext()){
-                line  = linesIterator.next();
-                builder.append(line);
-
-                if(linesIterator.hasNext()){
-                    // Add a new line. Mainly required to parse MTOM requests.
-                    builder.append(System.lineSeparator());
-                }
+            final char[] buffer = new char[BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                builder.append(buffer, 0, read);
             }
-
             return builder.toString();
         } catch (IOException e) {
             LOGGER.error("Unable to read the incoming file", e);
             throw new IllegalStateException("Unable to extract the request body");
-        } finally {
-            if(reader != null){
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    LOGGER.error("Unable to close the buffered reader", e);
-                }
+        }
+    }
+
+    /**
+     * Get the raw bytes of the body, as they were captured by the {@link HttpServletRequestWrapper}.
+     * The bytes are only available if the request has been wrapped, since the body of an unwrapped
+     * request can only be read once, and {@link #getBody(HttpServletRequest)} has already read it.
+     * @param httpServletRequest The incoming request that contains the request body
+     * @return The request body as it was received, or an empty optional if the request hasn't been wrapped.
+     * @since 1.70
+     */
+    public static Optional<byte[]> getBodyBytes(final HttpServletRequest httpServletRequest) {
+        return findRequestWrapper(httpServletRequest)
+                .map(HttpServletRequestWrapper::getBodyBytes);
+    }
+
+    /**
+     * Find the {@link HttpServletRequestWrapper} that has captured the body of the request.
+     * The request might have been wrapped again after the body was captured, for example when
+     * Spring creates a multipart request.
+     */
+    private static Optional<HttpServletRequestWrapper> findRequestWrapper(final ServletRequest servletRequest) {
+        ServletRequest request = servletRequest;
+        while (request != null) {
+            if(request instanceof HttpServletRequestWrapper requestWrapper){
+                return Optional.of(requestWrapper);
             }
+            request = request instanceof ServletRequestWrapper wrapper ? wrapper.getRequest() : null;
         }
+        return Optional.empty();
     }
 
     /**
@@ -133,39 +145,6 @@ public final class HttpMessageSupport {
         return httpHeaders;
     }
 
-    /**
-     * Extract HTTP headers from provided Http URL connection
-     * @param connection Incoming Http URL connection that contains the headers which will be extracted
-     * @return A list of HTTP headers extracted from the provided connection
-     */
-    public static List<HttpHeader> extractHttpHeaders(final HttpURLConnection connection){
-        final List<HttpHeader> httpHeaders = new ArrayList<>();
-        for(Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()){
-            for(String headerValue : header.getValue()){
-                String headerName = header.getKey();
-                if(headerName == null){
-                    continue;
-                }
-                if(headerName.equalsIgnoreCase(TRANSFER_ENCODING)){
-                    continue;
-                }
-                if(headerName.equalsIgnoreCase(CONTENT_LENGTH)){
-                    // Ignore the Content-Length, since it might
-                    // effect the response when being forwarded or recorded.
-                    continue;
-                }
-
-                final HttpHeader httpHeader = HttpHeader.builder()
-                        .name(headerName)
-                        .value(headerValue)
-                        .build();
-                httpHeaders.add(httpHeader);
-            }
-
-        }
-        return httpHeaders;
-    }
-
     /**
      * Extract all the incoming parameters and stores them in a Map. The parameter name will
      * act as the key and the parameter value will be the Map value
@@ -208,144 +187,120 @@ public final class HttpMessageSupport {
     }
 
     /**
-     * The method will establish a connection towards a particular <code>endpoint</code> and send
-     * a request towards the endpoint.
-     * The method will return a {@link HttpURLConnection}, which is the established connection
-     * towards the endpoint. Please note that the returned connection has to be closed after being used.
-     * @param endpoint The connection endpoint.
-     * @param httpMethod The HTTP method that the request will be sent to.
-     * @param body The body that will be sent in the request. No body will be sent if the value <code>null</code> has been provided.
-     * @param headers The headers that will be added to the request.
-     * @return An established connection towards the endpoint.
-     * @since 1.18
+     * Extract HTTP headers from the provided response headers. The Transfer-Encoding and
+     * Content-Length headers are ignored, since they might effect the response when being forwarded or recorded.
+     * @param headers The response headers that will be extracted
+     * @return A list of HTTP headers extracted from the provided response headers
+     * @since 1.70
      */
-    public static HttpURLConnection establishConnection(final String endpoint,
-                                                        final HttpMethod httpMethod,
-                                                        final String body,
-                                                        final Set<HttpHeader> headers) {
-        OutputStream outputStream = null;
-        try {
-            final URL url = new URI(endpoint).toURL();
-            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setDoOutput(true);
-            connection.setRequestMethod(httpMethod.name());
-            for (HttpHeader httpHeader : headers) {
-                connection.addRequestProperty(httpHeader.getName(), httpHeader.getValue());
+    public static List<HttpHeader> extractHttpHeaders(final HttpHeaders headers){
+        final List<HttpHeader> httpHeaders = new ArrayList<>();
+        for(Map.Entry<String, List<String>> header : headers.map().entrySet()){
+            final String headerName = header.getKey();
+            if(headerName.startsWith(":") ||
+                    headerName.equalsIgnoreCase(TRANSFER_ENCODING) ||
+                    headerName.equalsIgnoreCase(CONTENT_LENGTH)){
+                continue;
             }
-
-            if(body != null){
-                outputStream = connection.getOutputStream();
-                outputStream.write(body.getBytes());
-                outputStream.flush();
+            for(String headerValue : header.getValue()){
+                httpHeaders.add(HttpHeader.builder()
+                        .name(headerName)
+                        .value(headerValue)
+                        .build());
             }
+        }
+        return httpHeaders;
+    }
 
-            return connection;
-        }catch (Exception exception){
-            LOGGER.error("Unable to establish connection towards " + endpoint, exception);
-            throw new IllegalStateException(exception);
-        } finally {
-            if(outputStream != null){
-                try {
-                    outputStream.close();
-                } catch (IOException exception) {
-                    LOGGER.error("Unable to close output stream", exception);
+    /**
+     * The method will extract all the encodings (Content-Encoding) from the provided response headers.
+     * @param headers The response headers that the encodings will be extracted from.
+     * @return A list of {@link HttpContentEncoding} extracted from the provided headers.
+     * @since 1.70
+     */
+    public static List<HttpContentEncoding> extractContentEncoding(final HttpHeaders headers){
+        final String contentEncoding = headers.firstValue(CONTENT_ENCODING)
+                .map(String::toUpperCase)
+                .orElse(null);
+        final List<HttpContentEncoding> encodings = new ArrayList<>();
+        if(contentEncoding != null){
+            for(HttpContentEncoding encoding : HttpContentEncoding.values()){
+                if(contentEncoding.contains(encoding.name())){
+                    encodings.add(encoding);
                 }
             }
         }
+        return encodings;
     }
 
     /**
-     * The method extracts an HTTP body from an already established {@link HttpURLConnection}.
-     * @param connection The connection that the body will be extracted from.
-     * @param encodings The encoding that will be used to parse and decode the body.
+     * The method decodes a HTTP body that has been received as bytes. The bytes are decoded
+     * as they are, which means that line endings are preserved.
+     * @param body The body that will be decoded.
+     * @param encodings The encoding that will be used to decode the body.
      * @param characterEncoding The character encoding
      * @return The decoded body in String format.
-     * @throws IOException Due to being unable to close buffered reader
-     * @since 1.18
+     * @throws IOException If the body could not be decompressed
+     * @since 1.70
      */
-    public static String extractHttpBody(final HttpURLConnection connection,
+    public static String extractHttpBody(final byte[] body,
                                          final List<HttpContentEncoding> encodings,
                                          final String characterEncoding) throws IOException {
-
-        final InputStream inputStream;
-        BufferedReader bufferedReader = null;
-        try {
-
-            if (connection.getResponseCode() >= OK_RESPONSE && connection.getResponseCode() < 500) {
-                // The connection returned a response with HTTP status 2xx.
-                // Use the input stream.
-                inputStream = connection.getInputStream();
-
-            } else {
-                // The connection returned a response with a HTTP status
-                // that is not 2xx (5xx error code).
-                // Use the error stream instead.
-                inputStream = connection.getErrorStream();
+        final Charset charset = getCharset(characterEncoding);
+        if (encodings.contains(HttpContentEncoding.GZIP)) {
+            try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return new String(inputStream.readAllBytes(), charset);
             }
-
-            // Check if the content is encoded
-            if (encodings.contains(HttpContentEncoding.GZIP)) {
-                // The content is GZIP encoded.
-                // Create a decoder and parse the response.
-                final InputStream gzipStream = new GZIPInputStream(inputStream);
-                final Reader decoder = new InputStreamReader(gzipStream);
-                bufferedReader = new BufferedReader(decoder);
-            } else if(encodings.contains(HttpContentEncoding.DEFLATE)){
-                // The content is DEFLATE encoded.
-                // Create a decoder and parse the response.
-                final InflaterInputStream inflaterInputStream = new InflaterInputStream(inputStream);
-                final Reader decoder = new InputStreamReader(inflaterInputStream, characterEncoding);
-                bufferedReader = new BufferedReader(decoder);
-            } else {
-                // No encoding was used. Simply parse the response.
-                final InputStreamReader inputStreamReader = new InputStreamReader(inputStream, java.nio.charset.StandardCharsets.UTF_8);
-                bufferedReader = new BufferedReader(inputStreamReader);
-            }
-
-            final StringBuilder stringBuilder = new StringBuilder();
-            String buffer;
-            while ((buffer = bufferedReader.readLine()) != null) {
-                stringBuilder.append(buffer);
-                stringBuilder.append(NEW_LINE);
-            }
-            return stringBuilder.toString();
-        } catch(Exception e) {
-            LOGGER.error("Error occurred when extracting HTTP response body", e);
-            throw e;
-        } finally {
-            if (bufferedReader != null) {
-                try {
-                    bufferedReader.close();
-                } catch (IOException exception) {
-                    LOGGER.error("Unable to close buffered reader", exception);
-                }
+        } else if (encodings.contains(HttpContentEncoding.DEFLATE)) {
+            try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(body))) {
+                return new String(inputStream.readAllBytes(), charset);
             }
         }
-
+        return new String(body, charset);
     }
 
     /**
-     * The method will extract all the encodings (Content-Encoding) from an established
-     * {@link HttpURLConnection}.
-     * @param connection The connection that the encodings will be extracted from.
-     * @return A list of {@link HttpContentEncoding} extracted from the provided {@link HttpURLConnection}.
-     * @since 1.18
+     * The method decodes the beginning of a HTTP body. The provided bytes might only be a prefix of
+     * an encoded body, in which case as much of the body as possible will be decoded.
+     * @param prefix The first bytes of the body.
+     * @param encodings The encoding that will be used to decode the body.
+     * @param characterEncoding The character encoding
+     * @return The decoded part of the body in String format.
+     * @throws IOException If the body could not be decompressed
+     * @since 1.70
      */
-    public static List<HttpContentEncoding> extractContentEncoding(final HttpURLConnection connection){
-        final List<HttpContentEncoding> encodings = new ArrayList<>();
-        // Extract the content encoding
-        String connectionContentEncoding = connection.getContentEncoding();
+    public static String extractHttpBodyPrefix(final byte[] prefix,
+                                               final List<HttpContentEncoding> encodings,
+                                               final String characterEncoding) throws IOException {
+        final Charset charset = getCharset(characterEncoding);
+        if (!encodings.contains(HttpContentEncoding.GZIP) && !encodings.contains(HttpContentEncoding.DEFLATE)) {
+            return new String(prefix, charset);
+        }
+        if (prefix.length == 0) {
+            return EMPTY;
+        }
 
-        if(connectionContentEncoding != null){
-            connectionContentEncoding = connectionContentEncoding.toUpperCase();
-            for(HttpContentEncoding contentEncoding : HttpContentEncoding.values()){
-                int index = connectionContentEncoding.indexOf(contentEncoding.name());
-                if(index != -1){
-                    encodings.add(contentEncoding);
-                }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final InputStream bodyStream = new ByteArrayInputStream(prefix);
+        try (InputStream inputStream = encodings.contains(HttpContentEncoding.GZIP) ?
+                new GZIPInputStream(bodyStream) : new InflaterInputStream(bodyStream)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
             }
+        } catch (EOFException exception) {
+            // The prefix ended before the end of the encoded body.
+            LOGGER.debug("Only a part of the encoded body could be decoded");
         }
+        return outputStream.toString(charset);
+    }
 
-        return encodings;
+    private static Charset getCharset(final String characterEncoding) throws UnsupportedEncodingException {
+        try {
+            return Charset.forName(characterEncoding);
+        } catch (IllegalArgumentException exception) {
+            throw new UnsupportedEncodingException(characterEncoding);
+        }
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.NetworkDelayDistribution;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@link NetworkDelayUtility} provides functionality to sample and simulate network delays
+ * for mocked responses.
+ * <p>
+ * A delayed response is released with servlet async processing whenever the incoming request supports it.
+ * The request thread is returned to the container and the response is completed by a shared scheduler
+ * once the delay has elapsed, which means that a delayed response doesn't occupy a request thread while
+ * it is waiting. A response that is written directly to the outgoing response, such as a streamed response,
+ * is written by a virtual thread once the delay has elapsed.
+ * @since 1.70
+ */
+public final class NetworkDelayUtility {
+
+    /**
+     * The z-score of the 99th percentile of the standard normal distribution.
+     */
+    private static final double P99_Z_SCORE = 2.3263478740408408;
+    /**
+     * The time in milliseconds that a delayed response is given to complete, in addition to the delay itself,
+     * before the async request times out.
+     */
+    private static final long ASYNC_TIMEOUT_MARGIN = 30000L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkDelayUtility.class);
+    private static final ScheduledExecutorService DELAY_EXECUTOR =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "mock-network-delay");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private static final ExecutorService WRITE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mock-delayed-response-", 0).factory());
+
+    private NetworkDelayUtility() {
+
+    }
+
+    /**
+     * Sample a network delay.
+     * @param networkDelay The configured network delay in milliseconds.
+     * @param distribution The distribution that the delay is sampled from. A fixed delay is used if
+     *                     no distribution is provided.
+     * @param jitter The configured jitter in milliseconds. The meaning of the jitter depends on the distribution.
+     * @return The sampled network delay in milliseconds. The delay is never negative.
+     * @see NetworkDelayDistribution
+     */
+    public static long getDelay(final Long networkDelay,
+                                final NetworkDelayDistribution distribution,
+                                final Long jitter) {
+        return getDelay(networkDelay, distribution, jitter, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Sample a network delay with the provided random generator.
+     * @param networkDelay The configured network delay in milliseconds.
+     * @param distribution The distribution that the delay is sampled from. A fixed delay is used if
+     *                     no distribution is provided.
+     * @param jitter The configured jitter in milliseconds. The meaning of the jitter depends on the distribution.
+     * @param random The random generator that is used to sample the delay.
+     * @return The sampled network delay in milliseconds. The delay is never negative.
+     * @see NetworkDelayDistribution
+     */
+    public static long getDelay(final Long networkDelay,
+                                final NetworkDelayDistribution distribution,
+                                final Long jitter,
+                                final RandomGenerator random) {
+        final long delay = networkDelay == null ? 0L : Math.max(0L, networkDelay);
+        final long spread = jitter == null ? 0L : Math.max(0L, jitter);
+        if (distribution == null || spread == 0L) {
+            return delay;
+        }
+
+        return switch (distribution) {
+            case FIXED -> delay;
+            case UNIFORM -> random.nextLong(Math.max(0L, delay - spread), delay + spread + 1);
+            case NORMAL -> Math.max(0L, Math.round(delay + random.nextGaussian() * spread));
+            case PERCENTILE -> {
+                // The delay is the median and the jitter is the 99th percentile of a log-normal distribution
+                if (delay == 0L || spread <= delay) {
+                    yield delay;
+                }
+                final double sigma = Math.log((double) spread / delay) / P99_Z_SCORE;
+                yield Math.round(delay * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    /**
+     * Delay a response. The response is released asynchronously if the incoming request supports
+     * async processing. The response is otherwise delayed by blocking the current thread.
+     * @param httpServletRequest The incoming request.
+     * @param delay The delay in milliseconds.
+     * @param response The response that will be delayed.
+     * @param <T> The type of the response body.
+     * @return The response, or <code>null</code> if the response will be released asynchronously
+     * once the delay has elapsed.
+     */
+    public static <T> ResponseEntity<T> delay(final HttpServletRequest httpServletRequest,
+                                              final long delay,
+                                              final ResponseEntity<T> response) {
+        return delay(httpServletRequest, delay, response, () -> {});
+    }
+
+    /**
+     * Delay a response and run a callback once the response has been released, for example to record
+     * when the response was actually sent. The callback is run by the current thread if the response
+     * isn't released asynchronously.
+     * @param httpServletRequest The incoming request.
+     * @param delay The delay in milliseconds.
+     * @param response The response that will be delayed.
+     * @param onRelease The callback that is run once the delay has elapsed and the response has been released.
+     * @param <T> The type of the response body.
+     * @return The response, or <code>null</code> if the response will be released asynchronously
+     * once the delay has elapsed.
+     * @see #delay(HttpServletRequest, long, ResponseEntity)
+     */
+    public static <T> ResponseEntity<T> delay(final HttpServletRequest httpServletRequest,
+                                              final long delay,
+                                              final ResponseEntity<T> response,
+                                              final Runnable onRelease) {
+        if (delay > 0L && httpServletRequest != null && httpServletRequest.isAsyncSupported()) {
+            final DeferredResult<ResponseEntity<T>> deferredResult = new DeferredResult<>(delay + ASYNC_TIMEOUT_MARGIN);
+            try {
+                WebAsyncUtils.getAsyncManager(httpServletRequest).startDeferredResultProcessing(deferredResult);
+                DELAY_EXECUTOR.schedule(() -> {
+                    deferredResult.setResult(response);
+                    onRelease.run();
+                }, delay, TimeUnit.MILLISECONDS);
+                return null;
+            } catch (Exception exception) {
+                LOGGER.warn("Unable to delay response asynchronously: " + exception.getMessage(), exception);
+            }
+        }
+
+        sleep(delay);
+        onRelease.run();
+        return response;
+    }
+
+    /**
+     * Write a response directly to the outgoing response once the delay has elapsed. The response is written
+     * by a virtual thread if the incoming request supports async processing, which means that the request
+     * thread isn't blocked while the delay elapses. An exception thrown by an asynchronous writer is handled
+     * as if it had been thrown by the controller. The response is otherwise written by the current thread
+     * once the delay has elapsed.
+     * @param httpServletRequest The incoming request.
+     * @param delay The delay in milliseconds.
+     * @param writer The writer that writes the response to the outgoing response.
+     * @return <code>true</code> if the response will be written asynchronously. <code>false</code> if
+     * the response has already been written by the current thread.
+     */
+    public static boolean delayWrite(final HttpServletRequest httpServletRequest,
+                                     final long delay,
+                                     final Runnable writer) {
+        if (delay > 0L && httpServletRequest != null && httpServletRequest.isAsyncSupported()) {
+            // The writer might stream a large response, which is why the async request never times out
+            final DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>(0L);
+            try {
+                WebAsyncUtils.getAsyncManager(httpServletRequest).startDeferredResultProcessing(deferredResult);
+                DELAY_EXECUTOR.schedule(() -> WRITE_EXECUTOR.execute(() -> {
+                    try {
+                        writer.run();
+                        // The response has already been written and the empty result only completes the request
+                        deferredResult.setResult(null);
+                    } catch (Exception exception) {
+                        deferredResult.setErrorResult(exception);
+                    }
+                }), delay, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (Exception exception) {
+                LOGGER.warn("Unable to delay response asynchronously: " + exception.getMessage(), exception);
+            }
+        }
+
+        sleep(delay);
+        writer.run();
+        return false;
+    }
+
+    /**
+     * Delay the current thread. This should only be used when a response can't be released asynchronously,
+     * such as when the response is written directly to the outgoing response by the current thread.
+     * @param delay The delay in milliseconds.
+     */
+    public static void sleep(final long delay) {
+        if (delay <= 0L) {
+            return;
+        }
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Unable to simulate network delay", exception);
+        }
+    }
+}
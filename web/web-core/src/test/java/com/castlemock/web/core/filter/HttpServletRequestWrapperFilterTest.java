@@ -23,6 +23,7 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -57,6 +58,22 @@ public class HttpServletRequestWrapperFilterTest {
         filter.destroy();
     }
 
+    @Test
+    public void testDoFilterBodyTooLarge() throws IOException, ServletException {
+        final HttpServletRequestWrapperFilter filter = new HttpServletRequestWrapperFilter(10);
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        final HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        final FilterChain chain = Mockito.mock(FilterChain.class);
+
+        Mockito.when(request.getContentLengthLong()).thenReturn(11L);
+
+        filter.doFilter(request, response, chain);
+
+        Mockito.verify(response, Mockito.times(1)).sendError(Mockito.eq(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE),
+                Mockito.anyString());
+        Mockito.verify(chain, Mockito.never()).doFilter(Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void testDoFilterRequest() throws IOException, ServletException {
         final HttpServletRequestWrapperFilter filter = new HttpServletRequestWrapperFilter();
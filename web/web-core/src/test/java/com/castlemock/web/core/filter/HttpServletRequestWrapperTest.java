@@ -16,6 +16,7 @@
 
 package com.castlemock.web.core.filter;
 
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Assertions;
@@ -24,7 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 
@@ -65,4 +68,83 @@ class HttpServletRequestWrapperTest {
         Assertions.assertNotNull(reader);
     }
 
+    @Test
+    @DisplayName("Read body without content length")
+    void testReadBodyWithoutContentLength() throws IOException {
+        final byte[] body = new byte[20000];
+        Arrays.fill(body, (byte) 'a');
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getContentLengthLong()).thenReturn(-1L);
+        Mockito.when(request.getInputStream()).thenAnswer(invocation -> new ByteArrayServletInputStream(body));
+
+        Assertions.assertArrayEquals(body, new HttpServletRequestWrapper(request).getBodyBytes());
+        Assertions.assertArrayEquals(body, new HttpServletRequestWrapper(request, body.length).getBodyBytes());
+        Assertions.assertThrows(RequestBodyTooLargeException.class,
+                () -> new HttpServletRequestWrapper(request, body.length - 1));
+    }
+
+    @Test
+    @DisplayName("Read body with content length")
+    void testReadBodyWithContentLength() throws IOException {
+        final byte[] body = new byte[200000];
+        Arrays.fill(body, (byte) 'a');
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getContentLengthLong()).thenReturn((long) body.length);
+        Mockito.when(request.getInputStream()).thenAnswer(invocation -> new ByteArrayServletInputStream(body));
+
+        Assertions.assertArrayEquals(body, new HttpServletRequestWrapper(request, body.length).getBodyBytes());
+        Assertions.assertThrows(RequestBodyTooLargeException.class,
+                () -> new HttpServletRequestWrapper(request, body.length - 1));
+    }
+
+    @Test
+    @DisplayName("Read body shorter than the content length")
+    void testReadBodyShorterThanContentLength() throws IOException {
+        final byte[] body = "Body".getBytes();
+        final ByteArrayServletInputStream inputStream = new ByteArrayServletInputStream(body);
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getContentLengthLong()).thenReturn(50L * 1024 * 1024);
+        Mockito.when(request.getInputStream()).thenReturn(inputStream);
+
+        Assertions.assertArrayEquals(body, new HttpServletRequestWrapper(request).getBodyBytes());
+        // The declared content length is not reserved before the bytes have arrived
+        Assertions.assertTrue(inputStream.maxBufferLength <= 64 * 1024);
+    }
+
+    private static final class ByteArrayServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream inputStream;
+        private int maxBufferLength;
+
+        private ByteArrayServletInputStream(final byte[] bytes) {
+            this.inputStream = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return this.inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            // Not implemented
+        }
+
+        @Override
+        public int read() {
+            return this.inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            this.maxBufferLength = Math.max(this.maxBufferLength, buffer.length);
+            return this.inputStream.read(buffer, offset, length);
+        }
+    }
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+public class CapturingWriterTest {
+
+    @Test
+    public void testWrite() throws IOException {
+        final StringWriter stringWriter = new StringWriter();
+        final CapturingWriter writer = new CapturingWriter(stringWriter, 5);
+        writer.write("abc");
+        writer.write(new char[]{'d', 'e', 'f'});
+        writer.write('g');
+        writer.flush();
+
+        Assertions.assertEquals("abcdefg", stringWriter.toString());
+        Assertions.assertEquals("abcde", writer.getCapturedText());
+    }
+
+    @Test
+    public void testWriteWithoutCapture() throws IOException {
+        final StringWriter stringWriter = new StringWriter();
+        final CapturingWriter writer = new CapturingWriter(stringWriter, 0);
+        writer.write("abc", 1, 2);
+
+        Assertions.assertEquals("bc", stringWriter.toString());
+        Assertions.assertEquals("", writer.getCapturedText());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.HttpContentEncoding;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+public class ContentEncodingUtilityTest {
+
+    private static final String BODY = "<response>" + "<value>Value</value>".repeat(100) + "</response>";
+
+    @Test
+    public void testNegotiate(){
+        final List<HttpContentEncoding> encodings = ContentEncodingUtility.SUPPORTED_ENCODINGS;
+
+        Assertions.assertEquals(Optional.of(HttpContentEncoding.GZIP),
+                ContentEncodingUtility.negotiate("gzip, deflate, br", encodings));
+        Assertions.assertEquals(Optional.of(HttpContentEncoding.DEFLATE),
+                ContentEncodingUtility.negotiate("gzip;q=0.5, deflate", encodings));
+        Assertions.assertEquals(Optional.of(HttpContentEncoding.DEFLATE),
+                ContentEncodingUtility.negotiate("DEFLATE", encodings));
+        Assertions.assertEquals(Optional.of(HttpContentEncoding.GZIP),
+                ContentEncodingUtility.negotiate("*", encodings));
+        Assertions.assertEquals(Optional.of(HttpContentEncoding.DEFLATE),
+                ContentEncodingUtility.negotiate("*, gzip;q=0", encodings));
+        Assertions.assertEquals(Optional.empty(),
+                ContentEncodingUtility.negotiate("gzip;q=0, identity", encodings));
+        Assertions.assertEquals(Optional.empty(),
+                ContentEncodingUtility.negotiate("br", encodings));
+        Assertions.assertEquals(Optional.empty(),
+                ContentEncodingUtility.negotiate(null, encodings));
+        Assertions.assertEquals(Optional.empty(),
+                ContentEncodingUtility.negotiate("gzip", List.of(HttpContentEncoding.DEFLATE)));
+    }
+
+    @Test
+    public void testEncode() throws IOException {
+        final Optional<ContentEncodingUtility.EncodedBody> gzip = ContentEncodingUtility.encode(BODY,
+                StandardCharsets.UTF_8, "gzip", ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        Assertions.assertTrue(gzip.isPresent());
+        Assertions.assertEquals("gzip", gzip.get().getEncodingName());
+        Assertions.assertEquals(BODY, decode(new GZIPInputStream(new ByteArrayInputStream(gzip.get().getBody()))));
+
+        final Optional<ContentEncodingUtility.EncodedBody> deflate = ContentEncodingUtility.encode(BODY,
+                StandardCharsets.UTF_8, "deflate", ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        Assertions.assertTrue(deflate.isPresent());
+        Assertions.assertEquals("deflate", deflate.get().getEncodingName());
+        Assertions.assertEquals(BODY, decode(new InflaterInputStream(new ByteArrayInputStream(deflate.get().getBody()))));
+    }
+
+    @Test
+    public void testEncodeBelowMinSize(){
+        Assertions.assertTrue(ContentEncodingUtility.encode(BODY, StandardCharsets.UTF_8, "gzip",
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, BODY.length() + 1).isEmpty());
+        Assertions.assertTrue(ContentEncodingUtility.encode(null, StandardCharsets.UTF_8, "gzip",
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, 0).isEmpty());
+    }
+
+    private static String decode(final InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
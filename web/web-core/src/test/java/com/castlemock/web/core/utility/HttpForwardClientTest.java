@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.core.http.HttpMethod;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpForwardClientTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpForwardClient client;
+    private String endpoint;
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+    private volatile CountDownLatch receivedLatch = new CountDownLatch(0);
+    private volatile CountDownLatch releaseLatch = new CountDownLatch(0);
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::echo);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(this.executor);
+        this.server.start();
+        this.endpoint = "http://localhost:" + this.server.getAddress().getPort() + "/echo";
+        this.client = createClient(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.client.close();
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testSend() throws IOException {
+        final byte[] body = "Body\r\nwith a line break".getBytes(StandardCharsets.UTF_8);
+        final HttpResponse<byte[]> response = this.client.send(this.endpoint, HttpMethod.POST, body,
+                Set.of(HttpHeader.builder().name("Content-Type").value("text/plain").build(),
+                        HttpHeader.builder().name("Host").value("example.com").build()));
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertArrayEquals(body, response.body());
+        Assertions.assertEquals("text/plain", response.headers().firstValue("Content-Type").orElse(null));
+    }
+
+    @Test
+    public void testConnectionIsReused() throws IOException {
+        for (int index = 0; index < 3; index++) {
+            final HttpResponse<byte[]> response = this.client.send(this.endpoint, HttpMethod.GET, null, Set.of());
+            Assertions.assertEquals(200, response.statusCode());
+        }
+
+        Assertions.assertEquals(1, this.remotePorts.size());
+    }
+
+    @Test
+    public void testStreamReleasesPermitWhenClosed() throws IOException {
+        final HttpResponse<InputStream> response = this.client.stream(this.endpoint, HttpMethod.POST,
+                "Body".getBytes(StandardCharsets.UTF_8), Set.of());
+        try (InputStream inputStream = response.body()) {
+            Assertions.assertEquals("Body", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // The permit of the streamed request has been released, which means that another request can be sent
+        Assertions.assertEquals(200, this.client.send(this.endpoint, HttpMethod.GET, null, Set.of()).statusCode());
+    }
+
+    @Test
+    public void testMaxConnectionsPerEndpoint() throws Exception {
+        this.receivedLatch = new CountDownLatch(1);
+        this.releaseLatch = new CountDownLatch(1);
+
+        final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> send(this.client));
+        Assertions.assertTrue(this.receivedLatch.await(5, TimeUnit.SECONDS));
+
+        final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> send(this.client));
+        // The second request waits for the permit of the first request and never reaches the endpoint
+        Thread.sleep(300);
+        Assertions.assertFalse(second.isDone());
+        Assertions.assertEquals(1, this.activeRequests.get());
+
+        this.releaseLatch.countDown();
+        Assertions.assertEquals(200, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(200, second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, this.maxActiveRequests.get());
+    }
+
+    @Test
+    public void testMaxConnectionsPerEndpointTimeout() throws Exception {
+        this.receivedLatch = new CountDownLatch(1);
+        this.releaseLatch = new CountDownLatch(1);
+
+        final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> send(this.client));
+        Assertions.assertTrue(this.receivedLatch.await(5, TimeUnit.SECONDS));
+        // Only the second request gives up waiting for the permit, since the first one has already been sent
+        ReflectionTestUtils.setField(this.client, "requestTimeout", 200L);
+        final IOException exception = Assertions.assertThrows(IOException.class,
+                () -> this.client.send(this.endpoint, HttpMethod.GET, null, Set.of()));
+        Assertions.assertTrue(exception.getMessage().startsWith("Max number of connections reached"));
+
+        this.releaseLatch.countDown();
+        first.handle((status, throwable) -> null).get(5, TimeUnit.SECONDS);
+    }
+
+    private int send(final HttpForwardClient client) {
+        try {
+            return client.send(this.endpoint, HttpMethod.GET, null, Set.of()).statusCode();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void echo(final HttpExchange exchange) throws IOException {
+        final int active = this.activeRequests.incrementAndGet();
+        this.maxActiveRequests.accumulateAndGet(active, Math::max);
+        this.remotePorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            this.receivedLatch.countDown();
+            this.releaseLatch.await(5, TimeUnit.SECONDS);
+            final byte[] body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = inputStream.readAllBytes();
+            }
+            exchange.getRequestHeaders().getOrDefault("Content-Type", List.of())
+                    .forEach(value -> exchange.getResponseHeaders().add("Content-Type", value));
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.activeRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static HttpForwardClient createClient(final int maxConnectionsPerEndpoint) {
+        final HttpForwardClient client = new HttpForwardClient();
+        ReflectionTestUtils.setField(client, "connectTimeout", 5000L);
+        ReflectionTestUtils.setField(client, "requestTimeout", 10000L);
+        ReflectionTestUtils.setField(client, "httpVersion", HttpClient.Version.HTTP_1_1);
+        ReflectionTestUtils.setField(client, "maxConnectionsPerEndpoint", maxConnectionsPerEndpoint);
+        client.initialize();
+        return client;
+    }
+
+}
@@ -19,22 +19,31 @@ package com.castlemock.web.core.utility;
 import com.castlemock.model.core.http.HttpContentEncoding;
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.http.HttpParameter;
+import com.castlemock.web.core.filter.HttpServletRequestWrapperFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
-import java.net.HttpURLConnection;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -89,59 +98,47 @@ public class HttpMessageSupportTest {
     }
 
     @Test
-    public void testExtractHttpHeadersConnection(){
-        final Map<String, List<String>> headers = new HashMap<>();
-        headers.put("Content-Type", List.of("application/xml", "application/json"));
-        headers.put("Accept", List.of("application/json"));
-        headers.put("Content-Length", List.of("1024"));
-        headers.put("Transfer-Encoding", List.of("gzip"));
-
-        final HttpURLConnection httpURLConnection = Mockito.mock(HttpURLConnection.class);
-        Mockito.when(httpURLConnection.getHeaderFields()).thenReturn(headers);
-
-        List<HttpHeader> httpHeaders = HttpMessageSupport.extractHttpHeaders(httpURLConnection);
-
-        // Should ignore the Content-Length and Transfer-Encoding headers
-        Assertions.assertEquals(3, httpHeaders.size());
-
-        HttpHeader acceptHeader = httpHeaders.getFirst();
-        HttpHeader contentTypeXmlHeader = httpHeaders.get(1);
-        HttpHeader contentTypeJsonHeader = httpHeaders.get(2);
-
-        Assertions.assertEquals("Accept", acceptHeader.getName());
-        Assertions.assertEquals("application/json", acceptHeader.getValue());
-
-        Assertions.assertEquals("Content-Type", contentTypeXmlHeader.getName());
-        Assertions.assertEquals("application/xml", contentTypeXmlHeader.getValue());
-
-        Assertions.assertEquals("Content-Type", contentTypeJsonHeader.getName());
-        Assertions.assertEquals("application/json", contentTypeJsonHeader.getValue());
-
-    }
-
-
-    @Test
-    @SuppressWarnings("varargs")
     public void testGetBody(){
         final String readerOutput = "This is the output from the reader";
         final HttpServletRequest httpServletRequest = Mockito.mock(HttpServletRequest.class);
-        final BufferedReader reader = Mockito.mock(BufferedReader.class);
+        final BufferedReader reader = new BufferedReader(new StringReader(readerOutput));
         try {
             Mockito.when(httpServletRequest.getReader()).thenReturn(reader);
         } catch (IOException e) {
             Assertions.fail("Unable to mock getReader method for HttpServletRequest");
         }
 
-        try {
-            Mockito.when(reader.readLine()).thenReturn(readerOutput, (String) null);
-        } catch (IOException e) {
-            Assertions.fail("Unable to mock readLine method for BufferedReader");
-        }
-
         final String output = HttpMessageSupport.getBody(httpServletRequest);
         Assertions.assertEquals(readerOutput, output);
     }
 
+    @Test
+    public void testGetBodyFromRequestWrapper() throws IOException, ServletException {
+        final String body = "{\r\n  \"name\": \"Castle Mock\"\r\n}";
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        final HttpServletRequest httpServletRequest = Mockito.mock(HttpServletRequest.class);
+        final ServletInputStream inputStream = Mockito.mock(ServletInputStream.class);
+        Mockito.when(httpServletRequest.getContentLengthLong()).thenReturn((long) bytes.length);
+        Mockito.when(httpServletRequest.getInputStream()).thenReturn(inputStream);
+        Mockito.when(inputStream.read(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> {
+                    final byte[] buffer = invocation.getArgument(0);
+                    System.arraycopy(bytes, 0, buffer, invocation.getArgument(1), bytes.length);
+                    return bytes.length;
+                })
+                .thenReturn(-1);
+
+        final FilterChain chain = Mockito.mock(FilterChain.class);
+        new HttpServletRequestWrapperFilter().doFilter(httpServletRequest, Mockito.mock(HttpServletResponse.class), chain);
+        final ArgumentCaptor<ServletRequest> request = ArgumentCaptor.forClass(ServletRequest.class);
+        Mockito.verify(chain).doFilter(request.capture(), Mockito.any());
+
+        final HttpServletRequest wrappedRequest = (HttpServletRequest) request.getValue();
+        Assertions.assertEquals(body, HttpMessageSupport.getBody(wrappedRequest));
+        Assertions.assertArrayEquals(bytes, HttpMessageSupport.getBodyBytes(wrappedRequest).orElseThrow());
+        Assertions.assertTrue(HttpMessageSupport.getBodyBytes(httpServletRequest).isEmpty());
+    }
+
     @Test
     public void testExtractParameters(){
         final List<String> parameterNames = Arrays.asList("Parameter1", "Parameter2");
@@ -289,32 +286,47 @@ public class HttpMessageSupportTest {
         }
 
         try {
-            Mockito.when(reader.readLine()).thenThrow(new IOException());
+            Mockito.when(reader.read(Mockito.any(char[].class), Mockito.anyInt(), Mockito.anyInt())).thenThrow(new IOException());
         } catch (IOException e) {
-            Assertions.fail("Unable to mock readLine method for BufferedReader");
+            Assertions.fail("Unable to mock read method for BufferedReader");
         }
         assertThrows(IllegalStateException.class, () -> HttpMessageSupport.getBody(httpServletRequest));
     }
 
     @Test
-    public void testExtractContentEncodingAll(){
-        final HttpURLConnection httpURLConnection = Mockito.mock(HttpURLConnection.class);
-        Mockito.when(httpURLConnection.getContentEncoding()).thenReturn("gzip/deflate");
-        List<HttpContentEncoding> contentEncodings = HttpMessageSupport.extractContentEncoding(httpURLConnection);
-
-        Assertions.assertEquals(2, contentEncodings.size());
-        Assertions.assertTrue(contentEncodings.contains(HttpContentEncoding.GZIP));
-        Assertions.assertTrue(contentEncodings.contains(HttpContentEncoding.DEFLATE));
+    public void testExtractContentEncodingFromHeaders(){
+        final HttpHeaders headers = HttpHeaders.of(Map.of("Content-Encoding", List.of("gzip")), (name, value) -> true);
+        final List<HttpContentEncoding> contentEncodings = HttpMessageSupport.extractContentEncoding(headers);
+
+        Assertions.assertEquals(List.of(HttpContentEncoding.GZIP), contentEncodings);
+        Assertions.assertTrue(HttpMessageSupport.extractContentEncoding(
+                HttpHeaders.of(Map.of(), (name, value) -> true)).isEmpty());
     }
 
     @Test
-    public void testExtractContentEncodingDeflate(){
-        final HttpURLConnection httpURLConnection = Mockito.mock(HttpURLConnection.class);
-        Mockito.when(httpURLConnection.getContentEncoding()).thenReturn("deflate");
-        List<HttpContentEncoding> contentEncodings = HttpMessageSupport.extractContentEncoding(httpURLConnection);
-
-        Assertions.assertEquals(1, contentEncodings.size());
-        Assertions.assertFalse(contentEncodings.contains(HttpContentEncoding.GZIP));
-        Assertions.assertTrue(contentEncodings.contains(HttpContentEncoding.DEFLATE));
+    public void testExtractHttpHeadersFromHeaders(){
+        final HttpHeaders headers = HttpHeaders.of(Map.of(
+                "Content-Type", List.of("application/xml"),
+                "Content-Length", List.of("1024"),
+                "Transfer-Encoding", List.of("chunked")), (name, value) -> true);
+        final List<HttpHeader> httpHeaders = HttpMessageSupport.extractHttpHeaders(headers);
+
+        Assertions.assertEquals(1, httpHeaders.size());
+        Assertions.assertEquals("Content-Type", httpHeaders.getFirst().getName());
+        Assertions.assertEquals("application/xml", httpHeaders.getFirst().getValue());
+    }
+
+    @Test
+    public void testExtractHttpBodyFromBytes() throws IOException {
+        final String body = "{\r\n  \"name\": \"Castle Mock\"\r\n}";
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Assertions.assertEquals(body, HttpMessageSupport.extractHttpBody(body.getBytes(StandardCharsets.UTF_8),
+                List.of(), "UTF-8"));
+        Assertions.assertEquals(body, HttpMessageSupport.extractHttpBody(outputStream.toByteArray(),
+                List.of(HttpContentEncoding.GZIP), "UTF-8"));
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.core.utility;
+
+import com.castlemock.model.core.http.NetworkDelayDistribution;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class NetworkDelayUtilityTest {
+
+    private static final int SAMPLES = 10000;
+
+    @Test
+    public void testGetDelayFixed(){
+        Assertions.assertEquals(100L, NetworkDelayUtility.getDelay(100L, null, 50L));
+        Assertions.assertEquals(100L, NetworkDelayUtility.getDelay(100L, NetworkDelayDistribution.FIXED, 50L));
+        Assertions.assertEquals(100L, NetworkDelayUtility.getDelay(100L, NetworkDelayDistribution.NORMAL, null));
+        Assertions.assertEquals(0L, NetworkDelayUtility.getDelay(null, NetworkDelayDistribution.UNIFORM, null));
+        Assertions.assertEquals(0L, NetworkDelayUtility.getDelay(-100L, null, null));
+    }
+
+    @Test
+    public void testGetDelayUniform(){
+        final Random random = new Random(1L);
+        for(int index = 0; index < SAMPLES; index++){
+            final long delay = NetworkDelayUtility.getDelay(100L, NetworkDelayDistribution.UNIFORM, 20L, random);
+            Assertions.assertTrue(delay >= 80L && delay <= 120L, "Unexpected delay: " + delay);
+        }
+        for(int index = 0; index < SAMPLES; index++){
+            Assertions.assertTrue(NetworkDelayUtility.getDelay(10L, NetworkDelayDistribution.UNIFORM, 20L, random) >= 0L);
+        }
+    }
+
+    @Test
+    public void testGetDelayNormal(){
+        final long[] delays = sample(NetworkDelayDistribution.NORMAL, 100L, 10L);
+        Assertions.assertEquals(100.0, Arrays.stream(delays).average().orElseThrow(), 1.0);
+        Assertions.assertTrue(Arrays.stream(delays).allMatch(delay -> delay >= 0L));
+    }
+
+    @Test
+    public void testGetDelayPercentile(){
+        final long[] delays = sample(NetworkDelayDistribution.PERCENTILE, 100L, 1000L);
+        Arrays.sort(delays);
+        Assertions.assertEquals(100.0, delays[SAMPLES / 2], 10.0);
+        Assertions.assertEquals(1000.0, delays[SAMPLES * 99 / 100], 200.0);
+
+        // A 99th percentile below the median is not a valid distribution
+        Assertions.assertEquals(100L, NetworkDelayUtility.getDelay(100L, NetworkDelayDistribution.PERCENTILE, 50L));
+    }
+
+    @Test
+    public void testDelaySynchronous(){
+        final ResponseEntity<String> response = new ResponseEntity<>("Body", HttpStatus.OK);
+        Assertions.assertSame(response, NetworkDelayUtility.delay(new MockHttpServletRequest(), 0L, response));
+        Assertions.assertSame(response, NetworkDelayUtility.delay(new MockHttpServletRequest(), 1L, response));
+        Assertions.assertSame(response, NetworkDelayUtility.delay(null, 1L, response));
+    }
+
+    @Test
+    public void testDelayAsynchronous() throws InterruptedException {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        final ResponseEntity<String> response = new ResponseEntity<>("Body", HttpStatus.OK);
+
+        Assertions.assertNull(NetworkDelayUtility.delay(request, 10L, response));
+        Assertions.assertTrue(asyncManager.isConcurrentHandlingStarted());
+
+        final long timeout = System.currentTimeMillis() + 5000L;
+        while(!asyncManager.hasConcurrentResult() && System.currentTimeMillis() < timeout){
+            Thread.sleep(10L);
+        }
+        Assertions.assertSame(response, asyncManager.getConcurrentResult());
+    }
+
+    @Test
+    public void testDelayOnRelease() throws InterruptedException {
+        final ResponseEntity<String> response = new ResponseEntity<>("Body", HttpStatus.OK);
+        final AtomicInteger released = new AtomicInteger();
+        Assertions.assertSame(response, NetworkDelayUtility.delay(new MockHttpServletRequest(), 1L, response,
+                released::incrementAndGet));
+        Assertions.assertEquals(1, released.get());
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final WebAsyncManager asyncManager = getAsyncManager(request);
+        Assertions.assertNull(NetworkDelayUtility.delay(request, 10L, response, () -> {
+            // The response has been released when the callback is run
+            Assertions.assertTrue(asyncManager.hasConcurrentResult());
+            released.incrementAndGet();
+        }));
+
+        awaitConcurrentResult(asyncManager);
+        final long timeout = System.currentTimeMillis() + 5000L;
+        while(released.get() < 2 && System.currentTimeMillis() < timeout){
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals(2, released.get());
+    }
+
+    @Test
+    public void testDelayWriteSynchronous(){
+        final AtomicInteger written = new AtomicInteger();
+        Assertions.assertFalse(NetworkDelayUtility.delayWrite(new MockHttpServletRequest(), 1L, written::incrementAndGet));
+        Assertions.assertFalse(NetworkDelayUtility.delayWrite(null, 0L, written::incrementAndGet));
+        Assertions.assertEquals(2, written.get());
+    }
+
+    @Test
+    public void testDelayWriteAsynchronous() throws InterruptedException {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final WebAsyncManager asyncManager = getAsyncManager(request);
+        final Thread requestThread = Thread.currentThread();
+        final AtomicReference<Thread> writerThread = new AtomicReference<>();
+
+        Assertions.assertTrue(NetworkDelayUtility.delayWrite(request, 10L, () -> writerThread.set(Thread.currentThread())));
+        Assertions.assertTrue(asyncManager.isConcurrentHandlingStarted());
+
+        awaitConcurrentResult(asyncManager);
+        Assertions.assertNull(asyncManager.getConcurrentResult());
+        Assertions.assertNotNull(writerThread.get());
+        Assertions.assertNotSame(requestThread, writerThread.get());
+        Assertions.assertTrue(writerThread.get().isVirtual());
+    }
+
+    @Test
+    public void testDelayWriteAsynchronousFailure() throws InterruptedException {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final WebAsyncManager asyncManager = getAsyncManager(request);
+        final IllegalStateException exception = new IllegalStateException("Unable to write the response");
+
+        Assertions.assertTrue(NetworkDelayUtility.delayWrite(request, 10L, () -> {
+            throw exception;
+        }));
+
+        awaitConcurrentResult(asyncManager);
+        Assertions.assertSame(exception, asyncManager.getConcurrentResult());
+    }
+
+    private static WebAsyncManager getAsyncManager(final MockHttpServletRequest request) {
+        request.setAsyncSupported(true);
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        return asyncManager;
+    }
+
+    private static void awaitConcurrentResult(final WebAsyncManager asyncManager) throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + 5000L;
+        while(!asyncManager.hasConcurrentResult() && System.currentTimeMillis() < timeout){
+            Thread.sleep(10L);
+        }
+        Assertions.assertTrue(asyncManager.hasConcurrentResult());
+    }
+
+    private static long[] sample(final NetworkDelayDistribution distribution,
+                                 final long networkDelay,
+                                 final long jitter){
+        final Random random = new Random(1L);
+        final long[] delays = new long[SAMPLES];
+        for(int index = 0; index < SAMPLES; index++){
+            delays[index] = NetworkDelayUtility.getDelay(networkDelay, distribution, jitter, random);
+        }
+        return delays;
+    }
+}
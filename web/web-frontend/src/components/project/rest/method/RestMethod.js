@@ -27,7 +27,8 @@ import UpdateMethodModal from "./modal/UpdateMethodModal";
 import CreateMockResponseModal from "./modal/CreateMockResponseModal";
 import DuplicateMockResponsesModal from "./modal/DuplicateMockResponsesModal";
 import UpdateStatusModal from "./modal/UpdateStatusModal"
-import {mockResponseStatusFormatter, methodResponseStrategyFormatter, methodStatusFormatter} from "../utility/RestFormatter";
+import {mockResponseStatusFormatter, methodResponseStrategyFormatter, methodStatusFormatter,
+    networkDelayDistributionFormatter} from "../utility/RestFormatter";
 import {isOnlyReader} from "../../../../utility/AuthorizeUtility";
 import AuthenticationContext from "../../../../context/AuthenticationContext";
 import ContextContext from "../../../../context/ContextContext";
@@ -230,6 +231,16 @@ class RestMethod extends PureComponent {
                             <dt className="col-sm-3 content-title">Network delay</dt>
                             <dd className="col-sm-9">{this.state.method.networkDelay} ms</dd>
                         </dl>
+                        <dl className="row">
+                            <dt className="col-sm-3 content-title">Network delay distribution</dt>
+                            <dd className="col-sm-9">{networkDelayDistributionFormatter(this.state.method.networkDelayDistribution || "FIXED")}</dd>
+                        </dl>
+                        {this.state.method.networkDelayJitter != null &&
+                        <dl className="row">
+                            <dt className="col-sm-3 content-title">Network delay jitter</dt>
+                            <dd className="col-sm-9">{this.state.method.networkDelayJitter} ms</dd>
+                        </dl>
+                        }
                         <dl className="row">
                             <dt className="col-sm-3 content-title">Default response</dt>
                             <dd className="col-sm-9">{this.state.method.defaultResponseName}</dd>
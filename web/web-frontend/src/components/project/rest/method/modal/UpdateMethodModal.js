@@ -21,7 +21,8 @@ import preventEnterEvent from "../../../../../utility/KeyboardUtility";
 import {
     methodResponseStrategyFormatter,
     methodMultipleResponseStrategyFormatter,
-    methodStatusFormatter
+    methodStatusFormatter,
+    networkDelayDistributionFormatter
 } from "../../utility/RestFormatter";
 import {faCheckCircle} from "@fortawesome/free-solid-svg-icons";
 import {FontAwesomeIcon} from "@fortawesome/react-fontawesome";
@@ -39,6 +40,8 @@ class UpdateMethodModal extends PureComponent {
         this.onSimulateNetworkDelayChange = this.onSimulateNetworkDelayChange.bind(this);
         this.onAutomaticForward = this.onAutomaticForward.bind(this);
         this.onNetworkDelayChange = this.onNetworkDelayChange.bind(this);
+        this.onNetworkDelayDistributionChange = this.onNetworkDelayDistributionChange.bind(this);
+        this.onNetworkDelayJitterChange = this.onNetworkDelayJitterChange.bind(this);
         this.onUpdateMethodClick = this.onUpdateMethodClick.bind(this);
         this.onDefaultMockResponseIdChange = this.onDefaultMockResponseIdChange.bind(this);
 
@@ -140,6 +143,22 @@ class UpdateMethodModal extends PureComponent {
         });
     }
 
+    onNetworkDelayDistributionChange(networkDelayDistribution){
+        this.setState({ updateMethod: {
+                ...this.state.updateMethod,
+                networkDelayDistribution: networkDelayDistribution
+            }
+        });
+    }
+
+    onNetworkDelayJitterChange(networkDelayJitter){
+        this.setState({ updateMethod: {
+                ...this.state.updateMethod,
+                networkDelayJitter: networkDelayJitter
+            }
+        });
+    }
+
     getMethod() {
         axios
             .get(process.env.PUBLIC_URL + "/api/rest/rest/project/" + this.props.projectId + "/application/" + this.props.applicationId + "/resource/" + this.props.resourceId + "/method/" + this.props.methodId)
@@ -161,6 +180,8 @@ class UpdateMethodModal extends PureComponent {
                         forwardedEndpoint: response.data.forwardedEndpoint,
                         simulateNetworkDelay: response.data.simulateNetworkDelay,
                         networkDelay: response.data.networkDelay,
+                        networkDelayDistribution: response.data.networkDelayDistribution || "FIXED",
+                        networkDelayJitter: response.data.networkDelayJitter,
                         defaultMockResponseId: response.data.defaultMockResponseId,
                         automaticForward: response.data.automaticForward
                     },
@@ -346,6 +367,29 @@ class UpdateMethodModal extends PureComponent {
                                            onChange={event => this.onNetworkDelayChange(event.target.value)} onKeyDown={preventEnterEvent}/>
                                 </div>
                             </div>
+                            <div className="form-group row">
+                                <label className="col-sm-3 col-form-label">Network delay distribution</label>
+                                <div className="col-sm-9">
+                                    <select id="inputNetworkDelayDistribution" className="form-control" value={this.state.updateMethod.networkDelayDistribution}
+                                            onChange={event => this.onNetworkDelayDistributionChange(event.target.value)}>
+                                        <option value={"FIXED"}>{networkDelayDistributionFormatter("FIXED")}</option>
+                                        <option value={"UNIFORM"}>{networkDelayDistributionFormatter("UNIFORM")}</option>
+                                        <option value={"NORMAL"}>{networkDelayDistributionFormatter("NORMAL")}</option>
+                                        <option value={"PERCENTILE"}>{networkDelayDistributionFormatter("PERCENTILE")}</option>
+                                    </select>
+                                </div>
+                            </div>
+                            <div className="form-group row">
+                                <label className="col-sm-3 col-form-label">Network delay jitter</label>
+                                <div className="col-sm-9">
+                                    <input className="form-control" type="text" value={this.state.updateMethod.networkDelayJitter}
+                                           disabled={this.state.updateMethod.networkDelayDistribution === "FIXED"}
+                                           onChange={event => this.onNetworkDelayJitterChange(event.target.value)} onKeyDown={preventEnterEvent}/>
+                                    <small className="form-text text-muted">
+                                        Uniform: delay ± jitter. Normal: jitter is the standard deviation. Percentile: delay is p50 and jitter is p99.
+                                    </small>
+                                </div>
+                            </div>
                             <div className="form-group row">
                                 <label className="col-sm-3 col-form-label">Default response</label>
                                 <div className="col-sm-9">
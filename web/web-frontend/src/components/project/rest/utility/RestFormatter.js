@@ -94,10 +94,25 @@ const definitionTypeFormatter = (status) => {
     return status;
 };
 
+const networkDelayDistributionFormatter = (distribution) => {
+    if(distribution === "FIXED"){
+        return "Fixed";
+    } else if(distribution === "UNIFORM"){
+        return "Uniform"
+    } else if(distribution === "NORMAL"){
+        return "Normal"
+    } else if(distribution === "PERCENTILE"){
+        return "Percentile (p50/p99)"
+    }
+
+    return distribution;
+};
+
 export {
     mockResponseStatusFormatter,
     methodResponseStrategyFormatter,
     methodMultipleResponseStrategyFormatter,
     methodStatusFormatter,
-    definitionTypeFormatter
+    definitionTypeFormatter,
+    networkDelayDistributionFormatter
 };
\ No newline at end of file
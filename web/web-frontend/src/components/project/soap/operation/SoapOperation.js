@@ -29,7 +29,8 @@ import DeleteMockResponsesModal from "./modal/DeleteMockResponsesModal";
 import CreateMockResponseModal from "./modal/CreateMockResponseModal";
 import DuplicateMockResponseModal from "./modal/DuplicateMockResponseModal"
 import {operationStatusFormatter, operationSoapVersionFormatter,
-    operationIdentifyStrategy, operationResponseStrategy, mockResponseStatusFormatter} from "../utility/SoapFormatter"
+    operationIdentifyStrategy, operationResponseStrategy, mockResponseStatusFormatter,
+    networkDelayDistributionFormatter} from "../utility/SoapFormatter"
 import ContextContext from "../../../../context/ContextContext";
 import {faTrash, faFile, faEdit, faCopy} from "@fortawesome/free-solid-svg-icons";
 import {FontAwesomeIcon} from "@fortawesome/react-fontawesome";
@@ -286,6 +287,16 @@ class SoapOperation extends PureComponent {
                             <dt className="col-sm-3 content-title">Network delay</dt>
                             <dd className="col-sm-9">{this.state.operation.networkDelay} ms</dd>
                         </dl>
+                        <dl className="row">
+                            <dt className="col-sm-3 content-title">Network delay distribution</dt>
+                            <dd className="col-sm-9">{networkDelayDistributionFormatter(this.state.operation.networkDelayDistribution || "FIXED")}</dd>
+                        </dl>
+                        {this.state.operation.networkDelayJitter != null &&
+                        <dl className="row">
+                            <dt className="col-sm-3 content-title">Network delay jitter</dt>
+                            <dd className="col-sm-9">{this.state.operation.networkDelayJitter} ms</dd>
+                        </dl>
+                        }
                         <dl className="row">
                             <dt className="col-sm-3 content-title">Default response</dt>
                             <dd className="col-sm-9">{this.state.operation.defaultResponseName}</dd>
@@ -17,7 +17,8 @@
 import React, {PureComponent} from "react";
 import axios from "axios";
 import validateErrorResponse from "../../../../../utility/HttpResponseValidator";
-import {operationStatusFormatter, operationResponseStrategy, operationIdentifyStrategy} from "../../utility/SoapFormatter"
+import {operationStatusFormatter, operationResponseStrategy, operationIdentifyStrategy,
+    networkDelayDistributionFormatter} from "../../utility/SoapFormatter"
 import preventEnterEvent from "../../../../../utility/KeyboardUtility";
 import {faCheckCircle} from "@fortawesome/free-solid-svg-icons";
 import {FontAwesomeIcon} from "@fortawesome/react-fontawesome";
@@ -33,6 +34,8 @@ class UpdateOperationModal extends PureComponent {
         this.onSimulateNetworkDelayChange = this.onSimulateNetworkDelayChange.bind(this);
         this.onAutomaticForward = this.onAutomaticForward.bind(this);
         this.onNetworkDelayChange = this.onNetworkDelayChange.bind(this);
+        this.onNetworkDelayDistributionChange = this.onNetworkDelayDistributionChange.bind(this);
+        this.onNetworkDelayJitterChange = this.onNetworkDelayJitterChange.bind(this);
         this.onMockOnFailureChange = this.onMockOnFailureChange.bind(this);
         this.onOperationIdentifyStrategyChange = this.onOperationIdentifyStrategyChange.bind(this);
         this.onDefaultMockResponseIdChange = this.onDefaultMockResponseIdChange.bind(this);
@@ -57,6 +60,8 @@ class UpdateOperationModal extends PureComponent {
                         forwardedEndpoint: response.data.forwardedEndpoint,
                         simulateNetworkDelay: response.data.simulateNetworkDelay,
                         networkDelay: response.data.networkDelay,
+                        networkDelayDistribution: response.data.networkDelayDistribution || "FIXED",
+                        networkDelayJitter: response.data.networkDelayJitter,
                         mockOnFailure: response.data.mockOnFailure,
                         identifyStrategy: response.data.identifyStrategy,
                         defaultMockResponseId: response.data.defaultMockResponseId,
@@ -119,6 +124,22 @@ class UpdateOperationModal extends PureComponent {
         });
     }
 
+    onNetworkDelayDistributionChange(networkDelayDistribution){
+        this.setState({ updateOperation: {
+                ...this.state.updateOperation,
+                networkDelayDistribution: networkDelayDistribution
+            }
+        });
+    }
+
+    onNetworkDelayJitterChange(networkDelayJitter){
+        this.setState({ updateOperation: {
+                ...this.state.updateOperation,
+                networkDelayJitter: networkDelayJitter
+            }
+        });
+    }
+
     onMockOnFailureChange(mockOnFailure){
         this.setState({ updateOperation: {
                 ...this.state.updateOperation,
@@ -242,6 +263,29 @@ class UpdateOperationModal extends PureComponent {
                                            onChange={event => this.onNetworkDelayChange(event.target.value)} onKeyDown={preventEnterEvent}/>
                                 </div>
                             </div>
+                            <div className="form-group row">
+                                <label className="col-sm-3 col-form-label">Network delay distribution</label>
+                                <div className="col-sm-9">
+                                    <select id="inputNetworkDelayDistribution" className="form-control" value={this.state.updateOperation.networkDelayDistribution}
+                                            onChange={event => this.onNetworkDelayDistributionChange(event.target.value)}>
+                                        <option value={"FIXED"}>{networkDelayDistributionFormatter("FIXED")}</option>
+                                        <option value={"UNIFORM"}>{networkDelayDistributionFormatter("UNIFORM")}</option>
+                                        <option value={"NORMAL"}>{networkDelayDistributionFormatter("NORMAL")}</option>
+                                        <option value={"PERCENTILE"}>{networkDelayDistributionFormatter("PERCENTILE")}</option>
+                                    </select>
+                                </div>
+                            </div>
+                            <div className="form-group row">
+                                <label className="col-sm-3 col-form-label">Network delay jitter</label>
+                                <div className="col-sm-9">
+                                    <input className="form-control" type="text" value={this.state.updateOperation.networkDelayJitter}
+                                           disabled={this.state.updateOperation.networkDelayDistribution === "FIXED"}
+                                           onChange={event => this.onNetworkDelayJitterChange(event.target.value)} onKeyDown={preventEnterEvent}/>
+                                    <small className="form-text text-muted">
+                                        Uniform: delay ± jitter. Normal: jitter is the standard deviation. Percentile: delay is p50 and jitter is p99.
+                                    </small>
+                                </div>
+                            </div>
                             <div className="form-group row">
                                 <label className="col-sm-3 col-form-label">Default response</label>
                                 <div className="col-sm-9">
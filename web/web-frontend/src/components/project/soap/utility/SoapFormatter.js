@@ -73,10 +73,25 @@ const operationStatusFormatter = (status) => {
     return status;
 };
 
+const networkDelayDistributionFormatter = (distribution) => {
+    if(distribution === "FIXED"){
+        return "Fixed";
+    } else if(distribution === "UNIFORM"){
+        return "Uniform"
+    } else if(distribution === "NORMAL"){
+        return "Normal"
+    } else if(distribution === "PERCENTILE"){
+        return "Percentile (p50/p99)"
+    }
+
+    return distribution;
+};
+
 export {
     mockResponseStatusFormatter,
     operationIdentifyStrategy,
     operationResponseStrategy,
     operationSoapVersionFormatter,
-    operationStatusFormatter
+    operationStatusFormatter,
+    networkDelayDistributionFormatter
 };
\ No newline at end of file
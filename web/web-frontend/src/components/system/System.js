@@ -99,6 +99,14 @@ class System extends PureComponent {
                             <dt className="col-sm-2 content-title">Home directory</dt>
                             <dd className="col-sm-9">{this.state.system.castleMockHomeDirectory}</dd>
                         </dl>
+                        <dl className="row">
+                            <dt className="col-sm-2 content-title">Loaded files</dt>
+                            <dd className="col-sm-9">{this.state.system.loadedFiles} ({this.state.system.loadTime} ms)</dd>
+                        </dl>
+                        <dl className="row">
+                            <dt className="col-sm-2 content-title">Saved files</dt>
+                            <dd className="col-sm-9">{this.state.system.savedFiles} ({this.state.system.saveTime} ms)</dd>
+                        </dl>
                     </div>
                 </section>
             </div>
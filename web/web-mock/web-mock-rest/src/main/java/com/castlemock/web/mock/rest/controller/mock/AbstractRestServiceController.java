@@ -17,15 +17,17 @@
 package com.castlemock.web.mock.rest.controller.mock;
 
 import com.castlemock.model.core.ServiceProcessor;
+import com.castlemock.model.core.http.HttpContentEncoding;
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.http.HttpMethod;
 import com.castlemock.model.core.http.HttpParameter;
 import com.castlemock.model.core.utility.IdUtility;
 import com.castlemock.model.core.utility.JsonPathUtility;
+import com.castlemock.model.core.utility.ParsedBody;
 import com.castlemock.model.core.utility.XPathUtility;
 import com.castlemock.model.core.utility.parser.ExternalInputBuilder;
-import com.castlemock.model.core.utility.parser.TextParser;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
+import com.castlemock.model.core.utility.random.RandomSource;
 import com.castlemock.model.mock.rest.domain.RestEvent;
 import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.model.mock.rest.domain.RestMethodStatus;
@@ -34,32 +36,45 @@ import com.castlemock.model.mock.rest.domain.RestMockResponseStatus;
 import com.castlemock.model.mock.rest.domain.RestRequest;
 import com.castlemock.model.mock.rest.domain.RestResponse;
 import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
-import com.castlemock.service.mock.rest.event.input.CreateRestEventInput;
+import com.castlemock.service.mock.rest.event.RestEventPipeline;
 import com.castlemock.service.mock.rest.project.input.CreateRestMockResponseInput;
 import com.castlemock.service.mock.rest.project.input.IdentifyRestMethodInput;
+import com.castlemock.service.mock.rest.project.input.ReadRestMethodInput;
 import com.castlemock.service.mock.rest.project.input.UpdateCurrentRestMockResponseSequenceIndexInput;
 import com.castlemock.service.mock.rest.project.input.UpdateRestMethodsStatusInput;
 import com.castlemock.service.mock.rest.project.output.IdentifyRestMethodOutput;
+import com.castlemock.service.mock.rest.project.output.ReadRestMethodOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRemovedEvent;
 import com.castlemock.web.core.controller.AbstractController;
+import com.castlemock.web.core.utility.CapturingWriter;
+import com.castlemock.web.core.utility.CharsetUtility;
+import com.castlemock.web.core.utility.ContentEncodingUtility;
 import com.castlemock.web.core.utility.HttpMessageSupport;
+import com.castlemock.web.core.utility.NetworkDelayUtility;
 import com.castlemock.web.mock.rest.model.RestException;
+import com.castlemock.web.mock.rest.model.RestTruncatedResponseException;
 import com.castlemock.web.mock.rest.utility.RestClient;
 import com.castlemock.web.mock.rest.utility.RestHeaderQueryValidator;
 import com.castlemock.web.mock.rest.utility.RestParameterQueryValidator;
-import com.castlemock.web.mock.rest.utility.compare.RestMockResponseNameComparator;
+import com.castlemock.web.mock.rest.utility.RestSequencePersistenceExecutor;
 import com.google.common.base.Preconditions;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -68,8 +83,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -86,21 +104,51 @@ public abstract class AbstractRestServiceController extends AbstractController {
     private static final String CONTENT_ENCODING = "Content-Encoding";
     private static final String RECORDED_RESPONSE_NAME = "Recorded response";
     private static final DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
-    private static final Random RANDOM = new Random();
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractRestServiceController.class);
-
-    private static final RestMockResponseNameComparator MOCK_RESPONSE_NAME_COMPARATOR =
-            new RestMockResponseNameComparator();
+    private static final long DEFAULT_SEQUENCE_PERSISTENCE_DELAY = 1000L;
+    private static final int DEFAULT_FORWARD_STREAMING_CAPTURE_SIZE = 65536;
+    private static final int DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE = 1024;
+    private static final int DEFAULT_RESPONSE_STREAMING_CAPTURE_SIZE = 65536;
 
     private final ServletContext servletContext;
     private final RestClient restClient;
+    private final RestEventPipeline restEventPipeline;
+    private final RandomSource randomSource;
+    private final RestSequencePersistenceExecutor sequenceExecutor;
+    private final Map<String, RestMockResponseSelectionPlan> selectionPlans = new ConcurrentHashMap<>();
+    private final Map<String, PendingSequence> pendingSequences = new ConcurrentHashMap<>();
+
+    @Value("${rest.mock.response.sequence.persistence:LAZY}")
+    private SequencePersistence sequencePersistence = SequencePersistence.LAZY;
+    @Value("${rest.mock.response.sequence.persistence.delay:1000}")
+    private long sequencePersistenceDelay = DEFAULT_SEQUENCE_PERSISTENCE_DELAY;
+    @Value("${forward.streaming.enabled:false}")
+    private boolean forwardStreaming;
+    @Value("${forward.streaming.capture.size:65536}")
+    private int forwardStreamingCaptureSize = DEFAULT_FORWARD_STREAMING_CAPTURE_SIZE;
+    @Value("${rest.mock.response.static.enabled:false}")
+    private boolean staticResponses;
+    @Value("${mock.response.compression.enabled:false}")
+    private boolean responseCompression;
+    @Value("${mock.response.compression.min.size:1024}")
+    private int responseCompressionMinSize = DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE;
+    @Value("${rest.mock.response.streaming.enabled:false}")
+    private boolean responseStreaming;
+    @Value("${rest.mock.response.streaming.capture.size:65536}")
+    private int responseStreamingCaptureSize = DEFAULT_RESPONSE_STREAMING_CAPTURE_SIZE;
 
     protected AbstractRestServiceController(final ServiceProcessor serviceProcessor,
                                             final ServletContext servletContext,
-                                            final RestClient restClient){
+                                            final RestClient restClient,
+                                            final RestEventPipeline restEventPipeline,
+                                            final RandomSource randomSource,
+                                            final RestSequencePersistenceExecutor sequenceExecutor){
         super(serviceProcessor);
         this.servletContext = Objects.requireNonNull(servletContext, "servletContext");
         this.restClient = Objects.requireNonNull(restClient, "restClient");
+        this.restEventPipeline = Objects.requireNonNull(restEventPipeline, "restEventPipeline");
+        this.randomSource = Objects.requireNonNull(randomSource, "randomSource");
+        this.sequenceExecutor = Objects.requireNonNull(sequenceExecutor, "sequenceExecutor");
     }
 
     /**
@@ -109,9 +157,9 @@ public abstract class AbstractRestServiceController extends AbstractController {
      * @param httpMethod          The request method
      * @param httpServletRequest  The incoming request
      * @param httpServletResponse The outgoing response
-     * @return Returns the response as an String
+     * @return Returns the response as an String, or as bytes if the response has been compressed
      */
-    protected ResponseEntity<String> process(final String projectId,
+    protected ResponseEntity<?> process(final String projectId,
                                              final String applicationId,
                                              final HttpMethod httpMethod,
                                              final HttpServletRequest httpServletRequest,
@@ -135,7 +183,7 @@ public abstract class AbstractRestServiceController extends AbstractController {
 
             return process(restRequest, projectId, applicationId, resourceId,
                     output.getMethod(), output.getPathParameters(),
-                    httpServletRequest);
+                    httpServletRequest, httpServletResponse);
         } catch (Exception exception) {
             LOGGER.error("REST service exception: " + exception.getMessage(), exception);
             throw new RestException(exception);
@@ -164,6 +212,7 @@ public abstract class AbstractRestServiceController extends AbstractController {
         final Set<HttpHeader> httpHeaders = HttpMessageSupport.extractHttpHeaders(httpServletRequest);
         return RestRequest.builder()
                 .body(body)
+                .bodyBytes(HttpMessageSupport.getBodyBytes(httpServletRequest).orElse(null))
                 .uri(restResourceUri)
                 .httpMethod(httpMethod)
                 .httpHeaders(httpHeaders)
@@ -182,22 +231,56 @@ public abstract class AbstractRestServiceController extends AbstractController {
      * @param applicationId       The id of the application that the incoming request belongs to
      * @param resourceId          The id of the resource that the incoming request belongs to
      * @param restMethod          The REST method which the incoming request belongs to
-     * @return A response in String format
+     * @param httpServletResponse The outgoing response. Forwarded responses are streamed directly to the
+     *                            outgoing response if forward streaming has been enabled. Mock responses that
+     *                            don't use expressions are written directly to the outgoing response if static
+     *                            responses have been enabled, and mock responses that use expressions are rendered
+     *                            directly to the outgoing response if response streaming has been enabled.
+     * @return A response in String format, or as bytes if the response has been compressed.
+     * <code>null</code> is returned if the response has already been written to the outgoing response, or if
+     * the response will be released asynchronously once the simulated network delay has elapsed.
      */
-    protected ResponseEntity<String> process(final RestRequest restRequest,
+    protected ResponseEntity<?> process(final RestRequest restRequest,
                                              final String projectId,
                                              final String applicationId,
                                              final String resourceId,
                                              final RestMethod restMethod,
                                              final Map<String, Set<String>> pathParameters,
-                                             final HttpServletRequest httpServletRequest) {
+                                             final HttpServletRequest httpServletRequest,
+                                             final HttpServletResponse httpServletResponse) {
         Preconditions.checkNotNull(restRequest, "Rest request cannot be null");
         final Date startDate = new Date();
+        final Consumer<RestResponse> eventRecorder = released -> restEventPipeline.submit(RestEvent.builder()
+                .id(IdUtility.generateId())
+                .resourceName(restMethod.getName())
+                .request(restRequest)
+                .response(released)
+                .projectId(projectId)
+                .applicationId(applicationId)
+                .resourceId(resourceId)
+                .methodId(restMethod.getId())
+                .startDate(startDate)
+                .endDate(new Date())
+                .build());
         RestResponse response = null;
+        // A delayed response records its event once it has been released, which means that
+        // the end date of the event includes the simulated network delay
+        boolean eventDeferred = false;
         try {
+            // The generator is used for every random value of the request, such as the selected mock response
+            final RandomGenerator random = randomSource.getGenerator(projectId, restMethod.getId());
+            // The body is parsed at most once, regardless of how many expressions that evaluate it
+            final Optional<ParsedBody> parsedBody = restRequest.getBody().map(ParsedBody::of);
             if (RestMethodStatus.DISABLED.equals(restMethod.getStatus())) {
                 throw new RestException("The requested REST method, " + restMethod.getName() + ", is disabled");
             } else if (RestMethodStatus.FORWARDED.equals(restMethod.getStatus())) {
+                if (forwardStreaming && httpServletResponse != null) {
+                    // The forwarded response is streamed to the outgoing response once the network delay has elapsed
+                    eventDeferred = true;
+                    writeDelayed(httpServletRequest, getNetworkDelay(restMethod, random),
+                            () -> streamForwardedRequest(restRequest, restMethod, httpServletResponse), eventRecorder);
+                    return null;
+                }
                 response = forwardRequest(restRequest, restMethod);
             } else if (RestMethodStatus.RECORDING.equals(restMethod.getStatus())) {
                 response = forwardRequestAndRecordResponse(restRequest, projectId, applicationId, resourceId, restMethod);
@@ -206,7 +289,36 @@ public abstract class AbstractRestServiceController extends AbstractController {
             } else if (RestMethodStatus.ECHO.equals(restMethod.getStatus())) {
                 response = echoResponse(restRequest);
             } else { // Status.MOCKED
-                response = mockResponse(restRequest, projectId, applicationId, resourceId, restMethod, pathParameters, httpServletRequest);
+                final RestMockResponse mockResponse = selectMockResponse(restRequest, parsedBody, projectId,
+                        applicationId, resourceId, restMethod, pathParameters, random);
+                if (mockResponse == null) {
+                    response = forwardUnmatchedRequest(restRequest, restMethod);
+                } else if (responseStreaming && !responseCompression && httpServletResponse != null &&
+                        mockResponse.getUsingExpressions().orElse(false)) {
+                    // The mock response is rendered to the outgoing response once the network delay has elapsed
+                    eventDeferred = true;
+                    writeDelayed(httpServletRequest, getNetworkDelay(restMethod, random),
+                            () -> streamMockResponse(restMethod, mockResponse, restRequest, parsedBody, pathParameters,
+                                    httpServletRequest, httpServletResponse, random), eventRecorder);
+                    return null;
+                } else {
+                    response = createMockResponse(restMethod, mockResponse, restRequest, parsedBody, pathParameters,
+                            httpServletRequest, random);
+                    if (staticResponses && httpServletResponse != null &&
+                            !mockResponse.getUsingExpressions().orElse(false)) {
+                        final RestStaticResponse staticResponse = getStaticResponse(restMethod, mockResponse);
+                        final long networkDelay = getNetworkDelay(restMethod, random);
+                        if (networkDelay > 0L) {
+                            final RestResponse released = response;
+                            eventDeferred = true;
+                            return NetworkDelayUtility.delay(httpServletRequest, networkDelay,
+                                    staticResponse.toResponseEntity(httpServletRequest),
+                                    () -> eventRecorder.accept(released));
+                        }
+                        writeStaticResponse(staticResponse, httpServletRequest, httpServletResponse);
+                        return null;
+                    }
+                }
             }
 
             final HttpHeaders responseHeaders = new HttpHeaders();
@@ -220,36 +332,62 @@ public abstract class AbstractRestServiceController extends AbstractController {
                         responseHeaders.put(httpHeader.getName(), headerValues);
                     });
 
-            if (restMethod.getSimulateNetworkDelay().orElse(false) &&
-                    restMethod.getNetworkDelay().isPresent()) {
-                try {
-                    Thread.sleep(restMethod.getNetworkDelay().get());
-                } catch (InterruptedException e) {
-                    LOGGER.error("Unable to simulate network delay", e);
-                }
+            final HttpStatus httpStatus = HttpStatus.valueOf(response.getHttpStatusCode());
+            final String body = response.getBody().orElse(null);
+            final Optional<ContentEncodingUtility.EncodedBody> encodedBody = responseCompression && httpServletRequest != null ?
+                    ContentEncodingUtility.encode(body, CharsetUtility.getCharset(response.getHttpHeaders()),
+                            httpServletRequest.getHeader(ContentEncodingUtility.ACCEPT_ENCODING),
+                            getResponseEncodings(response.getContentEncodings()), responseCompressionMinSize) :
+                    Optional.empty();
+            final ResponseEntity<?> responseEntity;
+            if (encodedBody.isPresent()) {
+                responseHeaders.set(ContentEncodingUtility.CONTENT_ENCODING, encodedBody.get().getEncodingName());
+                responseHeaders.add(ContentEncodingUtility.VARY, ContentEncodingUtility.ACCEPT_ENCODING);
+                responseEntity = new ResponseEntity<>(encodedBody.get().getBody(), responseHeaders, httpStatus);
+            } else {
+                responseEntity = new ResponseEntity<>(body, responseHeaders, httpStatus);
             }
 
-            return new ResponseEntity<>(response.getBody().orElse(null), responseHeaders,
-                    HttpStatus.valueOf(response.getHttpStatusCode()));
+            final RestResponse released = response;
+            eventDeferred = true;
+            return NetworkDelayUtility.delay(httpServletRequest, getNetworkDelay(restMethod, random), responseEntity,
+                    () -> eventRecorder.accept(released));
         } finally {
-            final RestEvent event = RestEvent.builder()
-                    .id(IdUtility.generateId())
-                    .resourceName(restMethod.getName())
-                    .request(restRequest)
-                    .response(response)
-                    .projectId(projectId)
-                    .applicationId(applicationId)
-                    .resourceId(resourceId)
-                    .methodId(restMethod.getId())
-                    .startDate(startDate)
-                    .endDate(new Date())
-                    .build();
-            serviceProcessor.processAsync(CreateRestEventInput.builder()
-                    .restEvent(event)
-                    .build());
+            if (!eventDeferred) {
+                eventRecorder.accept(response);
+            }
         }
     }
 
+    /**
+     * The method writes a response directly to the outgoing response once the network delay has elapsed.
+     * The event is recorded once the response has been written, or once the writer has failed. A response
+     * that was interrupted after it had been committed is recorded with the part that was written.
+     *
+     * @param httpServletRequest The incoming request
+     * @param networkDelay       The network delay in milliseconds
+     * @param writer             Writes the response to the outgoing response and returns what was written
+     * @param eventRecorder      Records the event of the request
+     * @see NetworkDelayUtility#delayWrite(HttpServletRequest, long, Runnable)
+     */
+    private static void writeDelayed(final HttpServletRequest httpServletRequest,
+                                     final long networkDelay,
+                                     final Supplier<RestResponse> writer,
+                                     final Consumer<RestResponse> eventRecorder) {
+        NetworkDelayUtility.delayWrite(httpServletRequest, networkDelay, () -> {
+            RestResponse written = null;
+            try {
+                written = writer.get();
+            } catch (RestTruncatedResponseException exception) {
+                written = exception.getResponse();
+                // The exception is rethrown, since the connection has to be aborted
+                throw exception;
+            } finally {
+                eventRecorder.accept(written);
+            }
+        });
+    }
+
     /**
      * The method provides the functionality to forward a request to another endpoint
      *
@@ -262,6 +400,89 @@ public abstract class AbstractRestServiceController extends AbstractController {
         return restClient.getResponse(request, restMethod).orElseThrow(() -> new RestException("Unable to forward request to configured endpoint"));
     }
 
+    /**
+     * The method provides the functionality to forward a request to another endpoint and stream
+     * the response directly to the outgoing response. Only the beginning of the response body is
+     * kept in the returned response.
+     *
+     * @param request             The incoming request
+     * @param restMethod          The REST method which the incoming request belongs to
+     * @param httpServletResponse The outgoing response
+     * @return The response received from the external endpoint
+     */
+    private RestResponse streamForwardedRequest(final RestRequest request,
+                                                final RestMethod restMethod,
+                                                final HttpServletResponse httpServletResponse) {
+        return restClient.streamResponse(request, restMethod, httpServletResponse, forwardStreamingCaptureSize)
+                .orElseThrow(() -> new RestException("Unable to forward request to configured endpoint"));
+    }
+
+    /**
+     * The method returns the static response for a mock response that doesn't use expressions.
+     * The mock response is only rendered once and then reused until it has been updated.
+     *
+     * @param restMethod   The REST method which the incoming request belongs to
+     * @param mockResponse The selected mock response
+     * @return The static response
+     * @see RestStaticResponse
+     */
+    private RestStaticResponse getStaticResponse(final RestMethod restMethod,
+                                                 final RestMockResponse mockResponse) {
+        return getSelectionPlan(restMethod)
+                .getStaticResponse(mockResponse, getResponseEncodings(mockResponse.getContentEncodings()),
+                        responseCompressionMinSize);
+    }
+
+    /**
+     * The method writes a static response directly to the outgoing response.
+     *
+     * @param staticResponse      The static response
+     * @param httpServletRequest  The incoming request
+     * @param httpServletResponse The outgoing response
+     */
+    private void writeStaticResponse(final RestStaticResponse staticResponse,
+                                     final HttpServletRequest httpServletRequest,
+                                     final HttpServletResponse httpServletResponse) {
+        try {
+            staticResponse.write(httpServletRequest, httpServletResponse);
+        } catch (IOException exception) {
+            throw new RestException(exception);
+        }
+    }
+
+    /**
+     * Get the encodings that a response can be compressed with. A response is compressed with the same
+     * encodings as the mock response or the forwarded response. All the supported encodings are used if the
+     * response doesn't have any content encodings.
+     *
+     * @param contentEncodings The content encodings of the response
+     * @return The encodings in order of preference, or an empty list if response compression has been disabled
+     */
+    private List<HttpContentEncoding> getResponseEncodings(final List<HttpContentEncoding> contentEncodings) {
+        if (!responseCompression) {
+            return List.of();
+        }
+        return contentEncodings.isEmpty() ? ContentEncodingUtility.SUPPORTED_ENCODINGS : contentEncodings;
+    }
+
+    /**
+     * Sample the network delay that should be simulated for a response.
+     *
+     * @param restMethod The REST method which the incoming request belongs to
+     * @param random     The random generator of the request
+     * @return The network delay in milliseconds, or 0 if no network delay should be simulated
+     * @see NetworkDelayUtility#getDelay(Long, com.castlemock.model.core.http.NetworkDelayDistribution, Long, RandomGenerator)
+     */
+    private static long getNetworkDelay(final RestMethod restMethod,
+                                        final RandomGenerator random) {
+        if (!restMethod.getSimulateNetworkDelay().orElse(false)) {
+            return 0L;
+        }
+        return NetworkDelayUtility.getDelay(restMethod.getNetworkDelay().orElse(null),
+                restMethod.getNetworkDelayDistribution().orElse(null),
+                restMethod.getNetworkDelayJitter().orElse(null), random);
+    }
+
     /**
      * The method provides the functionality to forward a request to another endpoint. The response
      * will be recorded and can later be used as a mocked response
@@ -364,60 +585,54 @@ public abstract class AbstractRestServiceController extends AbstractController {
                                         final RestMethod restMethod,
                                         final Map<String, Set<String>> pathParameters,
                                         final HttpServletRequest httpServletRequest) {
-        // Extract the accept-header value.
-        final Collection<String> acceptHeaderValues = getHeaderValues(ACCEPT_HEADER, restRequest.getHttpHeaders());
-
-
-        // Iterate through all mocked responses and extract the ones
-        // that are active.
-        final List<RestMockResponse> enabledMockResponses = new ArrayList<>();
-        for (RestMockResponse mockResponse : restMethod.getMockResponses()) {
-            if (mockResponse.getStatus().equals(RestMockResponseStatus.ENABLED)) {
-                enabledMockResponses.add(mockResponse);
-            }
+        final RandomGenerator random = randomSource.getGenerator(projectId, restMethod.getId());
+        final Optional<ParsedBody> parsedBody = restRequest.getBody().map(ParsedBody::of);
+        final RestMockResponse mockResponse = selectMockResponse(restRequest, parsedBody, projectId,
+                applicationId, resourceId, restMethod, pathParameters, random);
+        if (mockResponse == null) {
+            return forwardUnmatchedRequest(restRequest, restMethod);
         }
+        return createMockResponse(restMethod, mockResponse, restRequest, parsedBody, pathParameters,
+                httpServletRequest, random);
+    }
 
-        enabledMockResponses.sort(MOCK_RESPONSE_NAME_COMPARATOR);
-
-        final List<RestMockResponse> mockResponses = new ArrayList<>();
-
-        if (acceptHeaderValues != null) {
-            // Find request that matches the accept-header.
-            for (RestMockResponse mockResponse : enabledMockResponses) {
-                // The accept header has to match the content type.
-                final Collection<String> mockResponseContentTypeValues = getHeaderValues(CONTENT_TYPE, mockResponse.getHttpHeaders());
-                mockResponseContentTypeValues.retainAll(acceptHeaderValues);
-                if (!mockResponseContentTypeValues.isEmpty()) {
-                    mockResponses.add(mockResponse);
-                }
-            }
-        }
+    /**
+     * The method identifies which mocked response will be returned for the incoming request.
+     *
+     * @param parsedBody The body of the incoming request
+     * @param restMethod The REST method which the incoming request belongs to
+     * @param random     The random generator of the request
+     * @return The selected mock response, or <code>null</code> if no mock response matched the request
+     * @since 1.70
+     */
+    private RestMockResponse selectMockResponse(final RestRequest restRequest,
+                                                final Optional<ParsedBody> parsedBody,
+                                                final String projectId,
+                                                final String applicationId,
+                                                final String resourceId,
+                                                final RestMethod restMethod,
+                                                final Map<String, Set<String>> pathParameters,
+                                                final RandomGenerator random) {
+        // Extract the accept-header value.
+        final Collection<String> acceptHeaderValues = getHeaderValues(ACCEPT_HEADER, restRequest.getHttpHeaders());
 
+        // Select the enabled mock responses that matches the accept-header.
         // If no mock responses are matching the accept-header, then
-        // any mock response will do.
-        if (mockResponses.isEmpty()) {
-            mockResponses.addAll(enabledMockResponses);
-        }
+        // any enabled mock response will do.
+        final RestMockResponseSelectionPlan selectionPlan = getSelectionPlan(restMethod);
+        final RestMockResponseSelectionPlan.Selection selection = selectionPlan.select(acceptHeaderValues);
+        final List<RestMockResponse> mockResponses = selection.getMockResponses();
 
         RestMockResponse mockResponse = null;
         if (mockResponses.isEmpty()) {
             throw new RestException("No mocked response created for operation " + restMethod.getName());
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.RANDOM)) {
-            final int responseIndex = RANDOM.nextInt(mockResponses.size());
+            final int responseIndex = random.nextInt(mockResponses.size());
             mockResponse = mockResponses.get(responseIndex);
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.SEQUENCE)) {
-            Integer currentSequenceNumber = restMethod.getCurrentResponseSequenceIndex();
-            if (currentSequenceNumber >= mockResponses.size()) {
-                currentSequenceNumber = 0;
-            }
-            mockResponse = mockResponses.get(currentSequenceNumber);
-            serviceProcessor.process(UpdateCurrentRestMockResponseSequenceIndexInput.builder()
-                    .projectId(projectId)
-                    .applicationId(applicationId)
-                    .resourceId(resourceId)
-                    .methodId(restMethod.getId())
-                    .currentRestMockResponseSequenceIndex(currentSequenceNumber + 1)
-                    .build());
+            final int responseIndex = nextSequenceIndex(selectionPlan, mockResponses.size(),
+                    projectId, applicationId, resourceId, restMethod.getId());
+            mockResponse = mockResponses.get(responseIndex);
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.QUERY_MATCH)) {
             mockResponse = mockResponses.stream()
                     .filter(tmp -> RestParameterQueryValidator.validate(tmp.getParameterQueries(), pathParameters))
@@ -429,11 +644,13 @@ public abstract class AbstractRestServiceController extends AbstractController {
                 mockResponse = this.getDefaultMockResponse(restMethod, mockResponses).orElse(null);
             }
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.XPATH)) {
-            mockResponse = restRequest.getBody()
-                    .flatMap(body -> mockResponses.stream()
+            // The body is parsed once and reused for all the expressions
+            mockResponse = parsedBody
+                    .flatMap(ParsedBody::getXmlDocument)
+                    .flatMap(document -> mockResponses.stream()
                             .filter(testedMockResponse -> testedMockResponse.getXpathExpressions()
                                     .stream()
-                                    .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(body, xPathExpression.getExpression())))
+                                    .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(document, xPathExpression.getExpression())))
                             .findFirst())
                     .orElse(null);
 
@@ -443,11 +660,13 @@ public abstract class AbstractRestServiceController extends AbstractController {
             }
 
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.JSON_PATH)) {
-            mockResponse = restRequest.getBody()
-                    .flatMap(body -> mockResponses.stream()
+            // The body is parsed once and reused for all the expressions
+            mockResponse = parsedBody
+                    .flatMap(ParsedBody::getJsonDocument)
+                    .flatMap(document -> mockResponses.stream()
                             .filter(testedMockResponse -> testedMockResponse.getJsonPathExpressions()
                                     .stream()
-                                    .anyMatch(jsonPathExpression -> JsonPathUtility.isValidJsonPathExpr(body, jsonPathExpression.getExpression())))
+                                    .anyMatch(jsonPathExpression -> JsonPathUtility.isValidJsonPathExpr(document, jsonPathExpression.getExpression())))
                             .findFirst())
                     .orElse(null);
 
@@ -457,19 +676,22 @@ public abstract class AbstractRestServiceController extends AbstractController {
             }
 
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.HEADER_QUERY_MATCH)) {
+            // The headers are indexed once and reused for all the mock responses
+            final Map<String, List<String>> headerValues =
+                    RestHeaderQueryValidator.indexHeaders(restRequest.getHttpHeaders());
             // First, check guard responses - return guard if validation FAILS
-            mockResponse = mockResponses.stream()
-                    .filter(tmp -> tmp.getIsGuard().orElse(false))
+            mockResponse = selection.getGuards()
+                    .stream()
                     .filter(tmp -> !tmp.getHeaderQueries().isEmpty() && 
-                                   !RestHeaderQueryValidator.validate(tmp.getHeaderQueries(), restRequest.getHttpHeaders()))
+                                   !RestHeaderQueryValidator.validate(tmp.getHeaderQueries(), headerValues))
                     .findFirst()
                     .orElse(null);
 
             // If no guard failed, proceed with normal header query matching
             if (mockResponse == null) {
-                mockResponse = mockResponses.stream()
-                        .filter(tmp -> !tmp.getIsGuard().orElse(false))
-                        .filter(tmp -> RestHeaderQueryValidator.validate(tmp.getHeaderQueries(), restRequest.getHttpHeaders()))
+                mockResponse = selection.getNonGuards()
+                        .stream()
+                        .filter(tmp -> RestHeaderQueryValidator.validate(tmp.getHeaderQueries(), headerValues))
                         .findFirst()
                         .orElse(null);
             }
@@ -479,31 +701,111 @@ public abstract class AbstractRestServiceController extends AbstractController {
                 mockResponse = this.getDefaultMockResponse(restMethod, mockResponses).orElse(null);
             }
         } else if (restMethod.getResponseStrategy().equals(RestResponseStrategy.MULTIPLE)) {
-            mockResponse = evaluateMultipleStrategies(restRequest, restMethod, mockResponses, pathParameters, httpServletRequest, projectId, applicationId, resourceId);
+            mockResponse = evaluateMultipleStrategies(restRequest, parsedBody, restMethod, selectionPlan, selection, pathParameters, projectId, applicationId, resourceId, random);
         }
 
-        if (mockResponse == null && restMethod.getAutomaticForward().orElse(false) && restMethod.getForwardedEndpoint().isPresent()) {
+        return mockResponse;
+    }
+
+    /**
+     * The method is used when no mock response matched the incoming request. The request will be
+     * forwarded if the REST method is configured to automatically forward unmatched requests.
+     *
+     * @param restRequest The incoming request
+     * @param restMethod  The REST method which the incoming request belongs to
+     * @return The response received from the external endpoint
+     * @throws RestException If the request can't be forwarded
+     * @since 1.70
+     */
+    private RestResponse forwardUnmatchedRequest(final RestRequest restRequest,
+                                                 final RestMethod restMethod) {
+        if (restMethod.getAutomaticForward().orElse(false) && restMethod.getForwardedEndpoint().isPresent()) {
             return forwardRequest(restRequest, restMethod);
         }
 
-        if (mockResponse == null) {
-            throw new RestException("No mocked response created for operation " + restMethod.getName());
-        }
+        throw new RestException("No mocked response created for operation " + restMethod.getName());
+    }
 
+    /**
+     * The method creates a {@link RestResponse} from the selected mock response. Expressions in the body
+     * will be evaluated if the mock response is configured to use expressions.
+     *
+     * @param restMethod   The REST method which the incoming request belongs to
+     * @param mockResponse The selected mock response
+     * @param restRequest  The incoming request
+     * @param parsedBody   The body of the incoming request
+     * @param random       The random generator of the request
+     * @return The response which will be returned to the service consumer
+     * @since 1.70
+     */
+    private RestResponse createMockResponse(final RestMethod restMethod,
+                                            final RestMockResponse mockResponse,
+                                            final RestRequest restRequest,
+                                            final Optional<ParsedBody> parsedBody,
+                                            final Map<String, Set<String>> pathParameters,
+                                            final HttpServletRequest httpServletRequest,
+                                            final RandomGenerator random) {
         String body = mockResponse.getBody().orElse(null);
         if (mockResponse.getUsingExpressions().orElse(false)) {
-            final Map<String, ExpressionArgument<?>> externalInput = new ExternalInputBuilder()
-                    .pathParameters(pathParameters)
-                    .queryStringParameters(restRequest.getHttpParameters())
-                    .requestUrl(httpServletRequest.getRequestURL().toString())
-                    .requestBody(restRequest.getBody().orElse(null))
-                    .build();
-
             // Parse the text and apply expression functionality if
             // the mock response is configured to use expressions
-            body = new TextParser().parse(body, externalInput)
-                    .orElse("");
+            body = getSelectionPlan(restMethod).getTemplate(mockResponse)
+                    .render(getExternalInput(restRequest, parsedBody, pathParameters, httpServletRequest), random);
+        }
+        return RestResponse.builder()
+                .body(body)
+                .mockResponseName(mockResponse.getName())
+                .httpStatusCode(mockResponse.getHttpStatusCode())
+                .httpHeaders(mockResponse.getHttpHeaders())
+                .contentEncodings(mockResponse.getContentEncodings())
+                .build();
+    }
+
+    /**
+     * The method renders a mock response that uses expressions directly to the outgoing response.
+     * Literal parts of the body and the results of the expressions are written as soon as they are
+     * available, which means that the rendered body is never held in memory as a whole. Only the
+     * beginning of the body is kept in the returned response.
+     *
+     * @param restMethod          The REST method which the incoming request belongs to
+     * @param mockResponse        The mock response that will be rendered
+     * @param restRequest         The incoming request
+     * @param parsedBody          The body of the incoming request
+     * @param pathParameters      The extracted path parameters
+     * @param httpServletRequest  The incoming servlet request
+     * @param httpServletResponse The outgoing response
+     * @param random              The random generator of the request
+     * @return The response that has been written to the outgoing response
+     * @since 1.70
+     */
+    private RestResponse streamMockResponse(final RestMethod restMethod,
+                                            final RestMockResponse mockResponse,
+                                            final RestRequest restRequest,
+                                            final Optional<ParsedBody> parsedBody,
+                                            final Map<String, Set<String>> pathParameters,
+                                            final HttpServletRequest httpServletRequest,
+                                            final HttpServletResponse httpServletResponse,
+                                            final RandomGenerator random) {
+        final Charset charset = CharsetUtility.getCharset(mockResponse.getHttpHeaders());
+        httpServletResponse.setStatus(mockResponse.getHttpStatusCode());
+        mockResponse.getHttpHeaders()
+                .stream()
+                .filter(httpHeader -> !httpHeader.getName().equalsIgnoreCase(CONTENT_ENCODING))
+                .forEach(httpHeader -> httpServletResponse.addHeader(httpHeader.getName(), httpHeader.getValue()));
+        httpServletResponse.setCharacterEncoding(charset.name());
+
+        final String body;
+        try {
+            final Writer outputWriter = new OutputStreamWriter(httpServletResponse.getOutputStream(), charset);
+            final CapturingWriter writer = new CapturingWriter(outputWriter, responseStreamingCaptureSize);
+            getSelectionPlan(restMethod).getTemplate(mockResponse)
+                    .render(getExternalInput(restRequest, parsedBody, pathParameters, httpServletRequest), random, writer);
+            writer.flush();
+            body = writer.getCapturedText();
+        } catch (IOException exception) {
+            throw new RestException(exception);
         }
+
         return RestResponse.builder()
                 .body(body)
                 .mockResponseName(mockResponse.getName())
@@ -513,6 +815,136 @@ public abstract class AbstractRestServiceController extends AbstractController {
                 .build();
     }
 
+    /**
+     * The method creates the external input that is available to the expressions of a mock response.
+     *
+     * @param restRequest        The incoming request
+     * @param parsedBody         The body of the incoming request
+     * @param pathParameters     The extracted path parameters
+     * @param httpServletRequest The incoming servlet request
+     * @return The external input of the expressions
+     */
+    private Map<String, ExpressionArgument<?>> getExternalInput(final RestRequest restRequest,
+                                                                final Optional<ParsedBody> parsedBody,
+                                                                final Map<String, Set<String>> pathParameters,
+                                                                final HttpServletRequest httpServletRequest) {
+        return new ExternalInputBuilder()
+                .pathParameters(pathParameters)
+                .queryStringParameters(restRequest.getHttpParameters())
+                .requestUrl(httpServletRequest.getRequestURL().toString())
+                .requestBody(parsedBody.orElse(null))
+                .build();
+    }
+
+    /**
+     * Get the {@link RestMockResponseSelectionPlan} for the provided {@link RestMethod}. A new plan
+     * will be compiled if the method or any of its mock responses have been updated since the
+     * current plan was compiled.
+     *
+     * @param restMethod The REST method which the incoming request belongs to
+     * @return The selection plan for the method
+     * @since 1.70
+     */
+    private RestMockResponseSelectionPlan getSelectionPlan(final RestMethod restMethod) {
+        final RestMockResponseSelectionPlan selectionPlan = this.selectionPlans.get(restMethod.getId());
+        if (selectionPlan != null && selectionPlan.isCompiledFrom(restMethod)) {
+            return selectionPlan;
+        }
+
+        // The plan is replaced atomically, since it also holds the sequence counter of the method
+        return this.selectionPlans.compute(restMethod.getId(), (methodId, existing) ->
+                existing != null && existing.isCompiledFrom(restMethod) ?
+                        existing : RestMockResponseSelectionPlan.recompile(restMethod, existing));
+    }
+
+    /**
+     * Discard the selection plan and the pending sequence of a deleted {@link RestMethod}.
+     * A pending sequence is not persisted, since the method no longer exists.
+     *
+     * @param event The event that identifies the deleted method
+     * @since 1.70
+     */
+    @EventListener
+    public void onRestMethodRemoved(final RestMethodRemovedEvent event) {
+        this.selectionPlans.remove(event.getMethodId());
+        this.pendingSequences.remove(event.getMethodId());
+    }
+
+    /**
+     * Get the index of the next mock response in the sequence and advance the in-memory sequence counter.
+     * The new sequence index is persisted according to the configured {@link SequencePersistence}.
+     */
+    private int nextSequenceIndex(final RestMockResponseSelectionPlan selectionPlan,
+                                  final int size,
+                                  final String projectId,
+                                  final String applicationId,
+                                  final String resourceId,
+                                  final String methodId) {
+        final RestMockResponseSequence sequence = selectionPlan.getSequence();
+        final int responseIndex = sequence.next(size);
+        switch (this.sequencePersistence) {
+            case IMMEDIATE -> persistSequence(new PendingSequence(projectId, applicationId, resourceId, methodId, sequence));
+            case LAZY -> {
+                final PendingSequence pendingSequence =
+                        new PendingSequence(projectId, applicationId, resourceId, methodId, sequence);
+                // Only one write per method is scheduled, regardless of how many requests that are processed
+                if (this.pendingSequences.put(methodId, pendingSequence) == null) {
+                    this.sequenceExecutor.schedule(() -> persistPendingSequence(methodId),
+                            this.sequencePersistenceDelay);
+                }
+            }
+            case NONE -> {
+                // The sequence is only kept in memory
+            }
+        }
+        return responseIndex;
+    }
+
+    private void persistPendingSequence(final String methodId) {
+        final PendingSequence pendingSequence = this.pendingSequences.remove(methodId);
+        if (pendingSequence != null) {
+            persistSequence(pendingSequence);
+        }
+    }
+
+    private void persistSequence(final PendingSequence pendingSequence) {
+        final RestMockResponseSequence sequence = pendingSequence.sequence;
+        if (!sequence.markPersisted()) {
+            return;
+        }
+        try {
+            final ReadRestMethodOutput output = serviceProcessor.process(ReadRestMethodInput.builder()
+                    .projectId(pendingSequence.projectId)
+                    .applicationId(pendingSequence.applicationId)
+                    .resourceId(pendingSequence.resourceId)
+                    .methodId(pendingSequence.methodId)
+                    .build());
+            final Optional<Integer> storedIndex = output.getMethod().map(RestMethod::getCurrentResponseSequenceIndex);
+            if (storedIndex.isEmpty()) {
+                return;
+            }
+            if (storedIndex.get() != sequence.getStoredIndex()) {
+                // The index has been stored by someone else since it was last read or written,
+                // which means that the stored index is newer than the in-memory sequence
+                sequence.reset(storedIndex.get());
+                return;
+            }
+
+            final int nextIndex = sequence.getNextIndex();
+            serviceProcessor.process(UpdateCurrentRestMockResponseSequenceIndexInput.builder()
+                    .projectId(pendingSequence.projectId)
+                    .applicationId(pendingSequence.applicationId)
+                    .resourceId(pendingSequence.resourceId)
+                    .methodId(pendingSequence.methodId)
+                    .currentRestMockResponseSequenceIndex(nextIndex)
+                    .build());
+            sequence.markStored(nextIndex);
+        } catch (Exception exception) {
+            LOGGER.warn("Unable to persist the response sequence index for method " +
+                    pendingSequence.methodId + ": " + exception.getMessage());
+        }
+    }
+
     private Optional<RestMockResponse> getDefaultMockResponse(final RestMethod restMethod,
                                                               final List<RestMockResponse> mockResponses) {
         return restMethod.getDefaultMockResponseId()
@@ -549,44 +981,41 @@ public abstract class AbstractRestServiceController extends AbstractController {
      * All selected strategies must match for a response to be selected.
      *
      * @param restRequest The incoming request
+     * @param parsedBody The body of the incoming request
      * @param restMethod The REST method with multiple strategies
-     * @param mockResponses List of available mock responses
+     * @param selectionPlan The selection plan of the REST method
+     * @param selection The available mock responses
      * @param pathParameters Path parameters from the request
-     * @param httpServletRequest The HTTP servlet request
+     * @param random The random generator of the request
      * @return The matching mock response or null if no match
      */
     private RestMockResponse evaluateMultipleStrategies(final RestRequest restRequest,
+                                                        final Optional<ParsedBody> parsedBody,
                                                         final RestMethod restMethod,
-                                                        final List<RestMockResponse> mockResponses,
+                                                        final RestMockResponseSelectionPlan selectionPlan,
+                                                        final RestMockResponseSelectionPlan.Selection selection,
                                                         final Map<String, Set<String>> pathParameters,
-                                                        final HttpServletRequest httpServletRequest,
                                                         final String projectId,
                                                         final String applicationId,
-                                                        final String resourceId) {
+                                                        final String resourceId,
+                                                        final RandomGenerator random) {
         
+        // The headers are indexed once and reused for the guards and all the candidates
+        final Map<String, List<String>> headerValues =
+                RestHeaderQueryValidator.indexHeaders(restRequest.getHttpHeaders());
+
         // Evaluate guards FIRST, independently of response strategies
-        final List<RestMockResponse> guards = mockResponses.stream()
-                .filter(mockResponse -> mockResponse.getIsGuard().orElse(false))
-                .collect(Collectors.toList());
-        
-        for(RestMockResponse guard : guards){
-            if(!RestHeaderQueryValidator.validate(guard.getHeaderQueries(), restRequest.getHttpHeaders())){
+        for(RestMockResponse guard : selection.getGuards()){
+            if(!RestHeaderQueryValidator.validate(guard.getHeaderQueries(), headerValues)){
                 LOGGER.debug("Guard failed validation, returning guard response: " + guard.getName());
                 return guard;
             }
         }
         
         // Filter out guards from regular response selection
-        List<RestMockResponse> nonGuardResponses = mockResponses.stream()
-                .filter(mockResponse -> !mockResponse.getIsGuard().orElse(false))
-                .collect(Collectors.toList());
-        
-        if (!restMethod.getMultipleResponseStrategy().isPresent()) {
-            LOGGER.warn("Multiple response strategy is selected but no strategies are configured");
-            return this.getDefaultMockResponse(restMethod, nonGuardResponses).orElse(null);
-        }
+        final List<RestMockResponse> nonGuardResponses = selection.getNonGuards();
 
-        List<RestResponseStrategy> strategies = restMethod.getMultipleResponseStrategy().get().getStrategies();
+        final List<RestResponseStrategy> strategies = selectionPlan.getStrategies();
         if (strategies.isEmpty()) {
             LOGGER.warn("Multiple response strategy is selected but no strategies are configured");
             return this.getDefaultMockResponse(restMethod, nonGuardResponses).orElse(null);
@@ -605,21 +1034,23 @@ public abstract class AbstractRestServiceController extends AbstractController {
                                 matchesStrategy = RestParameterQueryValidator.validate(mockResponse.getParameterQueries(), pathParameters);
                                 break;
                             case XPATH:
-                                matchesStrategy = restRequest.getBody()
-                                        .map(body -> mockResponse.getXpathExpressions()
+                                matchesStrategy = parsedBody
+                                        .flatMap(ParsedBody::getXmlDocument)
+                                        .map(document -> mockResponse.getXpathExpressions()
                                                 .stream()
-                                                .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(body, xPathExpression.getExpression())))
+                                                .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(document, xPathExpression.getExpression())))
                                         .orElse(false);
                                 break;
                             case JSON_PATH:
-                                matchesStrategy = restRequest.getBody()
-                                        .map(body -> mockResponse.getJsonPathExpressions()
+                                matchesStrategy = parsedBody
+                                        .flatMap(ParsedBody::getJsonDocument)
+                                        .map(document -> mockResponse.getJsonPathExpressions()
                                                 .stream()
-                                                .anyMatch(jsonPathExpression -> JsonPathUtility.isValidJsonPathExpr(body, jsonPathExpression.getExpression())))
+                                                .anyMatch(jsonPathExpression -> JsonPathUtility.isValidJsonPathExpr(document, jsonPathExpression.getExpression())))
                                         .orElse(false);
                                 break;
                             case HEADER_QUERY_MATCH:
-                                matchesStrategy = RestHeaderQueryValidator.validate(mockResponse.getHeaderQueries(), restRequest.getHttpHeaders());
+                                matchesStrategy = RestHeaderQueryValidator.validate(mockResponse.getHeaderQueries(), headerValues);
                                 break;
                             case RANDOM:
                             case SEQUENCE:
@@ -648,30 +1079,61 @@ public abstract class AbstractRestServiceController extends AbstractController {
         }
 
         // If we have candidates, apply RANDOM or SEQUENCE logic if they are selected
-        if (strategies.contains(RestResponseStrategy.RANDOM)) {
-            final int responseIndex = RANDOM.nextInt(candidates.size());
+        if (selectionPlan.isRandomStrategy()) {
+            final int responseIndex = random.nextInt(candidates.size());
+            return candidates.get(responseIndex);
+        } else if (selectionPlan.isSequenceStrategy()) {
+            final int responseIndex = nextSequenceIndex(selectionPlan, candidates.size(),
+                    projectId, applicationId, resourceId, restMethod.getId());
             return candidates.get(responseIndex);
-        } else if (strategies.contains(RestResponseStrategy.SEQUENCE)) {
-            Integer currentSequenceNumber = restMethod.getCurrentResponseSequenceIndex();
-            if (currentSequenceNumber >= candidates.size()) {
-                currentSequenceNumber = 0;
-            }
-            RestMockResponse selectedResponse = candidates.get(currentSequenceNumber);
-            
-            // Update sequence index for next request
-            serviceProcessor.process(UpdateCurrentRestMockResponseSequenceIndexInput.builder()
-                    .projectId(projectId)
-                    .applicationId(applicationId)
-                    .resourceId(resourceId)
-                    .methodId(restMethod.getId())
-                    .currentRestMockResponseSequenceIndex(currentSequenceNumber + 1)
-                    .build());
-            
-            return selectedResponse;
         }
 
         // Return the first candidate if no RANDOM or SEQUENCE strategy is selected
         return candidates.getFirst();
     }
 
+    /**
+     * Defines when the in-memory response sequence index of a method is persisted.
+     * @since 1.70
+     */
+    public enum SequencePersistence {
+        /**
+         * The sequence index is persisted on every request. Every write also refreshes the routed
+         * resource of the method, which makes this the slowest mode. It is not the default and is
+         * only kept for compatibility with installations that depend on the index being stored
+         * before the response is returned.
+         */
+        IMMEDIATE,
+        /**
+         * The sequence index is persisted in the background, at most once per method
+         * and configured delay.
+         */
+        LAZY,
+        /**
+         * The sequence index is never persisted and will start over when the application is restarted.
+         */
+        NONE
+    }
+
+    private static final class PendingSequence {
+
+        private final String projectId;
+        private final String applicationId;
+        private final String resourceId;
+        private final String methodId;
+        private final RestMockResponseSequence sequence;
+
+        private PendingSequence(final String projectId,
+                                final String applicationId,
+                                final String resourceId,
+                                final String methodId,
+                                final RestMockResponseSequence sequence) {
+            this.projectId = projectId;
+            this.applicationId = applicationId;
+            this.resourceId = resourceId;
+            this.methodId = methodId;
+            this.sequence = sequence;
+        }
+    }
+
 }
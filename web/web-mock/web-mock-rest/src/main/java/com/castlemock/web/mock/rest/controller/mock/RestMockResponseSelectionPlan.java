@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import com.castlemock.model.core.http.HttpContentEncoding;
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.core.utility.parser.TextParser;
+import com.castlemock.model.core.utility.parser.TextTemplate;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestMockResponse;
+import com.castlemock.model.mock.rest.domain.RestMockResponseStatus;
+import com.castlemock.model.mock.rest.domain.RestMultipleResponseStrategy;
+import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
+import com.castlemock.web.mock.rest.utility.compare.RestMockResponseNameComparator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link RestMockResponseSelectionPlan} contains everything about a {@link RestMethod} that is needed in order
+ * to select a {@link RestMockResponse}, but that doesn't depend on the incoming request. This includes the enabled
+ * mock responses sorted by name, their parsed content types and the guard and non-guard responses.
+ * <p>
+ * A plan is compiled from a specific version of a {@link RestMethod} and its mock responses.
+ * Use {@link #isCompiledFrom(RestMethod)} to verify that the plan is still valid for a method.
+ * The plan is immutable, except for its {@link RestMockResponseSequence}, which is seeded with the
+ * current response sequence index of the method when the plan is compiled, and its {@link RestStaticResponse}s
+ * and {@link TextTemplate}s, which are rendered and compiled the first time that they are requested.
+ * @since 1.70
+ */
+final class RestMockResponseSelectionPlan {
+
+    private static final RestMockResponseNameComparator MOCK_RESPONSE_NAME_COMPARATOR =
+            new RestMockResponseNameComparator();
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final TextParser TEXT_PARSER = new TextParser();
+
+    private final RestResponseStrategy responseStrategy;
+    private final RestMultipleResponseStrategy multipleResponseStrategy;
+    private final String defaultMockResponseId;
+    private final List<RestMockResponse> source;
+    private final List<Candidate> candidates;
+    private final Selection enabledMockResponses;
+    private final List<RestResponseStrategy> strategies;
+    private final boolean randomStrategy;
+    private final boolean sequenceStrategy;
+    private final RestMockResponseSequence sequence;
+    private final Map<String, RestStaticResponse> staticResponses = new ConcurrentHashMap<>();
+    private final Map<String, CompiledBody> compiledBodies = new ConcurrentHashMap<>();
+
+    private RestMockResponseSelectionPlan(final RestMethod restMethod,
+                                          final RestMockResponseSequence previousSequence) {
+        this.responseStrategy = restMethod.getResponseStrategy();
+        this.multipleResponseStrategy = restMethod.getMultipleResponseStrategy().orElse(null);
+        this.defaultMockResponseId = restMethod.getDefaultMockResponseId().orElse(null);
+        this.source = restMethod.getMockResponses();
+        this.candidates = this.source.stream()
+                .filter(mockResponse -> mockResponse.getStatus().equals(RestMockResponseStatus.ENABLED))
+                .sorted(MOCK_RESPONSE_NAME_COMPARATOR)
+                .map(Candidate::new)
+                .toList();
+        this.enabledMockResponses = new Selection(this.candidates);
+        this.strategies = restMethod.getMultipleResponseStrategy()
+                .map(RestMultipleResponseStrategy::getStrategies)
+                .map(List::copyOf)
+                .orElseGet(List::of);
+        this.randomStrategy = this.strategies.contains(RestResponseStrategy.RANDOM);
+        this.sequenceStrategy = this.strategies.contains(RestResponseStrategy.SEQUENCE);
+        // The sequence of the previous plan is carried over, unless the stored index has been changed since
+        this.sequence = previousSequence != null &&
+                previousSequence.getStoredIndex() == restMethod.getCurrentResponseSequenceIndex() ?
+                previousSequence : new RestMockResponseSequence(restMethod.getCurrentResponseSequenceIndex());
+    }
+
+    /**
+     * Compile a new plan for the provided {@link RestMethod}.
+     * @param restMethod The method that the plan will be compiled from.
+     * @return A new plan.
+     */
+    static RestMockResponseSelectionPlan compile(final RestMethod restMethod) {
+        return new RestMockResponseSelectionPlan(restMethod, null);
+    }
+
+    /**
+     * Compile a new plan for the provided {@link RestMethod}, which replaces a plan that was compiled
+     * from a previous version of the method. The in-memory sequence of the previous plan is kept, which
+     * means that the sequence doesn't start over when a mock response is updated.
+     * @param restMethod The method that the plan will be compiled from.
+     * @param previousPlan The plan that will be replaced, or <code>null</code> if the method has no plan.
+     * @return A new plan.
+     * @since 1.70
+     */
+    static RestMockResponseSelectionPlan recompile(final RestMethod restMethod,
+                                                   final RestMockResponseSelectionPlan previousPlan) {
+        return new RestMockResponseSelectionPlan(restMethod, previousPlan == null ? null : previousPlan.sequence);
+    }
+
+    /**
+     * Verifies that the plan was compiled from the current version of the provided {@link RestMethod}.
+     * The mock responses are compared by value, since the {@link RestMethod} that is provided for every
+     * request contains copies of the mock responses. The sequence index of the method is not compared,
+     * since it is updated on every request that uses the {@link RestResponseStrategy#SEQUENCE} strategy.
+     * @param restMethod The method that will be verified.
+     * @return <code>true</code> if the plan can be used for the method. <code>false</code> otherwise.
+     */
+    boolean isCompiledFrom(final RestMethod restMethod) {
+        return this.responseStrategy == restMethod.getResponseStrategy() &&
+                Objects.equals(this.multipleResponseStrategy, restMethod.getMultipleResponseStrategy().orElse(null)) &&
+                Objects.equals(this.defaultMockResponseId, restMethod.getDefaultMockResponseId().orElse(null)) &&
+                this.source.equals(restMethod.getMockResponses());
+    }
+
+    /**
+     * Select the enabled mock responses that have a content type that matches the provided accept header values.
+     * All the enabled mock responses will be selected if none of them matches the accept header values.
+     * @param acceptHeaderValues The lower case accept header values of the incoming request.
+     * @return The selected mock responses.
+     */
+    Selection select(final Collection<String> acceptHeaderValues) {
+        if(acceptHeaderValues.isEmpty()){
+            return this.enabledMockResponses;
+        }
+
+        final List<Candidate> matching = new ArrayList<>();
+        for(Candidate candidate : this.candidates){
+            for(String acceptHeaderValue : acceptHeaderValues){
+                if(candidate.contentTypes.contains(acceptHeaderValue)){
+                    matching.add(candidate);
+                    break;
+                }
+            }
+        }
+
+        if(matching.isEmpty()){
+            return this.enabledMockResponses;
+        }
+        return new Selection(matching);
+    }
+
+    /**
+     * @return The strategies configured for the {@link RestResponseStrategy#MULTIPLE} strategy.
+     */
+    List<RestResponseStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * @return <code>true</code> if the {@link RestResponseStrategy#RANDOM} strategy is part
+     * of the multiple strategies.
+     */
+    boolean isRandomStrategy() {
+        return randomStrategy;
+    }
+
+    /**
+     * @return <code>true</code> if the {@link RestResponseStrategy#SEQUENCE} strategy is part
+     * of the multiple strategies.
+     */
+    boolean isSequenceStrategy() {
+        return sequenceStrategy;
+    }
+
+    /**
+     * @return The sequence used by the {@link RestResponseStrategy#SEQUENCE} strategy.
+     */
+    RestMockResponseSequence getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Get the {@link RestStaticResponse} for a mock response that doesn't use expressions. The static response
+     * is rendered the first time that it is requested and then reused until the plan has been replaced.
+     * @param mockResponse The mock response that the static response will be rendered from.
+     * @param encodings The encodings that the body will be compressed with, in order of preference.
+     * @param compressionMinSize The min size in bytes of a body that will be compressed.
+     * @return The static response for the mock response.
+     */
+    RestStaticResponse getStaticResponse(final RestMockResponse mockResponse,
+                                         final Collection<HttpContentEncoding> encodings,
+                                         final int compressionMinSize) {
+        final RestStaticResponse staticResponse = this.staticResponses.computeIfAbsent(mockResponse.getId(),
+                mockResponseId -> RestStaticResponse.render(mockResponse, encodings, compressionMinSize));
+        if (staticResponse.isRenderedFrom(mockResponse)) {
+            return staticResponse;
+        }
+        // The mock response is not part of the plan, such as a mock response that has been updated
+        // after the plan was compiled.
+        return RestStaticResponse.render(mockResponse, encodings, compressionMinSize);
+    }
+
+    /**
+     * Get the compiled body of a mock response that uses expressions. The body is compiled the first time
+     * that it is requested and then reused until the plan has been replaced, which happens as soon as the
+     * body has been updated.
+     * @param mockResponse The mock response whose body will be compiled.
+     * @return The compiled body of the mock response.
+     * @since 1.70
+     */
+    TextTemplate getTemplate(final RestMockResponse mockResponse) {
+        final String body = mockResponse.getBody().orElse("");
+        final CompiledBody compiledBody = this.compiledBodies.computeIfAbsent(mockResponse.getId(),
+                mockResponseId -> new CompiledBody(body, TEXT_PARSER.compile(body)));
+        if (compiledBody.body().equals(body)) {
+            return compiledBody.template();
+        }
+        // The mock response is not part of the plan, such as a mock response that has been updated
+        // after the plan was compiled.
+        return TEXT_PARSER.compile(body);
+    }
+
+    private static Set<String> getContentTypes(final RestMockResponse mockResponse) {
+        return mockResponse.getHttpHeaders()
+                .stream()
+                .filter(header -> CONTENT_TYPE.equalsIgnoreCase(header.getName()))
+                .findFirst()
+                .map(HttpHeader::getValue)
+                .map(header -> header.split(","))
+                .map(Stream::of)
+                .map(stream -> stream
+                        .map(String::toLowerCase)
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElseGet(Set::of);
+    }
+
+    /**
+     * A {@link Selection} is an immutable list of mock responses that have been selected for a request.
+     * The guard and non-guard responses have already been separated.
+     */
+    static final class Selection {
+
+        private final List<RestMockResponse> mockResponses;
+        private final List<RestMockResponse> guards;
+        private final List<RestMockResponse> nonGuards;
+
+        private Selection(final List<Candidate> candidates) {
+            this.mockResponses = candidates.stream()
+                    .map(candidate -> candidate.mockResponse)
+                    .toList();
+            this.guards = candidates.stream()
+                    .filter(candidate -> candidate.guard)
+                    .map(candidate -> candidate.mockResponse)
+                    .toList();
+            this.nonGuards = candidates.stream()
+                    .filter(candidate -> !candidate.guard)
+                    .map(candidate -> candidate.mockResponse)
+                    .toList();
+        }
+
+        List<RestMockResponse> getMockResponses() {
+            return mockResponses;
+        }
+
+        List<RestMockResponse> getGuards() {
+            return guards;
+        }
+
+        List<RestMockResponse> getNonGuards() {
+            return nonGuards;
+        }
+    }
+
+    private record CompiledBody(String body, TextTemplate template) {
+
+    }
+
+    private static final class Candidate {
+
+        private final RestMockResponse mockResponse;
+        private final Set<String> contentTypes;
+        private final boolean guard;
+
+        private Candidate(final RestMockResponse mockResponse) {
+            this.mockResponse = mockResponse;
+            this.contentTypes = getContentTypes(mockResponse);
+            this.guard = mockResponse.getIsGuard().orElse(false);
+        }
+    }
+}
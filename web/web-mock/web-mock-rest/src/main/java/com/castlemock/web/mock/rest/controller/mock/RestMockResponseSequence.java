@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link RestMockResponseSequence} is an in-memory counter used by the
+ * {@link RestResponseStrategy#SEQUENCE} strategy. The counter is updated atomically, which
+ * means that concurrent requests are handed out mock responses in a strict round-robin order.
+ * <p>
+ * The counter contains the index of the next mock response, which is the same value that
+ * is persisted as the current response sequence index of the method.
+ * @since 1.70
+ */
+final class RestMockResponseSequence {
+
+    private final AtomicInteger nextIndex;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile int storedIndex;
+
+    RestMockResponseSequence(final int initialIndex) {
+        this.nextIndex = new AtomicInteger(Math.max(initialIndex, 0));
+        this.storedIndex = initialIndex;
+    }
+
+    /**
+     * Get the index of the next mock response and advance the sequence. The sequence
+     * starts over from the beginning once it has reached the end.
+     * @param size The number of mock responses that are part of the sequence.
+     * @return The index of the selected mock response.
+     */
+    int next(final int size) {
+        final int previous = this.nextIndex.getAndUpdate(current -> wrap(current, size) + 1);
+        this.dirty.set(true);
+        return wrap(previous, size);
+    }
+
+    /**
+     * @return The index of the next mock response.
+     */
+    int getNextIndex() {
+        return this.nextIndex.get();
+    }
+
+    /**
+     * Mark the sequence as persisted.
+     * @return <code>true</code> if the sequence has been advanced since it was last persisted.
+     */
+    boolean markPersisted() {
+        return this.dirty.getAndSet(false);
+    }
+
+    /**
+     * @return The index that was last read from or written to the method, which is the index that is
+     * expected to be stored.
+     */
+    int getStoredIndex() {
+        return this.storedIndex;
+    }
+
+    /**
+     * Register that an index has been stored for the method.
+     * @param index The stored index.
+     */
+    void markStored(final int index) {
+        this.storedIndex = index;
+    }
+
+    /**
+     * Restart the sequence from an index that has been stored by someone else, such as a user that
+     * has updated the method. Advances of the sequence that have not been persisted are discarded.
+     * @param index The stored index.
+     */
+    void reset(final int index) {
+        this.nextIndex.set(Math.max(index, 0));
+        this.storedIndex = index;
+        this.dirty.set(false);
+    }
+
+    private static int wrap(final int index, final int size) {
+        return index >= size ? 0 : index;
+    }
+}
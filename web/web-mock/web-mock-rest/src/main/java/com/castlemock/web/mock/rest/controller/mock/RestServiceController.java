@@ -18,10 +18,13 @@ package com.castlemock.web.mock.rest.controller.mock;
 
 import com.castlemock.model.core.ServiceProcessor;
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.utility.random.RandomSource;
 import com.castlemock.model.mock.rest.domain.RestMockResponse;
 import com.castlemock.model.mock.rest.domain.RestProject;
 import com.castlemock.model.mock.rest.domain.RestResource;
+import com.castlemock.service.mock.rest.event.RestEventPipeline;
 import com.castlemock.web.mock.rest.utility.RestClient;
+import com.castlemock.web.mock.rest.utility.RestSequencePersistenceExecutor;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -48,8 +51,11 @@ public class RestServiceController extends AbstractRestServiceController  {
     @Autowired
     public RestServiceController(final ServiceProcessor serviceProcessor,
                                  final ServletContext servletContext,
-                                 final RestClient restClient){
-        super(serviceProcessor, servletContext, restClient);
+                                 final RestClient restClient,
+                                 final RestEventPipeline restEventPipeline,
+                                 final RandomSource randomSource,
+                                 final RestSequencePersistenceExecutor sequenceExecutor){
+        super(serviceProcessor, servletContext, restClient, restEventPipeline, randomSource, sequenceExecutor);
     }
 
     /**
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import com.castlemock.model.core.http.HttpContentEncoding;
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.mock.rest.domain.RestMockResponse;
+import com.castlemock.web.core.utility.CharsetUtility;
+import com.castlemock.web.core.utility.ContentEncodingUtility;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@link RestStaticResponse} is a {@link RestMockResponse} that doesn't use expressions and that has been
+ * rendered ahead of time. The body is encoded once into bytes, the headers are prebuilt and the compressed
+ * variants of the body and their ETags are precomputed. The response can therefore be written directly to
+ * the outgoing response without being rendered again.
+ * <p>
+ * A static response is rendered from a specific version of a {@link RestMockResponse}.
+ * Use {@link #isRenderedFrom(RestMockResponse)} to verify that the response is still valid.
+ * @since 1.70
+ */
+final class RestStaticResponse {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+
+    private final RestMockResponse source;
+    private final int httpStatusCode;
+    private final HttpHeaders httpHeaders;
+    private final Variant identity;
+    private final Map<HttpContentEncoding, Variant> variants;
+
+    private RestStaticResponse(final RestMockResponse mockResponse,
+                               final Collection<HttpContentEncoding> encodings,
+                               final int compressionMinSize) {
+        this.source = mockResponse;
+        this.httpStatusCode = mockResponse.getHttpStatusCode();
+        final byte[] body = mockResponse.getBody()
+                .map(value -> value.getBytes(CharsetUtility.getCharset(mockResponse.getHttpHeaders())))
+                .orElseGet(() -> new byte[0]);
+
+        final HttpHeaders headers = new HttpHeaders();
+        for (HttpHeader httpHeader : mockResponse.getHttpHeaders()) {
+            // The content encoding and the content length depend on which variant of the body is sent
+            if (!httpHeader.getName().equalsIgnoreCase(ContentEncodingUtility.CONTENT_ENCODING) &&
+                    !httpHeader.getName().equalsIgnoreCase(CONTENT_LENGTH)) {
+                headers.put(httpHeader.getName(), List.of(httpHeader.getValue()));
+            }
+        }
+
+        // An ETag is only generated if the mock response doesn't already provide one
+        final String digest = headers.containsKey(ETAG) ? null : DigestUtils.md5DigestAsHex(body);
+        this.identity = new Variant(body, digest == null ? null : "\"" + digest + "\"");
+
+        final Map<HttpContentEncoding, Variant> compressed = new EnumMap<>(HttpContentEncoding.class);
+        if (body.length > 0 && body.length >= compressionMinSize) {
+            for (HttpContentEncoding encoding : encodings) {
+                final byte[] encodedBody = ContentEncodingUtility.encode(body, encoding);
+                if (encodedBody.length < body.length) {
+                    final String encodingName = ContentEncodingUtility.getName(encoding);
+                    compressed.put(encoding, new Variant(encodedBody,
+                            digest == null ? null : "\"" + digest + "-" + encodingName + "\""));
+                }
+            }
+        }
+        this.variants = Collections.unmodifiableMap(compressed);
+        if (!this.variants.isEmpty()) {
+            headers.add(ContentEncodingUtility.VARY, ContentEncodingUtility.ACCEPT_ENCODING);
+        }
+        this.httpHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    /**
+     * Render a static response from the provided {@link RestMockResponse}.
+     * @param mockResponse The mock response that the static response will be rendered from.
+     * @param encodings The encodings that the body will be compressed with, in order of preference.
+     *                  The body will not be compressed if no encodings are provided.
+     * @param compressionMinSize The min size in bytes of a body that will be compressed.
+     * @return A new static response.
+     */
+    static RestStaticResponse render(final RestMockResponse mockResponse,
+                                     final Collection<HttpContentEncoding> encodings,
+                                     final int compressionMinSize) {
+        return new RestStaticResponse(mockResponse, encodings, compressionMinSize);
+    }
+
+    /**
+     * Verifies that the static response was rendered from the current version of the provided
+     * {@link RestMockResponse}. The mock response is compared by value, since every request
+     * might provide a copy of the mock response.
+     * @param mockResponse The mock response that will be verified.
+     * @return <code>true</code> if the static response can be used for the mock response. <code>false</code> otherwise.
+     */
+    boolean isRenderedFrom(final RestMockResponse mockResponse) {
+        return this.source.equals(mockResponse);
+    }
+
+    /**
+     * Write the static response to the outgoing response. The compressed variant of the body preferred by
+     * the incoming request is written, if any. Only the status and headers are written if the incoming request
+     * already has the current version of the response, as identified by the <code>If-None-Match</code> header.
+     * @param httpServletRequest The incoming request.
+     * @param httpServletResponse The outgoing response.
+     * @throws IOException If the body could not be written.
+     */
+    void write(final HttpServletRequest httpServletRequest,
+               final HttpServletResponse httpServletResponse) throws IOException {
+        final Optional<HttpContentEncoding> encoding = negotiate(httpServletRequest);
+        final Variant variant = getVariant(encoding);
+
+        httpServletResponse.setStatus(this.httpStatusCode);
+        for (Map.Entry<String, List<String>> header : this.httpHeaders.entrySet()) {
+            for (String headerValue : header.getValue()) {
+                httpServletResponse.addHeader(header.getKey(), headerValue);
+            }
+        }
+        if (variant.etag != null) {
+            httpServletResponse.setHeader(ETAG, variant.etag);
+            if (isNotModified(httpServletRequest, variant.etag)) {
+                httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        encoding.ifPresent(value -> httpServletResponse.setHeader(ContentEncodingUtility.CONTENT_ENCODING,
+                ContentEncodingUtility.getName(value)));
+
+        httpServletResponse.setContentLength(variant.body.length);
+        if (variant.body.length > 0) {
+            final OutputStream outputStream = httpServletResponse.getOutputStream();
+            outputStream.write(variant.body);
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * Create a {@link ResponseEntity} of the static response. The same variant of the body is selected as
+     * by {@link #write(HttpServletRequest, HttpServletResponse)}. The body is not copied.
+     * @param httpServletRequest The incoming request.
+     * @return The static response as a {@link ResponseEntity}.
+     */
+    ResponseEntity<byte[]> toResponseEntity(final HttpServletRequest httpServletRequest) {
+        final Optional<HttpContentEncoding> encoding = negotiate(httpServletRequest);
+        final Variant variant = getVariant(encoding);
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.addAll(this.httpHeaders);
+        if (variant.etag != null) {
+            headers.set(ETAG, variant.etag);
+            if (isNotModified(httpServletRequest, variant.etag)) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+        }
+        encoding.ifPresent(value -> headers.set(ContentEncodingUtility.CONTENT_ENCODING,
+                ContentEncodingUtility.getName(value)));
+        return new ResponseEntity<>(variant.body, headers, HttpStatusCode.valueOf(this.httpStatusCode));
+    }
+
+    private Optional<HttpContentEncoding> negotiate(final HttpServletRequest httpServletRequest) {
+        return ContentEncodingUtility.negotiate(
+                httpServletRequest.getHeader(ContentEncodingUtility.ACCEPT_ENCODING), this.variants.keySet());
+    }
+
+    private Variant getVariant(final Optional<HttpContentEncoding> encoding) {
+        return encoding
+                .map(this.variants::get)
+                .orElse(this.identity);
+    }
+
+    private boolean isNotModified(final HttpServletRequest httpServletRequest,
+                                  final String currentEtag) {
+        final String method = httpServletRequest.getMethod();
+        if (this.httpStatusCode < 200 || this.httpStatusCode > 299 ||
+                !(GET.equalsIgnoreCase(method) || HEAD.equalsIgnoreCase(method))) {
+            return false;
+        }
+
+        final String ifNoneMatch = httpServletRequest.getHeader(IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            String requestedEtag = value.trim();
+            if (requestedEtag.startsWith("W/")) {
+                requestedEtag = requestedEtag.substring(2);
+            }
+            if (requestedEtag.equals("*") || requestedEtag.equals(currentEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A variant of the body, encoded with a specific content encoding.
+     */
+    private static final class Variant {
+
+        private final byte[] body;
+        private final String etag;
+
+        private Variant(final byte[] body, final String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+}
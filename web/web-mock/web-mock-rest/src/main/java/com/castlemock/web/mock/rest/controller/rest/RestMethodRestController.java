@@ -142,6 +142,10 @@ public class RestMethodRestController extends AbstractRestController {
                         .orElse(null))
                 .networkDelay(request.getNetworkDelay()
                         .orElse(null))
+                .networkDelayDistribution(request.getNetworkDelayDistribution()
+                        .orElse(null))
+                .networkDelayJitter(request.getNetworkDelayJitter()
+                        .orElse(null))
                 .simulateNetworkDelay(request.getSimulateNetworkDelay()
                         .orElse(null))
                 .automaticForward(request.getAutomaticForward()
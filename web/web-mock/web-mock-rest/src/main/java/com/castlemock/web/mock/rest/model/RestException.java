@@ -47,4 +47,14 @@ public class RestException extends RuntimeException {
         super(exception);
     }
 
+    /**
+     * The constructor for the RestException class
+     * @param message The exception message
+     * @param exception The exception that caused the RestException
+     * @since 1.70
+     */
+    public RestException(final String message, final Exception exception) {
+        super(message, exception);
+    }
+
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.model;
+
+import com.castlemock.model.mock.rest.domain.RestResponse;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * The {@link RestTruncatedResponseException} is thrown when a streamed response fails after it has been
+ * committed. The status and headers have already been sent, which means that the failure can't be reported
+ * with an error response. The exception is instead left to abort the connection, so that the client
+ * doesn't mistake the truncated body for a complete one.
+ * @since 1.70
+ */
+public class RestTruncatedResponseException extends RestException {
+
+    @Serial
+    private static final long serialVersionUID = -3526913846290372466L;
+
+    private final transient RestResponse response;
+
+    /**
+     * The constructor for the RestTruncatedResponseException class
+     * @param message The exception message
+     * @param response The part of the response that was written before the failure
+     * @param exception The exception that interrupted the response
+     */
+    public RestTruncatedResponseException(final String message,
+                                          final RestResponse response,
+                                          final Exception exception) {
+        super(message, exception);
+        this.response = Objects.requireNonNull(response, "response");
+    }
+
+    /**
+     * Get the part of the response that was written before the failure.
+     * @return The truncated response.
+     */
+    public RestResponse getResponse() {
+        return response;
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.castlemock.web.mock.rest.model;
 
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.rest.domain.RestMethodStatus;
 import com.castlemock.model.mock.rest.domain.RestMultipleResponseStrategy;
 import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
@@ -44,6 +45,8 @@ public class UpdateRestMethodRequest {
     private final RestMultipleResponseStrategy multipleResponseStrategy;
     private final Boolean simulateNetworkDelay;
     private final Long networkDelay;
+    private final NetworkDelayDistribution networkDelayDistribution;
+    private final Long networkDelayJitter;
     private final String defaultMockResponseId;
     private final Boolean automaticForward;
 
@@ -57,6 +60,8 @@ public class UpdateRestMethodRequest {
         this.multipleResponseStrategy = builder.multipleResponseStrategy;
         this.simulateNetworkDelay = builder.simulateNetworkDelay;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.automaticForward = builder.automaticForward;
     }
@@ -101,6 +106,16 @@ public class UpdateRestMethodRequest {
         return Optional.ofNullable(networkDelay);
     }
 
+    @XmlElement
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    @XmlElement
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     @XmlElement
     public Optional<String> getDefaultMockResponseId() {
         return Optional.ofNullable(defaultMockResponseId);
@@ -115,12 +130,12 @@ public class UpdateRestMethodRequest {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         UpdateRestMethodRequest that = (UpdateRestMethodRequest) o;
-        return automaticForward == that.automaticForward && simulateNetworkDelay == that.simulateNetworkDelay && networkDelay == that.networkDelay && Objects.equals(name, that.name) && httpMethod == that.httpMethod && Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && status == that.status && responseStrategy == that.responseStrategy && Objects.equals(defaultMockResponseId, that.defaultMockResponseId);
+        return automaticForward == that.automaticForward && simulateNetworkDelay == that.simulateNetworkDelay && Objects.equals(networkDelay, that.networkDelay) && networkDelayDistribution == that.networkDelayDistribution && Objects.equals(networkDelayJitter, that.networkDelayJitter) && Objects.equals(name, that.name) && httpMethod == that.httpMethod && Objects.equals(forwardedEndpoint, that.forwardedEndpoint) && status == that.status && responseStrategy == that.responseStrategy && Objects.equals(defaultMockResponseId, that.defaultMockResponseId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, httpMethod, forwardedEndpoint, status, responseStrategy, simulateNetworkDelay, networkDelay, defaultMockResponseId, automaticForward);
+        return Objects.hash(name, httpMethod, forwardedEndpoint, status, responseStrategy, simulateNetworkDelay, networkDelay, networkDelayDistribution, networkDelayJitter, defaultMockResponseId, automaticForward);
     }
 
     @Override
@@ -133,6 +148,8 @@ public class UpdateRestMethodRequest {
                 ", responseStrategy=" + responseStrategy +
                 ", simulateNetworkDelay=" + simulateNetworkDelay +
                 ", networkDelay=" + networkDelay +
+                ", networkDelayDistribution=" + networkDelayDistribution +
+                ", networkDelayJitter=" + networkDelayJitter +
                 ", defaultMockResponseId='" + defaultMockResponseId + '\'' +
                 ", automaticForward='" + automaticForward + '\'' +
                 '}';
@@ -152,6 +169,8 @@ public class UpdateRestMethodRequest {
         private RestMultipleResponseStrategy multipleResponseStrategy;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private Boolean automaticForward;
 
@@ -198,6 +217,16 @@ public class UpdateRestMethodRequest {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
@@ -17,59 +17,63 @@ package com.castlemock.web.mock.rest.utility;
 
 import com.castlemock.model.core.http.HttpContentEncoding;
 import com.castlemock.model.core.http.HttpHeader;
-import com.castlemock.model.core.http.HttpMethod;
 import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.model.mock.rest.domain.RestRequest;
 import com.castlemock.model.mock.rest.domain.RestResponse;
 import com.castlemock.web.core.utility.CharsetUtility;
+import com.castlemock.web.core.utility.HttpForwardClient;
 import com.castlemock.web.core.utility.HttpMessageSupport;
+import com.castlemock.web.mock.rest.model.RestTruncatedResponseException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class RestClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RestClient.class);
     private static final String FORWARDED_RESPONSE_NAME = "Forwarded response";
+    private static final int BUFFER_SIZE = 8192;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-connection",
+            "te", "trailer", "transfer-encoding", "upgrade");
 
-    public Optional<RestResponse> getResponse(final RestRequest request, final RestMethod restMethod) {
-        HttpURLConnection connection = null;
-        try {
-
-            String requestBody = null;
-
-            if (HttpMethod.POST.equals(request.getHttpMethod()) ||
-                HttpMethod.PUT.equals(request.getHttpMethod()) ||
-                HttpMethod.DELETE.equals(request.getHttpMethod())) {
-                requestBody = request.getBody().orElse(null);
-            }
+    private final HttpForwardClient forwardClient;
 
-            final String parameterUri = HttpMessageSupport.buildParameterUri(request.getHttpParameters());
-            final String endpoint = restMethod.getForwardedEndpoint()
-                    .orElseThrow(() -> new IllegalStateException("Missing forwarded endpoint for the following REST method: " + restMethod.getId())) + request.getUri() + parameterUri;
+    public RestClient(final HttpForwardClient forwardClient) {
+        this.forwardClient = forwardClient;
+    }
 
-            connection = HttpMessageSupport.establishConnection(
-                endpoint,
+    public Optional<RestResponse> getResponse(final RestRequest request, final RestMethod restMethod) {
+        try {
+            final HttpResponse<byte[]> response = forwardClient.send(
+                getEndpoint(request, restMethod),
                 request.getHttpMethod(),
-                requestBody,
+                getRequestBody(request),
                 request.getHttpHeaders());
 
-            final List<HttpContentEncoding> encodings = HttpMessageSupport.extractContentEncoding(connection);
-            final List<HttpHeader> responseHttpHeaders = HttpMessageSupport.extractHttpHeaders(connection);
+            final List<HttpContentEncoding> encodings = HttpMessageSupport.extractContentEncoding(response.headers());
+            final List<HttpHeader> responseHttpHeaders = HttpMessageSupport.extractHttpHeaders(response.headers());
             final String characterEncoding = CharsetUtility.parseHttpHeaders(responseHttpHeaders);
-            final String responseBody = HttpMessageSupport.extractHttpBody(connection, encodings, characterEncoding);
+            final String responseBody = HttpMessageSupport.extractHttpBody(response.body(), encodings, characterEncoding);
             return Optional.of(
                 RestResponse.builder()
                 .body(responseBody)
                 .mockResponseName(FORWARDED_RESPONSE_NAME)
                 .httpHeaders(responseHttpHeaders)
-                .httpStatusCode(connection.getResponseCode())
+                .httpStatusCode(response.statusCode())
                 .contentEncodings(encodings)
                 .build()
             );
@@ -77,10 +81,120 @@ public class RestClient {
             IOException exception) {
             LOGGER.error("Unable to forward request", exception);
             return Optional.empty();
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
+        }
+    }
+
+    /**
+     * Forward a request and stream the response from the endpoint directly to the provided
+     * {@link HttpServletResponse}. The response body is passed through as it is, including encoded
+     * bodies, without the whole body being kept in memory. Only the first <code>captureSize</code> bytes
+     * of the body are kept and decoded for the returned {@link RestResponse}.
+     * <p>
+     * A failure before the response has been committed resets the response and returns an empty optional,
+     * which lets the caller respond with an error instead. A failure after the response has been committed
+     * can't be reported to the client and is thrown as a {@link RestTruncatedResponseException}, which contains
+     * the part of the response that was written.
+     * @param request The request that will be forwarded.
+     * @param restMethod The REST method which the request belongs to.
+     * @param httpServletResponse The response that the forwarded response will be written to.
+     * @param captureSize The max number of body bytes that are kept for the returned response.
+     * @return The forwarded response with a body that only contains the captured part of the body,
+     * or an empty optional if the request could not be forwarded.
+     * @throws RestTruncatedResponseException If the response fails after it has been committed.
+     * @since 1.70
+     */
+    public Optional<RestResponse> streamResponse(final RestRequest request,
+                                                 final RestMethod restMethod,
+                                                 final HttpServletResponse httpServletResponse,
+                                                 final int captureSize) {
+        final HttpResponse<InputStream> response;
+        try {
+            response = forwardClient.stream(
+                    getEndpoint(request, restMethod),
+                    request.getHttpMethod(),
+                    getRequestBody(request),
+                    request.getHttpHeaders());
+        } catch (IOException exception) {
+            LOGGER.error("Unable to stream forwarded request", exception);
+            return Optional.empty();
+        }
+
+        final ByteArrayOutputStream capturedBody = new ByteArrayOutputStream(Math.min(captureSize, BUFFER_SIZE));
+        try (InputStream inputStream = response.body()) {
+            httpServletResponse.setStatus(response.statusCode());
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                final String headerName = header.getKey();
+                if (headerName.startsWith(":") ||
+                        HOP_BY_HOP_HEADERS.contains(headerName.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                header.getValue().forEach(headerValue -> httpServletResponse.addHeader(headerName, headerValue));
+            }
+            transfer(inputStream, httpServletResponse.getOutputStream(), capturedBody, captureSize);
+        } catch (IOException exception) {
+            if (!httpServletResponse.isCommitted()) {
+                LOGGER.error("Unable to stream forwarded request", exception);
+                // Nothing has been sent yet, which means that the caller can still respond with an error
+                httpServletResponse.reset();
+                return Optional.empty();
             }
+            LOGGER.error("The streamed forwarded response was interrupted after it had been committed", exception);
+            throw new RestTruncatedResponseException("The streamed forwarded response was interrupted",
+                    toRestResponse(response, capturedBody.toByteArray()), exception);
         }
+
+        return Optional.of(toRestResponse(response, capturedBody.toByteArray()));
+    }
+
+    private static RestResponse toRestResponse(final HttpResponse<InputStream> response,
+                                               final byte[] capturedBody) {
+        final List<HttpContentEncoding> encodings = HttpMessageSupport.extractContentEncoding(response.headers());
+        final List<HttpHeader> responseHttpHeaders = HttpMessageSupport.extractHttpHeaders(response.headers());
+        final String characterEncoding = CharsetUtility.parseHttpHeaders(responseHttpHeaders);
+        String body = null;
+        try {
+            body = HttpMessageSupport.extractHttpBodyPrefix(capturedBody, encodings, characterEncoding);
+        } catch (IOException exception) {
+            // The response has already been streamed, and only the recorded body is left out
+            LOGGER.warn("Unable to decode the streamed forwarded response body", exception);
+        }
+        return RestResponse.builder()
+                .body(body)
+                .mockResponseName(FORWARDED_RESPONSE_NAME)
+                .httpHeaders(responseHttpHeaders)
+                .httpStatusCode(response.statusCode())
+                .contentEncodings(encodings)
+                .build();
+    }
+
+    private static void transfer(final InputStream inputStream,
+                                 final OutputStream outputStream,
+                                 final ByteArrayOutputStream capturedBody,
+                                 final int captureSize) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+            final int remaining = captureSize - capturedBody.size();
+            if (remaining > 0) {
+                capturedBody.write(buffer, 0, Math.min(read, remaining));
+            }
+        }
+        outputStream.flush();
+    }
+
+    private static String getEndpoint(final RestRequest request, final RestMethod restMethod) {
+        final String parameterUri = HttpMessageSupport.buildParameterUri(request.getHttpParameters());
+        return restMethod.getForwardedEndpoint()
+                .orElseThrow(() -> new IllegalStateException("Missing forwarded endpoint for the following REST method: " + restMethod.getId())) + request.getUri() + parameterUri;
+    }
+
+    private static byte[] getRequestBody(final RestRequest request) {
+        // The body is forwarded for every method that has one, and an empty body is not forwarded at all.
+        // The raw body is forwarded as it was received, and the decoded body is only used as a fallback.
+        return request.getBodyBytes()
+                .or(() -> request.getBody().map(body -> body.getBytes(StandardCharsets.UTF_8)))
+                .filter(body -> body.length > 0)
+                .orElse(null);
     }
 }
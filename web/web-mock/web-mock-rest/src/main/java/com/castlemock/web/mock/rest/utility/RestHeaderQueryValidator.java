@@ -20,9 +20,10 @@ import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.mock.rest.domain.RestHeaderQuery;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class RestHeaderQueryValidator {
 
@@ -32,10 +33,45 @@ public final class RestHeaderQueryValidator {
 
     public static boolean validate(final List<RestHeaderQuery> headerQueries,
                                    final Set<HttpHeader> headers){
+        return validate(headerQueries, indexHeaders(headers));
+    }
+
+    /**
+     * Validate the header queries against headers that have already been indexed with
+     * {@link #indexHeaders(Set)}. The index is meant to be created once per request and
+     * reused for every mock response that is validated.
+     * @param headerQueries The header queries that will be validated.
+     * @param headerValues The header values indexed by their lower-cased name.
+     * @return <code>true</code> if any of the header queries matches a header.
+     * @since 1.70
+     */
+    public static boolean validate(final List<RestHeaderQuery> headerQueries,
+                                   final Map<String, List<String>> headerValues){
+        if(headerQueries.isEmpty() || headerValues.isEmpty()){
+            return false;
+        }
+
+        for(RestHeaderQuery headerQuery : headerQueries){
+            final List<String> values = headerValues.get(headerQuery.getHeader().toLowerCase(Locale.ROOT));
+            if(values != null && values.stream().anyMatch(value -> validate(value, headerQuery))){
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Index the header values by their lower-cased name, so that every query
+     * only has to look up the headers with a matching name.
+     * @param headers The headers that will be indexed.
+     * @return The header values indexed by their lower-cased name.
+     * @since 1.70
+     */
+    public static Map<String, List<String>> indexHeaders(final Set<HttpHeader> headers){
         return headers.stream()
-                .anyMatch(header -> headerQueries.stream()
-                        .filter(headerQuery -> headerQuery.getHeader().equalsIgnoreCase(header.getName()))
-                        .anyMatch(headerQuery -> validate(header.getValue(), headerQuery)));
+                .collect(Collectors.groupingBy(header -> header.getName().toLowerCase(Locale.ROOT),
+                        Collectors.mapping(HttpHeader::getValue, Collectors.toList())));
     }
 
     private static boolean validate(final String inputQuery,
@@ -43,12 +79,9 @@ public final class RestHeaderQueryValidator {
         if(headerQuery.getMatchAny()){
             return true;
         } else if(headerQuery.getMatchRegex()){
-            final Pattern pattern = headerQuery.getMatchCase() ?
-                    Pattern.compile(headerQuery.getQuery()) :
-                    Pattern.compile(headerQuery.getQuery(), Pattern.CASE_INSENSITIVE);
-
-            final Matcher matcher = pattern.matcher(inputQuery);
-            return matcher.matches();
+            return RestQueryPatternCache.getPattern(headerQuery.getQuery(), headerQuery.getMatchCase())
+                    .matcher(inputQuery)
+                    .matches();
         } else if(headerQuery.getMatchCase()){
             return inputQuery.equals(headerQuery.getQuery());
         }
@@ -23,9 +23,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public final class RestParameterQueryValidator {
 
@@ -37,14 +34,11 @@ public final class RestParameterQueryValidator {
                                    final Map<String, Set<String>> pathParameters){
         for(Map.Entry<String, Set<String>> pathParameterEntry : pathParameters.entrySet()){
             final String pathParameter = pathParameterEntry.getKey();
-            final Set<RestParameterQuery> matching = pathParameterEntry.getValue()
-                    .stream()
-                    .flatMap(pathQuery -> parameterQueries.stream()
-                            .filter(parameterQuery -> parameterQuery.getParameter().equals(pathParameter))
-                            .filter(parameterQuery -> validate(pathQuery, parameterQuery)))
-                    .collect(Collectors.toSet());
+            final List<RestParameterQuery> queries = parameterQueries.stream()
+                    .filter(parameterQuery -> parameterQuery.getParameter().equals(pathParameter))
+                    .toList();
 
-            if (matching.isEmpty()) {
+            if(queries.isEmpty() || !matches(pathParameterEntry.getValue(), queries)){
                 return false;
             }
         }
@@ -52,22 +46,37 @@ public final class RestParameterQueryValidator {
         return true;
     }
 
-    private static boolean validate(final String pathQuery,
-                                    final RestParameterQuery parameterQuery){
-        String query = pathQuery;
-        if(parameterQuery.getUrlEncoded()) {
-            query = URLEncoder.encode(pathQuery, StandardCharsets.UTF_8);
+    private static boolean matches(final Set<String> pathQueries,
+                                   final List<RestParameterQuery> parameterQueries){
+        for(String pathQuery : pathQueries){
+            // The encoded value is shared by all the queries that match against the encoded value
+            String encodedPathQuery = null;
+            for(RestParameterQuery parameterQuery : parameterQueries){
+                String query = pathQuery;
+                if(parameterQuery.getUrlEncoded()) {
+                    if(encodedPathQuery == null){
+                        encodedPathQuery = URLEncoder.encode(pathQuery, StandardCharsets.UTF_8);
+                    }
+                    query = encodedPathQuery;
+                }
+
+                if(validate(query, parameterQuery)){
+                    return true;
+                }
+            }
         }
 
+        return false;
+    }
+
+    private static boolean validate(final String query,
+                                    final RestParameterQuery parameterQuery){
         if(parameterQuery.getMatchAny()){
             return true;
         } else if(parameterQuery.getMatchRegex()){
-            final Pattern pattern = parameterQuery.getMatchCase() ?
-                    Pattern.compile(parameterQuery.getQuery()) :
-                    Pattern.compile(parameterQuery.getQuery(), Pattern.CASE_INSENSITIVE);
-
-            final Matcher matcher = pattern.matcher(query);
-            return matcher.matches();
+            return RestQueryPatternCache.getPattern(parameterQuery.getQuery(), parameterQuery.getMatchCase())
+                    .matcher(query)
+                    .matches();
         } else if(parameterQuery.getMatchCase()){
             return query.equals(parameterQuery.getQuery());
         }
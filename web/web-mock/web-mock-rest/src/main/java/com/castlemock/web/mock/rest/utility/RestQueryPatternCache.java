@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.utility;
+
+import com.castlemock.model.core.utility.BoundedCache;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * The {@link RestQueryPatternCache} keeps the compiled regular expressions used by the header
+ * and parameter queries. Compiled {@link Pattern}s are immutable and are shared in a bounded LRU cache,
+ * which means that a query only has to be compiled once, instead of once per evaluated request.
+ * @since 1.70
+ * @see RestHeaderQueryValidator
+ * @see RestParameterQueryValidator
+ */
+final class RestQueryPatternCache {
+
+    private static final int MAX_CACHED_PATTERNS = 256;
+    private static final BoundedCache<PatternKey, Pattern> PATTERNS = new BoundedCache<>(MAX_CACHED_PATTERNS);
+
+    private RestQueryPatternCache() {
+
+    }
+
+    /**
+     * Get the compiled pattern for a query. The pattern will be compiled and cached if
+     * it has not been compiled before.
+     * @param query The regular expression.
+     * @param matchCase <code>true</code> if the pattern is case-sensitive. <code>false</code> otherwise.
+     * @return The compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException If the query is not a valid regular expression.
+     */
+    static Pattern getPattern(final String query, final boolean matchCase) {
+        return PATTERNS.computeIfAbsent(new PatternKey(query, matchCase), key -> key.matchCase() ?
+                Pattern.compile(key.query()) :
+                Pattern.compile(key.query(), Pattern.CASE_INSENSITIVE));
+    }
+
+    private record PatternKey(String query, boolean matchCase) {
+
+        private PatternKey {
+            Objects.requireNonNull(query, "query");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.utility;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link RestSequencePersistenceExecutor} persists advanced response sequence indexes in the background.
+ * Every task is run once its delay has passed. The tasks that are still waiting when the application is
+ * shut down are run right away, which means that no advanced sequence index is lost on shutdown.
+ * @since 1.70
+ */
+@Component
+public class RestSequencePersistenceExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestSequencePersistenceExecutor.class);
+    private static final long SHUTDOWN_TIMEOUT = 10;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Set<Runnable> pendingTasks = ConcurrentHashMap.newKeySet();
+
+    public RestSequencePersistenceExecutor() {
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "rest-sequence-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The delayed tasks are run by the flush instead of the executor once it has been shut down
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Schedule a task that will be run once the delay has passed.
+     * @param task The task that will be run.
+     * @param delay The delay in milliseconds.
+     */
+    public void schedule(final Runnable task, final long delay) {
+        this.pendingTasks.add(task);
+        this.executor.schedule(() -> run(task), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the executor and run all the tasks that are still waiting for their delay to pass.
+     */
+    @PreDestroy
+    public void flush() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                LOGGER.warn("The sequence persistence did not stop within " + SHUTDOWN_TIMEOUT + " seconds");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        List.copyOf(this.pendingTasks).forEach(this::run);
+    }
+
+    private void run(final Runnable task) {
+        // A task is only run once, regardless of whether it is run by the executor or by the flush
+        if (this.pendingTasks.remove(task)) {
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Unable to persist the response sequence: " + exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.core.utility.parser.ExternalInputBuilder;
+import com.castlemock.model.core.utility.parser.TextTemplate;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestMethodTestBuilder;
+import com.castlemock.model.mock.rest.domain.RestMockResponse;
+import com.castlemock.model.mock.rest.domain.RestMockResponseStatus;
+import com.castlemock.model.mock.rest.domain.RestMockResponseTestBuilder;
+import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class RestMockResponseSelectionPlanTest {
+
+    @Test
+    public void testSelect(){
+        final RestMockResponse jsonResponse = mockResponse("2", "Response 2", "application/json", false);
+        final RestMockResponse xmlResponse = mockResponse("1", "Response 1", "application/xml", false);
+        final RestMockResponse guardResponse = mockResponse("3", "Response 3", "application/json", true);
+        final RestMockResponse disabledResponse = RestMockResponseTestBuilder.builder()
+                .id("4")
+                .name("Response 0")
+                .status(RestMockResponseStatus.DISABLED)
+                .build();
+        final RestMethod restMethod = RestMethodTestBuilder.builder()
+                .responseStrategy(RestResponseStrategy.HEADER_QUERY_MATCH)
+                .mockResponses(List.of(jsonResponse, xmlResponse, guardResponse, disabledResponse))
+                .build();
+
+        final RestMockResponseSelectionPlan plan = RestMockResponseSelectionPlan.compile(restMethod);
+
+        final RestMockResponseSelectionPlan.Selection all = plan.select(List.of());
+        Assertions.assertEquals(List.of(xmlResponse, jsonResponse, guardResponse), all.getMockResponses());
+        Assertions.assertEquals(List.of(guardResponse), all.getGuards());
+        Assertions.assertEquals(List.of(xmlResponse, jsonResponse), all.getNonGuards());
+
+        final RestMockResponseSelectionPlan.Selection json = plan.select(List.of("application/json"));
+        Assertions.assertEquals(List.of(jsonResponse, guardResponse), json.getMockResponses());
+        Assertions.assertEquals(List.of(jsonResponse), json.getNonGuards());
+
+        final RestMockResponseSelectionPlan.Selection unknown = plan.select(List.of("text/plain"));
+        Assertions.assertEquals(all.getMockResponses(), unknown.getMockResponses());
+    }
+
+    @Test
+    public void testIsCompiledFrom(){
+        final RestMockResponse mockResponse = mockResponse("1", "Response 1", "application/json", false);
+        final RestMethod restMethod = RestMethodTestBuilder.builder()
+                .responseStrategy(RestResponseStrategy.SEQUENCE)
+                .mockResponses(List.of(mockResponse))
+                .build();
+
+        final RestMockResponseSelectionPlan plan = RestMockResponseSelectionPlan.compile(restMethod);
+        Assertions.assertTrue(plan.isCompiledFrom(restMethod));
+
+        // The sequence index is updated on every request and should not invalidate the plan
+        Assertions.assertTrue(plan.isCompiledFrom(restMethod.toBuilder()
+                .currentResponseSequenceIndex(1)
+                .build()));
+
+        Assertions.assertFalse(plan.isCompiledFrom(restMethod.toBuilder()
+                .responseStrategy(RestResponseStrategy.RANDOM)
+                .build()));
+
+        // A copy of an unchanged mock response should not invalidate the plan
+        Assertions.assertTrue(plan.isCompiledFrom(restMethod.toBuilder()
+                .mockResponses(List.of(mockResponse("1", "Response 1", "application/json", false)))
+                .build()));
+
+        Assertions.assertFalse(plan.isCompiledFrom(restMethod.toBuilder()
+                .mockResponses(List.of(mockResponse("1", "Response 1", "application/xml", false)))
+                .build()));
+
+        Assertions.assertFalse(plan.isCompiledFrom(restMethod.toBuilder()
+                .mockResponses(List.of(mockResponse, mockResponse("2", "Response 2", "application/json", false)))
+                .build()));
+    }
+
+    @Test
+    public void testRecompile(){
+        final RestMethod restMethod = RestMethodTestBuilder.builder()
+                .responseStrategy(RestResponseStrategy.SEQUENCE)
+                .currentResponseSequenceIndex(0)
+                .mockResponses(List.of(mockResponse("1", "Response 1", "application/json", false)))
+                .build();
+        final RestMockResponseSelectionPlan plan = RestMockResponseSelectionPlan.compile(restMethod);
+        plan.getSequence().next(2);
+
+        // The in-memory sequence is kept when a mock response is updated
+        final RestMethod updatedMethod = restMethod.toBuilder()
+                .mockResponses(List.of(mockResponse("1", "Response 1", "application/xml", false)))
+                .build();
+        final RestMockResponseSelectionPlan recompiledPlan = RestMockResponseSelectionPlan.recompile(updatedMethod, plan);
+        Assertions.assertSame(plan.getSequence(), recompiledPlan.getSequence());
+        Assertions.assertEquals(1, recompiledPlan.getSequence().getNextIndex());
+
+        // A stored index that has been changed by someone else restarts the sequence from the stored index
+        final RestMockResponseSelectionPlan resetPlan = RestMockResponseSelectionPlan.recompile(
+                updatedMethod.toBuilder().currentResponseSequenceIndex(3).build(), plan);
+        Assertions.assertNotSame(plan.getSequence(), resetPlan.getSequence());
+        Assertions.assertEquals(3, resetPlan.getSequence().getNextIndex());
+
+        Assertions.assertEquals(0, RestMockResponseSelectionPlan.recompile(restMethod, null)
+                .getSequence().getNextIndex());
+    }
+
+    @Test
+    public void testGetTemplate(){
+        final RestMockResponse mockResponse = mockResponse("1", "Response 1", "application/json", false).toBuilder()
+                .body("Path: ${PATH_PARAMETER(parameter=\"id\")}")
+                .usingExpressions(true)
+                .build();
+        final RestMethod restMethod = RestMethodTestBuilder.builder()
+                .responseStrategy(RestResponseStrategy.SEQUENCE)
+                .mockResponses(List.of(mockResponse))
+                .build();
+        final RestMockResponseSelectionPlan plan = RestMockResponseSelectionPlan.compile(restMethod);
+
+        // The body is only compiled once
+        final TextTemplate template = plan.getTemplate(mockResponse);
+        Assertions.assertSame(template, plan.getTemplate(mockResponse));
+        Assertions.assertEquals("Path: 1", template.render(new ExternalInputBuilder()
+                .pathParameters(Map.of("id", Set.of("1")))
+                .build()));
+
+        // An updated body is not rendered from the template of the previous body
+        final RestMockResponse updatedMockResponse = mockResponse.toBuilder()
+                .body("Updated")
+                .build();
+        Assertions.assertEquals("Updated", plan.getTemplate(updatedMockResponse).render(Map.of()));
+        Assertions.assertSame(template, plan.getTemplate(mockResponse));
+    }
+
+    private static RestMockResponse mockResponse(final String id,
+                                                 final String name,
+                                                 final String contentType,
+                                                 final boolean guard){
+        return RestMockResponseTestBuilder.builder()
+                .id(id)
+                .name(name)
+                .isGuard(guard)
+                .httpHeaders(List.of(HttpHeader.builder()
+                        .name("Content-Type")
+                        .value(contentType)
+                        .build()))
+                .build();
+    }
+}
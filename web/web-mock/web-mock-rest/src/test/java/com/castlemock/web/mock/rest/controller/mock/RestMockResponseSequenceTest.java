@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RestMockResponseSequenceTest {
+
+    @Test
+    public void testNext(){
+        final RestMockResponseSequence sequence = new RestMockResponseSequence(1);
+        Assertions.assertEquals(1, sequence.next(3));
+        Assertions.assertEquals(2, sequence.next(3));
+        Assertions.assertEquals(0, sequence.next(3));
+        Assertions.assertEquals(1, sequence.getNextIndex());
+
+        // The sequence starts over if there are fewer responses than the current index
+        Assertions.assertEquals(0, sequence.next(1));
+        Assertions.assertEquals(1, sequence.getNextIndex());
+    }
+
+    @Test
+    public void testMarkPersisted(){
+        final RestMockResponseSequence sequence = new RestMockResponseSequence(0);
+        Assertions.assertFalse(sequence.markPersisted());
+        sequence.next(2);
+        Assertions.assertTrue(sequence.markPersisted());
+        Assertions.assertFalse(sequence.markPersisted());
+    }
+
+    @Test
+    public void testStoredIndex(){
+        final RestMockResponseSequence sequence = new RestMockResponseSequence(2);
+        Assertions.assertEquals(2, sequence.getStoredIndex());
+
+        sequence.next(4);
+        sequence.markStored(sequence.getNextIndex());
+        Assertions.assertEquals(3, sequence.getStoredIndex());
+
+        // A newer index stored by someone else replaces the advances that haven't been persisted
+        sequence.next(4);
+        sequence.reset(1);
+        Assertions.assertEquals(1, sequence.getStoredIndex());
+        Assertions.assertEquals(1, sequence.getNextIndex());
+        Assertions.assertFalse(sequence.markPersisted());
+    }
+
+    @Test
+    public void testNextConcurrently() throws Exception {
+        final int size = 4;
+        final int requestsPerThread = 1000;
+        final int threads = 8;
+        final RestMockResponseSequence sequence = new RestMockResponseSequence(0);
+        final AtomicIntegerArray selected = new AtomicIntegerArray(size);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int thread = 0; thread < threads; thread++){
+                futures.add(executor.submit(() -> {
+                    for(int request = 0; request < requestsPerThread; request++){
+                        selected.incrementAndGet(sequence.next(size));
+                    }
+                }));
+            }
+            for(Future<?> future : futures){
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Every response is handed out exactly the same number of times
+        for(int index = 0; index < size; index++){
+            Assertions.assertEquals(threads * requestsPerThread / size, selected.get(index));
+        }
+    }
+}
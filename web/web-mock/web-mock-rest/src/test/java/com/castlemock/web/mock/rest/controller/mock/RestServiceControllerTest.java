@@ -19,6 +19,8 @@ package com.castlemock.web.mock.rest.controller.mock;
 import com.castlemock.model.core.ServiceProcessor;
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.core.utility.random.RandomSource;
+import com.castlemock.model.mock.rest.domain.RestEvent;
 import com.castlemock.model.mock.rest.domain.RestJsonPathExpression;
 import com.castlemock.model.mock.rest.domain.RestMethod;
 import com.castlemock.model.mock.rest.domain.RestMethodStatus;
@@ -29,32 +31,46 @@ import com.castlemock.model.mock.rest.domain.RestMockResponseTestBuilder;
 import com.castlemock.model.mock.rest.domain.RestParameterQuery;
 import com.castlemock.model.mock.rest.domain.RestParameterQueryTestBuilder;
 import com.castlemock.model.mock.rest.domain.RestRequest;
+import com.castlemock.model.mock.rest.domain.RestResponse;
 import com.castlemock.model.mock.rest.domain.RestResponseStrategy;
 import com.castlemock.model.mock.rest.domain.RestResponseTestBuilder;
 import com.castlemock.model.mock.rest.domain.RestXPathExpression;
+import com.castlemock.service.mock.rest.event.RestEventPipeline;
 import com.castlemock.service.mock.rest.project.input.IdentifyRestMethodInput;
+import com.castlemock.service.mock.rest.project.input.ReadRestMethodInput;
+import com.castlemock.service.mock.rest.project.input.UpdateCurrentRestMockResponseSequenceIndexInput;
 import com.castlemock.service.mock.rest.project.output.IdentifyRestMethodOutput;
+import com.castlemock.service.mock.rest.project.output.ReadRestMethodOutput;
+import com.castlemock.service.mock.rest.project.route.RestMethodRemovedEvent;
 import com.castlemock.web.core.controller.AbstractController;
 import com.castlemock.web.mock.rest.controller.rest.AbstractControllerTest;
 import com.castlemock.web.mock.rest.model.RestException;
+import com.castlemock.web.mock.rest.model.RestTruncatedResponseException;
 import com.castlemock.web.mock.rest.utility.RestClient;
+import com.castlemock.web.mock.rest.utility.RestSequencePersistenceExecutor;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -64,8 +80,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,6 +101,12 @@ public class RestServiceControllerTest extends AbstractControllerTest {
     private ServiceProcessor serviceProcessor;
     @Mock
     private RestClient restClient;
+    @Mock
+    private RestEventPipeline restEventPipeline;
+    @Mock
+    private RandomSource randomSource;
+    @Mock
+    private RestSequencePersistenceExecutor sequenceExecutor;
 
     private static final String PROJECT_ID = "ProjectId";
     private static final String APPLICATION_ID = "ApplicationId";
@@ -117,6 +142,39 @@ public class RestServiceControllerTest extends AbstractControllerTest {
             \t}
             }""";
 
+    @BeforeEach
+    public void setupRandomSource() {
+        when(randomSource.getGenerator(anyString(), anyString())).thenAnswer(invocation -> new SplittableRandom(0));
+    }
+
+    @Test
+    @DisplayName("Get - Static response")
+    public void testGetMockedStaticResponse() throws UnsupportedEncodingException {
+        final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
+        final MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        ReflectionTestUtils.setField(restServiceController, "staticResponses", true);
+
+        final RestMethod restMethod = getMockedRestMethod().build();
+        final IdentifyRestMethodOutput identifyRestMethodOutput = IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .pathParameters(PATH_PARAMETERS)
+                .build();
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(identifyRestMethodOutput);
+
+        final ResponseEntity<?> responseEntity = restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, httpServletRequest, httpServletResponse);
+
+        Assertions.assertNull(responseEntity);
+        Assertions.assertEquals(200, httpServletResponse.getStatus());
+        Assertions.assertEquals(XML_RESPONSE_BODY, httpServletResponse.getContentAsString());
+        Assertions.assertEquals(APPLICATION_XML, httpServletResponse.getHeader(CONTENT_TYPE_HEADER));
+        Assertions.assertNotNull(httpServletResponse.getHeader("ETag"));
+        verify(restEventPipeline, times(1)).submit(any());
+    }
+
     @Test
     @DisplayName("Get - Mock sequence")
     public void testGetMockedSequence() {
@@ -267,6 +325,151 @@ public class RestServiceControllerTest extends AbstractControllerTest {
         verify(restClient, times(1)).getResponse(any(RestRequest.class), any(RestMethod.class));
     }
 
+    @Test
+    @DisplayName("Get - Mocked response - Streaming")
+    public void testGetMockedStreamingResponse() throws UnsupportedEncodingException {
+        final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
+        final MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        ReflectionTestUtils.setField(restServiceController, "responseStreaming", true);
+
+        final RestMockResponse restMockResponse = RestMockResponseTestBuilder.builder()
+                .body("<response>${PATH_PARAMETER(parameter=\"Path\")}</response>")
+                .contentEncodings(new ArrayList<>())
+                .httpHeaders(List.of(HttpHeader.builder()
+                        .name(CONTENT_TYPE_HEADER)
+                        .value(APPLICATION_XML)
+                        .build()))
+                .httpStatusCode(201)
+                .id("MockResponseId")
+                .name("Mocked response")
+                .status(RestMockResponseStatus.ENABLED)
+                .usingExpressions(Boolean.TRUE)
+                .build();
+        final RestMethod restMethod = getMockedRestMethod()
+                .mockResponses(List.of(restMockResponse))
+                .build();
+        final IdentifyRestMethodOutput identifyRestMethodOutput = IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .pathParameters(PATH_PARAMETERS)
+                .build();
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(identifyRestMethodOutput);
+
+        final ResponseEntity<?> responseEntity = restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, httpServletRequest, httpServletResponse);
+
+        Assertions.assertNull(responseEntity);
+        Assertions.assertEquals(201, httpServletResponse.getStatus());
+        Assertions.assertEquals(APPLICATION_XML + ";charset=UTF-8", httpServletResponse.getHeader(CONTENT_TYPE_HEADER));
+        Assertions.assertEquals("<response>Value</response>", httpServletResponse.getContentAsString());
+
+        final ArgumentCaptor<RestEvent> event = ArgumentCaptor.forClass(RestEvent.class);
+        verify(restEventPipeline, times(1)).submit(event.capture());
+        final RestResponse response = event.getValue().getResponse().orElseThrow();
+        Assertions.assertEquals(201, response.getHttpStatusCode());
+        Assertions.assertEquals("<response>Value</response>", response.getBody().orElse(null));
+    }
+
+    @Test
+    public void testGetMockedStreamingResponseWithNetworkDelay() throws UnsupportedEncodingException {
+        final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
+        final MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        ReflectionTestUtils.setField(restServiceController, "responseStreaming", true);
+
+        final RestMockResponse restMockResponse = RestMockResponseTestBuilder.builder()
+                .body("<response>${PATH_PARAMETER(parameter=\"Path\")}</response>")
+                .contentEncodings(new ArrayList<>())
+                .httpHeaders(List.of())
+                .httpStatusCode(200)
+                .id("MockResponseId")
+                .name("Mocked response")
+                .status(RestMockResponseStatus.ENABLED)
+                .usingExpressions(Boolean.TRUE)
+                .build();
+        final RestMethod restMethod = getMockedRestMethod()
+                .mockResponses(List.of(restMockResponse))
+                .simulateNetworkDelay(Boolean.TRUE)
+                .networkDelay(50L)
+                .build();
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .pathParameters(PATH_PARAMETERS)
+                .build());
+
+        final ResponseEntity<?> responseEntity = restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, httpServletRequest, httpServletResponse);
+
+        Assertions.assertNull(responseEntity);
+        Assertions.assertEquals("<response>Value</response>", httpServletResponse.getContentAsString());
+
+        // The event is recorded once the delayed response has been written
+        final ArgumentCaptor<RestEvent> event = ArgumentCaptor.forClass(RestEvent.class);
+        verify(restEventPipeline, times(1)).submit(event.capture());
+        Assertions.assertTrue(event.getValue().getEndDate().getTime() - event.getValue().getStartDate().getTime() >= 50L);
+        Assertions.assertTrue(event.getValue().getResponse().isPresent());
+    }
+
+    @Test
+    @DisplayName("Get - Forwarding strategy - Streaming")
+    public void testForwardingStrategyStreaming() {
+        final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
+        final HttpServletResponse httpServletResponse = getHttpServletResponse();
+        ReflectionTestUtils.setField(restServiceController, "forwardStreaming", true);
+
+        final RestMethod restMethod = getForwardingRestMethod();
+        final IdentifyRestMethodOutput identifyRestMethodOutput = IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .build();
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(identifyRestMethodOutput);
+        when(restClient.streamResponse(any(), any(), any(), anyInt()))
+                .thenReturn(Optional.of(RestResponseTestBuilder.builder().build()));
+
+        final ResponseEntity<?> responseEntity = restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, httpServletRequest, httpServletResponse);
+
+        Assertions.assertNull(responseEntity);
+        verify(restClient, times(1)).streamResponse(any(RestRequest.class), any(RestMethod.class),
+                any(HttpServletResponse.class), anyInt());
+        verify(restClient, times(0)).getResponse(any(RestRequest.class), any(RestMethod.class));
+        verify(restEventPipeline, times(1)).submit(any());
+    }
+
+    @Test
+    @DisplayName("Get - Forwarding strategy - Streaming interrupted after commit")
+    public void testForwardingStrategyStreamingTruncated() {
+        final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
+        final HttpServletResponse httpServletResponse = getHttpServletResponse();
+        ReflectionTestUtils.setField(restServiceController, "forwardStreaming", true);
+
+        final RestMethod restMethod = getForwardingRestMethod();
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .build());
+        final RestResponse truncatedResponse = RestResponseTestBuilder.builder().build();
+        when(restClient.streamResponse(any(), any(), any(), anyInt()))
+                .thenThrow(new RestTruncatedResponseException("Interrupted", truncatedResponse,
+                        new IOException("Connection reset")));
+
+        Assertions.assertThrows(RestException.class, () ->
+                restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, httpServletRequest, httpServletResponse));
+
+        final ArgumentCaptor<RestEvent> event = ArgumentCaptor.forClass(RestEvent.class);
+        verify(restEventPipeline, times(1)).submit(event.capture());
+        Assertions.assertEquals(truncatedResponse, event.getValue().getResponse().orElse(null));
+    }
+
     @Test
     @DisplayName("Get - Mock query - No match, no default response and forwarding URL without automatic forward")
     public void testMockedQueryNoMatchNoDefaultResponseAndForwardingUrlWithoutAutomaticForward() {
@@ -491,6 +694,87 @@ public class RestServiceControllerTest extends AbstractControllerTest {
         Assertions.assertEquals(APPLICATION_XML, Objects.requireNonNull(responseEntity.getHeaders().get(ACCEPT_HEADER)).getFirst());
     }
 
+    @Test
+    @DisplayName("Removed method - Selection plan is discarded")
+    @SuppressWarnings("unchecked")
+    public void testRestMethodRemoved() {
+        final Map<String, RestMockResponseSelectionPlan> selectionPlans = (Map<String, RestMockResponseSelectionPlan>)
+                ReflectionTestUtils.getField(restServiceController, "selectionPlans");
+        Objects.requireNonNull(selectionPlans).put(METHOD_ID, RestMockResponseSelectionPlan.compile(getMockedRestMethod().build()));
+
+        restServiceController.onRestMethodRemoved(new RestMethodRemovedEvent(METHOD_ID));
+        Assertions.assertFalse(selectionPlans.containsKey(METHOD_ID));
+    }
+
+    @Test
+    @DisplayName("Sequence - Index is persisted")
+    public void testSequenceIndexIsPersisted() {
+        ReflectionTestUtils.setField(restServiceController, "sequencePersistence",
+                AbstractRestServiceController.SequencePersistence.IMMEDIATE);
+        final RestMethod restMethod = getMockedRestMethod().build();
+        mockSequenceRequest(restMethod, restMethod);
+
+        restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, getMockedHttpServletRequest(""), getHttpServletResponse());
+
+        Mockito.verify(serviceProcessor, Mockito.times(1)).process(UpdateCurrentRestMockResponseSequenceIndexInput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .currentRestMockResponseSequenceIndex(1)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Sequence - Newer stored index is not overwritten")
+    public void testSequenceIndexIsNotPersistedWhenStoredIndexIsNewer() {
+        ReflectionTestUtils.setField(restServiceController, "sequencePersistence",
+                AbstractRestServiceController.SequencePersistence.IMMEDIATE);
+        final RestMethod restMethod = getMockedRestMethod().build();
+        mockSequenceRequest(restMethod, restMethod.toBuilder()
+                .currentResponseSequenceIndex(5)
+                .build());
+
+        restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, getMockedHttpServletRequest(""), getHttpServletResponse());
+
+        Mockito.verify(serviceProcessor, Mockito.never()).process(any(UpdateCurrentRestMockResponseSequenceIndexInput.class));
+    }
+
+    @Test
+    @DisplayName("Sequence - Index is persisted lazily")
+    public void testSequenceIndexIsPersistedLazily() {
+        ReflectionTestUtils.setField(restServiceController, "sequencePersistence",
+                AbstractRestServiceController.SequencePersistence.LAZY);
+        ReflectionTestUtils.setField(restServiceController, "sequencePersistenceDelay", 1000L);
+        final RestMethod restMethod = getMockedRestMethod().build();
+        mockSequenceRequest(restMethod, restMethod);
+
+        restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, getMockedHttpServletRequest(""), getHttpServletResponse());
+        restServiceController.getMethod(PROJECT_ID, APPLICATION_ID, getMockedHttpServletRequest(""), getHttpServletResponse());
+
+        // Only one write is scheduled per method, and nothing is written until it is run
+        final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(sequenceExecutor, Mockito.times(1)).schedule(task.capture(), Mockito.eq(1000L));
+        Mockito.verify(serviceProcessor, Mockito.never()).process(any(UpdateCurrentRestMockResponseSequenceIndexInput.class));
+
+        task.getValue().run();
+        Mockito.verify(serviceProcessor, Mockito.times(1)).process(any(UpdateCurrentRestMockResponseSequenceIndexInput.class));
+    }
+
+    private void mockSequenceRequest(final RestMethod restMethod, final RestMethod storedMethod) {
+        when(serviceProcessor.process(any(IdentifyRestMethodInput.class))).thenReturn(IdentifyRestMethodOutput.builder()
+                .projectId(PROJECT_ID)
+                .applicationId(APPLICATION_ID)
+                .resourceId(RESOURCE_ID)
+                .methodId(METHOD_ID)
+                .method(restMethod)
+                .pathParameters(PATH_PARAMETERS)
+                .build());
+        when(serviceProcessor.process(any(ReadRestMethodInput.class))).thenReturn(ReadRestMethodOutput.builder()
+                .method(storedMethod)
+                .build());
+    }
+
     @Override
     protected AbstractController getController() {
         return restServiceController;
@@ -555,6 +839,9 @@ public class RestServiceControllerTest extends AbstractControllerTest {
                 SLASH + PROJECT_ID + SLASH + APPLICATION + SLASH + APPLICATION_ID + "/method/test");
 
         when(httpServletRequest.getContentType()).thenReturn(APPLICATION_JSON);
+        when(httpServletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080" + CONTEXT + SLASH +
+                MOCK + SLASH + REST + SLASH + PROJECT + SLASH + PROJECT_ID + SLASH + APPLICATION + SLASH +
+                APPLICATION_ID + "/method/test"));
 
         Enumeration<String> parameterName = Mockito.mock(Enumeration.class);
         Enumeration<String> headerNames = Collections.enumeration(Arrays.asList(CONTENT_TYPE_HEADER, ACCEPT_HEADER));
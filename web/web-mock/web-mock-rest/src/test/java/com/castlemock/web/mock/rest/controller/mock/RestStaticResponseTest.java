@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.controller.mock;
+
+import com.castlemock.model.core.http.HttpContentEncoding;
+import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.mock.rest.domain.RestMockResponse;
+import com.castlemock.model.mock.rest.domain.RestMockResponseTestBuilder;
+import com.castlemock.web.core.utility.ContentEncodingUtility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+public class RestStaticResponseTest {
+
+    private static final String BODY = "{\"message\": \"" + "Hello world ".repeat(100) + "\"}";
+
+    @Test
+    public void testWrite() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        staticResponse.write(new MockHttpServletRequest("GET", "/"), response);
+
+        Assertions.assertEquals(201, response.getStatus());
+        Assertions.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+        Assertions.assertEquals(BODY.length(), response.getContentLength());
+        Assertions.assertEquals("application/json", response.getHeader("Content-Type"));
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    public void testWriteGzip() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "deflate;q=0.5, gzip");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        staticResponse.write(request, response);
+
+        Assertions.assertEquals("gzip", response.getHeader("Content-Encoding"));
+        Assertions.assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Assertions.assertEquals(BODY, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        final MockHttpServletRequest rejectingRequest = new MockHttpServletRequest("GET", "/");
+        rejectingRequest.addHeader("Accept-Encoding", "gzip;q=0");
+        final MockHttpServletResponse identityResponse = new MockHttpServletResponse();
+        staticResponse.write(rejectingRequest, identityResponse);
+        Assertions.assertNull(identityResponse.getHeader("Content-Encoding"));
+        Assertions.assertNotEquals(response.getHeader("ETag"), identityResponse.getHeader("ETag"));
+    }
+
+    @Test
+    public void testWriteDeflate() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                List.of(HttpContentEncoding.DEFLATE), 1024);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        staticResponse.write(request, response);
+
+        Assertions.assertEquals("deflate", response.getHeader("Content-Encoding"));
+        try (InflaterInputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Assertions.assertEquals(BODY, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testWriteBelowCompressionMinSize() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, BODY.length() + 1);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "gzip");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        staticResponse.write(request, response);
+
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertNull(response.getHeader("Vary"));
+        Assertions.assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testWriteNotModified() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        staticResponse.write(new MockHttpServletRequest("GET", "/"), response);
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", response.getHeader("ETag"));
+        final MockHttpServletResponse notModifiedResponse = new MockHttpServletResponse();
+        staticResponse.write(request, notModifiedResponse);
+
+        Assertions.assertEquals(304, notModifiedResponse.getStatus());
+        Assertions.assertEquals(0, notModifiedResponse.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testToResponseEntity() throws IOException {
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse(BODY),
+                ContentEncodingUtility.SUPPORTED_ENCODINGS, 1024);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "gzip");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        staticResponse.write(request, response);
+
+        final ResponseEntity<byte[]> responseEntity = staticResponse.toResponseEntity(request);
+
+        Assertions.assertEquals(201, responseEntity.getStatusCode().value());
+        Assertions.assertEquals("gzip", responseEntity.getHeaders().getFirst("Content-Encoding"));
+        Assertions.assertEquals("application/json", responseEntity.getHeaders().getFirst("Content-Type"));
+        Assertions.assertEquals(response.getHeader("ETag"), responseEntity.getHeaders().getETag());
+        Assertions.assertArrayEquals(response.getContentAsByteArray(), responseEntity.getBody());
+
+        request.addHeader("If-None-Match", response.getHeader("ETag"));
+        final ResponseEntity<byte[]> notModifiedEntity = staticResponse.toResponseEntity(request);
+        Assertions.assertEquals(304, notModifiedEntity.getStatusCode().value());
+        Assertions.assertNull(notModifiedEntity.getBody());
+    }
+
+    @Test
+    public void testIsRenderedFrom() {
+        final RestMockResponse mockResponse = mockResponse(BODY);
+        final RestStaticResponse staticResponse = RestStaticResponse.render(mockResponse, List.of(), 0);
+
+        Assertions.assertTrue(staticResponse.isRenderedFrom(mockResponse));
+        Assertions.assertTrue(staticResponse.isRenderedFrom(mockResponse(BODY)));
+        Assertions.assertFalse(staticResponse.isRenderedFrom(mockResponse(BODY + " ")));
+    }
+
+    private static RestMockResponse mockResponse(final String body) {
+        return RestMockResponseTestBuilder.builder()
+                .body(body)
+                .httpStatusCode(201)
+                .httpHeaders(List.of(HttpHeader.builder()
+                        .name("Content-Type")
+                        .value("application/json")
+                        .build()))
+                .build();
+    }
+}
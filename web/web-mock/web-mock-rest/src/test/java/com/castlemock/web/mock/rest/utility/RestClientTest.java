@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.utility;
+
+import com.castlemock.model.core.http.HttpMethod;
+import com.castlemock.model.mock.rest.domain.RestMethod;
+import com.castlemock.model.mock.rest.domain.RestMethodTestBuilder;
+import com.castlemock.model.mock.rest.domain.RestRequest;
+import com.castlemock.model.mock.rest.domain.RestRequestTestBuilder;
+import com.castlemock.web.core.utility.HttpForwardClient;
+import com.castlemock.web.mock.rest.model.RestTruncatedResponseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RestClientTest {
+
+    private final HttpForwardClient forwardClient = mock(HttpForwardClient.class);
+    private final RestClient restClient = new RestClient(forwardClient);
+    private final RestMethod restMethod = RestMethodTestBuilder.builder()
+            .forwardedEndpoint("http://localhost:8080")
+            .build();
+
+    @Test
+    @DisplayName("Forward - Body of a PATCH request")
+    void testForwardPatchBody() throws IOException {
+        final byte[] body = "{\"name\": \"patched\"}".getBytes(StandardCharsets.UTF_8);
+        final RestRequest request = RestRequestTestBuilder.builder()
+                .httpMethod(HttpMethod.PATCH)
+                .bodyBytes(body)
+                .build();
+        when(forwardClient.send(any(), any(), any(), any())).thenThrow(new IOException("Unavailable"));
+
+        Assertions.assertTrue(restClient.getResponse(request, restMethod).isEmpty());
+        verify(forwardClient).send("http://localhost:8080/test", HttpMethod.PATCH, body, Set.of());
+    }
+
+    @Test
+    @DisplayName("Forward - Request without a body")
+    void testForwardWithoutBody() throws IOException {
+        final RestRequest request = RestRequestTestBuilder.builder()
+                .httpMethod(HttpMethod.GET)
+                .body("")
+                .build();
+        when(forwardClient.send(any(), any(), any(), any())).thenThrow(new IOException("Unavailable"));
+
+        Assertions.assertTrue(restClient.getResponse(request, restMethod).isEmpty());
+        verify(forwardClient).send(eq("http://localhost:8080/test"), eq(HttpMethod.GET), isNull(), eq(Set.of()));
+    }
+
+    @Test
+    @DisplayName("Stream - Failure before the response is committed")
+    void testStreamFailureBeforeCommit() throws IOException {
+        final MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        mockStream(failingStream("Partial body"));
+
+        Assertions.assertTrue(restClient.streamResponse(RestRequestTestBuilder.build(), restMethod,
+                httpServletResponse, 1024).isEmpty());
+        Assertions.assertFalse(httpServletResponse.isCommitted());
+        Assertions.assertEquals(200, httpServletResponse.getStatus());
+        Assertions.assertNull(httpServletResponse.getHeader("Content-Type"));
+        Assertions.assertEquals(0, httpServletResponse.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Stream - Failure after the response is committed")
+    void testStreamFailureAfterCommit() throws IOException {
+        final MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        httpServletResponse.setBufferSize(16);
+        mockStream(failingStream("A body that is larger than the buffer"));
+
+        final RestTruncatedResponseException exception = Assertions.assertThrows(RestTruncatedResponseException.class,
+                () -> restClient.streamResponse(RestRequestTestBuilder.build(), restMethod, httpServletResponse, 6));
+        Assertions.assertTrue(httpServletResponse.isCommitted());
+        Assertions.assertEquals(201, exception.getResponse().getHttpStatusCode());
+        Assertions.assertEquals("A body", exception.getResponse().getBody().orElse(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockStream(final InputStream body) throws IOException {
+        final HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(201);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Type", List.of("text/plain")),
+                (name, value) -> true));
+        when(response.body()).thenReturn(body);
+        when(forwardClient.stream(any(), any(), any(), any())).thenReturn(response);
+    }
+
+    private static InputStream failingStream(final String body) {
+        return new SequenceInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+    }
+
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 class RestHeaderQueryValidatorTest {
@@ -137,4 +138,56 @@ class RestHeaderQueryValidatorTest {
         Assertions.assertFalse(RestHeaderQueryValidator.validate(List.of(headerQuery), Set.of(httpHeader)));
     }
 
+    @Test
+    @DisplayName("Validate - Query match - Header name ignore case and multiple headers")
+    void testValidateMatchHeaderNameIgnoreCase() {
+        final RestHeaderQuery headerQuery = RestHeaderQuery.builder()
+                .header("content-encoding")
+                .query("application/(.*)")
+                .matchRegex(true)
+                .matchCase(true)
+                .matchAny(false)
+                .build();
+        final HttpHeader otherHeader = HttpHeader.builder()
+                .name("Accept")
+                .value("application/json")
+                .build();
+        final HttpHeader httpHeader = HttpHeader.builder()
+                .name("Content-Encoding")
+                .value("application/xml")
+                .build();
+
+        Assertions.assertTrue(RestHeaderQueryValidator.validate(List.of(headerQuery), Set.of(otherHeader, httpHeader)));
+        Assertions.assertFalse(RestHeaderQueryValidator.validate(List.of(headerQuery), Set.of(otherHeader)));
+    }
+
+    @Test
+    @DisplayName("Validate - Indexed headers reused for multiple queries")
+    void testValidateIndexedHeaders() {
+        final RestHeaderQuery matchingQuery = RestHeaderQuery.builder()
+                .header("ACCEPT")
+                .query("application/json")
+                .matchRegex(false)
+                .matchCase(true)
+                .matchAny(false)
+                .build();
+        final RestHeaderQuery otherQuery = RestHeaderQuery.builder()
+                .header("Accept")
+                .query("application/xml")
+                .matchRegex(false)
+                .matchCase(true)
+                .matchAny(false)
+                .build();
+        final Map<String, List<String>> headerValues = RestHeaderQueryValidator.indexHeaders(Set.of(
+                HttpHeader.builder()
+                        .name("Accept")
+                        .value("application/json")
+                        .build()));
+
+        Assertions.assertEquals(Map.of("accept", List.of("application/json")), headerValues);
+        Assertions.assertTrue(RestHeaderQueryValidator.validate(List.of(matchingQuery), headerValues));
+        Assertions.assertFalse(RestHeaderQueryValidator.validate(List.of(otherQuery), headerValues));
+        Assertions.assertFalse(RestHeaderQueryValidator.validate(List.of(matchingQuery), Map.of()));
+    }
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Castle Mock Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.castlemock.web.mock.rest.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RestSequencePersistenceExecutorTest {
+
+    private final RestSequencePersistenceExecutor executor = new RestSequencePersistenceExecutor();
+
+    @Test
+    @DisplayName("Schedule - Task is run after the delay")
+    void testSchedule() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.schedule(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 10);
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.flush();
+        Assertions.assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Flush - Waiting tasks are run on shutdown")
+    void testFlush() {
+        final AtomicInteger runs = new AtomicInteger();
+        executor.schedule(runs::incrementAndGet, TimeUnit.HOURS.toMillis(1));
+        executor.schedule(runs::incrementAndGet, TimeUnit.HOURS.toMillis(1));
+
+        executor.flush();
+        Assertions.assertEquals(2, runs.get());
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.castlemock.web.mock.soap.config;
 
 import com.castlemock.web.core.filter.HttpServletRequestWrapperFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,13 +30,16 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SoapConfig {
 
+    @Value("${mock.request.body.max.size:52428800}")
+    private Integer maxRequestBodySize;
+
     /**
      * Register a {@link HttpServletRequestWrapperFilter}
      */
     @Bean
     public FilterRegistrationBean<HttpServletRequestWrapperFilter> soapRequestWrapperFilter() {
         final FilterRegistrationBean<HttpServletRequestWrapperFilter> registration = new FilterRegistrationBean<>();
-        registration.setFilter(new HttpServletRequestWrapperFilter());
+        registration.setFilter(new HttpServletRequestWrapperFilter(maxRequestBodySize));
         registration.addUrlPatterns("/mock/soap/project/*");
         registration.setName("soapRequestWrapperFilter");
         registration.setOrder(1);
@@ -17,14 +17,16 @@
 package com.castlemock.web.mock.soap.controller.mock;
 
 import com.castlemock.model.core.ServiceProcessor;
+import com.castlemock.model.core.http.HttpContentEncoding;
 import com.castlemock.model.core.http.HttpHeader;
 import com.castlemock.model.core.utility.IdUtility;
+import com.castlemock.model.core.utility.random.RandomSource;
 import com.castlemock.model.mock.soap.domain.SoapEvent;
 import com.castlemock.model.mock.soap.domain.SoapOperation;
 import com.castlemock.model.mock.soap.domain.SoapRequest;
 import com.castlemock.model.mock.soap.domain.SoapResourceType;
 import com.castlemock.model.mock.soap.domain.SoapResponse;
-import com.castlemock.service.mock.soap.event.input.CreateSoapEventInput;
+import com.castlemock.service.mock.soap.event.SoapEventPipeline;
 import com.castlemock.service.mock.soap.project.input.IdentifySoapOperationInput;
 import com.castlemock.service.mock.soap.project.input.LoadSoapResourceInput;
 import com.castlemock.service.mock.soap.project.input.ReadSoapProjectInput;
@@ -32,6 +34,9 @@ import com.castlemock.service.mock.soap.project.output.IdentifySoapOperationOutp
 import com.castlemock.service.mock.soap.project.output.LoadSoapResourceOutput;
 import com.castlemock.service.mock.soap.project.output.ReadSoapProjectOutput;
 import com.castlemock.web.core.controller.AbstractController;
+import com.castlemock.web.core.utility.CharsetUtility;
+import com.castlemock.web.core.utility.ContentEncodingUtility;
+import com.castlemock.web.core.utility.NetworkDelayUtility;
 import com.castlemock.web.mock.soap.converter.HttpServletRequestConverter;
 import com.castlemock.web.mock.soap.factory.SoapStrategyFactory;
 import com.castlemock.web.mock.soap.model.SoapException;
@@ -43,6 +48,7 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -53,6 +59,8 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * The AbstractSoapServiceController provides functionality that are shared for all the SOAP controllers
@@ -65,15 +73,27 @@ public abstract class AbstractSoapServiceController extends AbstractController {
     private static final String CONTENT_ENCODING = "Content-Encoding";
     private static final String DEFAULT_CHAR_SET = "charset=\"utf-8\"";
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSoapServiceController.class);
+    private static final int DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE = 1024;
     private final String contextPath;
     private final SoapStrategyFactory strategyFactory;
+    private final RandomSource randomSource;
+    private final SoapEventPipeline soapEventPipeline;
+
+    @Value("${mock.response.compression.enabled:false}")
+    private boolean responseCompression;
+    @Value("${mock.response.compression.min.size:1024}")
+    private int responseCompressionMinSize = DEFAULT_RESPONSE_COMPRESSION_MIN_SIZE;
 
     protected AbstractSoapServiceController(final ServiceProcessor serviceProcessor,
                                             final ServletContext servletContext,
-                                            final SoapStrategyFactory strategyFactory) {
+                                            final SoapStrategyFactory strategyFactory,
+                                            final RandomSource randomSource,
+                                            final SoapEventPipeline soapEventPipeline) {
         super(serviceProcessor);
         this.contextPath = Objects.requireNonNull(servletContext.getContextPath(), "contextPath");
         this.strategyFactory = Objects.requireNonNull(strategyFactory, "strategyFactory");
+        this.randomSource = Objects.requireNonNull(randomSource, "randomSource");
+        this.soapEventPipeline = Objects.requireNonNull(soapEventPipeline, "soapEventPipeline");
     }
 
     /**
@@ -162,7 +182,9 @@ public abstract class AbstractSoapServiceController extends AbstractController {
      * @param soapPortId          The id of the port that the incoming request belong to
      * @param soapOperation       The operation that contain the appropriate mocked response
      * @param request             The incoming request
-     * @return Returns the response as a String
+     * @return Returns the response as a String, or as bytes if the response has been compressed.
+     * <code>null</code> is returned if the response will be released asynchronously once the simulated
+     * network delay has elapsed.
      */
     protected ResponseEntity<?> process(final String soapProjectId,
                                         final String soapPortId,
@@ -174,7 +196,21 @@ public abstract class AbstractSoapServiceController extends AbstractController {
             throw new SoapException("Soap operation could not be found");
         }
         final Date startDate = new Date();
+        final Consumer<SoapResponse> eventRecorder = released -> this.soapEventPipeline.submit(SoapEvent.builder()
+                .id(IdUtility.generateId())
+                .startDate(startDate)
+                .endDate(new Date())
+                .resourceName(soapOperation.getName())
+                .request(request)
+                .response(released)
+                .projectId(soapProjectId)
+                .portId(soapPortId)
+                .operationId(soapOperation.getId())
+                .build());
         SoapResponse response = null;
+        // A delayed response records its event once it has been released, which means that
+        // the end date of the event includes the simulated network delay
+        boolean eventDeferred = false;
         try {
             final SoapStrategy soapStrategy = this.strategyFactory.getStrategy(soapOperation);
             final SoapStrategyResult result =
@@ -185,24 +221,25 @@ public abstract class AbstractSoapServiceController extends AbstractController {
                     .forEach(this.serviceProcessor::processAsync);
 
             final HttpHeaders headers = getHttpHeaders(request, response);
-            simulateNetworkDelay(soapOperation);
-            return new ResponseEntity<>(response.getBody(), headers,
-                    HttpStatus.valueOf(response.getHttpStatusCode()));
+            final HttpStatus httpStatus = HttpStatus.valueOf(response.getHttpStatusCode());
+            final Optional<ContentEncodingUtility.EncodedBody> encodedBody = encodeBody(response, headers, httpServletRequest);
+            final ResponseEntity<?> responseEntity;
+            if (encodedBody.isPresent()) {
+                headers.set(ContentEncodingUtility.CONTENT_ENCODING, encodedBody.get().getEncodingName());
+                headers.add(ContentEncodingUtility.VARY, ContentEncodingUtility.ACCEPT_ENCODING);
+                responseEntity = new ResponseEntity<>(encodedBody.get().getBody(), headers, httpStatus);
+            } else {
+                responseEntity = new ResponseEntity<>(response.getBody(), headers, httpStatus);
+            }
+            final SoapResponse released = response;
+            eventDeferred = true;
+            return NetworkDelayUtility.delay(httpServletRequest,
+                    getNetworkDelay(soapOperation, randomSource.getGenerator(soapProjectId, soapOperation.getId())),
+                    responseEntity, () -> eventRecorder.accept(released));
         } finally {
-            final SoapEvent event = SoapEvent.builder()
-                    .id(IdUtility.generateId())
-                    .startDate(startDate)
-                    .endDate(new Date())
-                    .resourceName(soapOperation.getName())
-                    .request(request)
-                    .response(response)
-                    .projectId(soapProjectId)
-                    .portId(soapPortId)
-                    .operationId(soapOperation.getId())
-                    .build();
-            this.serviceProcessor.processAsync(CreateSoapEventInput.builder()
-                    .soapEvent(event)
-                    .build());
+            if (!eventDeferred) {
+                eventRecorder.accept(response);
+            }
         }
     }
 
@@ -222,15 +259,48 @@ public abstract class AbstractSoapServiceController extends AbstractController {
         return responseHeaders;
     }
 
-    private void simulateNetworkDelay(final SoapOperation operation) {
-        if (operation.getSimulateNetworkDelay().orElse(false) &&
-                operation.getNetworkDelay().orElse(0L) >= 0L) {
-            try {
-                Thread.sleep(operation.getNetworkDelay().get());
-            } catch (InterruptedException e) {
-                LOGGER.error("Unable to simulate network delay", e);
-            }
+    /**
+     * Compress the response body with the encoding preferred by the incoming request. The response is compressed
+     * with the same encodings as the mock response or the forwarded response. All the supported encodings are used
+     * if the response doesn't have any content encodings.
+     *
+     * @param response           The response that will be compressed
+     * @param headers            The headers of the response
+     * @param httpServletRequest The incoming request
+     * @return The compressed body, or an empty optional if the response should not be compressed
+     * @since 1.70
+     */
+    private Optional<ContentEncodingUtility.EncodedBody> encodeBody(final SoapResponse response,
+                                                                    final HttpHeaders headers,
+                                                                    final HttpServletRequest httpServletRequest) {
+        if (!responseCompression || httpServletRequest == null) {
+            return Optional.empty();
+        }
+
+        final List<HttpContentEncoding> encodings = response.getContentEncodings().isEmpty() ?
+                ContentEncodingUtility.SUPPORTED_ENCODINGS : response.getContentEncodings();
+        return ContentEncodingUtility.encode(response.getBody(),
+                CharsetUtility.getCharset(headers.getFirst(CONTENT_TYPE)),
+                httpServletRequest.getHeader(ContentEncodingUtility.ACCEPT_ENCODING),
+                encodings, responseCompressionMinSize);
+    }
+
+    /**
+     * Sample the network delay that should be simulated for a response.
+     *
+     * @param operation The operation that the incoming request belongs to
+     * @param random    The random generator of the request
+     * @return The network delay in milliseconds, or 0 if no network delay should be simulated
+     * @since 1.70
+     */
+    private static long getNetworkDelay(final SoapOperation operation,
+                                        final RandomGenerator random) {
+        if (!operation.getSimulateNetworkDelay().orElse(false)) {
+            return 0L;
         }
+        return NetworkDelayUtility.getDelay(operation.getNetworkDelay().orElse(null),
+                operation.getNetworkDelayDistribution().orElse(null),
+                operation.getNetworkDelayJitter().orElse(null), random);
     }
 
 }
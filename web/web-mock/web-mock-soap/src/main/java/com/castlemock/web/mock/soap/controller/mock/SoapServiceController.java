@@ -17,9 +17,11 @@
 package com.castlemock.web.mock.soap.controller.mock;
 
 import com.castlemock.model.core.ServiceProcessor;
+import com.castlemock.model.core.utility.random.RandomSource;
 import com.castlemock.model.mock.soap.domain.SoapMockResponse;
 import com.castlemock.model.mock.soap.domain.SoapOperation;
 import com.castlemock.model.mock.soap.domain.SoapProject;
+import com.castlemock.service.mock.soap.event.SoapEventPipeline;
 import com.castlemock.web.mock.soap.factory.SoapStrategyFactory;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
@@ -47,8 +49,10 @@ public class SoapServiceController extends AbstractSoapServiceController {
     @Autowired
     public SoapServiceController(final ServiceProcessor serviceProcessor,
                                  final ServletContext servletContext,
-                                 final SoapStrategyFactory strategyFactory){
-        super(serviceProcessor, servletContext, strategyFactory);
+                                 final SoapStrategyFactory strategyFactory,
+                                 final RandomSource randomSource,
+                                 final SoapEventPipeline soapEventPipeline){
+        super(serviceProcessor, servletContext, strategyFactory, randomSource, soapEventPipeline);
     }
 
     /**
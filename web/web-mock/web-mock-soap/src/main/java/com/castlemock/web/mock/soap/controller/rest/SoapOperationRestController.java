@@ -97,6 +97,10 @@ public class SoapOperationRestController extends AbstractRestController {
                         .orElse(null))
                 .networkDelay(request.getNetworkDelay()
                         .orElse(null))
+                .networkDelayDistribution(request.getNetworkDelayDistribution()
+                        .orElse(null))
+                .networkDelayJitter(request.getNetworkDelayJitter()
+                        .orElse(null))
                 .simulateNetworkDelay(request.getSimulateNetworkDelay()
                         .orElse(null))
                 .automaticForward(request.getAutomaticForward()
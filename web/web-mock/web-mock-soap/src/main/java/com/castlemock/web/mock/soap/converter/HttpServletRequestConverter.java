@@ -80,6 +80,7 @@ public final class HttpServletRequestConverter {
                 .uri(serviceUri)
                 .httpMethod(HttpMethod.valueOf(httpServletRequest.getMethod()))
                 .body(body)
+                .bodyBytes(HttpMessageSupport.getBodyBytes(httpServletRequest).orElse(null))
                 .envelope(envelope)
                 .operationIdentifier(identifier)
                 .contentType(httpServletRequest.getContentType())
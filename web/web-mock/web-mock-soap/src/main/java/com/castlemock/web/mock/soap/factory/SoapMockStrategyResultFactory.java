@@ -21,6 +21,8 @@ import com.castlemock.model.core.utility.XPathUtility;
 import com.castlemock.model.core.utility.parser.ExternalInputBuilder;
 import com.castlemock.model.core.utility.parser.TextParser;
 import com.castlemock.model.core.utility.parser.expression.argument.ExpressionArgument;
+import com.castlemock.model.core.utility.random.RandomSource;
+import com.castlemock.model.core.utility.random.ThreadLocalRandomSource;
 import com.castlemock.model.mock.soap.domain.SoapMockResponse;
 import com.castlemock.model.mock.soap.domain.SoapMockResponseStatus;
 import com.castlemock.model.mock.soap.domain.SoapOperation;
@@ -32,23 +34,32 @@ import com.castlemock.web.mock.soap.converter.SoapMockResponseConverter;
 import com.castlemock.web.mock.soap.stategy.SoapStrategyResult;
 import com.castlemock.web.mock.soap.utility.compare.SoapMockResponseNameComparator;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 
 @Component
 public class SoapMockStrategyResultFactory {
 
-    private static final Random RANDOM = new Random();
     private static final SoapMockResponseNameComparator MOCK_RESPONSE_NAME_COMPARATOR =
             new SoapMockResponseNameComparator();
 
+    private final RandomSource randomSource;
+
     public SoapMockStrategyResultFactory() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
+
+    @Autowired
+    public SoapMockStrategyResultFactory(final RandomSource randomSource) {
+        this.randomSource = Objects.requireNonNull(randomSource, "randomSource");
     }
 
     public SoapStrategyResult getResponse(final SoapRequest request, final String projectId,
@@ -63,12 +74,15 @@ public class SoapMockStrategyResultFactory {
 
         mockResponses.sort(MOCK_RESPONSE_NAME_COMPARATOR);
 
+        // The generator is used for every random value of the request, such as the selected mock response
+        final RandomGenerator random = randomSource.getGenerator(projectId, operation.getId());
+
         SoapMockResponse mockResponse = null;
         final List<Input> postServiceRequests = new ArrayList<>();
         if (mockResponses.isEmpty()) {
             return SoapStrategyResult.builder().build();
         } else if (operation.getResponseStrategy().equals(SoapResponseStrategy.RANDOM)) {
-            final int responseIndex = RANDOM.nextInt(mockResponses.size());
+            final int responseIndex = random.nextInt(mockResponses.size());
             mockResponse = mockResponses.get(responseIndex);
         } else if (operation.getResponseStrategy().equals(SoapResponseStrategy.SEQUENCE)) {
             Integer currentSequenceNumber = operation.getCurrentResponseSequenceIndex();
@@ -83,12 +97,14 @@ public class SoapMockStrategyResultFactory {
                     .currentResponseSequenceIndex(currentSequenceNumber + 1)
                     .build());
         } else if (operation.getResponseStrategy().equals(SoapResponseStrategy.XPATH_INPUT)) {
-            mockResponse = mockResponses
-                    .stream()
-                    .filter(testedMockResponse -> testedMockResponse.getXpathExpressions()
+            // The envelope is parsed once and reused for all the expressions
+            mockResponse = XPathUtility.parse(request.getEnvelope())
+                    .flatMap(document -> mockResponses
                             .stream()
-                            .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(request.getEnvelope(), xPathExpression.getExpression())))
-                    .findFirst()
+                            .filter(testedMockResponse -> testedMockResponse.getXpathExpressions()
+                                    .stream()
+                                    .anyMatch(xPathExpression -> XPathUtility.isValidXPathExpr(document, xPathExpression.getExpression())))
+                            .findFirst())
                     .orElseGet(() -> getDefaultMockResponse(operation, mockResponses).orElse(null));
         }
 
@@ -96,7 +112,7 @@ public class SoapMockStrategyResultFactory {
             return SoapStrategyResult.builder().build();
         }
 
-        final String body = getBody(mockResponse, request, httpServletRequest);
+        final String body = getBody(mockResponse, request, httpServletRequest, random);
         final SoapResponse response = SoapMockResponseConverter.toSoapResponse(mockResponse, body);
         return SoapStrategyResult.builder()
                 .response(response)
@@ -106,14 +122,15 @@ public class SoapMockStrategyResultFactory {
 
     private String getBody(final SoapMockResponse mockResponse,
                            final SoapRequest request,
-                           final HttpServletRequest httpServletRequest) {
+                           final HttpServletRequest httpServletRequest,
+                           final RandomGenerator random) {
         if (mockResponse.getUsingExpressions().orElse(false)) {
             final Map<String, ExpressionArgument<?>> externalInput = new ExternalInputBuilder()
                     .requestUrl(httpServletRequest.getRequestURL().toString())
                     .requestBody(request.getBody())
                     .build();
 
-            return new TextParser().parse(mockResponse.getBody(), externalInput)
+            return new TextParser().parse(mockResponse.getBody(), externalInput, random)
                     .orElse("");
         }
 
@@ -16,6 +16,7 @@
 
 package com.castlemock.web.mock.soap.model;
 
+import com.castlemock.model.core.http.NetworkDelayDistribution;
 import com.castlemock.model.mock.soap.domain.SoapOperationIdentifyStrategy;
 import com.castlemock.model.mock.soap.domain.SoapOperationStatus;
 import com.castlemock.model.mock.soap.domain.SoapResponseStrategy;
@@ -43,6 +44,8 @@ public class UpdateSoapOperationRequest {
     private final String forwardedEndpoint;
     private final Boolean simulateNetworkDelay;
     private final Long networkDelay;
+    private final NetworkDelayDistribution networkDelayDistribution;
+    private final Long networkDelayJitter;
     private final String defaultMockResponseId;
     private final Boolean mockOnFailure;
     private final SoapOperationIdentifyStrategy identifyStrategy;
@@ -55,6 +58,8 @@ public class UpdateSoapOperationRequest {
         this.forwardedEndpoint = builder.forwardedEndpoint;
         this.simulateNetworkDelay = builder.simulateNetworkDelay;
         this.networkDelay = builder.networkDelay;
+        this.networkDelayDistribution = builder.networkDelayDistribution;
+        this.networkDelayJitter = builder.networkDelayJitter;
         this.defaultMockResponseId = builder.defaultMockResponseId;
         this.mockOnFailure = builder.mockOnFailure;
         this.automaticForward = builder.automaticForward;
@@ -80,6 +85,14 @@ public class UpdateSoapOperationRequest {
         return Optional.ofNullable(networkDelay);
     }
 
+    public Optional<NetworkDelayDistribution> getNetworkDelayDistribution() {
+        return Optional.ofNullable(networkDelayDistribution);
+    }
+
+    public Optional<Long> getNetworkDelayJitter() {
+        return Optional.ofNullable(networkDelayJitter);
+    }
+
     public Optional<Boolean> getMockOnFailure() {
         return Optional.ofNullable(mockOnFailure);
     }
@@ -108,6 +121,8 @@ public class UpdateSoapOperationRequest {
         private String forwardedEndpoint;
         private Boolean simulateNetworkDelay;
         private Long networkDelay;
+        private NetworkDelayDistribution networkDelayDistribution;
+        private Long networkDelayJitter;
         private String defaultMockResponseId;
         private Boolean mockOnFailure;
         private SoapOperationIdentifyStrategy identifyStrategy;
@@ -142,6 +157,16 @@ public class UpdateSoapOperationRequest {
             return this;
         }
 
+        public Builder networkDelayDistribution(final NetworkDelayDistribution networkDelayDistribution) {
+            this.networkDelayDistribution = networkDelayDistribution;
+            return this;
+        }
+
+        public Builder networkDelayJitter(final Long networkDelayJitter) {
+            this.networkDelayJitter = networkDelayJitter;
+            return this;
+        }
+
         public Builder defaultMockResponseId(final String defaultMockResponseId) {
             this.defaultMockResponseId = defaultMockResponseId;
             return this;
@@ -21,13 +21,15 @@ import com.castlemock.model.mock.soap.domain.SoapOperation;
 import com.castlemock.model.mock.soap.domain.SoapRequest;
 import com.castlemock.model.mock.soap.domain.SoapResponse;
 import com.castlemock.web.core.utility.CharsetUtility;
+import com.castlemock.web.core.utility.HttpForwardClient;
 import com.castlemock.web.core.utility.HttpMessageSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,22 +39,27 @@ public class SoapClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(SoapClient.class);
     private static final String FORWARDED_RESPONSE_NAME = "Forwarded response";
 
+    private final HttpForwardClient forwardClient;
+
+    public SoapClient(final HttpForwardClient forwardClient) {
+        this.forwardClient = forwardClient;
+    }
+
     public Optional<SoapResponse> getResponse(final SoapRequest request,
                                               final SoapOperation soapOperation) {
-        HttpURLConnection connection = null;
         try {
-            connection = HttpMessageSupport.establishConnection(
+            final HttpResponse<byte[]> forwardedResponse = forwardClient.send(
                 soapOperation.getForwardedEndpoint()
                         .orElseThrow(() -> new IllegalStateException("Unable to extract forwarded endpoint")),
                 request.getHttpMethod(),
-                request.getBody(),
+                getRequestBody(request),
                 request.getHttpHeaders());
 
-            final Integer responseCode = connection.getResponseCode();
-            final List<HttpContentEncoding> encodings = HttpMessageSupport.extractContentEncoding(connection);
-            final List<HttpHeader> responseHttpHeaders = HttpMessageSupport.extractHttpHeaders(connection);
+            final Integer responseCode = forwardedResponse.statusCode();
+            final List<HttpContentEncoding> encodings = HttpMessageSupport.extractContentEncoding(forwardedResponse.headers());
+            final List<HttpHeader> responseHttpHeaders = HttpMessageSupport.extractHttpHeaders(forwardedResponse.headers());
             final String characterEncoding = CharsetUtility.parseHttpHeaders(responseHttpHeaders);
-            final String responseBody = HttpMessageSupport.extractHttpBody(connection, encodings, characterEncoding);
+            final String responseBody = HttpMessageSupport.extractHttpBody(forwardedResponse.body(), encodings, characterEncoding);
             final SoapResponse response = SoapResponse.builder()
                 .mockResponseName(FORWARDED_RESPONSE_NAME)
                 .body(responseBody)
@@ -64,10 +71,11 @@ public class SoapClient {
         } catch (IOException exception){
             LOGGER.error("Unable to forward request", exception);
             return Optional.empty();
-        } finally {
-            if(connection != null){
-                connection.disconnect();
-            }
         }
     }
+
+    private static byte[] getRequestBody(final SoapRequest request) {
+        return request.getBodyBytes()
+                .orElseGet(() -> request.getBody() == null ? null : request.getBody().getBytes(StandardCharsets.UTF_8));
+    }
 }
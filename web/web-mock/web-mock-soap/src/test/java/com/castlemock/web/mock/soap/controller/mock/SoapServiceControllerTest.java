@@ -18,6 +18,8 @@ package com.castlemock.web.mock.soap.controller.mock;
 
 import com.castlemock.model.core.ServiceProcessor;
 import com.castlemock.model.core.http.HttpHeader;
+import com.castlemock.model.core.utility.random.ThreadLocalRandomSource;
+import com.castlemock.model.mock.soap.domain.SoapEvent;
 import com.castlemock.model.mock.soap.domain.SoapMockResponseTestBuilder;
 import com.castlemock.model.mock.soap.domain.SoapOperation;
 import com.castlemock.model.mock.soap.domain.SoapOperationTestBuilder;
@@ -29,6 +31,7 @@ import com.castlemock.model.mock.soap.domain.SoapResponse;
 import com.castlemock.model.mock.soap.domain.SoapResponseStrategy;
 import com.castlemock.model.mock.soap.domain.SoapResponseTestBuilder;
 import com.castlemock.model.mock.soap.domain.SoapXPathExpression;
+import com.castlemock.service.mock.soap.event.SoapEventPipeline;
 import com.castlemock.service.mock.soap.project.input.IdentifySoapOperationInput;
 import com.castlemock.service.mock.soap.project.input.LoadSoapResourceInput;
 import com.castlemock.service.mock.soap.project.input.ReadSoapProjectInput;
@@ -133,6 +136,7 @@ class SoapServiceControllerTest {
         final ServiceProcessor serviceProcessor = Mockito.mock(ServiceProcessor.class);
         final ServletContext servletContext = Mockito.mock(ServletContext.class);
         final SoapStrategyFactory strategyFactory = Mockito.mock(SoapStrategyFactory.class);
+        final SoapEventPipeline soapEventPipeline = Mockito.mock(SoapEventPipeline.class);
         final SoapStrategy strategy = Mockito.mock(SoapStrategy.class);
 
         // Input
@@ -160,7 +164,8 @@ class SoapServiceControllerTest {
                 .response(soapResponse)
                 .build());
 
-        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory);
+        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory,
+                ThreadLocalRandomSource.INSTANCE, soapEventPipeline);
         final ResponseEntity<?> responseEntity = controller.postMethod(PROJECT_ID, httpServletRequest);
         Assertions.assertEquals(RESPONSE_BODY, responseEntity.getBody());
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -171,6 +176,7 @@ class SoapServiceControllerTest {
         Assertions.assertNotNull(responseEntity.getHeaders().get(ACCEPT_HEADER));
         Assertions.assertEquals(APPLICATION_XML, Objects.requireNonNull(responseEntity.getHeaders().get(CONTENT_TYPE_HEADER)).getFirst());
         Assertions.assertEquals(APPLICATION_XML, Objects.requireNonNull(responseEntity.getHeaders().get(ACCEPT_HEADER)).getFirst());
+        Mockito.verify(soapEventPipeline, Mockito.times(1)).submit(any(SoapEvent.class));
     }
 
 
@@ -179,6 +185,7 @@ class SoapServiceControllerTest {
         final ServiceProcessor serviceProcessor = Mockito.mock(ServiceProcessor.class);
         final ServletContext servletContext = Mockito.mock(ServletContext.class);
         final SoapStrategyFactory strategyFactory = Mockito.mock(SoapStrategyFactory.class);
+        final SoapEventPipeline soapEventPipeline = Mockito.mock(SoapEventPipeline.class);
         final SoapStrategy strategy = Mockito.mock(SoapStrategy.class);
 
         // Input
@@ -233,7 +240,8 @@ class SoapServiceControllerTest {
                 .build());
 
 
-        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory);
+        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory,
+                ThreadLocalRandomSource.INSTANCE, soapEventPipeline);
         final ResponseEntity<?> responseEntity = controller.postMethod(PROJECT_ID, httpServletRequest);
         Assertions.assertEquals(RESPONSE_BODY, responseEntity.getBody());
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -251,6 +259,7 @@ class SoapServiceControllerTest {
         final ServiceProcessor serviceProcessor = Mockito.mock(ServiceProcessor.class);
         final ServletContext servletContext = Mockito.mock(ServletContext.class);
         final SoapStrategyFactory strategyFactory = Mockito.mock(SoapStrategyFactory.class);
+        final SoapEventPipeline soapEventPipeline = Mockito.mock(SoapEventPipeline.class);
         final SoapStrategy strategy = Mockito.mock(SoapStrategy.class);
 
         final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
@@ -283,7 +292,8 @@ class SoapServiceControllerTest {
         when(serviceProcessor.process(isA(LoadSoapResourceInput.class)))
                 .thenReturn(loadSoapResourceOutput);
 
-        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory);
+        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory,
+                ThreadLocalRandomSource.INSTANCE, soapEventPipeline);
         final ResponseEntity<?> responseEntity = controller.getMethod(PROJECT_ID, httpServletRequest);
         Assertions.assertEquals(WSDL, responseEntity.getBody());
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -294,6 +304,7 @@ class SoapServiceControllerTest {
         final ServiceProcessor serviceProcessor = Mockito.mock(ServiceProcessor.class);
         final ServletContext servletContext = Mockito.mock(ServletContext.class);
         final SoapStrategyFactory strategyFactory = Mockito.mock(SoapStrategyFactory.class);
+        final SoapEventPipeline soapEventPipeline = Mockito.mock(SoapEventPipeline.class);
         final SoapStrategy strategy = Mockito.mock(SoapStrategy.class);
 
         final HttpServletRequest httpServletRequest = getMockedHttpServletRequest("");
@@ -325,7 +336,8 @@ class SoapServiceControllerTest {
         when(serviceProcessor.process(isA(LoadSoapResourceInput.class))).thenReturn(loadSoapResourceOutput);
         when(servletContext.getContextPath()).thenReturn(CONTEXT);
 
-        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory);
+        final SoapServiceController controller = new SoapServiceController(serviceProcessor, servletContext , strategyFactory,
+                ThreadLocalRandomSource.INSTANCE, soapEventPipeline);
         final ResponseEntity<?> responseEntity = controller.getWildcardMethod(PROJECT_ID, httpServletRequest);
         Assertions.assertEquals(WSDL, responseEntity.getBody());
         Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -180,6 +180,31 @@ public class SoapUtilityTest {
         Assertions.assertNull(operationIdentifier.getNamespace().orElse(null));
     }
 
+    @Test
+    public void testExtractSoapRequestNameWithHeader(){
+        final String requestBody =
+                """
+                        <?xml version="1.0"?>
+                        <soap:Envelope
+                        xmlns:soap="http://www.w3.org/2003/05/soap-envelope/"
+                        xmlns:m="http://www.w3schools.com/prices">
+                        <soap:Header>
+                          <h:Security xmlns:h="http://www.w3schools.com/security">
+                            <Body>Token</Body>
+                          </h:Security>
+                        </soap:Header>
+                        <soap:Body>
+                          <m:GetPrice>
+                            <m:Item>Apples</m:Item>
+                          </m:GetPrice>
+                        </soap:Body>
+                        </soap:Envelope>\s""";
+
+        final SoapOperationIdentifier operationIdentifier = SoapUtility.extractSoapRequestName(requestBody);
+        Assertions.assertEquals("GetPrice", operationIdentifier.getName());
+        Assertions.assertEquals("http://www.w3schools.com/prices", operationIdentifier.getNamespace().orElse(null));
+    }
+
     @Test
     public void testExtractSoapRequestNameInvalidRequestBody(){
         Assertions.assertThrows(IllegalStateException.class, () -> SoapUtility.extractSoapRequestName(""));